@@ -0,0 +1,147 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.bench;
+
+import com.reiasu.reiparticlesapi.barrages.AbstractBarrage;
+import com.reiasu.reiparticlesapi.barrages.Barrage;
+import com.reiasu.reiparticlesapi.barrages.BarrageBroadphase;
+import com.reiasu.reiparticlesapi.barrages.BarrageHitResult;
+import com.reiasu.reiparticlesapi.barrages.BarrageOption;
+import com.reiasu.reiparticlesapi.barrages.HitBox;
+import com.reiasu.reiparticlesapi.barrages.SweptAabb;
+import com.reiasu.reiparticlesapi.network.particle.ServerController;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * One barrage tick for a swarm of pass-through barrages in a 96 x 16 x 96 block region:
+ * rebuilding the {@link BarrageBroadphase} and running every {@link AbstractBarrage#tick()}, against
+ * {@link #linearSweptScan()}, the all-pairs swept test the broadphase replaced.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BarrageBroadphaseBenchmark {
+    private static final double EXTENT = 96.0;
+
+    @Param({"500", "2000"})
+    public int barrages;
+
+    private final BarrageBroadphase broadphase = new BarrageBroadphase();
+    private final List<SwarmBarrage> swarm = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42L);
+        for (int i = 0; i < barrages; i++) {
+            Vec3 loc = new Vec3(random.nextDouble() * EXTENT, 64.0 + random.nextDouble() * 16.0,
+                    random.nextDouble() * EXTENT);
+            Vec3 velocity = new Vec3(random.nextGaussian(), random.nextGaussian() * 0.2, random.nextGaussian())
+                    .normalize()
+                    .scale(0.5 + random.nextDouble() * 3.0);
+            SwarmBarrage barrage = new SwarmBarrage(loc, velocity);
+            barrage.setBroadphase(broadphase);
+            swarm.add(barrage);
+        }
+    }
+
+    @Benchmark
+    public long tickWithBroadphase() {
+        broadphase.rebuild(swarm);
+        long hits = 0;
+        for (SwarmBarrage barrage : swarm) {
+            barrage.tick();
+            hits += barrage.lastHits;
+        }
+        return hits;
+    }
+
+    @Benchmark
+    public long linearSweptScan() {
+        long hits = 0;
+        for (SwarmBarrage barrage : swarm) {
+            AABB box = barrage.getHitBox().ofBox(barrage.getLoc());
+            for (SwarmBarrage other : swarm) {
+                if (other != barrage && SweptAabb.hits(box, barrage.getMotion().subtract(other.getMotion()),
+                        other.getHitBox().ofBox(other.getLoc()))) {
+                    hits++;
+                }
+            }
+        }
+        return hits;
+    }
+
+    /** Flies straight through everything and wraps around the region so the density stays put. */
+    private static final class SwarmBarrage extends AbstractBarrage {
+        private int lastHits;
+
+        private SwarmBarrage(Vec3 loc, Vec3 velocity) {
+            super(loc, null, HitBox.of(1.0, 1.0, 1.0), new ServerController<Object>() {
+            }, passThroughOptions());
+            setDirection(velocity);
+            setLaunch(true);
+        }
+
+        private static BarrageOption passThroughOptions() {
+            BarrageOption options = new BarrageOption();
+            options.setAcrossBlock(true);
+            options.setAcrossable(true);
+            options.setNoneHitBoxTick(0);
+            return options;
+        }
+
+        @Override
+        public void tick() {
+            lastHits = 0;
+            super.tick();
+            Vec3 loc = getLoc();
+            setLoc(new Vec3(wrap(loc.x, EXTENT), 64.0 + wrap(loc.y - 64.0, 16.0), wrap(loc.z, EXTENT)));
+        }
+
+        private static double wrap(double value, double extent) {
+            double wrapped = value % extent;
+            return wrapped < 0.0 ? wrapped + extent : wrapped;
+        }
+
+        @Override
+        public boolean filterHitEntity(LivingEntity entity) {
+            return false;
+        }
+
+        @Override
+        public boolean filterHitBarrage(Barrage barrage) {
+            return barrage != this;
+        }
+
+        @Override
+        public void onHit(BarrageHitResult result) {
+            lastHits = result.getBarrages().size();
+        }
+
+        @Override
+        protected boolean isChunkLoaded(Vec3 pos) {
+            return true;
+        }
+
+        @Override
+        protected List<LivingEntity> getEntities(AABB area, Predicate<? super LivingEntity> filter) {
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.bench;
+
+import com.reiasu.reiparticlesapi.network.particle.emitters.ControllableParticleData;
+import com.reiasu.reiparticlesapi.network.particle.emitters.command.OrbitMode;
+import com.reiasu.reiparticlesapi.network.particle.emitters.command.ParticleAttractionCommand;
+import com.reiasu.reiparticlesapi.network.particle.emitters.command.ParticleCommand;
+import com.reiasu.reiparticlesapi.network.particle.emitters.command.ParticleCommandQueue;
+import com.reiasu.reiparticlesapi.network.particle.emitters.command.ParticleDistortionCommand;
+import com.reiasu.reiparticlesapi.network.particle.emitters.command.ParticleDragCommand;
+import com.reiasu.reiparticlesapi.network.particle.emitters.command.ParticleFlowFieldCommand;
+import com.reiasu.reiparticlesapi.network.particle.emitters.command.ParticleGravityCommand;
+import com.reiasu.reiparticlesapi.network.particle.emitters.command.ParticleNoiseCommand;
+import com.reiasu.reiparticlesapi.network.particle.emitters.command.ParticleOrbitCommand;
+import com.reiasu.reiparticlesapi.network.particle.emitters.command.ParticleRotationForceCommand;
+import com.reiasu.reiparticlesapi.network.particle.emitters.command.ParticleVortexCommand;
+import com.reiasu.reiparticlesapi.particles.ControllableParticle;
+import com.reiasu.reiparticlesapi.particles.impl.particles.ControllableCloudParticle;
+import com.reiasu.reiparticlesapi.testutil.UnsafeAllocator;
+import net.minecraft.world.phys.Vec3;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ParticleCommandQueue#applyVelocity} over a batch of particles, per command type
+ * and with every command queued at once. Scores are per particle.
+ * <p>
+ * The commands only read the particle data, so the particle itself is an uninitialized
+ * stand-in from the testkit.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CommandQueueBenchmark {
+    private static final int PARTICLES = 1_000;
+    private static final Vec3 START_VELOCITY = new Vec3(0.05, 0.1, -0.02);
+
+    @Param({"gravity", "drag", "noise", "flowField", "attraction", "orbit", "vortex", "rotationForce",
+            "distortion", "all"})
+    public String command;
+
+    private final ControllableParticleData[] data = new ControllableParticleData[PARTICLES];
+    private final ParticleCommandQueue queue = new ParticleCommandQueue();
+    private ControllableParticle particle;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        particle = UnsafeAllocator.allocate(ControllableCloudParticle.class);
+        List<ParticleCommand> commands = "all".equals(command) ? List.of(
+                create("gravity"), create("drag"), create("noise"), create("flowField"), create("attraction"),
+                create("orbit"), create("vortex"), create("rotationForce"), create("distortion"))
+                : List.of(create(command));
+        for (ParticleCommand each : commands) {
+            queue.add(each);
+        }
+        Random random = new Random(3L);
+        for (int i = 0; i < PARTICLES; i++) {
+            ControllableParticleData particleData = new ControllableParticleData();
+            particleData.setPosition(new Vec3(random.nextDouble() * 16.0 - 8.0,
+                    random.nextDouble() * 8.0, random.nextDouble() * 16.0 - 8.0));
+            particleData.setAge(random.nextInt(particleData.getParticleMaxAge()));
+            data[i] = particleData;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PARTICLES)
+    public ControllableParticleData[] applyVelocity() {
+        for (ControllableParticleData particleData : data) {
+            // Reset so repeated invocations do not accumulate unbounded velocities.
+            particleData.setVelocity(START_VELOCITY);
+            queue.applyVelocity(particleData, particle);
+        }
+        return data;
+    }
+
+    private static ParticleCommand create(String type) {
+        return switch (type) {
+            case "gravity" -> new ParticleGravityCommand(0.04);
+            case "drag" -> new ParticleDragCommand(0.98, 0.001, 0.01);
+            case "noise" -> new ParticleNoiseCommand();
+            case "flowField" -> new ParticleFlowFieldCommand();
+            case "attraction" -> new ParticleAttractionCommand();
+            case "orbit" -> new ParticleOrbitCommand(() -> Vec3.ZERO, new Vec3(0.0, 1.0, 0.0), 3.0,
+                    0.35, 0.25, 0.2, OrbitMode.SPRING);
+            case "vortex" -> new ParticleVortexCommand();
+            case "rotationForce" -> new ParticleRotationForceCommand();
+            case "distortion" -> new ParticleDistortionCommand();
+            default -> throw new IllegalArgumentException("Unknown command " + type);
+        };
+    }
+}
@@ -0,0 +1,72 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.bench;
+
+import com.reiasu.reiparticlesapi.network.buffer.ParticleControllerDataBuffer;
+import com.reiasu.reiparticlesapi.network.buffer.ParticleControllerDataBuffers;
+import com.reiasu.reiparticlesapi.utils.RelativeLocation;
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.world.phys.Vec3;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Round trips of single controller buffers through the channel framing
+ * ({@link ParticleControllerDataBuffers#write}/{@link ParticleControllerDataBuffers#read})
+ * and the byte-array envelope used by style arguments.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ControllerBufferBenchmark {
+    @Param({"double", "string", "uuid", "vec3d", "relative", "intArray"})
+    public String type;
+
+    private final FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer(256));
+    private ParticleControllerDataBuffer<?> buffer;
+    private byte[] envelope;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ParticleControllerDataBuffers buffers = ParticleControllerDataBuffers.INSTANCE;
+        buffer = switch (type) {
+            case "double" -> buffers.doubleValue(Math.PI);
+            case "string" -> buffers.string("reiparticles:sword_formation");
+            case "uuid" -> buffers.uuid(new UUID(0x1234_5678L, 0x9abc_def0L));
+            case "vec3d" -> buffers.vec3d(new Vec3(12.5, 64.0, -3.25));
+            case "relative" -> buffers.relative(new RelativeLocation(1.0, 2.0, 3.0));
+            case "intArray" -> buffers.intArray(new int[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16});
+            default -> throw new IllegalArgumentException("Unknown buffer type " + type);
+        };
+        envelope = buffers.encode(buffer);
+    }
+
+    @Benchmark
+    public ParticleControllerDataBuffer<?> writeRead() {
+        buf.clear();
+        ParticleControllerDataBuffers.INSTANCE.write(buf, buffer);
+        return ParticleControllerDataBuffers.INSTANCE.read(buf);
+    }
+
+    @Benchmark
+    public void encodeEnvelope(Blackhole blackhole) {
+        blackhole.consume(ParticleControllerDataBuffers.INSTANCE.encode(buffer));
+    }
+
+    @Benchmark
+    public ParticleControllerDataBuffer<?> decodeEnvelope() {
+        return ParticleControllerDataBuffers.INSTANCE.decodeToBuffer(envelope);
+    }
+}
@@ -0,0 +1,112 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.bench;
+
+import com.reiasu.reiparticlesapi.annotations.events.EventHandler;
+import com.reiasu.reiparticlesapi.event.ReiEventBus;
+import com.reiasu.reiparticlesapi.event.api.EventPriority;
+import com.reiasu.reiparticlesapi.event.api.ReiEvent;
+import com.reiasu.reiparticlesapi.event.events.particle.emitter.EmitterSpawnEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of {@link ReiEventBus#callEvent} for an {@link EmitterSpawnEvent}, against
+ * {@link #reflectiveBaseline()}: the dispatch the bus did before handler plans, walking the
+ * superclass chain and every priority and calling each handler through {@link Method#invoke}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EventBusBenchmark {
+    /** Listener instances; each has a handler for the event and one for {@link ReiEvent}. */
+    @Param({"0", "1", "8"})
+    public int listeners;
+
+    private final Map<Class<?>, EnumMap<EventPriority, List<Handler>>> baseline = new HashMap<>();
+    private EmitterSpawnEvent event;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ReiEventBus.INSTANCE.clear();
+        for (int i = 0; i < listeners; i++) {
+            CountingListener listener = new CountingListener();
+            ReiEventBus.INSTANCE.registerListenerInstance("bench", listener);
+            for (Method method : CountingListener.class.getDeclaredMethods()) {
+                EventHandler handler = method.getAnnotation(EventHandler.class);
+                if (handler != null) {
+                    baseline.computeIfAbsent(method.getParameterTypes()[0], ignored -> new EnumMap<>(EventPriority.class))
+                            .computeIfAbsent(handler.priority(), ignored -> new ArrayList<>())
+                            .add(new Handler(listener, method));
+                }
+            }
+        }
+        event = new EmitterSpawnEvent(null, false);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ReiEventBus.INSTANCE.clear();
+        baseline.clear();
+    }
+
+    @Benchmark
+    public ReiEvent callEvent() {
+        return ReiEventBus.INSTANCE.callEvent(event);
+    }
+
+    @Benchmark
+    public ReiEvent reflectiveBaseline() throws IllegalAccessException, InvocationTargetException {
+        for (Class<?> type = event.getClass(); type != null && ReiEvent.class.isAssignableFrom(type); type = type.getSuperclass()) {
+            EnumMap<EventPriority, List<Handler>> byPriority = baseline.get(type);
+            if (byPriority == null) {
+                continue;
+            }
+            for (EventPriority priority : EventPriority.values()) {
+                List<Handler> handlers = byPriority.get(priority);
+                if (handlers == null) {
+                    continue;
+                }
+                for (Handler handler : handlers) {
+                    handler.method.invoke(handler.listener, event);
+                }
+            }
+        }
+        return event;
+    }
+
+    private record Handler(Object listener, Method method) {
+    }
+
+    public static final class CountingListener {
+        private long spawns;
+        private long events;
+
+        @EventHandler
+        public void onSpawn(EmitterSpawnEvent event) {
+            spawns++;
+        }
+
+        @EventHandler(priority = EventPriority.LOW)
+        public void onAny(ReiEvent event) {
+            events++;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.bench;
+
+import com.reiasu.reiparticlesapi.utils.math.CompiledExpression;
+import com.reiasu.reiparticlesapi.utils.math.ExpressionEvaluator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Expression evaluation as styles use it: a reused evaluator with changing variables,
+ * and a fresh evaluator per call, which hits the compiled-expression cache. Against
+ * those, {@link #compiledSlots()} is the floor a caller holding the compiled form gets,
+ * {@link #handWritten()} the same formula in Java, and {@link #parsePerCall()} what every
+ * evaluation cost before expressions were compiled once.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ExpressionBenchmark {
+    private static final String SOURCE = "sin(t * PI / 180) * c + cos(t * PI / 90) * c / 2";
+
+    /** More distinct sources than the compiled-expression cache holds, so every lookup misses. */
+    private static final int UNCACHED_SOURCES = 4096;
+
+    private final ExpressionEvaluator reused = new ExpressionEvaluator(SOURCE).with("c", 3.0);
+    private final CompiledExpression compiled = CompiledExpression.compile(SOURCE, "t", "c");
+    private final double[] slots = {0.0, 3.0};
+    private final String[] uncached = new String[UNCACHED_SOURCES];
+    private int tick;
+
+    public ExpressionBenchmark() {
+        for (int i = 0; i < UNCACHED_SOURCES; i++) {
+            uncached[i] = SOURCE + " + " + i + " * 0";
+        }
+    }
+
+    @Benchmark
+    public double reusedEvaluator() {
+        return reused.with("t", tick++).evaluate();
+    }
+
+    @Benchmark
+    public double freshEvaluator() {
+        return new ExpressionEvaluator(SOURCE).with("t", tick++).with("c", 3.0).evaluate();
+    }
+
+    @Benchmark
+    public double compiledSlots() {
+        slots[0] = tick++;
+        return compiled.evaluate(slots);
+    }
+
+    @Benchmark
+    public double handWritten() {
+        double t = tick++;
+        double c = 3.0;
+        return Math.sin(t * Math.PI / 180) * c + Math.cos(t * Math.PI / 90) * c / 2;
+    }
+
+    @Benchmark
+    public double parsePerCall() {
+        int n = tick++;
+        slots[0] = n;
+        return CompiledExpression.compile(uncached[n & (UNCACHED_SOURCES - 1)], "t", "c").evaluate(slots);
+    }
+}
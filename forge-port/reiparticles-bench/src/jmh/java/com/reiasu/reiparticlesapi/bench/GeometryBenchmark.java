@@ -0,0 +1,58 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.bench;
+
+import com.reiasu.reiparticlesapi.utils.Math3DUtil;
+import com.reiasu.reiparticlesapi.utils.RelativeLocation;
+import com.reiasu.reiparticlesapi.utils.builder.FourierSeriesBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/** Point-cloud transforms and generators used when building styles. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GeometryBenchmark {
+    private static final int POINTS = 10_000;
+
+    private final List<RelativeLocation> points = new ArrayList<>(POINTS);
+    private final RelativeLocation axis = new RelativeLocation(0.3, 1.0, -0.2);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(17L);
+        for (int i = 0; i < POINTS; i++) {
+            points.add(new RelativeLocation(random.nextDouble() * 8.0 - 4.0,
+                    random.nextDouble() * 8.0 - 4.0, random.nextDouble() * 8.0 - 4.0));
+        }
+    }
+
+    /** Rotates the same 10k points in place every call; the small angle keeps them bounded. */
+    @Benchmark
+    public List<RelativeLocation> rotateAsAxis() {
+        Math3DUtil.rotateAsAxis(points, axis, 0.01);
+        return points;
+    }
+
+    @Benchmark
+    public List<RelativeLocation> fourierSeries() {
+        return new FourierSeriesBuilder()
+                .addFourier(4.0, 1.0)
+                .addFourier(1.5, -3.0, 30.0)
+                .addFourier(0.5, 7.0, 90.0)
+                .count(720)
+                .scale(1.5)
+                .build();
+    }
+}
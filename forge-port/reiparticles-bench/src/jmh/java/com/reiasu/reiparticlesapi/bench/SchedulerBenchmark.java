@@ -0,0 +1,64 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.bench;
+
+import com.reiasu.reiparticlesapi.config.APIConfig;
+import com.reiasu.reiparticlesapi.scheduler.ReiScheduler;
+import com.reiasu.reiparticlesapi.scheduler.TickPriority;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One {@link ReiScheduler#doTick()} with 10k scheduled timers, most of them waiting
+ * between runs as emitter and style timers do.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SchedulerBenchmark {
+    private static final int TASKS = 10_000;
+
+    /** Period of the timers; 1 runs every task every tick. */
+    @Param({"1", "20"})
+    public int period;
+
+    private long previousBudget;
+    private long runs;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Without a budget every task runs, so the score does not depend on the machine's speed.
+        previousBudget = APIConfig.INSTANCE.getServerTickBudgetNanos();
+        APIConfig.INSTANCE.setServerTickBudgetNanos(0L);
+        ReiScheduler.INSTANCE.clear();
+        for (int i = 0; i < TASKS; i++) {
+            ReiScheduler.TickRunnable task = ReiScheduler.INSTANCE.runTaskTimer(period, () -> runs++);
+            if (i % 10 == 0) {
+                task.setPriority(TickPriority.LOW);
+            }
+        }
+        ReiScheduler.INSTANCE.doTick();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ReiScheduler.INSTANCE.clear();
+        APIConfig.INSTANCE.setServerTickBudgetNanos(previousBudget);
+    }
+
+    @Benchmark
+    public long doTick() {
+        ReiScheduler.INSTANCE.doTick();
+        return runs;
+    }
+}
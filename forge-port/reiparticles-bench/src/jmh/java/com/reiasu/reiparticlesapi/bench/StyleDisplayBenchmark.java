@@ -0,0 +1,135 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.bench;
+
+import com.reiasu.reiparticlesapi.config.APIConfig;
+import com.reiasu.reiparticlesapi.network.particle.style.ParticleGroupStyle;
+import com.reiasu.reiparticlesapi.network.particle.style.ParticleGroupStyle.StyleData;
+import com.reiasu.reiparticlesapi.particles.ClientParticleBudget;
+import com.reiasu.reiparticlesapi.particles.Controllable;
+import com.reiasu.reiparticlesapi.particles.ParticleDisplayer;
+import com.reiasu.reiparticlesapi.utils.RelativeLocation;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.world.phys.Vec3;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to first frame of a style: everything {@link ParticleGroupStyle#displayParticles()}
+ * does before its particles can render, with the client spawn budget uncapped.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StyleDisplayBenchmark {
+    @Param({"1000", "10000"})
+    public int points;
+
+    private int spawnsPerTick;
+    private RingStyle style;
+
+    @Setup(Level.Trial)
+    public void uncapBudget() {
+        spawnsPerTick = APIConfig.INSTANCE.getClientSpawnsPerTick();
+        APIConfig.INSTANCE.setClientSpawnsPerTick(0);
+        ClientParticleBudget.INSTANCE.beginTick(0);
+    }
+
+    @Setup(Level.Invocation)
+    public void newStyle() {
+        style = new RingStyle(points);
+        style.setScale(2.0);
+    }
+
+    @TearDown(Level.Trial)
+    public void restoreBudget() {
+        APIConfig.INSTANCE.setClientSpawnsPerTick(spawnsPerTick);
+    }
+
+    @Benchmark
+    public int displayParticles() {
+        return style.displayAll();
+    }
+
+    private static final class RingStyle extends ParticleGroupStyle {
+        private final Map<StyleData, RelativeLocation> frames = new LinkedHashMap<>();
+
+        private RingStyle(int points) {
+            for (int i = 0; i < points; i++) {
+                double angle = Math.PI * 2.0 * i / points;
+                frames.put(new StyleData(NoopDisplayer::new),
+                        new RelativeLocation(Math.cos(angle) * 8.0, 0.0, Math.sin(angle) * 8.0));
+            }
+        }
+
+        private int displayAll() {
+            displayParticles();
+            return getParticlesById().size();
+        }
+
+        @Override
+        public Map<StyleData, RelativeLocation> getCurrentFrames() {
+            return frames;
+        }
+
+        @Override
+        public void onDisplay() {
+        }
+    }
+
+    private record NoopDisplayer(UUID uuid) implements ParticleDisplayer {
+        @Override
+        public Controllable<?> display(Vec3 loc, ClientLevel world) {
+            return new NoopParticle(uuid);
+        }
+    }
+
+    private record NoopParticle(UUID uuid) implements Controllable<NoopParticle> {
+        @Override
+        public UUID controlUUID() {
+            return uuid;
+        }
+
+        @Override
+        public void rotateToPoint(RelativeLocation to) {
+        }
+
+        @Override
+        public void rotateToWithAngle(RelativeLocation to, double radian) {
+        }
+
+        @Override
+        public void rotateAsAxis(double radian) {
+        }
+
+        @Override
+        public void teleportTo(Vec3 pos) {
+        }
+
+        @Override
+        public void teleportTo(double x, double y, double z) {
+        }
+
+        @Override
+        public void remove() {
+        }
+
+        @Override
+        public NoopParticle getControlObject() {
+            return this;
+        }
+    }
+}
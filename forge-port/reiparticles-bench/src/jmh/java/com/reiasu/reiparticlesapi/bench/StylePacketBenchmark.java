@@ -0,0 +1,71 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.bench;
+
+import com.reiasu.reiparticlesapi.network.buffer.ParticleControllerDataBuffer;
+import com.reiasu.reiparticlesapi.network.buffer.ParticleControllerDataBuffers;
+import com.reiasu.reiparticlesapi.network.packet.PacketParticleStyleS2C;
+import com.reiasu.reiparticlesapi.particles.control.ControlType;
+import com.reiasu.reiparticlesapi.utils.RelativeLocation;
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.world.phys.Vec3;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/** Encode and decode of style change packets with a typical mix of arguments. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StylePacketBenchmark {
+    @Param({"4", "16"})
+    public int args;
+
+    private final FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer(1024));
+    private PacketParticleStyleS2C packet;
+    private int encodedBytes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ParticleControllerDataBuffers buffers = ParticleControllerDataBuffers.INSTANCE;
+        Map<String, ParticleControllerDataBuffer<?>> values = new HashMap<>();
+        for (int i = 0; i < args; i++) {
+            ParticleControllerDataBuffer<?> value = switch (i % 4) {
+                case 0 -> buffers.vec3d(new Vec3(i, 64.0 + i, -i));
+                case 1 -> buffers.doubleValue(i * 0.5);
+                case 2 -> buffers.relative(new RelativeLocation(i, 0.0, 1.0));
+                default -> buffers.bool((i & 1) == 0);
+            };
+            values.put("arg" + i, value);
+        }
+        packet = new PacketParticleStyleS2C(new UUID(42L, 7L), ControlType.CHANGE, values);
+        buf.clear();
+        PacketParticleStyleS2C.encode(packet, buf);
+        encodedBytes = buf.writerIndex();
+    }
+
+    @Benchmark
+    public int encode() {
+        buf.clear();
+        PacketParticleStyleS2C.encode(packet, buf);
+        return buf.writerIndex();
+    }
+
+    @Benchmark
+    public PacketParticleStyleS2C decode() {
+        buf.setIndex(0, encodedBytes);
+        return PacketParticleStyleS2C.decode(buf);
+    }
+}
@@ -17,11 +17,6 @@ import org.joml.Vector3f;
 import com.mojang.logging.LogUtils;
 import org.slf4j.Logger;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.List;
 import java.util.UUID;
 import java.util.HashMap;
 import java.util.Map;
@@ -32,6 +27,7 @@ import java.util.Map;
  * <p>
  * Replaces the original Fabric implementation that used {@code StreamCodec}
  * (which does not exist in Forge 1.20.1). Instead uses {@link BufferCodec}.
+ * The annotated fields of each class are resolved once into a cached {@link CodecPlan}.
  */
 public final class CodecHelper {
 
@@ -39,6 +35,7 @@ public final class CodecHelper {
     private static final Logger LOGGER = LogUtils.getLogger();
 
     private final HashMap<String, BufferCodec<?>> supposedTypes = new HashMap<>();
+    private volatile int registryVersion;
 
     private CodecHelper() {
     }
@@ -52,25 +49,29 @@ public final class CodecHelper {
      */
     public <T> void register(Class<T> type, BufferCodec<T> codec) {
         supposedTypes.put(type.getName(), codec);
+        registryVersion++;
+    }
+
+    /** The codec registered for {@code type}, or {@code null}. */
+    @SuppressWarnings("unchecked")
+    public BufferCodec<Object> getCodec(Class<?> type) {
+        return (BufferCodec<Object>) supposedTypes.get(type.getName());
+    }
+
+    /** Bumped by every {@link #register}, so {@link CodecPlan}s know to look their codecs up again. */
+    int getRegistryVersion() {
+        return registryVersion;
     }
 
     /**
      * Copies all {@link CodecField}-annotated, non-final fields from {@code other}
-     * to {@code current} via reflection. Both objects must be the same class.
+     * to {@code current}. Both objects must be the same class.
      * Fields are processed in stable {@link CodecField#index()} order.
      */
     public void updateFields(Object current, Object other) {
         if (current == null || other == null) return;
         if (!current.getClass().equals(other.getClass())) return;
-
-        for (Field field : getCodecFields(current.getClass())) {
-            field.setAccessible(true);
-            try {
-                field.set(current, field.get(other));
-            } catch (IllegalAccessException e) {
-                // Shouldn't happen since we called setAccessible(true)
-            }
-        }
+        CodecPlan.of(current.getClass()).copy(other, current);
     }
 
     /**
@@ -79,20 +80,8 @@ public final class CodecHelper {
      *
      * @throws IllegalStateException if a field's type has no registered codec
      */
-    @SuppressWarnings("unchecked")
     public void encodeAnnotatedFields(FriendlyByteBuf buf, Object obj) {
-        for (Field field : getCodecFields(obj.getClass())) {
-            field.setAccessible(true);
-            BufferCodec<Object> codec = (BufferCodec<Object>) supposedTypes.get(field.getType().getName());
-            if (codec == null) {
-                throw new IllegalStateException("No codec registered for type: " + field.getType().getName());
-            }
-            try {
-                codec.encode(buf, field.get(obj));
-            } catch (IllegalAccessException e) {
-                throw new IllegalStateException("Failed to read field: " + field.getName(), e);
-            }
-        }
+        CodecPlan.of(obj.getClass()).encode(buf, obj);
     }
 
     /**
@@ -101,36 +90,8 @@ public final class CodecHelper {
      *
      * @throws IllegalStateException if a field's type has no registered codec
      */
-    @SuppressWarnings("unchecked")
     public void decodeAnnotatedFields(FriendlyByteBuf buf, Object obj) {
-        for (Field field : getCodecFields(obj.getClass())) {
-            field.setAccessible(true);
-            BufferCodec<Object> codec = (BufferCodec<Object>) supposedTypes.get(field.getType().getName());
-            if (codec == null) {
-                throw new IllegalStateException("No codec registered for type: " + field.getType().getName());
-            }
-            try {
-                field.set(obj, codec.decode(buf));
-            } catch (IllegalAccessException e) {
-                throw new IllegalStateException("Failed to set field: " + field.getName(), e);
-            }
-        }
-    }
-
-    /**
-     * Returns {@link CodecField}-annotated non-final fields sorted by
-     * {@link CodecField#index()} then by field name for deterministic ordering.
-     */
-    private static List<Field> getCodecFields(Class<?> clazz) {
-        List<Field> result = new ArrayList<>();
-        for (Field f : clazz.getDeclaredFields()) {
-            if (f.isAnnotationPresent(CodecField.class) && !Modifier.isFinal(f.getModifiers())) {
-                result.add(f);
-            }
-        }
-        result.sort(Comparator.comparingInt((Field f) -> f.getAnnotation(CodecField.class).index())
-                .thenComparing(Field::getName));
-        return result;
+        CodecPlan.of(obj.getClass()).decode(buf, obj);
     }
 
     // ────────────────── Static registration of built-in types ──────────────────
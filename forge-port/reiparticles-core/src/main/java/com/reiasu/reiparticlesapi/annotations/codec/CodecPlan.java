@@ -0,0 +1,165 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.annotations.codec;
+
+import com.reiasu.reiparticlesapi.annotations.CodecField;
+import net.minecraft.network.FriendlyByteBuf;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The {@link CodecField} fields of one class, resolved once: their order, a {@link VarHandle}
+ * per field, and each field's {@link BufferCodec}.
+ * <p>
+ * Plans are cached per class in a {@link ClassValue}, so encoding, decoding and copying
+ * an annotated object no longer scans, sorts and unlocks its fields on every call.
+ * Codecs are taken from {@link CodecHelper} when first needed and looked up again only
+ * after a later {@link CodecHelper#register}.
+ * <p>
+ * Fields are ordered by {@link CodecField#index()}, then by name. A class whose package is
+ * not open to this module falls back to {@link Field} access for its fields.
+ */
+public final class CodecPlan {
+    private static final ClassValue<CodecPlan> PLANS = new ClassValue<>() {
+        @Override
+        protected CodecPlan computeValue(Class<?> type) {
+            return new CodecPlan(type);
+        }
+    };
+
+    private final Class<?> type;
+    private final FieldPlan[] fields;
+
+    private CodecPlan(Class<?> type) {
+        this.type = type;
+        List<Field> codecFields = new ArrayList<>();
+        for (Field field : type.getDeclaredFields()) {
+            if (field.isAnnotationPresent(CodecField.class) && !Modifier.isFinal(field.getModifiers())) {
+                codecFields.add(field);
+            }
+        }
+        codecFields.sort(Comparator.comparingInt((Field f) -> f.getAnnotation(CodecField.class).index())
+                .thenComparing(Field::getName));
+
+        MethodHandles.Lookup lookup = privateLookup(type);
+        fields = new FieldPlan[codecFields.size()];
+        for (int i = 0; i < fields.length; i++) {
+            Field field = codecFields.get(i);
+            VarHandle handle = null;
+            if (lookup != null) {
+                try {
+                    handle = lookup.unreflectVarHandle(field);
+                } catch (IllegalAccessException e) {
+                    handle = null;
+                }
+            }
+            if (handle == null) {
+                field.setAccessible(true);
+            }
+            fields[i] = new FieldPlan(field, handle);
+        }
+    }
+
+    private static MethodHandles.Lookup privateLookup(Class<?> type) {
+        try {
+            return MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+        } catch (IllegalAccessException | SecurityException e) {
+            return null;
+        }
+    }
+
+    /** The cached plan of {@code type}, compiled on first use. */
+    public static CodecPlan of(Class<?> type) {
+        return PLANS.get(type);
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    public int getFieldCount() {
+        return fields.length;
+    }
+
+    /**
+     * @throws IllegalStateException if a field's type has no registered codec
+     */
+    public void encode(FriendlyByteBuf buf, Object obj) {
+        for (FieldPlan field : fields) {
+            field.codec().encode(buf, field.get(obj));
+        }
+    }
+
+    /**
+     * @throws IllegalStateException if a field's type has no registered codec
+     */
+    public void decode(FriendlyByteBuf buf, Object obj) {
+        for (FieldPlan field : fields) {
+            field.set(obj, field.codec().decode(buf));
+        }
+    }
+
+    /** Copies every planned field of {@code from} onto {@code to}; no codecs are involved. */
+    public void copy(Object from, Object to) {
+        for (FieldPlan field : fields) {
+            field.set(to, field.get(from));
+        }
+    }
+
+    private static final class FieldPlan {
+        private final Field field;
+        private final VarHandle handle;
+        private volatile ResolvedCodec resolved;
+
+        FieldPlan(Field field, VarHandle handle) {
+            this.field = field;
+            this.handle = handle;
+        }
+
+        BufferCodec<Object> codec() {
+            int version = CodecHelper.INSTANCE.getRegistryVersion();
+            ResolvedCodec current = resolved;
+            if (current == null || current.version() != version) {
+                BufferCodec<Object> codec = CodecHelper.INSTANCE.getCodec(field.getType());
+                if (codec == null) {
+                    throw new IllegalStateException("No codec registered for type: " + field.getType().getName());
+                }
+                current = new ResolvedCodec(codec, version);
+                resolved = current;
+            }
+            return current.codec();
+        }
+
+        Object get(Object obj) {
+            if (handle != null) {
+                return (Object) handle.get(obj);
+            }
+            try {
+                return field.get(obj);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Failed to read field: " + field.getName(), e);
+            }
+        }
+
+        void set(Object obj, Object value) {
+            if (handle != null) {
+                handle.set(obj, value);
+                return;
+            }
+            try {
+                field.set(obj, value);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Failed to set field: " + field.getName(), e);
+            }
+        }
+    }
+
+    private record ResolvedCodec(BufferCodec<Object> codec, int version) {
+    }
+}
@@ -4,7 +4,7 @@ package com.reiasu.reiparticlesapi.annotations.composition.handler;
 
 import com.reiasu.reiparticlesapi.annotations.CodecField;
 import com.reiasu.reiparticlesapi.annotations.codec.BufferCodec;
-import com.reiasu.reiparticlesapi.annotations.codec.CodecHelper;
+import com.reiasu.reiparticlesapi.annotations.codec.CodecPlan;
 import com.reiasu.reiparticlesapi.network.particle.composition.ParticleComposition;
 import com.reiasu.reiparticlesapi.network.particle.composition.SequencedParticleComposition;
 import net.minecraft.network.FriendlyByteBuf;
@@ -12,18 +12,13 @@ import net.minecraft.world.level.Level;
 import net.minecraft.world.phys.Vec3;
 
 import java.lang.reflect.Constructor;
-import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.List;
 
 /**
  * Singleton helper that auto-generates {@link BufferCodec} instances for
  * {@link ParticleComposition} subclasses by scanning {@link CodecField}
  * annotated fields via reflection.
  * <p>
- * Fields are sorted by name for deterministic encode/decode order.
+ * Fields are encoded in {@link CodecPlan} order.
  * The codec also handles the base composition fields via
  * {@link ParticleComposition#encodeBase}/{@link ParticleComposition#decodeBase}
  * (and the sequenced variant for {@link SequencedParticleComposition} subclasses).
@@ -76,17 +71,7 @@ public final class ParticleCompositionHelper {
         }
 
         // Encode @CodecField annotated fields
-        List<Field> fields = getCodecFields(type);
-        for (Field field : fields) {
-            field.setAccessible(true);
-            Class<?> fieldType = field.getType();
-            BufferCodec<Object> codec = getCodecOrThrow(fieldType);
-            try {
-                codec.encode(buf, field.get(composition));
-            } catch (IllegalAccessException e) {
-                throw new RuntimeException("Failed to encode field " + field.getName(), e);
-            }
-        }
+        CodecPlan.of(type).encode(buf, composition);
     }
 
     // ─── Decode ──────────────────────────────────────────────────────────
@@ -110,50 +95,8 @@ public final class ParticleCompositionHelper {
         }
 
         // Decode @CodecField annotated fields
-        List<Field> fields = getCodecFields(type);
-        for (Field field : fields) {
-            field.setAccessible(true);
-            Class<?> fieldType = field.getType();
-            BufferCodec<Object> codec = getCodecOrThrow(fieldType);
-            try {
-                Object value = codec.decode(buf);
-                field.set(instance, value);
-            } catch (IllegalAccessException e) {
-                throw new RuntimeException("Failed to decode field " + field.getName(), e);
-            }
-        }
+        CodecPlan.of(type).decode(buf, instance);
 
         return instance;
     }
-
-    // ─── Utilities ───────────────────────────────────────────────────────
-
-    /**
-     * Collects all non-final fields annotated with {@link CodecField}, sorted by name.
-     */
-    private static List<Field> getCodecFields(Class<?> type) {
-        Field[] allFields = type.getDeclaredFields();
-        List<Field> result = new ArrayList<>();
-        for (Field f : allFields) {
-            if (f.isAnnotationPresent(CodecField.class) && !Modifier.isFinal(f.getModifiers())) {
-                result.add(f);
-            }
-        }
-        result.sort(Comparator.comparing(Field::getName));
-        return result;
-    }
-
-    /**
-     * Looks up the registered codec for the given type, throwing if not found.
-     */
-    @SuppressWarnings("unchecked")
-    private static BufferCodec<Object> getCodecOrThrow(Class<?> fieldType) {
-        BufferCodec<?> codec = CodecHelper.INSTANCE.getSupposedTypes().get(fieldType.getName());
-        if (codec == null) {
-            throw new IllegalArgumentException(
-                    "Unsupported type: " + fieldType.getName() +
-                    " — register it via CodecHelper.INSTANCE.register()");
-        }
-        return (BufferCodec<Object>) codec;
-    }
 }
@@ -4,17 +4,12 @@ package com.reiasu.reiparticlesapi.annotations.display.handle;
 
 import com.reiasu.reiparticlesapi.annotations.CodecField;
 import com.reiasu.reiparticlesapi.annotations.codec.BufferCodec;
-import com.reiasu.reiparticlesapi.annotations.codec.CodecHelper;
+import com.reiasu.reiparticlesapi.annotations.codec.CodecPlan;
 import com.reiasu.reiparticlesapi.display.DisplayEntity;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.world.phys.Vec3;
 
 import java.lang.reflect.Constructor;
-import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.List;
 
 /**
  * Singleton helper that auto-generates {@link BufferCodec} instances for
@@ -71,18 +66,7 @@ public final class DisplayEntityHelper {
     private static void encodeEntity(Class<?> type, FriendlyByteBuf buf,
                                       DisplayEntity entity) {
         DisplayEntity.encodeBase(entity, buf);
-
-        List<Field> fields = getCodecFields(type);
-        for (Field field : fields) {
-            field.setAccessible(true);
-            Class<?> fieldType = field.getType();
-            BufferCodec<Object> codec = getCodecOrThrow(fieldType);
-            try {
-                codec.encode(buf, field.get(entity));
-            } catch (IllegalAccessException e) {
-                throw new RuntimeException("Failed to encode field " + field.getName(), e);
-            }
-        }
+        CodecPlan.of(type).encode(buf, entity);
     }
 
     // ─── Decode ──────────────────────────────────────────────────────────
@@ -102,45 +86,7 @@ public final class DisplayEntityHelper {
         }
 
         DisplayEntity.decodeBase(instance, buf);
-
-        List<Field> fields = getCodecFields(type);
-        for (Field field : fields) {
-            field.setAccessible(true);
-            Class<?> fieldType = field.getType();
-            BufferCodec<Object> codec = getCodecOrThrow(fieldType);
-            try {
-                Object value = codec.decode(buf);
-                field.set(instance, value);
-            } catch (IllegalAccessException e) {
-                throw new RuntimeException("Failed to decode field " + field.getName(), e);
-            }
-        }
-
+        CodecPlan.of(type).decode(buf, instance);
         return instance;
     }
-
-    // ─── Utilities ───────────────────────────────────────────────────────
-
-    private static List<Field> getCodecFields(Class<?> type) {
-        Field[] allFields = type.getDeclaredFields();
-        List<Field> result = new ArrayList<>();
-        for (Field f : allFields) {
-            if (f.isAnnotationPresent(CodecField.class) && !Modifier.isFinal(f.getModifiers())) {
-                result.add(f);
-            }
-        }
-        result.sort(Comparator.comparing(Field::getName));
-        return result;
-    }
-
-    @SuppressWarnings("unchecked")
-    private static BufferCodec<Object> getCodecOrThrow(Class<?> fieldType) {
-        BufferCodec<?> codec = CodecHelper.INSTANCE.getSupposedTypes().get(fieldType.getName());
-        if (codec == null) {
-            throw new IllegalArgumentException(
-                    "Unsupported type: " + fieldType.getName() +
-                    " — register it via CodecHelper.INSTANCE.register()");
-        }
-        return (BufferCodec<Object>) codec;
-    }
 }
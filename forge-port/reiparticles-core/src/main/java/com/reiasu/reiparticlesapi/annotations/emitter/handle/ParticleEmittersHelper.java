@@ -5,17 +5,13 @@ package com.reiasu.reiparticlesapi.annotations.emitter.handle;
 import com.reiasu.reiparticlesapi.annotations.CodecField;
 import com.reiasu.reiparticlesapi.annotations.codec.BufferCodec;
 import com.reiasu.reiparticlesapi.annotations.codec.CodecHelper;
+import com.reiasu.reiparticlesapi.annotations.codec.CodecPlan;
 import com.reiasu.reiparticlesapi.network.particle.emitters.ClassParticleEmitters;
 import com.reiasu.reiparticlesapi.network.particle.emitters.ParticleEmitters;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.world.phys.Vec3;
 
 import java.lang.reflect.Constructor;
-import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.List;
 
 /**
  * Helper for {@link ClassParticleEmitters} that provides:
@@ -43,8 +39,8 @@ public final class ParticleEmittersHelper {
      * Generates a {@link BufferCodec} for the given {@link ClassParticleEmitters} subclass
      * by reflecting over its {@link CodecField}-annotated fields.
      * <p>
-     * The encoder writes the base emitter data followed by each annotated field
-     * (sorted by field name). The decoder constructs a new instance via the
+     * The encoder writes the base emitter data followed by each annotated field,
+     * in {@link CodecPlan} order. The decoder constructs a new instance via the
      * {@code (Vec3, Level)} constructor, reads base data, then reads each field.
      */
     public BufferCodec<ParticleEmitters> generateCodec(ClassParticleEmitters randomInstance) {
@@ -65,24 +61,9 @@ public final class ParticleEmittersHelper {
         );
     }
 
-    @SuppressWarnings({"unchecked", "rawtypes"})
     private void encodeEmitter(Class<?> type, FriendlyByteBuf buf, ClassParticleEmitters emitter) {
         ClassParticleEmitters.Companion.encodeBase(emitter, buf);
-        List<Field> fields = getCodecFields(type);
-        for (Field field : fields) {
-            field.setAccessible(true);
-            String codecKey = field.getType().getName();
-            BufferCodec codec = CodecHelper.INSTANCE.getSupposedTypes().get(codecKey);
-            if (codec == null) {
-                throw new IllegalArgumentException(
-                        "Unsupported codec type: " + codecKey + "; register it via CodecHelper.INSTANCE.register()");
-            }
-            try {
-                codec.encode(buf, field.get(emitter));
-            } catch (IllegalAccessException e) {
-                throw new RuntimeException("Failed to encode field: " + field.getName(), e);
-            }
-        }
+        CodecPlan.of(type).encode(buf, emitter);
     }
 
     private ParticleEmitters decodeEmitter(Constructor<?> constructor, Class<?> type, FriendlyByteBuf buf) {
@@ -94,39 +75,7 @@ public final class ParticleEmittersHelper {
         }
 
         ClassParticleEmitters.Companion.decodeBase(instance, buf);
-
-        List<Field> fields = getCodecFields(type);
-        for (Field field : fields) {
-            field.setAccessible(true);
-            String codecKey = field.getType().getName();
-            BufferCodec<?> codec = CodecHelper.INSTANCE.getSupposedTypes().get(codecKey);
-            if (codec == null) {
-                throw new IllegalArgumentException(
-                        "Unsupported codec type: " + codecKey + "; register it via CodecHelper.INSTANCE.register()");
-            }
-            try {
-                Object value = codec.decode(buf);
-                field.set(instance, value);
-            } catch (IllegalAccessException e) {
-                throw new RuntimeException("Failed to decode field: " + field.getName(), e);
-            }
-        }
+        CodecPlan.of(type).decode(buf, instance);
         return instance;
     }
-
-    /**
-     * Returns all {@link CodecField}-annotated, non-final fields of the given class,
-     * sorted by field name for deterministic serialization order.
-     */
-    private List<Field> getCodecFields(Class<?> type) {
-        Field[] allFields = type.getDeclaredFields();
-        List<Field> result = new ArrayList<>();
-        for (Field f : allFields) {
-            if (f.isAnnotationPresent(CodecField.class) && !Modifier.isFinal(f.getModifiers())) {
-                result.add(f);
-            }
-        }
-        result.sort(Comparator.comparing(Field::getName));
-        return result;
-    }
 }
@@ -14,7 +14,6 @@ import javax.annotation.Nullable;
 import java.util.*;
 import java.util.List;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 
 /**
@@ -28,7 +27,10 @@ import java.util.stream.Collectors;
  *   <li>{@link #onHit(BarrageHitResult)} —what happens on impact</li>
  * </ul>
  * <p>
- * Forge port: barrage-barrage collision is now fully implemented via {@link BarrageManager}.
+ * Collision is continuous: blocks, entities and other barrages are tested against the
+ * hit box swept from its start-of-tick position along this tick's motion, so fast
+ * barrages do not tunnel through thin walls or targets. Other barrages are looked up in
+ * the {@link BarrageBroadphase} of the manager ticking this barrage.
  */
 public abstract class AbstractBarrage implements Barrage {
 
@@ -48,6 +50,8 @@ public abstract class AbstractBarrage implements Barrage {
     private int currentAcrossCount;
     private boolean isBeingHit;
     private final UUID uuid;
+    private final Predicate<Barrage> barrageFilter = this::filterHitBarrage;
+    private BarrageBroadphase broadphase = BarrageManager.INSTANCE.getBroadphase();
 
     protected AbstractBarrage(Vec3 loc, ServerLevel world, HitBox hitBox,
                               ServerController<?> bindControl, BarrageOption options) {
@@ -109,6 +113,14 @@ public abstract class AbstractBarrage implements Barrage {
     @Override
     public UUID getUuid() { return uuid; }
 
+    /**
+     * Sets the broadphase queried for barrage-vs-barrage hits. Managers other than
+     * {@link BarrageManager} set their own, rebuilt every tick before ticking barrages.
+     */
+    public void setBroadphase(@Nullable BarrageBroadphase broadphase) {
+        this.broadphase = broadphase != null ? broadphase : BarrageManager.INSTANCE.getBroadphase();
+    }
+
     // ---- Abstract/overridable ----
 
     /**
@@ -142,11 +154,13 @@ public abstract class AbstractBarrage implements Barrage {
         }
 
         // Skip if chunk not loaded
-        if (!world.hasChunk((int) loc.x >> 4, (int) loc.z >> 4)) {
+        if (!isChunkLoaded(loc)) {
             return;
         }
 
+        Vec3 start = loc;
         move();
+        Vec3 motion = loc.subtract(start);
         bindControl.teleportTo(getControllerLocation());
 
         // Lifetime check
@@ -157,8 +171,9 @@ public abstract class AbstractBarrage implements Barrage {
             }
         }
 
+        AABB startBox = hitBox.ofBox(start);
         BarrageHitResult result = new BarrageHitResult();
-        boolean hitDetected = checkBlockCollision(result);
+        boolean hitDetected = checkBlockCollision(result, startBox, motion);
 
         // Grace period for entity/barrage hits
         if (spawnTick < options.getNoneHitBoxTick()) {
@@ -166,18 +181,25 @@ public abstract class AbstractBarrage implements Barrage {
             return;
         }
 
-        hitDetected |= checkEntityCollision(result);
-        hitDetected |= checkBarrageCollision(result);
+        hitDetected |= checkEntityCollision(result, startBox, motion);
+        hitDetected |= checkBarrageCollision(result, startBox, motion);
 
         if (hitDetected) {
             hit(result);
         }
     }
 
+    /**
+     * The displacement the next {@link #move()} will apply.
+     */
+    @Override
+    public Vec3 getMotion() {
+        return options.isEnableSpeed() ? direction.normalize().scale(options.getSpeed()) : direction;
+    }
+
     private void move() {
         if (options.isEnableSpeed()) {
-            Vec3 moveVec = direction.normalize().scale(options.getSpeed());
-            loc = loc.add(moveVec);
+            loc = loc.add(getMotion());
             options.setSpeed(options.getSpeed() + options.getAcceleration());
             if (options.isAccelerationMaxSpeedEnabled()) {
                 options.setSpeed(Math.max(options.getAccelerationMaxSpeed(), options.getSpeed()));
@@ -187,9 +209,12 @@ public abstract class AbstractBarrage implements Barrage {
         }
     }
 
-    private boolean checkBlockCollision(BarrageHitResult result) {
+    private boolean checkBlockCollision(BarrageHitResult result, AABB startBox, Vec3 motion) {
+        if (options.isAcrossBlock() && options.isAcrossLiquid()) {
+            return false;
+        }
         boolean hitDetected = false;
-        AABB aabb = hitBox.ofBox(loc);
+        AABB aabb = startBox.expandTowards(motion);
         BlockPos minPos = new BlockPos(
                 (int) Math.floor(aabb.minX),
                 (int) Math.floor(aabb.minY),
@@ -200,9 +225,14 @@ public abstract class AbstractBarrage implements Barrage {
                 (int) Math.floor(aabb.maxZ));
 
         for (BlockPos pos : BlockPos.betweenClosed(minPos, maxPos)) {
-            if (!world.isLoaded(pos) || !world.isAreaLoaded(pos, 0)) continue;
-            BlockState block = world.getBlockState(pos);
-            if (block.isAir()) continue;
+            // The swept box only crosses a diagonal band of the bounds; skip the rest before touching the level.
+            if (SweptAabb.timeOfImpact(startBox, motion.x, motion.y, motion.z,
+                    pos.getX(), pos.getY(), pos.getZ(),
+                    pos.getX() + 1.0, pos.getY() + 1.0, pos.getZ() + 1.0) == SweptAabb.MISS) {
+                continue;
+            }
+            BlockState block = getLoadedBlockState(pos);
+            if (block == null || block.isAir()) continue;
             if (block.liquid()) {
                 if (!options.isAcrossLiquid()) {
                     result.setHitBlockState(block);
@@ -220,28 +250,45 @@ public abstract class AbstractBarrage implements Barrage {
         return hitDetected;
     }
 
-    private boolean checkEntityCollision(BarrageHitResult result) {
-        Set<LivingEntity> hitEntities = hitBoxEntities();
-        List<LivingEntity> filtered = hitEntities.stream()
-                .filter(this::filterHitEntity)
-                .collect(Collectors.toList());
-        if (!filtered.isEmpty()) {
-            result.getEntities().addAll(filtered);
-            return true;
+    private boolean checkEntityCollision(BarrageHitResult result, AABB startBox, Vec3 motion) {
+        List<LivingEntity> hits = getEntities(startBox.expandTowards(motion),
+                entity -> SweptAabb.hits(startBox, motion, entity.getBoundingBox()) && filterHitEntity(entity));
+        if (hits.isEmpty()) {
+            return false;
         }
-        return false;
+        result.getEntities().addAll(hits);
+        return true;
+    }
+
+    // ---- World access ----
+
+    /**
+     * Whether the chunk containing {@code pos} is loaded; barrages outside loaded chunks do not tick.
+     */
+    protected boolean isChunkLoaded(Vec3 pos) {
+        return world.hasChunk((int) pos.x >> 4, (int) pos.z >> 4);
     }
 
-    private boolean checkBarrageCollision(BarrageHitResult result) {
-        List<Barrage> clipBarrages = BarrageManager.INSTANCE.collectClipBarrages(world, hitBox.ofBox(loc));
-        List<Barrage> filteredBarrages = clipBarrages.stream()
-                .filter(this::filterHitBarrage)
-                .collect(Collectors.toList());
-        if (!filteredBarrages.isEmpty()) {
-            result.getBarrages().addAll(filteredBarrages);
-            return true;
+    /**
+     * The block at {@code pos}, or {@code null} if it is not loaded.
+     */
+    @Nullable
+    protected BlockState getLoadedBlockState(BlockPos pos) {
+        if (!world.isLoaded(pos) || !world.isAreaLoaded(pos, 0)) {
+            return null;
         }
-        return false;
+        return world.getBlockState(pos);
+    }
+
+    /**
+     * The living entities whose bounding boxes intersect {@code area} and pass {@code filter}.
+     */
+    protected List<LivingEntity> getEntities(AABB area, Predicate<? super LivingEntity> filter) {
+        return world.getEntitiesOfClass(LivingEntity.class, area, filter);
+    }
+
+    private boolean checkBarrageCollision(BarrageHitResult result, AABB startBox, Vec3 motion) {
+        return broadphase.collectSwept(world, startBox, motion, barrageFilter, result.getBarrages()) > 0;
     }
 
     @Override
@@ -52,6 +52,14 @@ public interface Barrage {
 
     void setDirection(Vec3 direction);
 
+    /**
+     * The displacement the next {@link #tick()} will move this barrage by, which the
+     * {@link BarrageBroadphase} sweeps its hit box along. Defaults to {@link #getDirection()}.
+     */
+    default Vec3 getMotion() {
+        return getDirection();
+    }
+
     /**
      * Whether this barrage has been launched (is actively ticking/moving).
      */
@@ -0,0 +1,297 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.barrages;
+
+import com.reiasu.reiparticlesapi.utils.LongObjectHashMap;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Per-level uniform grid over barrage hit boxes, rebuilt once per tick.
+ * <p>
+ * {@link #rebuild} records every valid barrage's hit box at the start of the tick
+ * together with the motion it is about to make ({@link Barrage#getMotion()}), and buckets
+ * the swept box into 3D cells.
+ * Queries only visit the cells their own swept box touches and then run a continuous
+ * test on the relative motion, so barrage-vs-barrage cost follows local density instead
+ * of the total barrage count, and fast barrages cannot pass through each other.
+ * <p>
+ * Entries and cells are pooled across rebuilds. Not thread-safe: rebuild and query from
+ * the server thread.
+ */
+public final class BarrageBroadphase {
+    private static final double CELL_SIZE = 8.0;
+    /** Boxes spanning more cells than this are kept in a per-level list checked by every query. */
+    private static final int MAX_CELLS_PER_BOX = 64;
+
+    private final Map<ServerLevel, LevelGrid> levels = new IdentityHashMap<>();
+    private final List<LevelGrid> spareGrids = new ArrayList<>();
+    private final List<Entry> entryPool = new ArrayList<>();
+    private int entryCount;
+    private int queryMark;
+
+    /** Replaces the contents with the given barrages. */
+    public void rebuild(Iterable<? extends Barrage> barrages) {
+        clear();
+        for (Barrage barrage : barrages) {
+            add(barrage);
+        }
+    }
+
+    public void clear() {
+        for (LevelGrid grid : levels.values()) {
+            grid.clear();
+            spareGrids.add(grid);
+        }
+        levels.clear();
+        for (int i = 0; i < entryCount; i++) {
+            entryPool.get(i).barrage = null;
+        }
+        entryCount = 0;
+    }
+
+    public void add(Barrage barrage) {
+        if (barrage == null || !barrage.getValid()) {
+            return;
+        }
+        Vec3 motion = barrage.getMotion();
+        if (motion == null) {
+            motion = Vec3.ZERO;
+        }
+        Entry entry = obtainEntry();
+        entry.set(barrage, barrage.getHitBox().ofBox(barrage.getLoc()), motion);
+        LevelGrid grid = levels.get(barrage.getWorld());
+        if (grid == null) {
+            grid = spareGrids.isEmpty() ? new LevelGrid() : spareGrids.remove(spareGrids.size() - 1);
+            levels.put(barrage.getWorld(), grid);
+        }
+        grid.insert(entry);
+    }
+
+    public int size() {
+        return entryCount;
+    }
+
+    /**
+     * Collects the barrages overlapping the static box {@code box}, ignoring their own motion.
+     */
+    public List<Barrage> collect(ServerLevel level, AABB box) {
+        List<Barrage> result = new ArrayList<>();
+        LevelGrid grid = levels.get(level);
+        if (grid == null) {
+            return result;
+        }
+        int mark = nextMark();
+        grid.forEachCandidate(box, mark, entry -> {
+            Barrage barrage = entry.barrage;
+            if (isCollidable(barrage) && (box.contains(barrage.getLoc()) || box.intersects(entry.box))) {
+                result.add(barrage);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Adds to {@code out} every barrage that {@code box}, moving by {@code motion} this tick,
+     * touches while both move, and that passes {@code filter}.
+     *
+     * @return the number of barrages added
+     */
+    public int collectSwept(ServerLevel level, AABB box, Vec3 motion,
+                            Predicate<? super Barrage> filter, Collection<? super Barrage> out) {
+        LevelGrid grid = levels.get(level);
+        if (grid == null) {
+            return 0;
+        }
+        AABB swept = box.expandTowards(motion);
+        int mark = nextMark();
+        int before = out.size();
+        grid.forEachCandidate(swept, mark, entry -> {
+            Barrage barrage = entry.barrage;
+            if (!isCollidable(barrage)) {
+                return;
+            }
+            double toi = SweptAabb.timeOfImpact(box,
+                    motion.x - entry.motionX, motion.y - entry.motionY, motion.z - entry.motionZ,
+                    entry.box.minX, entry.box.minY, entry.box.minZ,
+                    entry.box.maxX, entry.box.maxY, entry.box.maxZ);
+            if (toi != SweptAabb.MISS && filter.test(barrage)) {
+                out.add(barrage);
+            }
+        });
+        return out.size() - before;
+    }
+
+    private static boolean isCollidable(Barrage barrage) {
+        return barrage.getValid() && !barrage.noclip();
+    }
+
+    private int nextMark() {
+        if (++queryMark == 0) {
+            // Fresh entries carry mark 0; never hand it out as a query mark.
+            queryMark = 1;
+        }
+        return queryMark;
+    }
+
+    private Entry obtainEntry() {
+        if (entryCount == entryPool.size()) {
+            entryPool.add(new Entry());
+        }
+        return entryPool.get(entryCount++);
+    }
+
+    private static int cellCoord(double value) {
+        double cell = Math.floor(value / CELL_SIZE);
+        return (int) Math.max(-(1 << 20), Math.min((1 << 20) - 1, cell));
+    }
+
+    /** Packs 21 bits per axis; the top bit keeps every key non-zero. */
+    private static long pack(int cx, int cy, int cz) {
+        return Long.MIN_VALUE
+                | ((long) (cx & 0x1FFFFF) << 42)
+                | ((long) (cy & 0x1FFFFF) << 21)
+                | (cz & 0x1FFFFF);
+    }
+
+    private static final class Entry {
+        private Barrage barrage;
+        private AABB box;
+        private double motionX;
+        private double motionY;
+        private double motionZ;
+        private int mark;
+
+        private void set(Barrage barrage, AABB box, Vec3 motion) {
+            this.barrage = barrage;
+            this.box = box;
+            this.motionX = motion.x;
+            this.motionY = motion.y;
+            this.motionZ = motion.z;
+            this.mark = 0;
+        }
+    }
+
+    private static final class Cell {
+        private Entry[] entries = new Entry[4];
+        private int size;
+
+        private void add(Entry entry) {
+            if (size == entries.length) {
+                entries = Arrays.copyOf(entries, size * 2);
+            }
+            entries[size++] = entry;
+        }
+
+        private void clear() {
+            Arrays.fill(entries, 0, size, null);
+            size = 0;
+        }
+    }
+
+    @FunctionalInterface
+    private interface EntryVisitor {
+        void visit(Entry entry);
+    }
+
+    private static final class LevelGrid {
+        private final LongObjectHashMap<Cell> cells = new LongObjectHashMap<>();
+        private final List<Cell> usedCells = new ArrayList<>();
+        private final List<Cell> spareCells = new ArrayList<>();
+        private final List<Entry> oversized = new ArrayList<>();
+        private final List<Entry> all = new ArrayList<>();
+
+        private void insert(Entry entry) {
+            all.add(entry);
+            AABB swept = entry.box.expandTowards(entry.motionX, entry.motionY, entry.motionZ);
+            int minX = cellCoord(swept.minX);
+            int minY = cellCoord(swept.minY);
+            int minZ = cellCoord(swept.minZ);
+            int maxX = cellCoord(swept.maxX);
+            int maxY = cellCoord(swept.maxY);
+            int maxZ = cellCoord(swept.maxZ);
+            if (cellCount(minX, minY, minZ, maxX, maxY, maxZ) > MAX_CELLS_PER_BOX) {
+                oversized.add(entry);
+                return;
+            }
+            for (int cx = minX; cx <= maxX; cx++) {
+                for (int cy = minY; cy <= maxY; cy++) {
+                    for (int cz = minZ; cz <= maxZ; cz++) {
+                        long key = pack(cx, cy, cz);
+                        Cell cell = cells.get(key);
+                        if (cell == null) {
+                            cell = spareCells.isEmpty() ? new Cell() : spareCells.remove(spareCells.size() - 1);
+                            cells.put(key, cell);
+                            usedCells.add(cell);
+                        }
+                        cell.add(entry);
+                    }
+                }
+            }
+        }
+
+        private void forEachCandidate(AABB box, int mark, EntryVisitor visitor) {
+            int minX = cellCoord(box.minX);
+            int minY = cellCoord(box.minY);
+            int minZ = cellCoord(box.minZ);
+            int maxX = cellCoord(box.maxX);
+            int maxY = cellCoord(box.maxY);
+            int maxZ = cellCoord(box.maxZ);
+            if (cellCount(minX, minY, minZ, maxX, maxY, maxZ) > Math.max(MAX_CELLS_PER_BOX, usedCells.size())) {
+                // Cheaper to test everything than to probe mostly empty cells.
+                for (Entry entry : all) {
+                    visit(entry, mark, visitor);
+                }
+                return;
+            }
+            for (Entry entry : oversized) {
+                visit(entry, mark, visitor);
+            }
+            for (int cx = minX; cx <= maxX; cx++) {
+                for (int cy = minY; cy <= maxY; cy++) {
+                    for (int cz = minZ; cz <= maxZ; cz++) {
+                        Cell cell = cells.get(pack(cx, cy, cz));
+                        if (cell == null) {
+                            continue;
+                        }
+                        for (int i = 0; i < cell.size; i++) {
+                            visit(cell.entries[i], mark, visitor);
+                        }
+                    }
+                }
+            }
+        }
+
+        private static void visit(Entry entry, int mark, EntryVisitor visitor) {
+            if (entry.mark == mark) {
+                return;
+            }
+            entry.mark = mark;
+            visitor.visit(entry);
+        }
+
+        private static long cellCount(int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+            return ((long) maxX - minX + 1L) * ((long) maxY - minY + 1L) * ((long) maxZ - minZ + 1L);
+        }
+
+        private void clear() {
+            for (Cell cell : usedCells) {
+                cell.clear();
+                spareCells.add(cell);
+            }
+            usedCells.clear();
+            cells.clear();
+            oversized.clear();
+            all.clear();
+        }
+    }
+}
@@ -6,32 +6,30 @@ import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ConcurrentLinkedDeque;
 
 /**
  * Manages all active {@link Barrage} instances on the server,
  * handling spawning, ticking, and collision queries.
+ * <p>
+ * Collision queries go through a {@link BarrageBroadphase} rebuilt at the start of
+ * every {@link #doTick()}, so they see barrages as of the start of the tick.
  */
 public final class BarrageManager {
     public static final BarrageManager INSTANCE = new BarrageManager();
 
     private final ConcurrentLinkedDeque<Barrage> barrages = new ConcurrentLinkedDeque<>();
+    private final BarrageBroadphase broadphase = new BarrageBroadphase();
 
     private BarrageManager() {}
 
     public List<Barrage> collectClipBarrages(ServerLevel world, AABB box) {
-        List<Barrage> result = new ArrayList<>();
-        for (Barrage b : barrages) {
-            if (!b.getValid()) continue;
-            if (!world.equals(b.getWorld())) continue;
-            if (b.noclip()) continue;
-            if (box.contains(b.getLoc()) || box.intersects(b.getHitBox().ofBox(b.getLoc()))) {
-                result.add(b);
-            }
-        }
-        return result;
+        return broadphase.collect(world, box);
+    }
+
+    public BarrageBroadphase getBroadphase() {
+        return broadphase;
     }
 
     public void spawn(Barrage barrage) {
@@ -40,6 +38,7 @@ public final class BarrageManager {
     }
 
     public void doTick() {
+        broadphase.rebuild(barrages);
         barrages.removeIf(b -> {
             b.tick();
             return !b.getValid();
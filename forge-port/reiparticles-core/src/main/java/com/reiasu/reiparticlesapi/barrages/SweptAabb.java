@@ -0,0 +1,63 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.barrages;
+
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+
+/**
+ * Continuous (swept) box tests used by barrage collision.
+ * <p>
+ * A box moving by {@code motion} over one tick hits a static target if the two overlap at
+ * any time {@code t} in {@code [0, 1]}. Touching faces do not count as a hit, matching
+ * {@link AABB#intersects(AABB)}. To test two moving boxes, pass the difference of their
+ * motions.
+ */
+public final class SweptAabb {
+    /** Returned by {@link #timeOfImpact} when the boxes never overlap during the tick. */
+    public static final double MISS = -1.0;
+
+    private SweptAabb() {
+    }
+
+    public static double timeOfImpact(AABB moving, Vec3 motion, AABB target) {
+        return timeOfImpact(moving, motion.x, motion.y, motion.z,
+                target.minX, target.minY, target.minZ, target.maxX, target.maxY, target.maxZ);
+    }
+
+    /**
+     * Returns the fraction of the tick at which {@code moving} first overlaps the target
+     * box, {@code 0} if they already overlap, or {@link #MISS}.
+     */
+    public static double timeOfImpact(AABB moving, double dx, double dy, double dz,
+                                      double minX, double minY, double minZ,
+                                      double maxX, double maxY, double maxZ) {
+        double enter = Math.max(0.0, Math.max(
+                entry(moving.minX, moving.maxX, minX, maxX, dx),
+                Math.max(entry(moving.minY, moving.maxY, minY, maxY, dy),
+                        entry(moving.minZ, moving.maxZ, minZ, maxZ, dz))));
+        double exit = Math.min(1.0, Math.min(
+                exit(moving.minX, moving.maxX, minX, maxX, dx),
+                Math.min(exit(moving.minY, moving.maxY, minY, maxY, dy),
+                        exit(moving.minZ, moving.maxZ, minZ, maxZ, dz))));
+        return enter < exit ? enter : MISS;
+    }
+
+    public static boolean hits(AABB moving, Vec3 motion, AABB target) {
+        return timeOfImpact(moving, motion, target) != MISS;
+    }
+
+    private static double entry(double aMin, double aMax, double bMin, double bMax, double d) {
+        if (d == 0.0) {
+            return aMax > bMin && aMin < bMax ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+        }
+        return d > 0.0 ? (bMin - aMax) / d : (bMax - aMin) / d;
+    }
+
+    private static double exit(double aMin, double aMax, double bMin, double bMax, double d) {
+        if (d == 0.0) {
+            return aMax > bMin && aMin < bMax ? Double.POSITIVE_INFINITY : Double.NEGATIVE_INFINITY;
+        }
+        return d > 0.0 ? (bMax - aMin) / d : (bMin - aMax) / d;
+    }
+}
@@ -5,24 +5,44 @@ package com.reiasu.reiparticlesapi.commands;
 import com.mojang.brigadier.CommandDispatcher;
 import com.mojang.brigadier.builder.LiteralArgumentBuilder;
 import com.reiasu.reiparticlesapi.display.DisplayEntityManager;
+import com.reiasu.reiparticlesapi.network.particle.emitters.ParticleEmittersManager;
+import com.reiasu.reiparticlesapi.network.particle.style.ParticleStyleManager;
+import com.reiasu.reiparticlesapi.network.trace.PacketTraceRecorder;
+import com.reiasu.reiparticlesapi.profiler.ProfileReport;
+import com.reiasu.reiparticlesapi.profiler.TickProfiler;
 import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.network.chat.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
 
 /**
- * Registers the {@code /cleanapi} command tree for ReiParticlesAPI.
+ * Registers the {@code /cleanapi} and {@code /reiparticles} command trees for ReiParticlesAPI.
  * <p>
  * Currently provides:
  * <ul>
  *   <li>{@code /cleanapi display} - clears tracked display entities in this runtime</li>
+ *   <li>{@code /reiparticles profile [server|client]} - tick profiler percentiles, counters
+ *   and object counts, followed by the emitter and style debug info</li>
+ *   <li>{@code /reiparticles profile reset} - drops the recorded samples of both sides</li>
+ *   <li>{@code /reiparticles trace start|stop} - records every ReiParticles packet sent to
+ *   clients into {@code reiparticles-traces/} for offline replay</li>
  * </ul>
  */
 public final class APICommand {
     public static final APICommand INSTANCE = new APICommand();
+    private static final int PROFILE_SECTIONS = 8;
+    private static final String TRACE_DIRECTORY = "reiparticles-traces";
+    private static final DateTimeFormatter TRACE_NAME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss", Locale.ROOT);
 
     private APICommand() {
     }
 
     /**
-     * Register the {@code /cleanapi} command with the given dispatcher.
+     * Register the {@code /cleanapi} and {@code /reiparticles} commands with the given dispatcher.
      *
      * @param dispatcher the server command dispatcher
      */
@@ -35,5 +55,76 @@ public final class APICommand {
                                     return 1;
                                 }))
         );
+        dispatcher.register(
+                LiteralArgumentBuilder.<CommandSourceStack>literal("reiparticles")
+                        .requires(source -> source.hasPermission(2))
+                        .then(LiteralArgumentBuilder.<CommandSourceStack>literal("profile")
+                                .executes(ctx -> runProfile(ctx.getSource(), TickProfiler.SERVER))
+                                .then(LiteralArgumentBuilder.<CommandSourceStack>literal("server")
+                                        .executes(ctx -> runProfile(ctx.getSource(), TickProfiler.SERVER)))
+                                .then(LiteralArgumentBuilder.<CommandSourceStack>literal("client")
+                                        .executes(ctx -> runProfile(ctx.getSource(), TickProfiler.CLIENT)))
+                                .then(LiteralArgumentBuilder.<CommandSourceStack>literal("reset")
+                                        .executes(ctx -> {
+                                            TickProfiler.SERVER.reset();
+                                            TickProfiler.CLIENT.reset();
+                                            ctx.getSource().sendSuccess(() -> Component.literal("profiler reset"), false);
+                                            return 1;
+                                        })))
+                        .then(LiteralArgumentBuilder.<CommandSourceStack>literal("trace")
+                                .then(LiteralArgumentBuilder.<CommandSourceStack>literal("start")
+                                        .executes(ctx -> startTrace(ctx.getSource())))
+                                .then(LiteralArgumentBuilder.<CommandSourceStack>literal("stop")
+                                        .executes(ctx -> stopTrace(ctx.getSource()))))
+        );
+    }
+
+    private static int startTrace(CommandSourceStack source) {
+        if (PacketTraceRecorder.INSTANCE.isRecording()) {
+            source.sendFailure(Component.literal("already recording a packet trace"));
+            return 0;
+        }
+        Path file = source.getServer().getServerDirectory().toPath()
+                .resolve(TRACE_DIRECTORY)
+                .resolve("trace-" + LocalDateTime.now().format(TRACE_NAME) + ".rptrace");
+        try {
+            PacketTraceRecorder.INSTANCE.start(file);
+        } catch (IOException e) {
+            source.sendFailure(Component.literal("cannot record to " + file + ": " + e.getMessage()));
+            return 0;
+        }
+        source.sendSuccess(() -> Component.literal("recording packets to " + file), false);
+        return 1;
+    }
+
+    private static int stopTrace(CommandSourceStack source) {
+        PacketTraceRecorder.Summary summary;
+        try {
+            summary = PacketTraceRecorder.INSTANCE.stop();
+        } catch (IOException e) {
+            source.sendFailure(Component.literal("packet trace not finished: " + e.getMessage()));
+            return 0;
+        }
+        if (summary == null) {
+            source.sendFailure(Component.literal("no packet trace is being recorded"));
+            return 0;
+        }
+        source.sendSuccess(() -> Component.literal(String.format(Locale.ROOT,
+                "recorded %d packets (%d bytes) over %d ticks to %s",
+                summary.packets(), summary.bytes(), summary.ticks(), summary.file())), false);
+        return 1;
+    }
+
+    private static int runProfile(CommandSourceStack source, TickProfiler profiler) {
+        for (String line : ProfileReport.lines(profiler.snapshot(), PROFILE_SECTIONS)) {
+            source.sendSuccess(() -> Component.literal(line), false);
+        }
+        if (profiler == TickProfiler.SERVER) {
+            String emitters = ParticleEmittersManager.getDebugInfo();
+            String styles = ParticleStyleManager.getDebugInfo();
+            source.sendSuccess(() -> Component.literal("  " + emitters), false);
+            source.sendSuccess(() -> Component.literal("  " + styles), false);
+        }
+        return 1;
     }
 }
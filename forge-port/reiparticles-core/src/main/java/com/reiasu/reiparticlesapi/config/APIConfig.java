@@ -15,6 +15,17 @@ public final class APIConfig {
     private volatile int calculateThreadCount = 4;
     private volatile int packetsPerTickLimit = 512;
     private volatile int maxEmitterVisibleRange = 256;
+    private volatile long serverTickBudgetNanos = 10_000_000L;
+    private volatile int maxDisplayViewRange = 128;
+    private volatile int displayResyncTicks = 20;
+    private volatile boolean bundleOutboundPackets = true;
+    private volatile int profilerWindowTicks = 200;
+    private volatile boolean profilerJfrEvents = false;
+    private volatile int sequencedSpawnBudget = 512;
+    private volatile int clientTargetFps = 60;
+    private volatile int clientParticleSoftCap = 16384;
+    private volatile int clientSpawnsPerTick = 8192;
+    private volatile int clientMinDensityPercent = 10;
 
     private APIConfig() {
     }
@@ -66,4 +77,120 @@ public final class APIConfig {
     public void setMaxEmitterVisibleRange(int maxEmitterVisibleRange) {
         this.maxEmitterVisibleRange = Math.max(32, maxEmitterVisibleRange);
     }
+
+    /**
+     * Wall time the scheduler and the emitter runtime may each spend per server tick before
+     * low-priority work is deferred to the next tick. {@code 0} disables the budget.
+     */
+    public long getServerTickBudgetNanos() {
+        return serverTickBudgetNanos;
+    }
+
+    public void setServerTickBudgetNanos(long serverTickBudgetNanos) {
+        this.serverTickBudgetNanos = Math.max(0L, serverTickBudgetNanos);
+    }
+
+    public int getMaxDisplayViewRange() {
+        return maxDisplayViewRange;
+    }
+
+    public void setMaxDisplayViewRange(int maxDisplayViewRange) {
+        this.maxDisplayViewRange = Math.max(16, maxDisplayViewRange);
+    }
+
+    /**
+     * Ticks after which a display entity is re-sent to its viewers even if its sync key did
+     * not change, correcting drift of displays the client extrapolates.
+     */
+    public int getDisplayResyncTicks() {
+        return displayResyncTicks;
+    }
+
+    public void setDisplayResyncTicks(int displayResyncTicks) {
+        this.displayResyncTicks = Math.max(1, displayResyncTicks);
+    }
+
+    /**
+     * Whether S2C packets are queued per player and sent once per tick as a bundle
+     * instead of one message per packet.
+     */
+    public boolean isBundleOutboundPackets() {
+        return bundleOutboundPackets;
+    }
+
+    public void setBundleOutboundPackets(boolean bundleOutboundPackets) {
+        this.bundleOutboundPackets = bundleOutboundPackets;
+    }
+
+    /** Number of most recent ticks the tick profiler computes its percentiles over. */
+    public int getProfilerWindowTicks() {
+        return profilerWindowTicks;
+    }
+
+    public void setProfilerWindowTicks(int profilerWindowTicks) {
+        this.profilerWindowTicks = Math.max(20, profilerWindowTicks);
+    }
+
+    /** Whether every profiled subsystem tick is also emitted as a JFR event. */
+    public boolean isProfilerJfrEvents() {
+        return profilerJfrEvents;
+    }
+
+    public void setProfilerJfrEvents(boolean profilerJfrEvents) {
+        this.profilerJfrEvents = profilerJfrEvents;
+    }
+
+    /**
+     * Particles a sequenced style or composition may spawn per client tick when the server
+     * reveals many at once; the rest follow on later ticks. {@code 0} disables the budget.
+     */
+    public int getSequencedSpawnBudget() {
+        return sequencedSpawnBudget;
+    }
+
+    public void setSequencedSpawnBudget(int sequencedSpawnBudget) {
+        this.sequencedSpawnBudget = Math.max(0, sequencedSpawnBudget);
+    }
+
+    /**
+     * Frame rate the client particle budget aims for; while frames take longer, every
+     * budgeted spawn path thins its particles. {@code 0} ignores frame time.
+     */
+    public int getClientTargetFps() {
+        return clientTargetFps;
+    }
+
+    public void setClientTargetFps(int clientTargetFps) {
+        this.clientTargetFps = Math.max(0, clientTargetFps);
+    }
+
+    /**
+     * Live client particles above which the budget starts thinning spawns.
+     * {@code 0} ignores the particle count.
+     */
+    public int getClientParticleSoftCap() {
+        return clientParticleSoftCap;
+    }
+
+    public void setClientParticleSoftCap(int clientParticleSoftCap) {
+        this.clientParticleSoftCap = Math.max(0, clientParticleSoftCap);
+    }
+
+    /** Budgeted particles the client spawns per tick at most. {@code 0} disables the cap. */
+    public int getClientSpawnsPerTick() {
+        return clientSpawnsPerTick;
+    }
+
+    public void setClientSpawnsPerTick(int clientSpawnsPerTick) {
+        this.clientSpawnsPerTick = Math.max(0, clientSpawnsPerTick);
+    }
+
+    /** Lowest density, in percent, the client budget thins normal-priority spawns to. */
+    public int getClientMinDensityPercent() {
+        return clientMinDensityPercent;
+    }
+
+    public void setClientMinDensityPercent(int clientMinDensityPercent) {
+        this.clientMinDensityPercent = Math.max(0, Math.min(100, clientMinDensityPercent));
+    }
 }
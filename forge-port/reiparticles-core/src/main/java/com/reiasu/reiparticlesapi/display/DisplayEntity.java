@@ -17,6 +17,13 @@ import java.util.UUID;
  * Carries position, rotation (yaw/pitch/roll), scale, and validity state.
  * Provides static {@link #encodeBase}/{@link #decodeBase} for network
  * serialization of the base fields.
+ * <p>
+ * The server sends a display only to players within {@link #getViewRange()}. A new viewer
+ * gets the full state from {@link #encodeToBytes()}; after that the display is re-sent
+ * when {@link #encodeSyncKey()} changes, using {@link #encodeUpdateToBytes()}. Types whose
+ * {@link #tick()} runs the same on the client can leave the state the client works out
+ * itself out of the sync key, and are corrected every
+ * {@link com.reiasu.reiparticlesapi.config.APIConfig#getDisplayResyncTicks()} ticks.
  */
 public abstract class DisplayEntity implements ServerController<DisplayEntity> {
 
@@ -51,6 +58,7 @@ public abstract class DisplayEntity implements ServerController<DisplayEntity> {
     private float pitch;
     private float roll;
     private float scale = 1.0f;
+    private double viewRange = 64.0;
 
     @Override
     public void spawnInWorld(ServerLevel world, Vec3 pos) {
@@ -116,6 +124,15 @@ public abstract class DisplayEntity implements ServerController<DisplayEntity> {
         this.scale = scale;
     }
 
+    /** Distance from {@link #getPos()} within which players receive this display. */
+    public double getViewRange() {
+        return viewRange;
+    }
+
+    public void setViewRange(double viewRange) {
+        this.viewRange = Math.max(0.0, viewRange);
+    }
+
     public String typeId() {
         return null;
     }
@@ -124,6 +141,40 @@ public abstract class DisplayEntity implements ServerController<DisplayEntity> {
         return new byte[0];
     }
 
+    /**
+     * Payload sent to players that already have this display. Defaults to the full state;
+     * types that override it must also override {@link #readUpdate(FriendlyByteBuf)}.
+     */
+    public byte[] encodeUpdateToBytes() {
+        return encodeToBytes();
+    }
+
+    /**
+     * Applies a payload written by {@link #encodeUpdateToBytes()} on the client.
+     *
+     * @return false if this type sends its full state, which is then decoded by the
+     * registered decoder instead
+     */
+    public boolean readUpdate(FriendlyByteBuf buf) {
+        return false;
+    }
+
+    /**
+     * Called on the server once every viewer has the current state, from a CREATE or an
+     * UPDATE. Types whose update payload leaves out what the viewers already have record
+     * here what was sent; the encoders themselves must not change any state.
+     */
+    public void onStateSent() {
+    }
+
+    /**
+     * Bytes compared between ticks to decide whether viewers need an update.
+     * Defaults to the update payload, so any change is sent.
+     */
+    public byte[] encodeSyncKey() {
+        return encodeUpdateToBytes();
+    }
+
     public DisplayEntity bindLevel(Level level) {
         this.level = level;
         return this;
@@ -2,8 +2,9 @@
 // Copyright (C) 2025 Reiasu
 package com.reiasu.reiparticlesapi.display;
 
+import com.reiasu.reiparticlesapi.config.APIConfig;
 import com.reiasu.reiparticlesapi.network.ReiParticlesNetwork;
-import com.reiasu.reiparticlesapi.network.packet.PacketDisplayEntityS2C;
+import com.reiasu.reiparticlesapi.network.particle.PlayerSpatialIndex;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
@@ -17,12 +18,21 @@ import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
+/**
+ * Server and client registry of {@link DisplayEntity} instances.
+ * <p>
+ * On the server, {@link #tickAll()} ticks every display and then syncs it to the players
+ * within its view range through a {@link DisplayEntityTracker}: nothing is sent to
+ * players out of range, and unchanged displays are not re-sent.
+ */
 public final class DisplayEntityManager {
     public static final DisplayEntityManager INSTANCE = new DisplayEntityManager();
     private final List<DisplayEntity> displays = new ArrayList<>();
     private final Map<UUID, DisplayEntity> serverView = new ConcurrentHashMap<>();
     private final Map<UUID, DisplayEntity> clientView = new ConcurrentHashMap<>();
     private final Map<String, Function<FriendlyByteBuf, DisplayEntity>> registeredTypes = new ConcurrentHashMap<>();
+    private final DisplayEntityTracker tracker = new DisplayEntityTracker();
+    private long syncTick;
     private volatile boolean builtinTypesRegistered;
 
     private DisplayEntityManager() {
@@ -68,7 +78,6 @@ public final class DisplayEntityManager {
                 displays.add(entity);
             }
             serverView.put(entity.getControlUUID(), entity);
-            sync(entity, PacketDisplayEntityS2C.Method.CREATE);
         }
     }
 
@@ -76,8 +85,14 @@ public final class DisplayEntityManager {
         clientView.put(entity.getControlUUID(), entity);
     }
 
+    /**
+     * Ticks the server displays. Displays spawned since the last call are sent to the
+     * players in range here, after their first tick.
+     */
     public void tickAll() {
         synchronized (displays) {
+            tracker.beginTick();
+            long tick = syncTick++;
             Iterator<DisplayEntity> iterator = displays.iterator();
             while (iterator.hasNext()) {
                 DisplayEntity display = iterator.next();
@@ -85,14 +100,19 @@ public final class DisplayEntityManager {
                 if (display.getCanceled()) {
                     iterator.remove();
                     serverView.remove(display.getControlUUID());
-                    sync(display, PacketDisplayEntityS2C.Method.REMOVE);
+                    tracker.removeAll(display, sinkFor(display));
                     continue;
                 }
-                sync(display, PacketDisplayEntityS2C.Method.TOGGLE);
+                sync(display, tick);
             }
         }
     }
 
+    /** Returns [creates, updates, skipped unchanged, removes] sent to players in the previous tick. */
+    public int[] getLastSyncStats() {
+        return tracker.getLastTickStats();
+    }
+
     public void tickClient() {
         clientView.entrySet().removeIf(entry -> {
             DisplayEntity display = entry.getValue();
@@ -117,10 +137,12 @@ public final class DisplayEntityManager {
     public void clear() {
         synchronized (displays) {
             for (DisplayEntity display : displays) {
-                sync(display, PacketDisplayEntityS2C.Method.REMOVE);
+                tracker.removeAll(display, sinkFor(display));
                 display.cancel();
             }
             displays.clear();
+            tracker.clear();
+            syncTick = 0;
         }
         serverView.clear();
         for (DisplayEntity display : clientView.values()) {
@@ -135,22 +157,32 @@ public final class DisplayEntityManager {
         }
     }
 
-    private void sync(DisplayEntity entity, PacketDisplayEntityS2C.Method method) {
-        if (entity == null || entity.typeId() == null || entity.typeId().isBlank()) {
+    private void sync(DisplayEntity entity, long tick) {
+        if (entity.typeId() == null || entity.typeId().isBlank()) {
             return;
         }
-        ServerLevel level = entity.level() instanceof ServerLevel serverLevel ? serverLevel : null;
-        if (level == null) {
+        if (!(entity.level() instanceof ServerLevel level)) {
             return;
         }
-        PacketDisplayEntityS2C packet = switch (method) {
-            case CREATE -> PacketDisplayEntityS2C.ofCreate(entity);
-            case TOGGLE -> PacketDisplayEntityS2C.ofToggle(entity);
-            case REMOVE -> PacketDisplayEntityS2C.ofRemove(entity);
-        };
-        for (ServerPlayer player : level.players()) {
-            ReiParticlesNetwork.sendTo(player, packet);
+        double range = Math.min(entity.getViewRange(), APIConfig.INSTANCE.getMaxDisplayViewRange());
+        List<ServerPlayer> players = PlayerSpatialIndex.of(level).playersWithin(entity.getPos(), range);
+        List<UUID> inRange = new ArrayList<>(players.size());
+        for (ServerPlayer player : players) {
+            inRange.add(player.getUUID());
         }
+        tracker.update(entity, inRange, tick, sinkFor(entity));
     }
-}
 
+    private static DisplayEntityTracker.PacketSink sinkFor(DisplayEntity entity) {
+        if (!(entity.level() instanceof ServerLevel level)) {
+            return (playerId, packet) -> {
+            };
+        }
+        return (playerId, packet) -> {
+            ServerPlayer player = level.getServer().getPlayerList().getPlayer(playerId);
+            if (player != null) {
+                ReiParticlesNetwork.sendTo(player, packet);
+            }
+        };
+    }
+}
@@ -0,0 +1,151 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.display;
+
+import com.reiasu.reiparticlesapi.config.APIConfig;
+import com.reiasu.reiparticlesapi.network.packet.PacketDisplayEntityS2C;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Tracks which players have each display entity and decides what to send them.
+ * <p>
+ * Players entering the view range get a CREATE, players leaving it get a REMOVE, and
+ * the remaining viewers get an UPDATE only when the display's sync key changed or the
+ * resync interval elapsed. Packets are built once per display and tick and shared by
+ * all receivers. Server-thread only.
+ */
+final class DisplayEntityTracker {
+    @FunctionalInterface
+    interface PacketSink {
+        void send(UUID playerId, PacketDisplayEntityS2C packet);
+    }
+
+    private final Map<UUID, Tracked> tracked = new HashMap<>();
+    private int statCreates;
+    private int statUpdates;
+    private int statSkipped;
+    private int statRemoves;
+    private volatile int[] lastTickStats = new int[4];
+
+    void beginTick() {
+        lastTickStats = new int[]{statCreates, statUpdates, statSkipped, statRemoves};
+        statCreates = 0;
+        statUpdates = 0;
+        statSkipped = 0;
+        statRemoves = 0;
+    }
+
+    /** Returns [creates, updates, skipped unchanged, removes] of the previous tick, per player. */
+    int[] getLastTickStats() {
+        return lastTickStats.clone();
+    }
+
+    Set<UUID> viewersOf(UUID displayId) {
+        Tracked entry = tracked.get(displayId);
+        return entry == null ? Set.of() : Set.copyOf(entry.viewers);
+    }
+
+    /**
+     * Brings the viewers of {@code display} in line with {@code inRange}, the players
+     * currently within its view range.
+     */
+    void update(DisplayEntity display, Collection<UUID> inRange, long tick, PacketSink sink) {
+        Tracked entry = tracked.computeIfAbsent(display.getControlUUID(), ignored -> new Tracked());
+        Set<UUID> entering = null;
+        Set<UUID> current = inRange.isEmpty() ? Set.of() : new HashSet<>(inRange);
+
+        Iterator<UUID> viewers = entry.viewers.iterator();
+        PacketDisplayEntityS2C remove = null;
+        while (viewers.hasNext()) {
+            UUID viewer = viewers.next();
+            if (current.contains(viewer)) {
+                continue;
+            }
+            viewers.remove();
+            if (remove == null) {
+                remove = PacketDisplayEntityS2C.ofRemove(display);
+            }
+            sink.send(viewer, remove);
+            statRemoves++;
+        }
+
+        boolean hasOldViewers = !entry.viewers.isEmpty();
+        for (UUID player : current) {
+            if (entry.viewers.add(player)) {
+                if (entering == null) {
+                    entering = new HashSet<>();
+                }
+                entering.add(player);
+            }
+        }
+        if (entry.viewers.isEmpty()) {
+            return;
+        }
+
+        byte[] key = display.encodeSyncKey();
+        boolean changed = !Arrays.equals(key, entry.lastKey)
+                || tick - entry.lastSentTick >= APIConfig.INSTANCE.getDisplayResyncTicks();
+        if (hasOldViewers) {
+            int oldViewers = entry.viewers.size() - (entering == null ? 0 : entering.size());
+            if (changed) {
+                PacketDisplayEntityS2C packet = PacketDisplayEntityS2C.ofUpdate(display);
+                for (UUID viewer : entry.viewers) {
+                    if (entering == null || !entering.contains(viewer)) {
+                        sink.send(viewer, packet);
+                    }
+                }
+                statUpdates += oldViewers;
+            } else {
+                statSkipped += oldViewers;
+            }
+        }
+        if (entering != null) {
+            PacketDisplayEntityS2C create = PacketDisplayEntityS2C.ofCreate(display);
+            for (UUID player : entering) {
+                sink.send(player, create);
+            }
+            statCreates += entering.size();
+        }
+        if (changed || !hasOldViewers) {
+            entry.lastKey = key;
+            entry.lastSentTick = tick;
+            display.onStateSent();
+        }
+    }
+
+    /** Sends a REMOVE to every viewer of the display and forgets it. */
+    void removeAll(DisplayEntity display, PacketSink sink) {
+        Tracked entry = tracked.remove(display.getControlUUID());
+        if (entry == null || entry.viewers.isEmpty()) {
+            return;
+        }
+        PacketDisplayEntityS2C remove = PacketDisplayEntityS2C.ofRemove(display);
+        for (UUID viewer : entry.viewers) {
+            sink.send(viewer, remove);
+        }
+        statRemoves += entry.viewers.size();
+    }
+
+    void clear() {
+        tracked.clear();
+        statCreates = 0;
+        statUpdates = 0;
+        statSkipped = 0;
+        statRemoves = 0;
+        lastTickStats = new int[4];
+    }
+
+    private static final class Tracked {
+        private final Set<UUID> viewers = new HashSet<>();
+        private byte[] lastKey;
+        private long lastSentTick;
+    }
+}
@@ -2,14 +2,27 @@
 // Copyright (C) 2025 Reiasu
 package com.reiasu.reiparticlesapi.event;
 
+import com.mojang.logging.LogUtils;
 import com.reiasu.reiparticlesapi.event.api.ReiEvent;
+import org.slf4j.Logger;
 
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandleProxies;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 final class EventListenerInvocationSupport {
+    private static final Logger LOGGER = LogUtils.getLogger();
+    private static final MethodType CONSUMER_ACCEPT = MethodType.methodType(void.class, Object.class);
+
     private EventListenerInvocationSupport() {
     }
 
@@ -54,4 +67,60 @@ final class EventListenerInvocationSupport {
             throw new IllegalStateException("Listener threw checked exception in " + method.getName(), cause);
         }
     }
+
+    /**
+     * A direct invoker for {@code method}: a {@link LambdaMetafactory} consumer that calls it
+     * like compiled code would, without {@link Method#invoke}'s boxing and access checks.
+     * <p>
+     * Methods declaring checked exceptions keep the reflective path, which turns them into
+     * {@link IllegalStateException} rather than letting them escape the bus undeclared.
+     * The same happens when the listener's class cannot be looked up with full privilege,
+     * e.g. from another module that does not open its package.
+     */
+    static Consumer<ReiEvent> createInvoker(Object listener, Method method) {
+        if (!declaresCheckedExceptions(method)) {
+            try {
+                return lambdaInvoker(listener, method);
+            } catch (IllegalAccessException | LambdaConversionException | RuntimeException e) {
+                LOGGER.debug("Falling back to reflective dispatch for {}.{}: {}",
+                        method.getDeclaringClass().getName(), method.getName(), e.toString());
+            }
+        }
+        return event -> invokeMethod(listener, method, event);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Consumer<ReiEvent> lambdaInvoker(Object listener, Method method)
+            throws IllegalAccessException, LambdaConversionException {
+        Class<?> owner = method.getDeclaringClass();
+        MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(owner, MethodHandles.lookup());
+        MethodHandle target = lookup.unreflect(method);
+        boolean isStatic = Modifier.isStatic(method.getModifiers());
+        MethodType factoryType = isStatic
+                ? MethodType.methodType(Consumer.class)
+                : MethodType.methodType(Consumer.class, owner);
+        MethodHandle factory = LambdaMetafactory.metafactory(
+                lookup,
+                "accept",
+                factoryType,
+                CONSUMER_ACCEPT,
+                target,
+                MethodType.methodType(void.class, method.getParameterTypes()[0])
+        ).getTarget();
+        if (isStatic) {
+            factory = MethodHandles.dropArguments(factory, 0, Object.class);
+        }
+        // Called once per listener method; the proxy spares us invoking the handle by hand.
+        Function<Object, Object> create = MethodHandleProxies.asInterfaceInstance(Function.class, factory);
+        return (Consumer<ReiEvent>) create.apply(listener);
+    }
+
+    private static boolean declaresCheckedExceptions(Method method) {
+        for (Class<?> exception : method.getExceptionTypes()) {
+            if (!RuntimeException.class.isAssignableFrom(exception) && !Error.class.isAssignableFrom(exception)) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
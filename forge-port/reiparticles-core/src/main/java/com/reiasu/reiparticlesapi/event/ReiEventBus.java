@@ -13,7 +13,9 @@ import com.reiasu.reiparticlesapi.reflect.ReiAPIScanner;
 import org.slf4j.Logger;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -21,13 +23,25 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+/**
+ * Dispatches {@link ReiEvent}s to {@link EventHandler} methods.
+ * <p>
+ * Handlers are called through direct invokers generated at registration. For each concrete
+ * event class the bus keeps a flattened plan: the handlers of the class itself, then of each
+ * superclass, each group in {@link EventPriority} order. Plans are built on first dispatch
+ * and dropped whenever a handler is registered or unregistered, so firing an event nobody
+ * listens to costs one map lookup.
+ */
 public final class ReiEventBus {
     public static final ReiEventBus INSTANCE = new ReiEventBus();
     private static final Logger LOGGER = LogUtils.getLogger();
 
     private final Map<String, Set<String>> pendingPackagesByMod = new ConcurrentHashMap<>();
+    private static final EventExecutor[] NO_EXECUTORS = new EventExecutor[0];
+
     private final Map<Class<? extends ReiEvent>, EnumMap<EventPriority, CopyOnWriteArrayList<EventExecutor>>> handlerLists =
             new ConcurrentHashMap<>();
+    private final Map<Class<?>, EventExecutor[]> plans = new ConcurrentHashMap<>();
     private final Set<Class<?>> discoveredAnnotatedListeners = ConcurrentHashMap.newKeySet();
     private final AtomicBoolean initialized = new AtomicBoolean(false);
 
@@ -108,6 +122,23 @@ public final class ReiEventBus {
         }
     }
 
+    /** Removes every handler registered for {@code listener}; returns how many there were. */
+    public synchronized int unregisterListenerInstance(Object listener) {
+        Objects.requireNonNull(listener, "listener");
+        int removed = 0;
+        for (EnumMap<EventPriority, CopyOnWriteArrayList<EventExecutor>> byPriority : handlerLists.values()) {
+            for (CopyOnWriteArrayList<EventExecutor> executors : byPriority.values()) {
+                int before = executors.size();
+                executors.removeIf(executor -> executor.getOwner() == listener);
+                removed += before - executors.size();
+            }
+        }
+        if (removed > 0) {
+            plans.clear();
+        }
+        return removed;
+    }
+
     public int handlerCount(Class<? extends ReiEvent> eventType) {
         EnumMap<EventPriority, CopyOnWriteArrayList<EventExecutor>> bucket = handlerLists.get(eventType);
         if (bucket == null) {
@@ -120,8 +151,9 @@ public final class ReiEventBus {
         return sum;
     }
 
-    public void clear() {
+    public synchronized void clear() {
         handlerLists.clear();
+        plans.clear();
         pendingPackagesByMod.clear();
         discoveredAnnotatedListeners.clear();
         ReiAPIScanner.INSTANCE.clear();
@@ -134,36 +166,52 @@ public final class ReiEventBus {
 
     public <T extends ReiEvent> T callEvent(T event) {
         Objects.requireNonNull(event, "event");
-        Class<?> currentEventType = event.getClass();
+        EventExecutor[] plan = plans.get(event.getClass());
+        if (plan == null) {
+            plan = buildPlan(event.getClass());
+        }
+        if (plan.length == 0) {
+            return event;
+        }
+        EventInterruptible interruptible = event instanceof EventInterruptible i ? i : null;
+        for (EventExecutor executor : plan) {
+            try {
+                executor.getExecutor().accept(event);
+            } catch (RuntimeException e) {
+                LOGGER.error("Failed handling event {} in mod {}", event.getClass().getName(), executor.getModId(), e);
+            }
+            if (interruptible != null && interruptible.isInterrupted()) {
+                return event;
+            }
+        }
+        return event;
+    }
 
-        while (currentEventType != null && ReiEvent.class.isAssignableFrom(currentEventType)) {
-            @SuppressWarnings("unchecked")
-            Class<? extends ReiEvent> eventClass = (Class<? extends ReiEvent>) currentEventType;
-            EnumMap<EventPriority, CopyOnWriteArrayList<EventExecutor>> byPriority = handlerLists.get(eventClass);
-            if (byPriority != null) {
-                for (EventPriority priority : EventPriority.values()) {
-                    CopyOnWriteArrayList<EventExecutor> executors = byPriority.get(priority);
-                    if (executors == null || executors.isEmpty()) {
-                        continue;
-                    }
-                    for (EventExecutor executor : executors) {
-                        try {
-                            executor.getExecutor().accept(event);
-                        } catch (RuntimeException e) {
-                            LOGGER.error("Failed handling event {} in mod {}", event.getClass().getName(), executor.getModId(), e);
-                        }
-                        if (event instanceof EventInterruptible interruptible && interruptible.isInterrupted()) {
-                            return event;
-                        }
-                    }
+    // Built under the registration lock so a plan never outlives the handlers it was built from.
+    private synchronized EventExecutor[] buildPlan(Class<?> eventType) {
+        EventExecutor[] plan = plans.get(eventType);
+        if (plan != null) {
+            return plan;
+        }
+        List<EventExecutor> executors = new ArrayList<>();
+        for (Class<?> type = eventType; type != null && ReiEvent.class.isAssignableFrom(type); type = type.getSuperclass()) {
+            EnumMap<EventPriority, CopyOnWriteArrayList<EventExecutor>> byPriority = handlerLists.get(type);
+            if (byPriority == null) {
+                continue;
+            }
+            for (EventPriority priority : EventPriority.values()) {
+                CopyOnWriteArrayList<EventExecutor> handlers = byPriority.get(priority);
+                if (handlers != null) {
+                    executors.addAll(handlers);
                 }
             }
-            currentEventType = currentEventType.getSuperclass();
         }
-        return event;
+        plan = executors.isEmpty() ? NO_EXECUTORS : executors.toArray(NO_EXECUTORS);
+        plans.put(eventType, plan);
+        return plan;
     }
 
-    private void registerHandler(
+    private synchronized void registerHandler(
             String modId,
             Object listener,
             Method method,
@@ -174,6 +222,7 @@ public final class ReiEventBus {
                 handlerLists.computeIfAbsent(eventType, ignored -> new EnumMap<>(EventPriority.class));
         CopyOnWriteArrayList<EventExecutor> executors =
                 byPriority.computeIfAbsent(priority, ignored -> new CopyOnWriteArrayList<>());
-        executors.add(new EventExecutor(modId, event -> EventListenerInvocationSupport.invokeMethod(listener, method, event)));
+        executors.add(new EventExecutor(modId, listener, EventListenerInvocationSupport.createInvoker(listener, method)));
+        plans.clear();
     }
 }
@@ -7,10 +7,20 @@ import java.util.function.Consumer;
 
 public final class EventExecutor {
     private final String modId;
+    private final Object owner;
     private final Consumer<ReiEvent> executor;
 
     public EventExecutor(String modId, Consumer<ReiEvent> executor) {
+        this(modId, null, executor);
+    }
+
+    /**
+     * @param owner the listener instance the executor calls into, so it can be unregistered;
+     *              may be {@code null}
+     */
+    public EventExecutor(String modId, Object owner, Consumer<ReiEvent> executor) {
         this.modId = Objects.requireNonNull(modId, "modId");
+        this.owner = owner;
         this.executor = Objects.requireNonNull(executor, "executor");
     }
 
@@ -18,6 +28,10 @@ public final class EventExecutor {
         return modId;
     }
 
+    public Object getOwner() {
+        return owner;
+    }
+
     public Consumer<ReiEvent> getExecutor() {
         return executor;
     }
@@ -0,0 +1,143 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.network;
+
+import com.reiasu.reiparticlesapi.network.packet.PacketBundleS2C;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-recipient queue of outbound packets, flushed as {@link PacketBundleS2C} messages.
+ * <p>
+ * Packets keep their order per recipient. On flush every packet object is encoded at most
+ * once, however many recipients it was queued for. A recipient with a single packet gets
+ * it as is, and packets the codec cannot bundle are sent on their own between bundles.
+ * Bundles are split before they exceed {@link #MAX_BUNDLE_BYTES}.
+ */
+final class OutboundPacketQueue<P> {
+    static final int MAX_BUNDLE_BYTES = 512 * 1024;
+    /** Upper bound of the per-entry framing (two var ints). */
+    private static final int ENTRY_OVERHEAD = 10;
+
+    @FunctionalInterface
+    interface Sink<P> {
+        void send(P recipient, Object packet);
+    }
+
+    private Map<P, List<Object>> pending = new IdentityHashMap<>();
+    private int pendingPackets;
+
+    synchronized void add(P recipient, Object packet) {
+        pending.computeIfAbsent(recipient, ignored -> new ArrayList<>()).add(packet);
+        pendingPackets++;
+    }
+
+    synchronized int pendingCount() {
+        return pendingPackets;
+    }
+
+    synchronized void clear() {
+        pending = new IdentityHashMap<>();
+        pendingPackets = 0;
+    }
+
+    /** Sends everything queued since the last flush and returns what it took. */
+    ReiParticlesNetwork.FlushStats flush(ReiParticlesNetwork.BundleCodec codec, Sink<P> sink) {
+        Map<P, List<Object>> batch;
+        int packets;
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                return ReiParticlesNetwork.FlushStats.EMPTY;
+            }
+            batch = pending;
+            packets = pendingPackets;
+            pending = new IdentityHashMap<>();
+            pendingPackets = 0;
+        }
+        Flush<P> flush = new Flush<>(codec, sink);
+        for (Map.Entry<P, List<Object>> entry : batch.entrySet()) {
+            flush.send(entry.getKey(), entry.getValue());
+        }
+        return new ReiParticlesNetwork.FlushStats(batch.size(), packets, flush.messages, flush.encoded.size(),
+                flush.encodedBytes);
+    }
+
+    private static final class Flush<P> {
+        private final ReiParticlesNetwork.BundleCodec codec;
+        private final Sink<P> sink;
+        private final Map<Object, byte[]> encoded = new IdentityHashMap<>();
+        private final List<Object> originals = new ArrayList<>();
+        private final List<PacketBundleS2C.Entry> entries = new ArrayList<>();
+        private int bundleBytes;
+        private int messages;
+        private long encodedBytes;
+
+        private Flush(ReiParticlesNetwork.BundleCodec codec, Sink<P> sink) {
+            this.codec = codec;
+            this.sink = sink;
+        }
+
+        private void send(P recipient, List<Object> packets) {
+            if (packets.size() == 1) {
+                emit(recipient, packets.get(0));
+                return;
+            }
+            for (Object packet : packets) {
+                int id = codec.bundleId(packet);
+                byte[] payload = id < 0 ? null : encode(packet);
+                if (payload == null || payload.length + ENTRY_OVERHEAD > MAX_BUNDLE_BYTES) {
+                    emitBundle(recipient);
+                    emit(recipient, packet);
+                    continue;
+                }
+                if (bundleBytes + payload.length + ENTRY_OVERHEAD > MAX_BUNDLE_BYTES) {
+                    emitBundle(recipient);
+                }
+                originals.add(packet);
+                entries.add(new PacketBundleS2C.Entry(id, payload));
+                bundleBytes += payload.length + ENTRY_OVERHEAD;
+            }
+            emitBundle(recipient);
+        }
+
+        private byte[] encode(Object packet) {
+            if (encoded.containsKey(packet)) {
+                return encoded.get(packet);
+            }
+            byte[] payload;
+            try {
+                payload = codec.encode(packet);
+            } catch (RuntimeException e) {
+                // Sent on its own instead, where the runtime's sender reports the failure.
+                payload = null;
+            }
+            encoded.put(packet, payload);
+            if (payload != null) {
+                encodedBytes += payload.length;
+            }
+            return payload;
+        }
+
+        private void emitBundle(P recipient) {
+            if (entries.isEmpty()) {
+                return;
+            }
+            if (entries.size() == 1) {
+                emit(recipient, originals.get(0));
+            } else {
+                emit(recipient, new PacketBundleS2C(entries));
+            }
+            originals.clear();
+            entries.clear();
+            bundleBytes = 0;
+        }
+
+        private void emit(P recipient, Object packet) {
+            sink.send(recipient, packet);
+            messages++;
+        }
+    }
+}
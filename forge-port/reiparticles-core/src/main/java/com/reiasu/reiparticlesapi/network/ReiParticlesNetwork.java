@@ -3,23 +3,58 @@
 package com.reiasu.reiparticlesapi.network;
 
 import com.reiasu.reiparticlesapi.ReiParticlesConstants;
+import com.reiasu.reiparticlesapi.config.APIConfig;
+import com.reiasu.reiparticlesapi.network.trace.PacketTraceRecorder;
+import com.reiasu.reiparticlesapi.profiler.TickProfiler;
 import net.minecraft.server.level.ServerPlayer;
 
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+/**
+ * Entry point for all ReiParticles server-to-client traffic.
+ * <p>
+ * Once the runtime binds a {@link BundleCodec}, {@link #sendTo} only queues the packet.
+ * {@link #flush()} runs at the end of the server tick and sends each player one
+ * {@link com.reiasu.reiparticlesapi.network.packet.PacketBundleS2C} holding everything
+ * queued for them, with shared packets encoded once.
+ */
 public final class ReiParticlesNetwork {
     @FunctionalInterface
     public interface PacketSender {
         void sendTo(ServerPlayer player, Object packet);
     }
 
+    /** Encodes packets for bundling; implemented by the runtime that registers the messages. */
+    public interface BundleCodec {
+        /** The message id of the packet's type, or -1 if it must be sent on its own. */
+        int bundleId(Object packet);
+
+        byte[] encode(Object packet);
+    }
+
+    /** What the last {@link #flush()} sent. */
+    public record FlushStats(int players, int packets, int messages, int encodes, long encodedBytes) {
+        static final FlushStats EMPTY = new FlushStats(0, 0, 0, 0, 0L);
+
+        public double packetsPerPlayer() {
+            return players == 0 ? 0.0 : packets / (double) players;
+        }
+
+        public double messagesPerPlayer() {
+            return players == 0 ? 0.0 : messages / (double) players;
+        }
+    }
+
     private static final AtomicBoolean WARNED_UNBOUND = new AtomicBoolean(false);
+    private static final OutboundPacketQueue<ServerPlayer> QUEUE = new OutboundPacketQueue<>();
     private static volatile PacketSender sender = (player, packet) -> {
         if (WARNED_UNBOUND.compareAndSet(false, true)) {
             ReiParticlesConstants.logger.warn("Packet sender is not bound; dropping packets until runtime initialization completes");
         }
     };
+    private static volatile BundleCodec bundleCodec;
+    private static volatile FlushStats lastFlushStats = FlushStats.EMPTY;
 
     private ReiParticlesNetwork() {
     }
@@ -28,10 +63,51 @@ public final class ReiParticlesNetwork {
         sender = Objects.requireNonNull(packetSender, "packetSender");
     }
 
+    public static void bindBundleCodec(BundleCodec codec) {
+        bundleCodec = Objects.requireNonNull(codec, "codec");
+    }
+
     public static void sendTo(ServerPlayer player, Object packet) {
         if (player == null || packet == null) {
             return;
         }
-        sender.sendTo(player, packet);
+        TickProfiler.SERVER.count("network.packets", 1L);
+        PacketTraceRecorder.INSTANCE.record(player.getUUID(), packet, bundleCodec);
+        if (bundleCodec == null || !APIConfig.INSTANCE.isBundleOutboundPackets()) {
+            sender.sendTo(player, packet);
+            return;
+        }
+        QUEUE.add(player, packet);
+    }
+
+    /** Sends everything queued this tick. Called by the runtime at the end of each server tick. */
+    public static void flush() {
+        BundleCodec codec = bundleCodec;
+        if (codec == null) {
+            return;
+        }
+        PacketSender target = sender;
+        FlushStats stats = QUEUE.flush(codec, (player, packet) -> {
+            if (!player.hasDisconnected()) {
+                target.sendTo(player, packet);
+            }
+        });
+        TickProfiler.SERVER.count("network.messages", stats.messages());
+        TickProfiler.SERVER.count("network.bytesEncoded", stats.encodedBytes());
+        lastFlushStats = stats;
+        PacketTraceRecorder.INSTANCE.endTick();
+    }
+
+    /**
+     * Drops everything queued and not yet flushed. Called by the runtime when the server
+     * stops, so packets for its players are neither kept alive nor sent on the next server.
+     */
+    public static void clearQueued() {
+        QUEUE.clear();
+        lastFlushStats = FlushStats.EMPTY;
+    }
+
+    public static FlushStats getLastFlushStats() {
+        return lastFlushStats;
     }
 }
@@ -2,6 +2,7 @@
 // Copyright (C) 2025 Reiasu
 package com.reiasu.reiparticlesapi.network.buffer;
 
+import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
 
 public final class BooleanControllerBuffer extends AbstractControllerBuffer<Boolean> {
@@ -18,6 +19,16 @@ public final class BooleanControllerBuffer extends AbstractControllerBuffer<Bool
         return buf.length > 0 && buf[0] != 0;
     }
 
+    @Override
+    public void write(FriendlyByteBuf buf) {
+        buf.writeBoolean(Boolean.TRUE.equals(getLoadedValue()));
+    }
+
+    @Override
+    public Boolean read(FriendlyByteBuf buf) {
+        return buf.readBoolean();
+    }
+
     @Override
     public ParticleControllerDataBuffer.Id getBufferID() {
         return ID;
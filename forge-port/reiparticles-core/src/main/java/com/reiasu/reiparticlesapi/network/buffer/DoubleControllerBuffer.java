@@ -2,6 +2,7 @@
 // Copyright (C) 2025 Reiasu
 package com.reiasu.reiparticlesapi.network.buffer;
 
+import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
 
 import java.nio.ByteBuffer;
@@ -23,6 +24,17 @@ public final class DoubleControllerBuffer extends AbstractControllerBuffer<Doubl
         return ByteBuffer.wrap(buf).getDouble();
     }
 
+    @Override
+    public void write(FriendlyByteBuf buf) {
+        Double value = getLoadedValue();
+        buf.writeDouble(value == null ? 0.0 : value);
+    }
+
+    @Override
+    public Double read(FriendlyByteBuf buf) {
+        return buf.readDouble();
+    }
+
     @Override
     public ParticleControllerDataBuffer.Id getBufferID() {
         return ID;
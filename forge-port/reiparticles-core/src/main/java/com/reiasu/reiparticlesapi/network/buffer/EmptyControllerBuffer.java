@@ -2,6 +2,7 @@
 // Copyright (C) 2025 Reiasu
 package com.reiasu.reiparticlesapi.network.buffer;
 
+import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
 
 public final class EmptyControllerBuffer extends AbstractControllerBuffer<Void> {
@@ -23,6 +24,16 @@ public final class EmptyControllerBuffer extends AbstractControllerBuffer<Void>
         return null;
     }
 
+    @Override
+    public void write(FriendlyByteBuf buf) {
+        // No payload.
+    }
+
+    @Override
+    public Void read(FriendlyByteBuf buf) {
+        return null;
+    }
+
     @Override
     public ParticleControllerDataBuffer.Id getBufferID() {
         return ID;
@@ -2,6 +2,7 @@
 // Copyright (C) 2025 Reiasu
 package com.reiasu.reiparticlesapi.network.buffer;
 
+import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
 
 import java.nio.ByteBuffer;
@@ -23,6 +24,17 @@ public final class FloatControllerBuffer extends AbstractControllerBuffer<Float>
         return ByteBuffer.wrap(buf).getFloat();
     }
 
+    @Override
+    public void write(FriendlyByteBuf buf) {
+        Float value = getLoadedValue();
+        buf.writeFloat(value == null ? 0.0F : value);
+    }
+
+    @Override
+    public Float read(FriendlyByteBuf buf) {
+        return buf.readFloat();
+    }
+
     @Override
     public ParticleControllerDataBuffer.Id getBufferID() {
         return ID;
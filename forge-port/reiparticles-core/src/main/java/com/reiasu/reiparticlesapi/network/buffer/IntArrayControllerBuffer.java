@@ -2,6 +2,7 @@
 // Copyright (C) 2025 Reiasu
 package com.reiasu.reiparticlesapi.network.buffer;
 
+import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
 
 import java.nio.ByteBuffer;
@@ -35,6 +36,17 @@ public final class IntArrayControllerBuffer extends AbstractControllerBuffer<int
         return out;
     }
 
+    @Override
+    public void write(FriendlyByteBuf buf) {
+        int[] value = getLoadedValue();
+        buf.writeVarIntArray(value == null ? new int[0] : value);
+    }
+
+    @Override
+    public int[] read(FriendlyByteBuf buf) {
+        return buf.readVarIntArray();
+    }
+
     @Override
     public ParticleControllerDataBuffer.Id getBufferID() {
         return ID;
@@ -2,6 +2,7 @@
 // Copyright (C) 2025 Reiasu
 package com.reiasu.reiparticlesapi.network.buffer;
 
+import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
 
 import java.nio.ByteBuffer;
@@ -23,6 +24,17 @@ public final class IntControllerBuffer extends AbstractControllerBuffer<Integer>
         return ByteBuffer.wrap(buf).getInt();
     }
 
+    @Override
+    public void write(FriendlyByteBuf buf) {
+        Integer value = getLoadedValue();
+        buf.writeVarInt(value == null ? 0 : value);
+    }
+
+    @Override
+    public Integer read(FriendlyByteBuf buf) {
+        return buf.readVarInt();
+    }
+
     @Override
     public ParticleControllerDataBuffer.Id getBufferID() {
         return ID;
@@ -2,6 +2,7 @@
 // Copyright (C) 2025 Reiasu
 package com.reiasu.reiparticlesapi.network.buffer;
 
+import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
 
 import java.nio.ByteBuffer;
@@ -35,6 +36,17 @@ public final class LongArrayControllerBuffer extends AbstractControllerBuffer<lo
         return out;
     }
 
+    @Override
+    public void write(FriendlyByteBuf buf) {
+        long[] value = getLoadedValue();
+        buf.writeLongArray(value == null ? new long[0] : value);
+    }
+
+    @Override
+    public long[] read(FriendlyByteBuf buf) {
+        return buf.readLongArray();
+    }
+
     @Override
     public ParticleControllerDataBuffer.Id getBufferID() {
         return ID;
@@ -2,6 +2,7 @@
 // Copyright (C) 2025 Reiasu
 package com.reiasu.reiparticlesapi.network.buffer;
 
+import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
 
 import java.nio.ByteBuffer;
@@ -23,6 +24,17 @@ public final class LongControllerBuffer extends AbstractControllerBuffer<Long> {
         return ByteBuffer.wrap(buf).getLong();
     }
 
+    @Override
+    public void write(FriendlyByteBuf buf) {
+        Long value = getLoadedValue();
+        buf.writeLong(value == null ? 0L : value);
+    }
+
+    @Override
+    public Long read(FriendlyByteBuf buf) {
+        return buf.readLong();
+    }
+
     @Override
     public ParticleControllerDataBuffer.Id getBufferID() {
         return ID;
@@ -2,6 +2,7 @@
 // Copyright (C) 2025 Reiasu
 package com.reiasu.reiparticlesapi.network.buffer;
 
+import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
 
 import java.util.Objects;
@@ -23,6 +24,19 @@ public interface ParticleControllerDataBuffer<T> {
 
     T decode(byte[] buf);
 
+    /**
+     * Writes the loaded value straight into a packet buffer. The default frames the
+     * {@link #encode()} bytes; built-in buffers override it with a fixed binary layout.
+     */
+    default void write(FriendlyByteBuf buf) {
+        buf.writeByteArray(encode());
+    }
+
+    /** Reads a value written by {@link #write(FriendlyByteBuf)}. */
+    default T read(FriendlyByteBuf buf) {
+        return decode(buf.readByteArray());
+    }
+
     Id getBufferID();
 
     record Id(ResourceLocation value) {
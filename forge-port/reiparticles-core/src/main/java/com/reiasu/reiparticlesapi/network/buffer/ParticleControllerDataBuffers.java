@@ -3,6 +3,7 @@
 package com.reiasu.reiparticlesapi.network.buffer;
 
 import com.reiasu.reiparticlesapi.utils.RelativeLocation;
+import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.phys.Vec3;
 
@@ -13,18 +14,34 @@ import java.io.DataOutputStream;
 import java.io.IOException;
 import java.lang.reflect.Constructor;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
+/**
+ * Registry and codec for {@link ParticleControllerDataBuffer} arguments.
+ * <p>
+ * Registered buffer ids are assigned VarInt network ids in registration order, so
+ * client and server must register in the same order (the built-ins are registered
+ * here). {@link #write} tags each argument with its network id and lets the buffer
+ * write its value straight into the packet; buffers without a registration fall back
+ * to the legacy class-name envelope produced by {@link #encode(ParticleControllerDataBuffer)}.
+ */
 public final class ParticleControllerDataBuffers {
     public static final ParticleControllerDataBuffers INSTANCE = new ParticleControllerDataBuffers();
 
+    /** Network id tag for an argument carried in the legacy class-name envelope. */
+    private static final int LEGACY_ENVELOPE = 0;
+
     private final Map<Class<?>, Class<?>> wrapperToPrimitive = new ConcurrentHashMap<>();
     private final Map<ParticleControllerDataBuffer.Id, Supplier<? extends ParticleControllerDataBuffer<?>>> registerBuilder =
             new ConcurrentHashMap<>();
     private final Map<Class<?>, ParticleControllerDataBuffer.Id> registerTypes = new ConcurrentHashMap<>();
+    // Copy-on-write: registration replaces the array, netty threads only read it.
+    private volatile ParticleControllerDataBuffer.Id[] networkIdToId = new ParticleControllerDataBuffer.Id[0];
+    private final Map<ParticleControllerDataBuffer.Id, Integer> idToNetworkId = new ConcurrentHashMap<>();
 
     private ParticleControllerDataBuffers() {
         wrapperToPrimitive.put(Integer.class, int.class);
@@ -133,13 +150,30 @@ public final class ParticleControllerDataBuffers {
         return new EmptyControllerBuffer();
     }
 
-    public void register(
+    /**
+     * Registers a buffer type. The first registration of an id assigns its network id,
+     * so this must be called in identical order on client and server.
+     */
+    public synchronized void register(
             Class<?> bufferType,
             ParticleControllerDataBuffer.Id id,
             Supplier<? extends ParticleControllerDataBuffer<?>> supplier
     ) {
         registerBuilder.put(id, supplier);
         registerTypes.put(bufferType, id);
+        if (!idToNetworkId.containsKey(id)) {
+            ParticleControllerDataBuffer.Id[] ids = Arrays.copyOf(networkIdToId, networkIdToId.length + 1);
+            ids[ids.length - 1] = id;
+            networkIdToId = ids;
+            // 0 is reserved for the legacy envelope.
+            idToNetworkId.put(id, ids.length);
+        }
+    }
+
+    /** Returns the VarInt network id of a registered buffer id, or -1 if it is not registered. */
+    public int getNetworkId(ParticleControllerDataBuffer.Id id) {
+        Integer networkId = idToNetworkId.get(id);
+        return networkId != null ? networkId : -1;
     }
 
     @SuppressWarnings({"rawtypes", "unchecked"})
@@ -194,6 +228,39 @@ public final class ParticleControllerDataBuffers {
         return withIdDecode(new ParticleControllerDataBuffer.Id(id), array);
     }
 
+    /**
+     * Writes a buffer as its VarInt network id followed by its value. Unregistered
+     * buffers are written as the legacy envelope so they still round-trip.
+     */
+    public void write(FriendlyByteBuf buf, ParticleControllerDataBuffer<?> buffer) {
+        Integer networkId = idToNetworkId.get(buffer.getBufferID());
+        if (networkId == null) {
+            buf.writeVarInt(LEGACY_ENVELOPE);
+            buf.writeByteArray(encode(buffer));
+            return;
+        }
+        buf.writeVarInt(networkId);
+        buffer.write(buf);
+    }
+
+    /** Reads a buffer written by {@link #write(FriendlyByteBuf, ParticleControllerDataBuffer)}. */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public ParticleControllerDataBuffer<?> read(FriendlyByteBuf buf) {
+        int networkId = buf.readVarInt();
+        if (networkId == LEGACY_ENVELOPE) {
+            return decodeToBuffer(buf.readByteArray());
+        }
+        ParticleControllerDataBuffer.Id[] ids = networkIdToId;
+        ParticleControllerDataBuffer.Id id = networkId > 0 && networkId <= ids.length ? ids[networkId - 1] : null;
+        Supplier<? extends ParticleControllerDataBuffer<?>> supplier = id != null ? registerBuilder.get(id) : null;
+        if (supplier == null) {
+            throw new IllegalStateException("Unknown controller buffer network id " + networkId);
+        }
+        ParticleControllerDataBuffer<?> buffer = supplier.get();
+        ((ParticleControllerDataBuffer) buffer).setLoadedValue(buffer.read(buf));
+        return buffer;
+    }
+
     public <T> byte[] encode(ParticleControllerDataBuffer<T> buffer) {
         byte[] payload = buffer.encode();
         String className = buffer.getClass().getName();
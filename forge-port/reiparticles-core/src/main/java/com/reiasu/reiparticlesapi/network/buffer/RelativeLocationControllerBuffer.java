@@ -3,6 +3,7 @@
 package com.reiasu.reiparticlesapi.network.buffer;
 
 import com.reiasu.reiparticlesapi.utils.RelativeLocation;
+import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
 
 import java.nio.ByteBuffer;
@@ -30,6 +31,20 @@ public final class RelativeLocationControllerBuffer extends AbstractControllerBu
         return new RelativeLocation(buffer.getDouble(), buffer.getDouble(), buffer.getDouble());
     }
 
+    @Override
+    public void write(FriendlyByteBuf buf) {
+        RelativeLocation value = getLoadedValue();
+        RelativeLocation safe = value == null ? new RelativeLocation() : value;
+        buf.writeDouble(safe.getX());
+        buf.writeDouble(safe.getY());
+        buf.writeDouble(safe.getZ());
+    }
+
+    @Override
+    public RelativeLocation read(FriendlyByteBuf buf) {
+        return new RelativeLocation(buf.readDouble(), buf.readDouble(), buf.readDouble());
+    }
+
     @Override
     public ParticleControllerDataBuffer.Id getBufferID() {
         return ID;
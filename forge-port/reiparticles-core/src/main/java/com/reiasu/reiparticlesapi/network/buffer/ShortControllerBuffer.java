@@ -2,6 +2,7 @@
 // Copyright (C) 2025 Reiasu
 package com.reiasu.reiparticlesapi.network.buffer;
 
+import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
 
 import java.nio.ByteBuffer;
@@ -23,6 +24,17 @@ public final class ShortControllerBuffer extends AbstractControllerBuffer<Short>
         return ByteBuffer.wrap(buf).getShort();
     }
 
+    @Override
+    public void write(FriendlyByteBuf buf) {
+        Short value = getLoadedValue();
+        buf.writeShort(value == null ? 0 : value);
+    }
+
+    @Override
+    public Short read(FriendlyByteBuf buf) {
+        return buf.readShort();
+    }
+
     @Override
     public ParticleControllerDataBuffer.Id getBufferID() {
         return ID;
@@ -2,6 +2,7 @@
 // Copyright (C) 2025 Reiasu
 package com.reiasu.reiparticlesapi.network.buffer;
 
+import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
 
 import java.nio.charset.StandardCharsets;
@@ -25,6 +26,17 @@ public final class UUIDControllerBuffer extends AbstractControllerBuffer<UUID> {
         return UUID.fromString(new String(buf, StandardCharsets.UTF_8));
     }
 
+    @Override
+    public void write(FriendlyByteBuf buf) {
+        UUID value = getLoadedValue();
+        buf.writeUUID(value == null ? new UUID(0L, 0L) : value);
+    }
+
+    @Override
+    public UUID read(FriendlyByteBuf buf) {
+        return buf.readUUID();
+    }
+
     @Override
     public ParticleControllerDataBuffer.Id getBufferID() {
         return ID;
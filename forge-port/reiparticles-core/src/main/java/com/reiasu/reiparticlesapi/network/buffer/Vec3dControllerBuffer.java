@@ -2,6 +2,7 @@
 // Copyright (C) 2025 Reiasu
 package com.reiasu.reiparticlesapi.network.buffer;
 
+import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.phys.Vec3;
 
@@ -30,6 +31,20 @@ public final class Vec3dControllerBuffer extends AbstractControllerBuffer<Vec3>
         return new Vec3(buffer.getDouble(), buffer.getDouble(), buffer.getDouble());
     }
 
+    @Override
+    public void write(FriendlyByteBuf buf) {
+        Vec3 value = getLoadedValue();
+        Vec3 safe = value == null ? Vec3.ZERO : value;
+        buf.writeDouble(safe.x);
+        buf.writeDouble(safe.y);
+        buf.writeDouble(safe.z);
+    }
+
+    @Override
+    public Vec3 read(FriendlyByteBuf buf) {
+        return new Vec3(buf.readDouble(), buf.readDouble(), buf.readDouble());
+    }
+
     @Override
     public ParticleControllerDataBuffer.Id getBufferID() {
         return ID;
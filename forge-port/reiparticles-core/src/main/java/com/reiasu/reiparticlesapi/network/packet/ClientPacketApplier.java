@@ -0,0 +1,313 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.network.packet;
+
+import com.reiasu.reiparticlesapi.ReiParticlesConstants;
+import com.reiasu.reiparticlesapi.display.DisplayEntity;
+import com.reiasu.reiparticlesapi.display.DisplayEntityManager;
+import com.reiasu.reiparticlesapi.network.buffer.ParticleControllerDataBuffer;
+import com.reiasu.reiparticlesapi.network.particle.composition.ParticleComposition;
+import com.reiasu.reiparticlesapi.network.particle.composition.manager.ParticleCompositionManager;
+import com.reiasu.reiparticlesapi.network.particle.emitters.ParticleEmitters;
+import com.reiasu.reiparticlesapi.network.particle.emitters.ParticleEmittersManager;
+import com.reiasu.reiparticlesapi.network.particle.style.ParticleGroupStyle;
+import com.reiasu.reiparticlesapi.network.particle.style.ParticleStyleManager;
+import com.reiasu.reiparticlesapi.network.particle.style.ParticleStyleProvider;
+import com.reiasu.reiparticlesapi.particles.control.ControlType;
+import com.reiasu.reiparticlesapi.renderer.RenderEntity;
+import com.reiasu.reiparticlesapi.renderer.client.ClientRenderEntityManager;
+import com.reiasu.reiparticlesapi.utils.RelativeLocation;
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.Vec3;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Applies decoded server-to-client packets to the client-side managers.
+ * <p>
+ * This is the part of the runtime's client packet handlers that does not need the game
+ * client: each method takes the level to bind what it creates to, which the runtime passes
+ * as the client's current level and a headless replay as a stand-in. A {@code null} level
+ * skips what needs one, as the handlers do before a level is loaded.
+ */
+public final class ClientPacketApplier {
+    private ClientPacketApplier() {
+    }
+
+    public static void applyEmitters(PacketParticleEmittersS2C packet, Level level) {
+        Function<FriendlyByteBuf, ParticleEmitters> decoder = ParticleEmittersManager.getCodecFromID(packet.emitterKey());
+        if (decoder == null) {
+            return;
+        }
+        FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.wrappedBuffer(packet.emitterData()));
+        ParticleEmitters emitters = decoder.apply(buf);
+        if (emitters == null) {
+            return;
+        }
+        switch (packet.type()) {
+            case CHANGE_OR_CREATE -> {
+                if (level != null) {
+                    ParticleEmittersManager.createOrChangeClient(emitters, level);
+                }
+            }
+            case REMOVE -> {
+                ParticleEmitters target = ParticleEmittersManager.getClientEmitters().get(emitters.getUuid());
+                if (target != null) {
+                    target.cancel();
+                }
+            }
+        }
+    }
+
+    public static void applyComposition(PacketParticleCompositionS2C packet, Level level) {
+        Function<FriendlyByteBuf, ParticleComposition> decoder =
+                ParticleCompositionManager.INSTANCE.getRegisteredTypes().get(packet.getType());
+        if (decoder == null) {
+            return;
+        }
+        FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.wrappedBuffer(packet.getData()));
+        ParticleComposition decoded = decoder.apply(buf);
+        if (decoded == null) {
+            return;
+        }
+        decoded.setWorld(level);
+
+        ParticleComposition old = ParticleCompositionManager.INSTANCE.getClientView().get(packet.getUuid());
+        if (old == null) {
+            if (!packet.getDistanceRemove()) {
+                ParticleCompositionManager.INSTANCE.addClient(decoded);
+            }
+            return;
+        }
+        if (packet.getDistanceRemove()) {
+            old.remove();
+            return;
+        }
+        old.update(decoded);
+    }
+
+    public static void applyDisplay(PacketDisplayEntityS2C packet, Level level) {
+        DisplayEntity existing = DisplayEntityManager.INSTANCE.getClientView().get(packet.uuid());
+        if (packet.method() == PacketDisplayEntityS2C.Method.REMOVE) {
+            if (existing != null) {
+                existing.cancel();
+            }
+            return;
+        }
+        if (packet.method() == PacketDisplayEntityS2C.Method.UPDATE) {
+            if (existing == null) {
+                // Updates only make sense on top of a CREATE this client received.
+                return;
+            }
+            if (existing.readUpdate(new FriendlyByteBuf(Unpooled.wrappedBuffer(packet.data())))) {
+                return;
+            }
+        }
+
+        Function<FriendlyByteBuf, DisplayEntity> decoder =
+                DisplayEntityManager.INSTANCE.getRegisteredTypes().get(packet.type());
+        if (decoder == null) {
+            return;
+        }
+        FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.wrappedBuffer(packet.data()));
+        DisplayEntity display = decoder.apply(buf);
+        if (display == null) {
+            return;
+        }
+        if (level != null) {
+            display.bindLevel(level);
+        }
+
+        if (existing == null) {
+            DisplayEntityManager.INSTANCE.addClient(display);
+            return;
+        }
+        existing.update(display);
+        if (level != null) {
+            existing.bindLevel(level);
+        }
+    }
+
+    public static void applyRenderEntity(PacketRenderEntityS2C packet, Level level) {
+        Function<byte[], RenderEntity> codec = ClientRenderEntityManager.INSTANCE.getCodecFromID(packet.getId());
+        if (codec == null) return;
+
+        RenderEntity entity = codec.apply(packet.getEntityData());
+        if (entity == null) return;
+
+        if (level != null) {
+            entity.setWorld(level);
+        }
+
+        switch (packet.getMethod()) {
+            case CREATE -> ClientRenderEntityManager.INSTANCE.add(entity);
+            case TOGGLE -> {
+                RenderEntity existing = ClientRenderEntityManager.INSTANCE.getFrom(packet.getUuid());
+                if (existing != null) {
+                    existing.loadProfileFromEntity(entity);
+                }
+            }
+            case REMOVE -> {
+                RenderEntity existing = ClientRenderEntityManager.INSTANCE.getFrom(packet.getUuid());
+                if (existing != null) {
+                    existing.setCanceled(true);
+                }
+            }
+        }
+    }
+
+    public static void applyStyle(PacketParticleStyleS2C packet, Level level) {
+        UUID uuid = packet.uuid();
+        ControlType type = packet.type();
+        if (type == ControlType.CREATE) {
+            createStyle(uuid, packet.args(), level);
+            return;
+        }
+        if (type == ControlType.CHANGE) {
+            changeStyle(uuid, packet.args());
+            return;
+        }
+        ParticleGroupStyle style = ParticleStyleManager.getClientViewStyles().remove(uuid);
+        if (style != null) {
+            style.remove();
+        }
+    }
+
+    private static void changeStyle(UUID uuid, Map<String, ParticleControllerDataBuffer<?>> args) {
+        ParticleGroupStyle style = ParticleStyleManager.getClientViewStyles().get(uuid);
+        if (style == null) {
+            return;
+        }
+        applyCommonStyleArgs(style, args);
+        style.readPacketArgs(args);
+    }
+
+    private static void createStyle(UUID uuid, Map<String, ParticleControllerDataBuffer<?>> args, Level level) {
+        Integer styleTypeId = readInt(args, "style_type_id");
+        if (styleTypeId == null || styleTypeId < 0) {
+            return;
+        }
+        try {
+            ParticleStyleProvider<?> provider = ParticleStyleManager.getProviderByRawID(styleTypeId);
+            if (provider == null) {
+                return;
+            }
+            ParticleGroupStyle style = provider.createStyle(uuid, args);
+            if (style == null) {
+                return;
+            }
+            style.setUuid(uuid);
+            ResourceLocation key = ParticleStyleManager.getStyleKey(styleTypeId);
+            if (key != null) {
+                style.setRegistryKey(key);
+            }
+            applyCommonStyleArgs(style, args);
+            style.readPacketArgs(args);
+
+            if (level == null) {
+                return;
+            }
+            ParticleStyleManager.spawnStyle(level, style.getPos(), style);
+        } catch (RuntimeException e) {
+            ReiParticlesConstants.logger.debug("Failed to spawn particle style {}: {}", uuid, e.getMessage());
+        }
+    }
+
+    private static void applyCommonStyleArgs(ParticleGroupStyle style,
+                                             Map<String, ? extends ParticleControllerDataBuffer<?>> args) {
+        Vec3 pos = readVec3(args, "pos");
+        if (pos != null) {
+            style.teleportTo(pos);
+        }
+        Vec3 teleport = readVec3(args, "teleport");
+        if (teleport != null) {
+            style.teleportTo(teleport);
+        }
+        Double rotate = readDouble(args, "rotate");
+        if (rotate != null) {
+            style.setRotate(rotate);
+        }
+        RelativeLocation rotateTo = readRelative(args, "rotate_to");
+        Double rotateAngle = readDouble(args, "rotate_angle");
+        if (rotateTo != null && rotateAngle != null) {
+            style.rotateToWithAngle(rotateTo, rotateAngle);
+        } else {
+            if (rotateAngle != null) {
+                style.rotateAsAxis(rotateAngle);
+            }
+            if (rotateTo != null) {
+                style.rotateToPoint(rotateTo);
+            }
+        }
+        Vec3 axis = readVec3(args, "axis");
+        if (axis != null) {
+            style.setAxis(RelativeLocation.of(axis));
+        }
+        Double scale = readDouble(args, "scale");
+        if (scale != null) {
+            style.setScale(scale);
+        }
+        Long lastUpdatedGameTime = readLong(args, "lastUpdatedGameTime");
+        if (lastUpdatedGameTime != null) {
+            style.setLastUpdatedGameTime(lastUpdatedGameTime);
+        }
+        Long displayedTime = readLong(args, "displayedTime");
+        if (displayedTime != null) {
+            style.setDisplayedTime(displayedTime);
+        }
+        Double visibleRange = readDouble(args, "visibleRange");
+        if (visibleRange != null) {
+            style.setVisibleRange(visibleRange);
+        }
+        Boolean autoToggle = readBoolean(args, "autoToggle");
+        if (autoToggle != null) {
+            style.setAutoToggle(autoToggle);
+        }
+    }
+
+    private static Vec3 readVec3(Map<String, ? extends ParticleControllerDataBuffer<?>> args, String key) {
+        Object value = read(args, key);
+        return value instanceof Vec3 vec3 ? vec3 : null;
+    }
+
+    private static RelativeLocation readRelative(Map<String, ? extends ParticleControllerDataBuffer<?>> args, String key) {
+        Object value = read(args, key);
+        if (value instanceof RelativeLocation relativeLocation) {
+            return relativeLocation;
+        }
+        if (value instanceof Vec3 vec3) {
+            return RelativeLocation.of(vec3);
+        }
+        return null;
+    }
+
+    private static Integer readInt(Map<String, ? extends ParticleControllerDataBuffer<?>> args, String key) {
+        Object value = read(args, key);
+        return value instanceof Number number ? number.intValue() : null;
+    }
+
+    private static Double readDouble(Map<String, ? extends ParticleControllerDataBuffer<?>> args, String key) {
+        Object value = read(args, key);
+        return value instanceof Number number ? number.doubleValue() : null;
+    }
+
+    private static Long readLong(Map<String, ? extends ParticleControllerDataBuffer<?>> args, String key) {
+        Object value = read(args, key);
+        return value instanceof Number number ? number.longValue() : null;
+    }
+
+    private static Boolean readBoolean(Map<String, ? extends ParticleControllerDataBuffer<?>> args, String key) {
+        Object value = read(args, key);
+        return value instanceof Boolean b ? b : null;
+    }
+
+    private static Object read(Map<String, ? extends ParticleControllerDataBuffer<?>> args, String key) {
+        ParticleControllerDataBuffer<?> buffer = args.get(key);
+        return buffer == null ? null : buffer.getLoadedValue();
+    }
+}
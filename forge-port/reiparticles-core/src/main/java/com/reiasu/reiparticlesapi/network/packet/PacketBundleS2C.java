@@ -0,0 +1,42 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.network.packet;
+
+import net.minecraft.network.FriendlyByteBuf;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Several already-encoded ReiParticles packets for one player, sent as one message.
+ * <p>
+ * Each entry is the runtime's message id of the inner packet and its encoded body, so a
+ * packet shared by many players is encoded once and only its bytes are copied into each
+ * bundle. The client decodes and handles entries in order.
+ */
+public record PacketBundleS2C(List<Entry> entries) {
+    public record Entry(int id, byte[] payload) {
+    }
+
+    public PacketBundleS2C {
+        entries = List.copyOf(entries);
+    }
+
+    public static void encode(PacketBundleS2C packet, FriendlyByteBuf buf) {
+        buf.writeVarInt(packet.entries.size());
+        for (Entry entry : packet.entries) {
+            buf.writeVarInt(entry.id);
+            buf.writeByteArray(entry.payload);
+        }
+    }
+
+    public static PacketBundleS2C decode(FriendlyByteBuf buf) {
+        int size = buf.readVarInt();
+        List<Entry> entries = new ArrayList<>(Math.min(size, 1024));
+        for (int i = 0; i < size; i++) {
+            int id = buf.readVarInt();
+            entries.add(new Entry(id, buf.readByteArray()));
+        }
+        return new PacketBundleS2C(entries);
+    }
+}
@@ -11,7 +11,8 @@ public record PacketDisplayEntityS2C(UUID uuid, String type, byte[] data, Method
     public enum Method {
         CREATE(0),
         TOGGLE(1),
-        REMOVE(2);
+        REMOVE(2),
+        UPDATE(3);
 
         private final int id;
 
@@ -28,6 +29,7 @@ public record PacketDisplayEntityS2C(UUID uuid, String type, byte[] data, Method
                 case 0 -> CREATE;
                 case 1 -> TOGGLE;
                 case 2 -> REMOVE;
+                case 3 -> UPDATE;
                 default -> CREATE;
             };
         }
@@ -41,8 +43,13 @@ public record PacketDisplayEntityS2C(UUID uuid, String type, byte[] data, Method
         return new PacketDisplayEntityS2C(entity.getControlUUID(), entity.typeId(), entity.encodeToBytes(), Method.TOGGLE);
     }
 
+    /** State update for clients that already have the display; see {@link DisplayEntity#encodeUpdateToBytes()}. */
+    public static PacketDisplayEntityS2C ofUpdate(DisplayEntity entity) {
+        return new PacketDisplayEntityS2C(entity.getControlUUID(), entity.typeId(), entity.encodeUpdateToBytes(), Method.UPDATE);
+    }
+
     public static PacketDisplayEntityS2C ofRemove(DisplayEntity entity) {
-        return new PacketDisplayEntityS2C(entity.getControlUUID(), entity.typeId(), entity.encodeToBytes(), Method.REMOVE);
+        return new PacketDisplayEntityS2C(entity.getControlUUID(), entity.typeId(), new byte[0], Method.REMOVE);
     }
 
     public static void encode(PacketDisplayEntityS2C packet, FriendlyByteBuf buf) {
@@ -0,0 +1,188 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.network.packet;
+
+import io.netty.buffer.Unpooled;
+import net.minecraft.core.particles.ParticleOptions;
+import net.minecraft.core.particles.ParticleType;
+import net.minecraft.core.particles.ParticleTypes;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.world.phys.Vec3;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Many vanilla-style particle spawns in one packet.
+ * <p>
+ * Options are sent once in a palette and referenced by index. Positions are
+ * quantized to 1/{@value #OFFSET_SCALE} of a block relative to {@link #origin()}.
+ * Each spawn carries the same count/spread/speed parameters as
+ * {@code ServerLevel#sendParticles}, so the client can replay it the same way.
+ * Entries are kept as encoded bytes and expanded with {@link #forEach}.
+ */
+public record PacketParticleBatchS2C(Vec3 origin, List<ParticleOptions> palette, int size, byte[] entries) {
+    public static final int OFFSET_SCALE = 128;
+    public static final double MAX_OFFSET = Short.MAX_VALUE / (double) OFFSET_SCALE;
+    public static final int MAX_ENTRIES = 8192;
+
+    private static final int FLAG_FORCE = 1;
+    private static final int FLAG_COUNT = 2;
+    private static final int FLAG_SPREAD = 4;
+    private static final int FLAG_SPEED = 8;
+
+    @FunctionalInterface
+    public interface SpawnVisitor {
+        void accept(ParticleOptions options, boolean force,
+                    double x, double y, double z,
+                    int count,
+                    double xDist, double yDist, double zDist,
+                    double speed);
+    }
+
+    public PacketParticleBatchS2C {
+        palette = List.copyOf(palette);
+    }
+
+    public static void encode(PacketParticleBatchS2C packet, FriendlyByteBuf buf) {
+        buf.writeDouble(packet.origin.x);
+        buf.writeDouble(packet.origin.y);
+        buf.writeDouble(packet.origin.z);
+        buf.writeVarInt(packet.palette.size());
+        for (ParticleOptions options : packet.palette) {
+            buf.writeId(BuiltInRegistries.PARTICLE_TYPE, options.getType());
+            options.writeToNetwork(buf);
+        }
+        buf.writeVarInt(packet.size);
+        buf.writeByteArray(packet.entries);
+    }
+
+    public static PacketParticleBatchS2C decode(FriendlyByteBuf buf) {
+        Vec3 origin = new Vec3(buf.readDouble(), buf.readDouble(), buf.readDouble());
+        int paletteSize = buf.readVarInt();
+        List<ParticleOptions> palette = new ArrayList<>(paletteSize);
+        for (int i = 0; i < paletteSize; i++) {
+            ParticleType<?> particleType = buf.readById(BuiltInRegistries.PARTICLE_TYPE);
+            if (particleType == null) {
+                particleType = ParticleTypes.END_ROD;
+            }
+            palette.add(readParticleOptions(particleType, buf));
+        }
+        int size = buf.readVarInt();
+        byte[] entries = buf.readByteArray();
+        return new PacketParticleBatchS2C(origin, palette, size, entries);
+    }
+
+    /** Expands every spawn in packet order, with positions restored to world space. */
+    public void forEach(SpawnVisitor visitor) {
+        FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.wrappedBuffer(entries));
+        for (int i = 0; i < size; i++) {
+            ParticleOptions options = palette.get(buf.readVarInt());
+            int flags = buf.readUnsignedByte();
+            double x = origin.x + buf.readShort() / (double) OFFSET_SCALE;
+            double y = origin.y + buf.readShort() / (double) OFFSET_SCALE;
+            double z = origin.z + buf.readShort() / (double) OFFSET_SCALE;
+            int count = (flags & FLAG_COUNT) != 0 ? buf.readVarInt() : 1;
+            double xDist = 0.0;
+            double yDist = 0.0;
+            double zDist = 0.0;
+            if ((flags & FLAG_SPREAD) != 0) {
+                xDist = buf.readFloat();
+                yDist = buf.readFloat();
+                zDist = buf.readFloat();
+            }
+            double speed = (flags & FLAG_SPEED) != 0 ? buf.readFloat() : 0.0;
+            visitor.accept(options, (flags & FLAG_FORCE) != 0, x, y, z, count, xDist, yDist, zDist, speed);
+        }
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static ParticleOptions readParticleOptions(ParticleType<?> type, FriendlyByteBuf buf) {
+        return ((ParticleOptions.Deserializer) type.getDeserializer()).fromNetwork((ParticleType) type, buf);
+    }
+
+    /**
+     * Accumulates spawns around a fixed origin. Options are deduplicated by identity,
+     * so callers that want equal options to share a palette slot should pass the
+     * same instance.
+     */
+    public static final class Builder {
+        private final Vec3 origin;
+        private final List<ParticleOptions> palette = new ArrayList<>();
+        private final Map<ParticleOptions, Integer> paletteIndex = new IdentityHashMap<>();
+        private final FriendlyByteBuf entries = new FriendlyByteBuf(Unpooled.buffer(256));
+        private int size;
+
+        public Builder(Vec3 origin) {
+            this.origin = origin;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public boolean isEmpty() {
+            return size == 0;
+        }
+
+        /** Whether a spawn at the given position still fits into this batch. */
+        public boolean accepts(double x, double y, double z) {
+            return size < MAX_ENTRIES
+                    && Math.abs(x - origin.x) < MAX_OFFSET
+                    && Math.abs(y - origin.y) < MAX_OFFSET
+                    && Math.abs(z - origin.z) < MAX_OFFSET;
+        }
+
+        public Builder add(ParticleOptions options, boolean force,
+                           double x, double y, double z,
+                           int count,
+                           double xDist, double yDist, double zDist,
+                           double speed) {
+            if (!accepts(x, y, z)) {
+                throw new IllegalArgumentException("Spawn does not fit into this batch");
+            }
+            Integer index = paletteIndex.get(options);
+            if (index == null) {
+                index = palette.size();
+                palette.add(options);
+                paletteIndex.put(options, index);
+            }
+            boolean spread = xDist != 0.0 || yDist != 0.0 || zDist != 0.0;
+            int flags = (force ? FLAG_FORCE : 0)
+                    | (count != 1 ? FLAG_COUNT : 0)
+                    | (spread ? FLAG_SPREAD : 0)
+                    | (speed != 0.0 ? FLAG_SPEED : 0);
+            entries.writeVarInt(index);
+            entries.writeByte(flags);
+            entries.writeShort(quantize(x - origin.x));
+            entries.writeShort(quantize(y - origin.y));
+            entries.writeShort(quantize(z - origin.z));
+            if (count != 1) {
+                entries.writeVarInt(Math.max(0, count));
+            }
+            if (spread) {
+                entries.writeFloat((float) xDist);
+                entries.writeFloat((float) yDist);
+                entries.writeFloat((float) zDist);
+            }
+            if (speed != 0.0) {
+                entries.writeFloat((float) speed);
+            }
+            size++;
+            return this;
+        }
+
+        public PacketParticleBatchS2C build() {
+            byte[] bytes = new byte[entries.readableBytes()];
+            entries.getBytes(entries.readerIndex(), bytes);
+            return new PacketParticleBatchS2C(origin, palette, size, bytes);
+        }
+
+        private static int quantize(double offset) {
+            return (int) Math.round(offset * OFFSET_SCALE);
+        }
+    }
+}
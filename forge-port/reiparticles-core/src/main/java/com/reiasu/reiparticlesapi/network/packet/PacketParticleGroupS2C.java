@@ -55,10 +55,8 @@ public record PacketParticleGroupS2C(
         buf.writeUUID(packet.uuid);
         buf.writeInt(packet.type.getId());
         for (Map.Entry<String, ParticleControllerDataBuffer<?>> entry : packet.args.entrySet()) {
-            byte[] encoded = ParticleControllerDataBuffers.INSTANCE.encode(entry.getValue());
-            buf.writeInt(encoded.length);
             buf.writeUtf(entry.getKey());
-            buf.writeBytes(encoded);
+            ParticleControllerDataBuffers.INSTANCE.write(buf, entry.getValue());
         }
     }
 
@@ -67,11 +65,8 @@ public record PacketParticleGroupS2C(
         ControlType type = ControlType.getTypeById(buf.readInt());
         Map<String, ParticleControllerDataBuffer<?>> args = new HashMap<>();
         while (buf.readableBytes() > 0) {
-            int len = buf.readInt();
             String key = buf.readUtf();
-            byte[] raw = new byte[len];
-            buf.readBytes(raw);
-            args.put(key, ParticleControllerDataBuffers.INSTANCE.decodeToBuffer(raw));
+            args.put(key, ParticleControllerDataBuffers.INSTANCE.read(buf));
         }
         return new PacketParticleGroupS2C(uuid, type, args);
     }
@@ -23,26 +23,21 @@ public record PacketParticleStyleS2C(
     public static void encode(PacketParticleStyleS2C packet, FriendlyByteBuf buf) {
         buf.writeUUID(packet.uuid);
         buf.writeInt(packet.type.getId());
-        buf.writeInt(packet.args.size());
+        buf.writeVarInt(packet.args.size());
         for (Map.Entry<String, ParticleControllerDataBuffer<?>> entry : packet.args.entrySet()) {
-            byte[] encoded = ParticleControllerDataBuffers.INSTANCE.encode(entry.getValue());
-            buf.writeInt(encoded.length);
             buf.writeUtf(entry.getKey());
-            buf.writeBytes(encoded);
+            ParticleControllerDataBuffers.INSTANCE.write(buf, entry.getValue());
         }
     }
 
     public static PacketParticleStyleS2C decode(FriendlyByteBuf buf) {
         UUID uuid = buf.readUUID();
         ControlType type = ControlType.getTypeById(buf.readInt());
-        int argsCount = buf.readInt();
+        int argsCount = buf.readVarInt();
         Map<String, ParticleControllerDataBuffer<?>> args = new HashMap<>();
         for (int i = 0; i < argsCount; i++) {
-            int len = buf.readInt();
             String key = buf.readUtf();
-            byte[] raw = new byte[len];
-            buf.readBytes(raw);
-            args.put(key, ParticleControllerDataBuffers.INSTANCE.decodeToBuffer(raw));
+            args.put(key, ParticleControllerDataBuffers.INSTANCE.read(buf));
         }
         return new PacketParticleStyleS2C(uuid, type, args);
     }
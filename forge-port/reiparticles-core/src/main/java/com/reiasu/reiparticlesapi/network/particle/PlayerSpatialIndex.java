@@ -0,0 +1,102 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.network.particle;
+
+import com.reiasu.reiparticlesapi.utils.SpatialGrid;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.phys.Vec3;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Per-{@link ServerLevel} grid of player positions, rebuilt at most once per game tick.
+ * <p>
+ * Visibility trackers use it to answer "players within R of P" and "nearest player
+ * to P" without scanning {@code level.players()} for every tracked object. Removed
+ * players are left out; spectators are indexed and left to the caller to filter.
+ * The order reported to visitors is the player's index in {@code level.players()}
+ * at build time. Server-thread only.
+ */
+public final class PlayerSpatialIndex {
+    private static final double CELL_SIZE = 16.0;
+    private static final Map<ServerLevel, PlayerSpatialIndex> INDEXES = new IdentityHashMap<>();
+
+    private final SpatialGrid<ServerPlayer> grid = new SpatialGrid<>(CELL_SIZE);
+    private final Map<UUID, Integer> orders = new HashMap<>();
+    private long builtAt = Long.MIN_VALUE;
+
+    private PlayerSpatialIndex() {
+    }
+
+    /** Returns the index for the level, rebuilding it if the game time moved since the last build. */
+    public static synchronized PlayerSpatialIndex of(ServerLevel level) {
+        PlayerSpatialIndex index = INDEXES.get(level);
+        if (index == null) {
+            // Drop levels of a previous (integrated) server so they can be collected.
+            INDEXES.keySet().removeIf(existing -> existing.getServer() != level.getServer());
+            index = new PlayerSpatialIndex();
+            INDEXES.put(level, index);
+        }
+        long gameTime = level.getGameTime();
+        if (index.builtAt != gameTime) {
+            index.rebuild(level.players());
+            index.builtAt = gameTime;
+        }
+        return index;
+    }
+
+    public static synchronized void clear() {
+        INDEXES.clear();
+    }
+
+    public void forEachWithin(Vec3 pos, double range, SpatialGrid.Visitor<ServerPlayer> visitor) {
+        grid.forEachWithin(pos.x, pos.y, pos.z, range, visitor);
+    }
+
+    public List<ServerPlayer> playersWithin(Vec3 pos, double range) {
+        return grid.within(pos.x, pos.y, pos.z, range);
+    }
+
+    /**
+     * Distance to the nearest non-spectator player within {@code range},
+     * or {@link Double#MAX_VALUE} when there is none.
+     */
+    public double nearestDistance(Vec3 pos, double range) {
+        double[] best = {Double.MAX_VALUE};
+        grid.forEachWithin(pos.x, pos.y, pos.z, range, (player, order, distanceSqr) -> {
+            if (distanceSqr < best[0] && !player.isSpectator()) {
+                best[0] = distanceSqr;
+            }
+        });
+        return best[0] == Double.MAX_VALUE ? Double.MAX_VALUE : Math.sqrt(best[0]);
+    }
+
+    /** Index of the player in {@code level.players()} at build time, or -1 if absent. */
+    public int orderOf(UUID playerId) {
+        Integer order = orders.get(playerId);
+        return order != null ? order : -1;
+    }
+
+    public int size() {
+        return grid.size();
+    }
+
+    private void rebuild(List<ServerPlayer> players) {
+        grid.clear();
+        orders.clear();
+        for (int i = 0; i < players.size(); i++) {
+            ServerPlayer player = players.get(i);
+            orders.put(player.getUUID(), i);
+            if (player.isRemoved()) {
+                continue;
+            }
+            Vec3 pos = player.position();
+            grid.add(player, i, pos.x, pos.y, pos.z);
+        }
+    }
+}
@@ -25,6 +25,8 @@ public final class ServerParticleGroupManager {
 
     private final ConcurrentHashMap<UUID, ServerParticleGroup> groups = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<UUID, Set<ServerParticleGroup>> visible = new ConcurrentHashMap<>();
+    /** Reverse of {@link #visible}: group id to the players that currently view it. */
+    private final ConcurrentHashMap<UUID, Set<UUID>> viewers = new ConcurrentHashMap<>();
 
     private ServerParticleGroupManager() {}
 
@@ -40,23 +42,33 @@ public final class ServerParticleGroupManager {
 
     public void removeParticleGroup(ServerParticleGroup group) {
         groups.remove(group.getUuid());
-        // Clean up visibility entries
-        for (Map.Entry<UUID, Set<ServerParticleGroup>> entry : visible.entrySet()) {
-            entry.getValue().remove(group);
-        }
+        forgetViewers(group);
     }
 
     /**
      * Returns the set of player UUIDs that can currently see the given group.
      */
     public Set<UUID> filterVisiblePlayer(ServerParticleGroup group) {
-        Set<UUID> result = new HashSet<>();
-        for (Map.Entry<UUID, Set<ServerParticleGroup>> entry : visible.entrySet()) {
-            if (entry.getValue().contains(group)) {
-                result.add(entry.getKey());
+        return new HashSet<>(viewersOf(group.getUuid()));
+    }
+
+    private Set<UUID> viewersOf(UUID groupId) {
+        Set<UUID> groupViewers = viewers.get(groupId);
+        return groupViewers != null ? groupViewers : Collections.emptySet();
+    }
+
+    /** Drops every player's view of {@code group} without notifying them. */
+    private void forgetViewers(ServerParticleGroup group) {
+        Set<UUID> groupViewers = viewers.remove(group.getUuid());
+        if (groupViewers == null) {
+            return;
+        }
+        for (UUID playerId : groupViewers) {
+            Set<ServerParticleGroup> visibleSet = visible.get(playerId);
+            if (visibleSet != null) {
+                visibleSet.remove(group);
             }
         }
-        return result;
     }
 
     /**
@@ -70,49 +82,36 @@ public final class ServerParticleGroupManager {
         for (ServerParticleGroup group : groupList) {
             if (group.getCanceled() || !group.getValid()) {
                 groups.remove(group.getUuid());
+                forgetViewers(group);
                 continue;
             }
 
             if (group.getWorld() == null) continue;
             if (!(group.getWorld() instanceof ServerLevel serverLevel)) continue;
 
-            List<ServerPlayer> players = serverLevel.players();
-            for (ServerPlayer player : players) {
-                Set<ServerParticleGroup> visibleSet = visible.computeIfAbsent(
-                        player.getUUID(), k -> ConcurrentHashMap.newKeySet());
-
-                // Different world
-                if (!player.level().equals(group.getWorld())) {
-                    if (visibleSet.contains(group)) {
-                        removeGroupPlayerView(player, group);
-                        visibleSet.remove(group);
-                    }
-                    continue;
-                }
-
-                // Player is dead/spectator
-                if (player.isRemoved()) {
-                    if (visibleSet.contains(group)) {
-                        removeGroupPlayerView(player, group);
-                        visibleSet.remove(group);
-                    }
-                    continue;
-                }
-
-                // Within visible range
-                if (group.getPos().distanceTo(player.position()) <= group.getVisibleRange()) {
-                    if (!visibleSet.contains(group)) {
-                        addGroupPlayerView(player, group);
-                        togglePacketView(player, group);
-                    }
-                } else {
-                    if (visibleSet.contains(group)) {
-                        removeGroupPlayerView(player, group);
-                    }
-                    visibleSet.remove(group);
+            // Current viewers that left the range (or the level) drop their view.
+            for (UUID playerId : viewersOf(group.getUuid())) {
+                ServerPlayer player = server.getPlayerList().getPlayer(playerId);
+                if (player == null) continue;
+                double range = group.getVisibleRange();
+                if (player.isRemoved()
+                        || !player.level().equals(group.getWorld())
+                        || group.getPos().distanceToSqr(player.position()) > range * range) {
+                    removeGroupPlayerView(player, group);
                 }
             }
 
+            // Players within visible range
+            PlayerSpatialIndex.of(serverLevel).forEachWithin(group.getPos(), group.getVisibleRange(),
+                    (player, order, distanceSqr) -> {
+                        Set<ServerParticleGroup> visibleSet = visible.computeIfAbsent(
+                                player.getUUID(), k -> ConcurrentHashMap.newKeySet());
+                        if (!visibleSet.contains(group)) {
+                            addGroupPlayerView(player, group);
+                            togglePacketView(player, group);
+                        }
+                    });
+
             group.tick();
         }
     }
@@ -123,6 +122,12 @@ public final class ServerParticleGroupManager {
             Map.Entry<UUID, Set<ServerParticleGroup>> entry = it.next();
             ServerPlayer player = server.getPlayerList().getPlayer(entry.getKey());
             if (player == null || player.hasDisconnected()) {
+                for (ServerParticleGroup group : entry.getValue()) {
+                    Set<UUID> groupViewers = viewers.get(group.getUuid());
+                    if (groupViewers != null) {
+                        groupViewers.remove(entry.getKey());
+                    }
+                }
                 it.remove();
             }
         }
@@ -145,6 +150,14 @@ public final class ServerParticleGroupManager {
     }
 
     private void removeGroupPlayerView(ServerPlayer target, ServerParticleGroup targetGroup) {
+        Set<ServerParticleGroup> visibleSet = visible.get(target.getUUID());
+        if (visibleSet != null) {
+            visibleSet.remove(targetGroup);
+        }
+        Set<UUID> groupViewers = viewers.get(targetGroup.getUuid());
+        if (groupViewers != null) {
+            groupViewers.remove(target.getUUID());
+        }
         PacketParticleGroupS2C packet = new PacketParticleGroupS2C(
                 targetGroup.getUuid(), ControlType.REMOVE, new HashMap<>());
         ReiParticlesNetwork.sendTo(target, packet);
@@ -154,6 +167,7 @@ public final class ServerParticleGroupManager {
         Set<ServerParticleGroup> visibleSet = visible.computeIfAbsent(
                 target.getUUID(), k -> ConcurrentHashMap.newKeySet());
         visibleSet.add(targetGroup);
+        viewers.computeIfAbsent(targetGroup.getUuid(), k -> ConcurrentHashMap.newKeySet()).add(target.getUUID());
 
         Map<String, ParticleControllerDataBuffer<?>> args = new HashMap<>();
         args.put(PacketParticleGroupS2C.PacketArgsType.POS.getOfArgs(),
@@ -4,8 +4,11 @@ package com.reiasu.reiparticlesapi.network.particle.composition;
 
 import com.reiasu.reiparticlesapi.annotations.codec.CodecHelper;
 import com.reiasu.reiparticlesapi.network.particle.ServerController;
+import com.reiasu.reiparticlesapi.particles.ClientParticleBudget;
 import com.reiasu.reiparticlesapi.particles.Controllable;
+import com.reiasu.reiparticlesapi.particles.GroupTransform;
 import com.reiasu.reiparticlesapi.particles.ParticleDisplayer;
+import com.reiasu.reiparticlesapi.particles.control.ParticleController;
 import com.reiasu.reiparticlesapi.utils.Math3DUtil;
 import com.reiasu.reiparticlesapi.utils.RelativeLocation;
 import com.reiasu.reiparticlesapi.utils.helper.impl.composition.CompositionStatusHelper;
@@ -15,6 +18,7 @@ import net.minecraft.world.level.Level;
 import net.minecraft.world.phys.Vec3;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -29,6 +33,10 @@ import java.util.function.Consumer;
  * action queue) and client-side particle display via {@link ParticleDisplayer}.
  * Each particle entry is represented by a {@link CompositionData} which can
  * carry a displayer builder, init callback, and a {@link Controllable} handle.
+ * <p>
+ * Once displayed, moving, rotating, scaling and fading the composition only updates its
+ * {@link GroupTransform}; particles with a {@link ParticleController} are attached to it
+ * and placed at render time, the others are teleported on each change.
  */
 public abstract class ParticleComposition
         implements ServerController<ParticleComposition>, Controllable<ParticleComposition> {
@@ -82,6 +90,11 @@ public abstract class ParticleComposition
     private final ArrayList<Consumer<ParticleComposition>> invokeQueue = new ArrayList<>();
     private final ArrayList<RelativeLocation> particleRotatedLocations = new ArrayList<>();
     private final ArrayList<CompositionData> displayedEntries = new ArrayList<>();
+    // Displayed entries that are not attached to the transform and get teleported instead.
+    private final IdentityHashMap<CompositionData, RelativeLocation> placedEntries = new IdentityHashMap<>();
+    // Displayed entries the ClientParticleBudget turned down, spawned again once it has recovered.
+    private final IdentityHashMap<CompositionData, RelativeLocation> deferredEntries = new IdentityHashMap<>();
+    private final GroupTransform transform = new GroupTransform();
     private int tick;
     private int maxTick = -1;
     private boolean flushed;
@@ -200,10 +213,27 @@ public abstract class ParticleComposition
         return particleDefaultLength;
     }
 
+    /**
+     * Local offsets of the displayed particles, rotated by {@link #getRoll()} at display time
+     * and unscaled; {@link #getGroupTransform()} places them in the world.
+     */
     protected ArrayList<RelativeLocation> getParticleRotatedLocations() {
         return particleRotatedLocations;
     }
 
+    public GroupTransform getGroupTransform() {
+        return transform;
+    }
+
+    public float getGroupAlpha() {
+        return transform.getAlpha();
+    }
+
+    /** Alpha multiplier for every particle of the composition, applied at render time. */
+    public void setGroupAlpha(float alpha) {
+        transform.setAlpha(alpha);
+    }
+
     public int getTick() {
         return tick;
     }
@@ -239,6 +269,7 @@ public abstract class ParticleComposition
         if (canceled || !displayed) {
             return;
         }
+        transform.beginTick();
         for (Consumer<ParticleComposition> action : invokeQueue) {
             action.accept(this);
         }
@@ -246,11 +277,28 @@ public abstract class ParticleComposition
         if (maxTick > 0 && tick >= maxTick) {
             canceled = true;
         }
+        if (!deferredEntries.isEmpty() && ClientParticleBudget.INSTANCE.isRecovered()) {
+            retryDeferredEntries();
+        }
+    }
+
+    /** Spawns the entries the budget turned down until it turns one down again. */
+    private void retryDeferredEntries() {
+        List<Map.Entry<CompositionData, RelativeLocation>> pending = new ArrayList<>(deferredEntries.entrySet());
+        for (Map.Entry<CompositionData, RelativeLocation> entry : pending) {
+            deferredEntries.remove(entry.getKey());
+            spawnEntry(entry.getKey(), entry.getValue());
+            if (deferredEntries.containsKey(entry.getKey())) {
+                return;
+            }
+        }
     }
 
     public void scale(double d) {
         if (d < 0.0) return;
         this.scale = d;
+        transform.setScale(d);
+        toggleRelative();
     }
 
     public void display() {
@@ -287,6 +335,8 @@ public abstract class ParticleComposition
             }
         }
         displayedEntries.clear();
+        placedEntries.clear();
+        deferredEntries.clear();
         particleRotatedLocations.clear();
         particleDefaultLength.clear();
         canceled = cancel;
@@ -332,11 +382,18 @@ public abstract class ParticleComposition
         Math3DUtil.rotateAsAxis(
                 new ArrayList<>(locations.values()), axis, roll
         );
+        resetGroupTransform();
         for (Map.Entry<CompositionData, RelativeLocation> entry : locations.entrySet()) {
             displayEntry(entry.getKey(), entry.getValue());
         }
     }
 
+    /** Restarts the transform at the current position and scale, with no extra rotation. */
+    protected void resetGroupTransform() {
+        transform.reset(position.x, position.y, position.z);
+        transform.setScale(scale);
+    }
+
     /**
      * Displays a single particle entry using its {@link ParticleDisplayer}.
      * If no displayer builder is set on the data, only the rotated location is tracked.
@@ -344,24 +401,64 @@ public abstract class ParticleComposition
     protected void displayEntry(CompositionData data, RelativeLocation pos) {
         particleRotatedLocations.add(pos);
         displayedEntries.add(data);
+        spawnEntry(data, pos);
+    }
+
+    private void spawnEntry(CompositionData data, RelativeLocation pos) {
         if (!client) return;
         if (data.getDisplayerBuilder() == null) return;
         if (!(world instanceof ClientLevel clientWorld)) return;
+        if (!ClientParticleBudget.INSTANCE.tryAcquire(getSpawnTier())) {
+            deferredEntries.put(data, pos);
+            return;
+        }
 
         ParticleDisplayer displayer = data.getDisplayerBuilder().get();
-        Vec3 spawnPos = position.add(pos.getX(), pos.getY(), pos.getZ());
+        Vec3 spawnPos = transform.toWorld(pos.getX(), pos.getY(), pos.getZ());
         Controllable<?> handle = displayer.display(spawnPos, clientWorld);
         data.setControllable(handle);
 
-        if (handle != null && data.getParticleInit() != null) {
-            if (handle instanceof com.reiasu.reiparticlesapi.particles.control.ParticleController pc) {
+        if (handle instanceof ParticleController pc) {
+            if (data.getParticleInit() != null) {
                 data.getParticleInit().accept(pc);
             }
+            pc.attachToGroup(transform, pos);
+        } else if (handle != null) {
+            placedEntries.put(data, pos);
         }
     }
 
     /**
-     * Applies scale to particle locations based on their default lengths.
+     * Removes the particle displayed for {@code data}, or drops it if the budget turned it
+     * down and it is still waiting to be spawned.
+     */
+    protected void removeEntryParticle(CompositionData data) {
+        deferredEntries.remove(data);
+        placedEntries.remove(data);
+        Controllable<?> ctrl = data.getControllable();
+        if (ctrl != null) {
+            ctrl.remove();
+            data.setControllable(null);
+        }
+    }
+
+    /** Displayed entries turned down by the {@link ClientParticleBudget} and not spawned yet. */
+    public int getDeferredEntryCount() {
+        return deferredEntries.size();
+    }
+
+    /**
+     * Tier this composition's entries are displayed under by the {@link ClientParticleBudget}.
+     * An entry the budget turns down keeps its location and gets its controllable on a later
+     * tick, once the budget has recovered.
+     */
+    protected ClientParticleBudget.Tier getSpawnTier() {
+        return ClientParticleBudget.Tier.NORMAL;
+    }
+
+    /**
+     * Records the default length of each particle location. The scale itself is applied
+     * by the group transform.
      */
     public void toggleScale(Map<CompositionData, RelativeLocation> locations) {
         if (canceled) return;
@@ -371,31 +468,20 @@ public abstract class ParticleComposition
                 particleDefaultLength.put(uuid, entry.getValue().length());
             }
         }
-        for (Map.Entry<CompositionData, RelativeLocation> entry : locations.entrySet()) {
-            UUID uuid = entry.getKey().getUuid();
-            Double len = particleDefaultLength.get(uuid);
-            if (len == null || len <= 0.0) continue;
-            RelativeLocation value = entry.getValue();
-            double currentLen = value.length();
-            if (currentLen > 1.0E-6) {
-                value.scale(len * scale / currentLen);
-            }
-        }
     }
 
     /**
-     * Teleports all particles to their rotated positions relative to the
-     * composition origin.
+     * Brings the transform up to date with the composition origin and teleports the
+     * particles that are not attached to it.
      */
     public void toggleRelative() {
-        if (!client) return;
-        int size = Math.min(displayedEntries.size(), particleRotatedLocations.size());
-        for (int i = 0; i < size; i++) {
-            CompositionData data = displayedEntries.get(i);
-            Controllable<?> ctrl = data.getControllable();
+        transform.setOrigin(position.x, position.y, position.z);
+        if (!client || placedEntries.isEmpty()) return;
+        for (Map.Entry<CompositionData, RelativeLocation> entry : placedEntries.entrySet()) {
+            Controllable<?> ctrl = entry.getKey().getControllable();
             if (ctrl == null) continue;
-            RelativeLocation rl = particleRotatedLocations.get(i);
-            ctrl.teleportTo(position.add(rl.getX(), rl.getY(), rl.getZ()));
+            RelativeLocation rl = entry.getValue();
+            ctrl.teleportTo(transform.toWorld(rl.getX(), rl.getY(), rl.getZ()));
         }
     }
 
@@ -411,7 +497,7 @@ public abstract class ParticleComposition
             axis = to;
             return;
         }
-        Math3DUtil.rotatePointsToPoint(particleRotatedLocations, to, axis);
+        transform.rotateToPoint(axis, to);
         axis = to;
         toggleRelative();
     }
@@ -427,8 +513,8 @@ public abstract class ParticleComposition
             axis = to;
             return;
         }
-        Math3DUtil.rotateAsAxis(particleRotatedLocations, axis, radian);
-        Math3DUtil.rotatePointsToPoint(particleRotatedLocations, to, axis);
+        transform.rotateAsAxis(axis, radian);
+        transform.rotateToPoint(axis, to);
         axis = to;
         toggleRelative();
     }
@@ -441,7 +527,7 @@ public abstract class ParticleComposition
             roll += Math.PI * 2;
         }
         if (!client) return;
-        Math3DUtil.rotateAsAxis(particleRotatedLocations, axis, radian);
+        transform.rotateAsAxis(axis, radian);
         toggleRelative();
     }
 
@@ -2,6 +2,9 @@
 // Copyright (C) 2025 Reiasu
 package com.reiasu.reiparticlesapi.network.particle.composition;
 
+import com.reiasu.reiparticlesapi.config.APIConfig;
+import com.reiasu.reiparticlesapi.network.particle.util.SequencedSpawnQueue;
+import com.reiasu.reiparticlesapi.network.particle.util.SequencedStatusRanges;
 import com.reiasu.reiparticlesapi.utils.Math3DUtil;
 import com.reiasu.reiparticlesapi.utils.RelativeLocation;
 import com.reiasu.reiparticlesapi.utils.helper.SequencedCompositionAnimationHelper;
@@ -27,6 +30,10 @@ import java.util.UUID;
  * <p>
  * The {@link #getAnimate() animate} helper allows defining predicate-gated
  * animation steps that automatically add/remove particles over time.
+ * <p>
+ * The bit-set is sent as runs of shown indices ({@link SequencedStatusRanges}). On the
+ * client, hidden particles are removed at once and shown ones are spawned from a
+ * {@link SequencedSpawnQueue} within {@link APIConfig#getSequencedSpawnBudget()} per tick.
  */
 public abstract class SequencedParticleComposition extends ParticleComposition {
 
@@ -37,7 +44,7 @@ public abstract class SequencedParticleComposition extends ParticleComposition {
         buf.writeInt(data.count);
         buf.writeInt(data.displayedParticleCount);
         buf.writeInt(data.serverCurrentIndex);
-        buf.writeLongArray(data.index.get());
+        SequencedStatusRanges.write(buf, data.index.get(), data.count);
     }
 
     public static void decodeBase(SequencedParticleComposition instance, FriendlyByteBuf buf) {
@@ -45,7 +52,7 @@ public abstract class SequencedParticleComposition extends ParticleComposition {
         instance.count = buf.readInt();
         instance.displayedParticleCount = buf.readInt();
         instance.serverCurrentIndex = buf.readInt();
-        instance.index.setMemoValue(buf.readLongArray());
+        instance.index.setMemoValue(SequencedStatusRanges.read(buf, (instance.count + 63) / 64));
     }
 
     // ─── Fields ──────────────────────────────────────────────────────────
@@ -57,6 +64,7 @@ public abstract class SequencedParticleComposition extends ParticleComposition {
     private int serverCurrentIndex;
     private final ArrayList<Map.Entry<CompositionData, RelativeLocation>> sequencedParticlesData = new ArrayList<>();
     private UUID[] indexToUuid = new UUID[0];
+    private final SequencedSpawnQueue spawnQueue = new SequencedSpawnQueue();
 
     // ─── Constructors ────────────────────────────────────────────────────
 
@@ -116,6 +124,11 @@ public abstract class SequencedParticleComposition extends ParticleComposition {
         return sequencedParticlesData;
     }
 
+    /** Shown particles the client has not spawned yet. */
+    public int getPendingSpawnCount() {
+        return spawnQueue.size();
+    }
+
     // ─── Abstract method ─────────────────────────────────────────────────
 
     /**
@@ -133,6 +146,9 @@ public abstract class SequencedParticleComposition extends ParticleComposition {
     @Override
     public final void tick() {
         super.tick();
+        if (getClient() && getDisplayed() && !getCanceled() && !spawnQueue.isEmpty()) {
+            spawnQueue.drain(APIConfig.INSTANCE.getSequencedSpawnBudget(), this::spawnQueued);
+        }
     }
 
     @Override
@@ -146,6 +162,8 @@ public abstract class SequencedParticleComposition extends ParticleComposition {
     @Override
     public void clear(boolean cancel) {
         super.clear(cancel);
+        Arrays.fill(indexToUuid, null);
+        spawnQueue.clear();
         sequencedParticlesData.clear();
         getParticleRotatedLocations().clear();
     }
@@ -183,11 +201,11 @@ public abstract class SequencedParticleComposition extends ParticleComposition {
         Math3DUtil.rotateAsAxis(
                 new ArrayList<>(locations.values()), getAxis(), getRoll()
         );
+        resetGroupTransform();
         sequencedParticlesData.clear();
         for (Map.Entry<CompositionData, RelativeLocation> entry : locations.entrySet()) {
             sequencedParticlesData.add(new AbstractMap.SimpleEntry<>(entry.getKey(), entry.getValue()));
         }
-        getParticleRotatedLocations().addAll(locations.values());
         if (indexToUuid.length != count) {
             indexToUuid = new UUID[count];
         }
@@ -207,55 +225,13 @@ public abstract class SequencedParticleComposition extends ParticleComposition {
 
         if (!getClient()) return;
         if (oldCount != count || sequencedParticlesData.size() != count) {
+            // The flush removed every particle, so everything shown has to come back.
             flush();
+            oldIndex = new long[0];
         }
         applyIndexDiff(oldIndex, index.get());
     }
 
-    // ─── Rotation overrides ──────────────────────────────────────────────
-
-    @Override
-    public void rotateToPoint(RelativeLocation to) {
-        if (!getClient()) {
-            setAxis(to);
-            return;
-        }
-        Math3DUtil.rotatePointsToPoint(getParticleRotatedLocations(), to, getAxis());
-        setAxis(to);
-        toggleRelative();
-    }
-
-    @Override
-    public void rotateToWithAngle(RelativeLocation to, double radian) {
-        setRoll(getRoll() + radian);
-        if (getRoll() >= Math.PI * 2) {
-            setRoll(getRoll() - Math.PI * 2);
-        } else if (getRoll() <= -Math.PI * 2) {
-            setRoll(getRoll() + Math.PI * 2);
-        }
-        if (!getClient()) {
-            setAxis(to);
-            return;
-        }
-        Math3DUtil.rotateAsAxis(getParticleRotatedLocations(), getAxis(), radian);
-        Math3DUtil.rotatePointsToPoint(getParticleRotatedLocations(), to, getAxis());
-        setAxis(to);
-        toggleRelative();
-    }
-
-    @Override
-    public void rotateAsAxis(double radian) {
-        setRoll(getRoll() + radian);
-        if (getRoll() >= Math.PI * 2) {
-            setRoll(getRoll() - Math.PI * 2);
-        } else if (getRoll() <= -Math.PI * 2) {
-            setRoll(getRoll() + Math.PI * 2);
-        }
-        if (!getClient()) return;
-        Math3DUtil.rotateAsAxis(getParticleRotatedLocations(), getAxis(), radian);
-        toggleRelative();
-    }
-
     // ─── Sequenced add/remove API ────────────────────────────────────────
 
     /**
@@ -270,7 +246,7 @@ public abstract class SequencedParticleComposition extends ParticleComposition {
             setParticleStatus(idx, true);
             displayedParticleCount++;
             if (getClient()) {
-                createWithIndex(idx);
+                spawnQueue.add(idx);
             }
         }
         serverCurrentIndex = Math.min(idx + 1, Math.max(count - 1, 0));
@@ -293,7 +269,7 @@ public abstract class SequencedParticleComposition extends ParticleComposition {
         if (isParticleDisplayed(idx)) {
             setParticleStatus(idx, false);
             displayedParticleCount--;
-            if (getClient()) {
+            if (getClient() && !spawnQueue.remove(idx)) {
                 removeWithIndex(idx);
             }
         }
@@ -310,6 +286,7 @@ public abstract class SequencedParticleComposition extends ParticleComposition {
      * Resets all particles to hidden and resets counters.
      */
     public void resetAll() {
+        spawnQueue.clear();
         if (getClient() && count > 0) {
             int pages = pagesFor(count);
             long[] bits = index.get();
@@ -363,6 +340,12 @@ public abstract class SequencedParticleComposition extends ParticleComposition {
         indexToUuid[i] = data.getUuid();
     }
 
+    private void spawnQueued(int i) {
+        if (isParticleDisplayed(i)) {
+            createWithIndex(i);
+        }
+    }
+
     private void removeWithIndex(int i) {
         if (!getClient()) return;
         if (i < 0 || i >= count) return;
@@ -371,12 +354,7 @@ public abstract class SequencedParticleComposition extends ParticleComposition {
         if (uuid == null) return;
 
         if (i < sequencedParticlesData.size()) {
-            CompositionData data = sequencedParticlesData.get(i).getKey();
-            com.reiasu.reiparticlesapi.particles.Controllable<?> ctrl = data.getControllable();
-            if (ctrl != null) {
-                ctrl.remove();
-                data.setControllable(null);
-            }
+            removeEntryParticle(sequencedParticlesData.get(i).getKey());
         }
         indexToUuid[i] = null;
     }
@@ -402,8 +380,8 @@ public abstract class SequencedParticleComposition extends ParticleComposition {
                 if (i >= count) break;
                 boolean newGen = ((newSafe[page] >>> bit) & 1L) != 0L;
                 if (newGen) {
-                    createWithIndex(i);
-                } else {
+                    spawnQueue.add(i);
+                } else if (!spawnQueue.remove(i)) {
                     removeWithIndex(i);
                 }
                 diff &= diff - 1L;
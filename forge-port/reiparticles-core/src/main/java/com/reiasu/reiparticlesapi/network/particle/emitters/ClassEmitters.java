@@ -53,6 +53,8 @@ public abstract class ClassEmitters extends ParticleEmitters {
     private Interpolator emittersInterpolator = new LineEmitterInterpolator().setRefiner(5.0);
     private WindDirection wind = new GlobalWindDirection(Vec3.ZERO);
 
+    private List<Map.Entry<SerializableData, RelativeLocation>> preparedParticles = Collections.emptyList();
+
     public ClassEmitters(Vec3 pos, Level world) {
         if (pos != null && world != null) {
             bind(world, pos.x, pos.y, pos.z);
@@ -229,12 +231,32 @@ public abstract class ClassEmitters extends ParticleEmitters {
 
     // ---- Tick override ----
 
+    /**
+     * Runs {@link #genParticles(float)} for this tick. With async calculation on this is a
+     * worker thread, so the generated list is only spawned later from {@link #emitTick()}.
+     */
+    @Override
+    protected void prepareTick() {
+        preparedParticles = isEmitting() ? genParticles(1.0f) : Collections.emptyList();
+    }
+
     @Override
     protected void emitTick() {
-        if (!playing) return;
-        int currentTick = getTick();
-        if (currentTick < delay) return;
+        if (!isEmitting()) return;
         doTick();
+        Vec3 origin = position();
+        for (Map.Entry<SerializableData, RelativeLocation> entry : preparedParticles) {
+            spawnParticle(origin.add(entry.getValue().toVector()), 1.0f);
+        }
+    }
+
+    /** Particles generated by the last {@link #prepareTick()}, relative to the emitter. */
+    public List<Map.Entry<SerializableData, RelativeLocation>> getPreparedParticles() {
+        return preparedParticles;
+    }
+
+    private boolean isEmitting() {
+        return playing && getTick() >= delay;
     }
 
     /**
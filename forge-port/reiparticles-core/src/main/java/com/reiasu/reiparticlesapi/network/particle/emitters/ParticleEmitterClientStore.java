@@ -5,10 +5,12 @@ package com.reiasu.reiparticlesapi.network.particle.emitters;
 import com.reiasu.reiparticlesapi.event.ReiEventBus;
 import com.reiasu.reiparticlesapi.event.events.particle.emitter.EmitterRemoveEvent;
 import com.reiasu.reiparticlesapi.event.events.particle.emitter.EmitterSpawnEvent;
+import com.reiasu.reiparticlesapi.particles.ClientParticleBudget;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.phys.Vec3;
 
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -36,16 +38,27 @@ final class ParticleEmitterClientStore {
         }
     }
 
+    /**
+     * Ticks every client emitter inside its own {@link ClientParticleBudget} quota, so the
+     * per-tick spawn cap is shared evenly among the emitters still to tick.
+     */
     void tickClient() {
-        clientEmitters.entrySet().removeIf(entry -> {
-            ParticleEmitters emitters = entry.getValue();
-            emitters.tick();
-            if (!emitters.getCanceled()) {
-                return false;
+        ClientParticleBudget budget = ClientParticleBudget.INSTANCE;
+        int left = clientEmitters.size();
+        Iterator<ParticleEmitters> iterator = clientEmitters.values().iterator();
+        while (iterator.hasNext()) {
+            ParticleEmitters emitters = iterator.next();
+            budget.enterEmitter(emitters.getTickPriority(), left--);
+            try {
+                emitters.tick();
+            } finally {
+                budget.exitEmitter();
             }
-            ReiEventBus.call(new EmitterRemoveEvent(emitters, true));
-            return true;
-        });
+            if (emitters.getCanceled()) {
+                iterator.remove();
+                ReiEventBus.call(new EmitterRemoveEvent(emitters, true));
+            }
+        }
     }
 
     int size() {
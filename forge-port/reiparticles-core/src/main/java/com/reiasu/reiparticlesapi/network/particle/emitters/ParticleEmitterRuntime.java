@@ -6,6 +6,7 @@ import com.reiasu.reiparticlesapi.config.APIConfig;
 import com.reiasu.reiparticlesapi.event.ReiEventBus;
 import com.reiasu.reiparticlesapi.event.events.particle.emitter.EmitterRemoveEvent;
 import com.reiasu.reiparticlesapi.event.events.particle.emitter.EmitterSpawnEvent;
+import com.reiasu.reiparticlesapi.scheduler.ReiScheduler;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerLevel;
@@ -22,6 +23,11 @@ final class ParticleEmitterRuntime {
     private final List<ParticleEmitters> emitters = new ArrayList<>();
     private final ParticleEmitterVisibilityTracker visibilityTracker = new ParticleEmitterVisibilityTracker();
     private final ParticleEmitterClientStore clientStore = new ParticleEmitterClientStore();
+    private final ParticleEmitterTickExecutor tickExecutor = new ParticleEmitterTickExecutor();
+    private final List<ParticleEmitters> deferrable = new ArrayList<>();
+    private int deferrableCursor;
+    private volatile int lastDeferred;
+    private volatile long lastTickNanos;
     private volatile boolean builtinsRegistered;
 
     void registerBuiltinCodecs() {
@@ -77,32 +83,136 @@ final class ParticleEmitterRuntime {
     String getDebugInfo() {
         int serverCount = activeCount();
         int[] stats = getLastTickStats();
+        int[] snapshots = visibilityTracker.getLastSnapshotStats();
         return String.format(
-                "Emitters: server=%d, client=%d | Viewers: %d players tracking | Last tick: synced=%d, skippedLod=%d, skippedShard=%d, throttled=%d",
+                "Emitters: server=%d, client=%d | Viewers: %d players tracking | Last tick: synced=%d, skippedLod=%d, skippedShard=%d, throttled=%d, encoded=%d, reused=%d"
+                        + " | Budget: tick=%.2fms, deferredEmitters=%d, deferredTasks=%d",
                 serverCount,
                 clientStore.size(),
                 visibilityTracker.trackedPlayerCount(),
                 stats[0],
                 stats[1],
                 stats[2],
-                stats[3]);
+                stats[3],
+                snapshots[0],
+                snapshots[1],
+                lastTickNanos / 1_000_000.0,
+                lastDeferred,
+                ReiScheduler.INSTANCE.getLastServerDeferredCount());
     }
 
+    /**
+     * Ticks every emitter once. Normal-priority emitters always tick; low-priority ones tick
+     * round-robin afterwards until {@link APIConfig#getServerTickBudgetNanos()} is spent,
+     * and the rest skip this tick's emission.
+     */
     void tickAll() {
+        long started = System.nanoTime();
         long tick = visibilityTracker.beginTick();
         synchronized (emitters) {
-            emitters.removeIf(current -> {
-                visibilityTracker.updateClientVisible(current, tick);
-                current.tick();
-                if (!current.getCanceled()) {
-                    return false;
+            if (ParticleEmitterTickExecutor.isParallelEnabled()) {
+                tickParallel(tick);
+            } else {
+                for (ParticleEmitters current : emitters) {
+                    visibilityTracker.updateClientVisible(current, tick);
+                    if (!current.getTickPriority().isDeferrable()) {
+                        current.tick();
+                    }
                 }
-                visibilityTracker.removeAllViews(current);
-                ReiEventBus.call(new EmitterRemoveEvent(current, false));
-                return true;
-            });
+            }
+            lastDeferred = tickDeferrable(started, APIConfig.INSTANCE.getServerTickBudgetNanos());
+            emitters.removeIf(this::commitRemoval);
         }
         visibilityTracker.pruneDisconnectedPlayers(serverEmittersSnapshot());
+        lastTickNanos = System.nanoTime() - started;
+    }
+
+    /**
+     * Two-phase tick: emitters with a compute phase are prepared on the worker pool,
+     * then every emitter commits on this thread in list order. Low-priority emitters are
+     * left to {@link #tickDeferrable}. Must hold {@code emitters}.
+     */
+    private void tickParallel(long tick) {
+        int size = emitters.size();
+        boolean[] prepared = new boolean[size];
+        List<ParticleEmitters> batch = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            ParticleEmitters current = emitters.get(i);
+            visibilityTracker.updateClientVisible(current, tick);
+            if (current.getTickPriority().isDeferrable()) {
+                continue;
+            }
+            if (ParticleEmitterTickExecutor.hasComputePhase(current) && current.beginTick()) {
+                prepared[i] = true;
+                batch.add(current);
+            }
+        }
+
+        RuntimeException[] failures = batch.isEmpty()
+                ? new RuntimeException[0]
+                : tickExecutor.prepareAll(batch);
+        int batchIndex = 0;
+        for (int i = 0; i < size; i++) {
+            ParticleEmitters current = emitters.get(i);
+            if (prepared[i]) {
+                RuntimeException failure = failures[batchIndex++];
+                if (failure != null) {
+                    throw failure;
+                }
+                current.commitTick();
+            } else if (!ParticleEmitterTickExecutor.hasComputePhase(current)
+                    && !current.getTickPriority().isDeferrable()) {
+                current.tick();
+            }
+        }
+    }
+
+    /**
+     * Ticks low-priority emitters, starting with the first one deferred last tick, until the
+     * budget runs out; the rest only advance their tick counter. Returns how many were
+     * deferred. Must hold {@code emitters}.
+     */
+    private int tickDeferrable(long started, long budgetNanos) {
+        deferrable.clear();
+        for (ParticleEmitters current : emitters) {
+            if (current.getTickPriority().isDeferrable() && !current.getCanceled()) {
+                deferrable.add(current);
+            }
+        }
+        int count = deferrable.size();
+        if (count == 0) {
+            deferrableCursor = 0;
+            return 0;
+        }
+        int first = deferrableCursor % count;
+        int deferred = 0;
+        int nextFirst = -1;
+        for (int n = 0; n < count; n++) {
+            int index = (first + n) % count;
+            ParticleEmitters current = deferrable.get(index);
+            // The first one always ticks, so none of them can starve.
+            if (n > 0 && budgetNanos > 0L && System.nanoTime() - started >= budgetNanos) {
+                if (nextFirst < 0) {
+                    nextFirst = index;
+                }
+                current.deferTick();
+                deferred++;
+            } else {
+                current.tick();
+            }
+        }
+        deferrableCursor = nextFirst < 0 ? first : nextFirst;
+        deferrable.clear();
+        return deferred;
+    }
+
+    private boolean commitRemoval(ParticleEmitters current) {
+        if (!current.getCanceled()) {
+            return false;
+        }
+        visibilityTracker.removeAllViews(current);
+        ReiEventBus.call(new EmitterRemoveEvent(current, false));
+        return true;
     }
 
     void tickClient() {
@@ -121,9 +231,11 @@ final class ParticleEmitterRuntime {
                 emitter.cancel();
             }
             emitters.clear();
+            deferrableCursor = 0;
         }
         visibilityTracker.clear();
         clientStore.clear();
+        tickExecutor.shutdown();
     }
 
     List<ParticleEmitters> getEmitters() {
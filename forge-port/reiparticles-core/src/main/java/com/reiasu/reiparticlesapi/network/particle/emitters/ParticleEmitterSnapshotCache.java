@@ -0,0 +1,104 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.network.particle.emitters;
+
+import com.reiasu.reiparticlesapi.network.packet.PacketParticleEmittersS2C;
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.resources.ResourceLocation;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-tick encoded emitter snapshots shared by every viewer.
+ * <p>
+ * Each emitter is serialized at most once per visibility tick into a reused scratch
+ * buffer; the resulting packet (and its byte array) is then handed to every player
+ * that needs it. Snapshots go stale when the tick advances or when the tracker
+ * invalidates an emitter whose state changed mid-tick.
+ */
+final class ParticleEmitterSnapshotCache {
+    private static final int INITIAL_SCRATCH_CAPACITY = 256;
+
+    private final Map<UUID, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private final FriendlyByteBuf scratch = new FriendlyByteBuf(Unpooled.buffer(INITIAL_SCRATCH_CAPACITY));
+    private long tick = -1L;
+    private int encodes;
+    private int reuses;
+    private volatile int[] lastTickStats = new int[2];
+
+    synchronized void beginTick(long tick) {
+        lastTickStats = new int[]{encodes, reuses};
+        encodes = 0;
+        reuses = 0;
+        this.tick = tick;
+    }
+
+    /** Returns [encodes, reuses] for the previous tick. */
+    int[] getLastTickStats() {
+        return lastTickStats.clone();
+    }
+
+    synchronized PacketParticleEmittersS2C packet(
+            ParticleEmitters emitters,
+            ResourceLocation key,
+            PacketParticleEmittersS2C.PacketType type
+    ) {
+        Snapshot snapshot = snapshots.get(emitters.getUuid());
+        if (snapshot == null || snapshot.tick != tick) {
+            snapshot = new Snapshot(tick);
+            snapshots.put(emitters.getUuid(), snapshot);
+        }
+        int slot = type.ordinal();
+        PacketParticleEmittersS2C packet = snapshot.packets[slot];
+        if (packet != null) {
+            reuses++;
+            return packet;
+        }
+        byte[] bytes = snapshot.bytes;
+        if (bytes == null) {
+            bytes = encode(emitters);
+            snapshot.bytes = bytes;
+            encodes++;
+        } else {
+            reuses++;
+        }
+        packet = new PacketParticleEmittersS2C(key, bytes, type);
+        snapshot.packets[slot] = packet;
+        return packet;
+    }
+
+    void invalidate(ParticleEmitters emitters) {
+        snapshots.remove(emitters.getUuid());
+    }
+
+    synchronized void clear() {
+        snapshots.clear();
+        tick = -1L;
+        encodes = 0;
+        reuses = 0;
+        lastTickStats = new int[2];
+    }
+
+    private byte[] encode(ParticleEmitters emitters) {
+        scratch.clear();
+        emitters.encodeTo(scratch);
+        // Packets may be encoded on the network thread later, so each snapshot owns its bytes.
+        byte[] bytes = new byte[scratch.readableBytes()];
+        scratch.getBytes(scratch.readerIndex(), bytes);
+        return bytes;
+    }
+
+    private static final class Snapshot {
+        private final long tick;
+        private final PacketParticleEmittersS2C[] packets =
+                new PacketParticleEmittersS2C[PacketParticleEmittersS2C.PacketType.values().length];
+        private byte[] bytes;
+
+        private Snapshot(long tick) {
+            this.tick = tick;
+        }
+    }
+}
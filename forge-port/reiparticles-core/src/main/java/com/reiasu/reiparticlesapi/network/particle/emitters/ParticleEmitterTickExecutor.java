@@ -0,0 +1,151 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.network.particle.emitters;
+
+import com.mojang.logging.LogUtils;
+import com.reiasu.reiparticlesapi.config.APIConfig;
+import org.slf4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded worker pool for the compute phase of emitter ticks.
+ * <p>
+ * Only {@link ParticleEmitters#prepareTick()} runs here; the runtime commits every
+ * emitter afterwards on the server thread in list order, so the observable output
+ * does not depend on worker scheduling. Falls back to running inline when async
+ * calculation is disabled, only one thread is configured, or the batch is too small
+ * to be worth a hand-off.
+ */
+final class ParticleEmitterTickExecutor {
+    private static final Logger LOGGER = LogUtils.getLogger();
+    static final int MIN_PARALLEL_BATCH = 4;
+
+    private static final ClassValue<Boolean> HAS_COMPUTE_PHASE = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            for (Class<?> current = type; current != null && current != ParticleEmitters.class;
+                 current = current.getSuperclass()) {
+                try {
+                    current.getDeclaredMethod("prepareTick");
+                    return true;
+                } catch (NoSuchMethodException ignored) {
+                }
+            }
+            return false;
+        }
+    };
+
+    private ExecutorService pool;
+    private int poolSize;
+
+    static boolean hasComputePhase(ParticleEmitters emitter) {
+        return HAS_COMPUTE_PHASE.get(emitter.getClass());
+    }
+
+    static boolean isParallelEnabled() {
+        return APIConfig.INSTANCE.isEnabledParticleAsync() && APIConfig.INSTANCE.getCalculateThreadCount() > 1;
+    }
+
+    /**
+     * Runs {@link ParticleEmitters#prepareTick()} for every emitter of the batch and
+     * waits for completion. A runtime failure is captured at the emitter's index so the
+     * caller can rethrow it at the same point a serial tick would have failed.
+     */
+    RuntimeException[] prepareAll(List<ParticleEmitters> batch) {
+        RuntimeException[] failures = new RuntimeException[batch.size()];
+        int threads = APIConfig.INSTANCE.getCalculateThreadCount();
+        if (!isParallelEnabled() || batch.size() < MIN_PARALLEL_BATCH) {
+            prepareRange(batch, failures, 0, batch.size());
+            return failures;
+        }
+
+        ExecutorService executor = ensurePool(threads);
+        int chunks = Math.min(threads, batch.size());
+        int chunkSize = (batch.size() + chunks - 1) / chunks;
+        List<Future<?>> futures = new ArrayList<>(chunks);
+        for (int from = 0; from < batch.size(); from += chunkSize) {
+            int start = from;
+            int end = Math.min(batch.size(), from + chunkSize);
+            futures.add(executor.submit(() -> prepareRange(batch, failures, start, end)));
+        }
+        awaitAll(futures);
+        return failures;
+    }
+
+    synchronized void shutdown() {
+        if (pool != null) {
+            pool.shutdownNow();
+            pool = null;
+            poolSize = 0;
+        }
+    }
+
+    private static void prepareRange(List<ParticleEmitters> batch, RuntimeException[] failures, int from, int to) {
+        for (int i = from; i < to; i++) {
+            try {
+                batch.get(i).prepareTick();
+            } catch (RuntimeException e) {
+                failures[i] = e;
+            }
+        }
+    }
+
+    private static void awaitAll(List<Future<?>> futures) {
+        boolean interrupted = false;
+        try {
+            for (Future<?> future : futures) {
+                while (true) {
+                    try {
+                        future.get();
+                        break;
+                    } catch (InterruptedException e) {
+                        // Keep waiting: committing a half-prepared batch would be worse than a late tick.
+                        interrupted = true;
+                    } catch (ExecutionException e) {
+                        Throwable cause = e.getCause();
+                        if (cause instanceof Error error) {
+                            throw error;
+                        }
+                        throw new IllegalStateException("Emitter compute worker failed", cause);
+                    }
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private synchronized ExecutorService ensurePool(int threads) {
+        if (pool != null && poolSize == threads) {
+            return pool;
+        }
+        if (pool != null) {
+            pool.shutdown();
+        }
+        LOGGER.debug("Starting emitter calculation pool with {} threads", threads);
+        pool = Executors.newFixedThreadPool(threads, new WorkerFactory());
+        poolSize = threads;
+        return pool;
+    }
+
+    private static final class WorkerFactory implements ThreadFactory {
+        private final AtomicInteger index = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable task) {
+            Thread thread = new Thread(task, "ReiParticles-Emitter-Calc-" + index.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
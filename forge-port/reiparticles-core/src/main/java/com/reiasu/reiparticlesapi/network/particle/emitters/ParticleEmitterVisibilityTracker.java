@@ -5,10 +5,12 @@ package com.reiasu.reiparticlesapi.network.particle.emitters;
 import com.reiasu.reiparticlesapi.config.APIConfig;
 import com.reiasu.reiparticlesapi.network.ReiParticlesNetwork;
 import com.reiasu.reiparticlesapi.network.packet.PacketParticleEmittersS2C;
+import com.reiasu.reiparticlesapi.network.particle.PlayerSpatialIndex;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -20,7 +22,10 @@ final class ParticleEmitterVisibilityTracker {
     private static final int PLAYER_SHARD_COUNT = 4;
 
     private final Map<UUID, Set<UUID>> visible = new ConcurrentHashMap<>();
+    /** Reverse of {@link #visible}: emitter id to the players that currently view it. */
+    private final Map<UUID, Set<UUID>> viewers = new ConcurrentHashMap<>();
     private final AtomicInteger packetsThisTick = new AtomicInteger(0);
+    private final ParticleEmitterSnapshotCache snapshotCache = new ParticleEmitterSnapshotCache();
     private long visibilityTick;
     private int statSynced;
     private int statSkippedLod;
@@ -35,6 +40,7 @@ final class ParticleEmitterVisibilityTracker {
         statSkippedShard = 0;
         statThrottled = 0;
         packetsThisTick.set(0);
+        snapshotCache.beginTick(visibilityTick);
         return visibilityTick++;
     }
 
@@ -42,6 +48,11 @@ final class ParticleEmitterVisibilityTracker {
         return lastTickStats.clone();
     }
 
+    /** Returns [encodes, reuses] of emitter snapshots for the previous tick. */
+    int[] getLastSnapshotStats() {
+        return snapshotCache.getLastTickStats();
+    }
+
     int trackedPlayerCount() {
         return visible.size();
     }
@@ -51,35 +62,47 @@ final class ParticleEmitterVisibilityTracker {
             return;
         }
 
-        List<ServerPlayer> players = level.players();
-        for (int i = 0; i < players.size(); i++) {
-            if (i % PLAYER_SHARD_COUNT != (int) (tick % PLAYER_SHARD_COUNT)) {
-                statSkippedShard++;
-                continue;
-            }
-            ServerPlayer player = players.get(i);
-            Set<UUID> visibleSet = visible.computeIfAbsent(player.getUUID(), ignored -> ConcurrentHashMap.newKeySet());
-            boolean shouldView = canViewEmitter(emitters, player);
-            boolean isViewing = visibleSet.contains(emitters.getUuid());
+        PlayerSpatialIndex index = PlayerSpatialIndex.of(level);
+        int shard = (int) (tick % PLAYER_SHARD_COUNT);
+        UUID emitterId = emitters.getUuid();
 
-            if (shouldView && !isViewing) {
-                addView(player, emitters);
+        // Current viewers that left the range (or the level) drop their view.
+        for (UUID playerId : viewersOf(emitterId)) {
+            int order = index.orderOf(playerId);
+            if (order >= 0 && order % PLAYER_SHARD_COUNT != shard) {
                 continue;
             }
-            if (!shouldView && isViewing) {
+            ServerPlayer player = level.getServer().getPlayerList().getPlayer(playerId);
+            if (player != null && !canViewEmitter(emitters, player)) {
                 removeView(player, emitters);
-                continue;
-            }
-            if (shouldView) {
-                double dist = player.position().distanceTo(emitters.position());
-                int lodInterval = computeLodInterval(dist, emitters.getVisibleRange());
-                if (lodInterval > 1 && (emitters.getTick() % lodInterval) != 0) {
-                    statSkippedLod++;
-                    continue;
-                }
-                sendChange(emitters, player);
             }
         }
+
+        index.forEachWithin(emitters.position(), viewRange(emitters), (player, order, distanceSqr) -> {
+            if (order % PLAYER_SHARD_COUNT != shard) {
+                statSkippedShard++;
+                return;
+            }
+            if (player.isSpectator()) {
+                return;
+            }
+            Set<UUID> visibleSet = visible.computeIfAbsent(player.getUUID(), ignored -> ConcurrentHashMap.newKeySet());
+            if (!visibleSet.contains(emitterId)) {
+                addView(player, emitters);
+                return;
+            }
+            int lodInterval = computeLodInterval(Math.sqrt(distanceSqr), emitters.getVisibleRange());
+            if (lodInterval > 1 && (emitters.getTick() % lodInterval) != 0) {
+                statSkippedLod++;
+                return;
+            }
+            sendChange(emitters, player);
+        });
+    }
+
+    private Set<UUID> viewersOf(UUID emitterId) {
+        Set<UUID> emitterViewers = viewers.get(emitterId);
+        return emitterViewers != null ? emitterViewers : Collections.emptySet();
     }
 
     static int computeLodInterval(double distance, double visibleRange) {
@@ -106,18 +129,28 @@ final class ParticleEmitterVisibilityTracker {
         if (emitters.level() != player.level()) {
             return false;
         }
-        double range = Math.min(emitters.getVisibleRange(), APIConfig.INSTANCE.getMaxEmitterVisibleRange());
-        return player.position().distanceTo(emitters.position()) <= range;
+        double range = viewRange(emitters);
+        return player.position().distanceToSqr(emitters.position()) <= range * range;
+    }
+
+    private static double viewRange(ParticleEmitters emitters) {
+        return Math.min(emitters.getVisibleRange(), APIConfig.INSTANCE.getMaxEmitterVisibleRange());
     }
 
     void removeAllViews(ParticleEmitters emitters) {
+        // The emitter changed (ticked and canceled) since its CHANGE snapshot was taken.
+        snapshotCache.invalidate(emitters);
         ServerLevel level = emitters.level() instanceof ServerLevel serverLevel ? serverLevel : null;
-        for (Map.Entry<UUID, Set<UUID>> entry : visible.entrySet()) {
-            Set<UUID> visibleSet = entry.getValue();
-            if (!visibleSet.remove(emitters.getUuid()) || level == null) {
+        Set<UUID> emitterViewers = viewers.remove(emitters.getUuid());
+        if (emitterViewers == null) {
+            return;
+        }
+        for (UUID playerId : emitterViewers) {
+            Set<UUID> visibleSet = visible.get(playerId);
+            if (visibleSet == null || !visibleSet.remove(emitters.getUuid()) || level == null) {
                 continue;
             }
-            ServerPlayer player = level.getServer().getPlayerList().getPlayer(entry.getKey());
+            ServerPlayer player = level.getServer().getPlayerList().getPlayer(playerId);
             if (player == null) {
                 continue;
             }
@@ -125,18 +158,17 @@ final class ParticleEmitterVisibilityTracker {
             if (key == null || EmitterRegistry.INSTANCE.getDecoder(key) == null) {
                 continue;
             }
-            PacketParticleEmittersS2C packet = new PacketParticleEmittersS2C(
-                    key,
-                    emitters.encodeToBytes(),
-                    PacketParticleEmittersS2C.PacketType.REMOVE
-            );
+            PacketParticleEmittersS2C packet =
+                    snapshotCache.packet(emitters, key, PacketParticleEmittersS2C.PacketType.REMOVE);
             ReiParticlesNetwork.sendTo(player, packet);
         }
+        snapshotCache.invalidate(emitters);
     }
 
     void pruneDisconnectedPlayers(List<ParticleEmitters> emitters) {
         if (emitters.isEmpty()) {
             visible.clear();
+            viewers.clear();
             return;
         }
         net.minecraft.server.MinecraftServer server = null;
@@ -150,11 +182,24 @@ final class ParticleEmitterVisibilityTracker {
             return;
         }
         net.minecraft.server.MinecraftServer runtime = server;
-        visible.entrySet().removeIf(entry -> runtime.getPlayerList().getPlayer(entry.getKey()) == null);
+        visible.entrySet().removeIf(entry -> {
+            UUID playerId = entry.getKey();
+            if (runtime.getPlayerList().getPlayer(playerId) != null) {
+                return false;
+            }
+            for (UUID emitterId : entry.getValue()) {
+                Set<UUID> emitterViewers = viewers.get(emitterId);
+                if (emitterViewers != null) {
+                    emitterViewers.remove(playerId);
+                }
+            }
+            return true;
+        });
     }
 
     void clear() {
         visible.clear();
+        viewers.clear();
         visibilityTick = 0;
         statSynced = 0;
         statSkippedLod = 0;
@@ -162,6 +207,7 @@ final class ParticleEmitterVisibilityTracker {
         statThrottled = 0;
         lastTickStats = new int[4];
         packetsThisTick.set(0);
+        snapshotCache.clear();
     }
 
     private void sendChange(ParticleEmitters emitters, ServerPlayer player) {
@@ -174,11 +220,8 @@ final class ParticleEmitterVisibilityTracker {
         if (key == null || EmitterRegistry.INSTANCE.getDecoder(key) == null) {
             return;
         }
-        PacketParticleEmittersS2C packet = new PacketParticleEmittersS2C(
-                key,
-                emitters.encodeToBytes(),
-                PacketParticleEmittersS2C.PacketType.CHANGE_OR_CREATE
-        );
+        PacketParticleEmittersS2C packet =
+                snapshotCache.packet(emitters, key, PacketParticleEmittersS2C.PacketType.CHANGE_OR_CREATE);
         ReiParticlesNetwork.sendTo(player, packet);
     }
 
@@ -187,21 +230,23 @@ final class ParticleEmitterVisibilityTracker {
         if (!visibleSet.add(emitters.getUuid())) {
             return;
         }
+        viewers.computeIfAbsent(emitters.getUuid(), ignored -> ConcurrentHashMap.newKeySet()).add(player.getUUID());
         sendChange(emitters, player);
     }
 
     private void removeView(ServerPlayer player, ParticleEmitters emitters) {
         Set<UUID> visibleSet = visible.computeIfAbsent(player.getUUID(), ignored -> ConcurrentHashMap.newKeySet());
         visibleSet.remove(emitters.getUuid());
+        Set<UUID> emitterViewers = viewers.get(emitters.getUuid());
+        if (emitterViewers != null) {
+            emitterViewers.remove(player.getUUID());
+        }
         ResourceLocation key = emitters.getEmittersID();
         if (key == null || EmitterRegistry.INSTANCE.getDecoder(key) == null) {
             return;
         }
-        PacketParticleEmittersS2C packet = new PacketParticleEmittersS2C(
-                key,
-                emitters.encodeToBytes(),
-                PacketParticleEmittersS2C.PacketType.REMOVE
-        );
+        PacketParticleEmittersS2C packet =
+                snapshotCache.packet(emitters, key, PacketParticleEmittersS2C.PacketType.REMOVE);
         ReiParticlesNetwork.sendTo(player, packet);
     }
 }
@@ -2,13 +2,14 @@
 // Copyright (C) 2025 Reiasu
 package com.reiasu.reiparticlesapi.network.particle.emitters;
 
+import com.reiasu.reiparticlesapi.network.particle.PlayerSpatialIndex;
 import com.reiasu.reiparticlesapi.network.particle.ServerController;
 import com.reiasu.reiparticlesapi.network.particle.emitters.ParticleEmittersManager;
+import com.reiasu.reiparticlesapi.scheduler.TickPriority;
 import io.netty.buffer.Unpooled;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerLevel;
-import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.phys.Vec3;
 
@@ -50,6 +51,7 @@ public abstract class ParticleEmitters implements ServerController<ParticleEmitt
     private Vec3 position = Vec3.ZERO;
     private double visibleRange = 256.0;
     private int throttleInterval = 1;
+    private TickPriority tickPriority = TickPriority.NORMAL;
 
     @Override
     public void spawnInWorld(ServerLevel world, Vec3 pos) {
@@ -136,6 +138,14 @@ public abstract class ParticleEmitters implements ServerController<ParticleEmitt
     /** Serializes the full emitter state (header + payload) into a byte array for network transmission. */
     public byte[] encodeToBytes() {
         FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+        encodeTo(buf);
+        byte[] bytes = new byte[buf.readableBytes()];
+        buf.readBytes(bytes);
+        return bytes;
+    }
+
+    /** Writes the full emitter state (header + payload) into an existing buffer. */
+    public void encodeTo(FriendlyByteBuf buf) {
         buf.writeUUID(uuid);
         buf.writeInt(maxTick);
         buf.writeInt(tick);
@@ -144,9 +154,6 @@ public abstract class ParticleEmitters implements ServerController<ParticleEmitt
         buf.writeDouble(position.y);
         buf.writeDouble(position.z);
         writePayload(buf);
-        byte[] bytes = new byte[buf.readableBytes()];
-        buf.readBytes(bytes);
-        return bytes;
     }
 
     /** Deserializes emitter state from a network buffer. Typically called inside {@code decode()}. */
@@ -159,6 +166,18 @@ public abstract class ParticleEmitters implements ServerController<ParticleEmitt
         readPayload(buf);
     }
 
+    /**
+     * Compute phase of a tick, called right before {@link #emitTick()}.
+     * <p>
+     * When {@link com.reiasu.reiparticlesapi.config.APIConfig#isEnabledParticleAsync()} is on,
+     * the runtime calls this on a calculation worker while other emitters are prepared in
+     * parallel. Implementations may only touch this emitter's own state (positions,
+     * {@code genParticles}, command-queue math); world access, events and packets belong in
+     * {@link #emitTick()}, which always runs on the server thread.
+     */
+    protected void prepareTick() {
+    }
+
     /** Called each tick while the emitter is alive. Override to spawn particles or update state. */
     protected void emitTick() {
     }
@@ -183,30 +202,69 @@ public abstract class ParticleEmitters implements ServerController<ParticleEmitt
         this.throttleInterval = Math.max(1, interval);
     }
 
+    public TickPriority getTickPriority() {
+        return tickPriority;
+    }
+
+    /**
+     * {@link TickPriority#LOW} emitters skip their emission on ticks where the server tick
+     * budget is already spent. Their lifetime keeps counting, so a busy server shows fewer
+     * particles rather than longer-lived effects.
+     */
+    public void setTickPriority(TickPriority tickPriority) {
+        this.tickPriority = tickPriority == null ? TickPriority.NORMAL : tickPriority;
+    }
+
     @Override
     public void tick() {
-        if (canceled) {
+        if (!beginTick()) {
             return;
         }
+        prepareTick();
+        commitTick();
+    }
+
+    /**
+     * Main-thread checks that precede emission. Returns {@code false} when this tick
+     * is skipped, in which case the tick counter has already been advanced.
+     */
+    boolean beginTick() {
+        if (canceled) {
+            return false;
+        }
         // Distance-based throttling: skip emission when no player is in range
         if (level instanceof ServerLevel serverLevel && position != null) {
             double nearest = nearestPlayerDist(serverLevel);
             if (nearest > visibleRange) {
-                tick++;
-                if (maxTick > 0 && tick >= maxTick) canceled = true;
-                return;
+                advanceTick();
+                return false;
             }
             // Throttle when players are far (beyond half range)
             if (throttleInterval > 1 && nearest > visibleRange * 0.5 && (tick % throttleInterval) != 0) {
-                tick++;
-                if (maxTick > 0 && tick >= maxTick) canceled = true;
-                return;
+                advanceTick();
+                return false;
             }
         }
+        return true;
+    }
+
+    /** Commit phase of a tick: world-facing emission, tick handlers and the tick counter. */
+    void commitTick() {
         emitTick();
         for (Runnable tickHandler : tickHandlers) {
             tickHandler.run();
         }
+        advanceTick();
+    }
+
+    /** Tick skipped for lack of budget: no emission, but the tick counter still advances. */
+    void deferTick() {
+        if (!canceled) {
+            advanceTick();
+        }
+    }
+
+    private void advanceTick() {
         tick++;
         if (maxTick > 0 && tick >= maxTick) {
             canceled = true;
@@ -214,13 +272,8 @@ public abstract class ParticleEmitters implements ServerController<ParticleEmitt
     }
 
     private double nearestPlayerDist(ServerLevel serverLevel) {
-        double min = Double.MAX_VALUE;
-        for (ServerPlayer p : serverLevel.players()) {
-            if (p.isRemoved() || p.isSpectator()) continue;
-            double d = p.position().distanceTo(position);
-            if (d < min) min = d;
-        }
-        return min;
+        // Only distances up to visibleRange matter to the throttling above.
+        return PlayerSpatialIndex.of(serverLevel).nearestDistance(position, visibleRange);
     }
 
     @Override
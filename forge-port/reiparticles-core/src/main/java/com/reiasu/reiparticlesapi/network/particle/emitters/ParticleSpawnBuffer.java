@@ -0,0 +1,76 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.network.particle.emitters;
+
+import com.reiasu.reiparticlesapi.network.particle.util.ServerParticleUtil;
+import net.minecraft.core.particles.ParticleOptions;
+import net.minecraft.server.level.ServerLevel;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Particle spawns worked out in {@link ParticleEmitters#prepareTick()} and sent from
+ * {@link ParticleEmitters#emitTick()}.
+ * <p>
+ * The compute phase may run on a calculation worker, where the level must not be touched,
+ * so emitters record each {@code sendParticles} call here and replay the buffer on the
+ * server thread. A buffer belongs to one emitter and is not thread-safe.
+ */
+public final class ParticleSpawnBuffer {
+    private final List<Spawn> spawns = new ArrayList<>();
+
+    public void add(ParticleOptions options, double x, double y, double z, int count,
+                    double xDist, double yDist, double zDist, double speed) {
+        spawns.add(new Spawn(options, x, y, z, count, xDist, yDist, zDist, speed));
+    }
+
+    public List<Spawn> getSpawns() {
+        return Collections.unmodifiableList(spawns);
+    }
+
+    public int size() {
+        return spawns.size();
+    }
+
+    public boolean isEmpty() {
+        return spawns.isEmpty();
+    }
+
+    public void clear() {
+        spawns.clear();
+    }
+
+    /** Sends every recorded spawn in recording order and empties the buffer. */
+    public void sendTo(ServerLevel level) {
+        for (Spawn spawn : spawns) {
+            level.sendParticles(spawn.options(), spawn.x(), spawn.y(), spawn.z(), spawn.count(),
+                    spawn.xDist(), spawn.yDist(), spawn.zDist(), spawn.speed());
+        }
+        spawns.clear();
+    }
+
+    /** Queues every recorded spawn through {@link ServerParticleUtil#collect} and empties the buffer. */
+    public void collectTo(ServerLevel level) {
+        for (Spawn spawn : spawns) {
+            ServerParticleUtil.collect(level, spawn.options(), spawn.x(), spawn.y(), spawn.z(), spawn.count(),
+                    spawn.xDist(), spawn.yDist(), spawn.zDist(), spawn.speed());
+        }
+        spawns.clear();
+    }
+
+    /** Hands every recorded spawn to {@code sink} in recording order and empties the buffer. */
+    public void drainTo(Consumer<Spawn> sink) {
+        for (Spawn spawn : spawns) {
+            sink.accept(spawn);
+        }
+        spawns.clear();
+    }
+
+    /** Arguments of one {@code sendParticles} call. */
+    public record Spawn(ParticleOptions options, double x, double y, double z, int count,
+                        double xDist, double yDist, double zDist, double speed) {
+    }
+}
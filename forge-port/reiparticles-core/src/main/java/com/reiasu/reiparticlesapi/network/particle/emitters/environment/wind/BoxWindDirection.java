@@ -5,6 +5,7 @@ package com.reiasu.reiparticlesapi.network.particle.emitters.environment.wind;
 import com.reiasu.reiparticlesapi.barrages.HitBox;
 import com.reiasu.reiparticlesapi.network.particle.emitters.ParticleEmitters;
 import com.reiasu.reiparticlesapi.utils.RelativeLocation;
+import com.reiasu.reiparticlesapi.utils.math.CompiledExpression;
 import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 
@@ -127,12 +128,6 @@ public final class BoxWindDirection implements WindDirection {
     }
 
     private static double parseSpeed(String express, double length) {
-        try {
-            return new com.reiasu.reiparticlesapi.utils.math.ExpressionEvaluator(express)
-                    .with("l", length)
-                    .evaluate();
-        } catch (Exception e) {
-            return 1.0;
-        }
+        return CompiledExpression.compileOr(express, 1.0, "l").evaluate(length);
     }
 }
@@ -3,6 +3,7 @@
 package com.reiasu.reiparticlesapi.network.particle.emitters.environment.wind;
 
 import com.reiasu.reiparticlesapi.network.particle.emitters.ParticleEmitters;
+import com.reiasu.reiparticlesapi.utils.math.CompiledExpression;
 import net.minecraft.world.phys.Vec3;
 
 /**
@@ -93,12 +94,6 @@ public final class GlobalWindDirection implements WindDirection {
     }
 
     private static double parseSpeed(String express, double length) {
-        try {
-            return new com.reiasu.reiparticlesapi.utils.math.ExpressionEvaluator(express)
-                    .with("l", length)
-                    .evaluate();
-        } catch (Exception e) {
-            return 1.0;
-        }
+        return CompiledExpression.compileOr(express, 1.0, "l").evaluate(length);
     }
 }
@@ -10,6 +10,7 @@ import com.reiasu.reiparticlesapi.network.particle.emitters.type.PointEmittersSh
 import com.reiasu.reiparticlesapi.network.particle.data.SerializableData;
 import com.reiasu.reiparticlesapi.particles.Controllable;
 import com.reiasu.reiparticlesapi.utils.RelativeLocation;
+import com.reiasu.reiparticlesapi.utils.math.CompiledExpression;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.level.Level;
@@ -241,12 +242,6 @@ public final class SimpleParticleEmitters extends ClassParticleEmitters {
      */
     private static double evalExpression(String expr, int tick) {
         if (expr == null || expr.isEmpty()) return 0.0;
-        try {
-            return new com.reiasu.reiparticlesapi.utils.math.ExpressionEvaluator(expr)
-                    .with("t", tick)
-                    .evaluate();
-        } catch (Exception e) {
-            return 0.0;
-        }
+        return CompiledExpression.compileOr(expr, 0.0, "t").evaluate(tick);
     }
 }
@@ -3,7 +3,7 @@
 package com.reiasu.reiparticlesapi.network.particle.emitters.type;
 
 import com.reiasu.reiparticlesapi.annotations.codec.BufferCodec;
-import com.reiasu.reiparticlesapi.utils.math.ExpressionEvaluator;
+import com.reiasu.reiparticlesapi.utils.math.CompiledExpression;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.world.phys.Vec3;
 
@@ -19,6 +19,9 @@ import java.util.List;
  * <p>
  * Direction expressions may reference: {@code t} (tick), {@code x/y/z} (particle pos),
  * {@code ox/oy/oz} (emitter origin).
+ * <p>
+ * The expressions are compiled once, on first use after they change; an invalid
+ * expression evaluates to {@code 0}.
  */
 public final class MathEmittersShootType implements EmittersShootType {
 
@@ -54,37 +57,51 @@ public final class MathEmittersShootType implements EmittersShootType {
     private String dy = "0";
     private String dz = "0";
 
+    private static final String[] POSITION_VARIABLES = {"t", "c", "i"};
+    private static final String[] DIRECTION_VARIABLES = {"t", "x", "y", "z", "ox", "oy", "oz"};
+
+    private CompiledExpression compiledX;
+    private CompiledExpression compiledY;
+    private CompiledExpression compiledZ;
+    private CompiledExpression compiledDx;
+    private CompiledExpression compiledDy;
+    private CompiledExpression compiledDz;
+
     public MathEmittersShootType() {
     }
 
     // ---- Getters / Setters ----
 
     public String getX() { return x; }
-    public void setX(String x) { this.x = x; }
+    public void setX(String x) { this.x = x; compiledX = null; }
 
     public String getY() { return y; }
-    public void setY(String y) { this.y = y; }
+    public void setY(String y) { this.y = y; compiledY = null; }
 
     public String getZ() { return z; }
-    public void setZ(String z) { this.z = z; }
+    public void setZ(String z) { this.z = z; compiledZ = null; }
 
     public String getDx() { return dx; }
-    public void setDx(String dx) { this.dx = dx; }
+    public void setDx(String dx) { this.dx = dx; compiledDx = null; }
 
     public String getDy() { return dy; }
-    public void setDy(String dy) { this.dy = dy; }
+    public void setDy(String dy) { this.dy = dy; compiledDy = null; }
 
     public String getDz() { return dz; }
-    public void setDz(String dz) { this.dz = dz; }
+    public void setDz(String dz) { this.dz = dz; compiledDz = null; }
 
     // ---- Core logic ----
 
     /**
-     * @deprecated No longer needed — evaluators are now created fresh per call.
+     * Compiles the expressions that are not compiled yet. Called lazily before evaluation.
      */
-    @Deprecated
     public void setup() {
-        // No-op: kept for binary compatibility with existing callers (e.g. CODEC).
+        if (compiledX == null) compiledX = CompiledExpression.compileOr(x, 0.0, POSITION_VARIABLES);
+        if (compiledY == null) compiledY = CompiledExpression.compileOr(y, 0.0, POSITION_VARIABLES);
+        if (compiledZ == null) compiledZ = CompiledExpression.compileOr(z, 0.0, POSITION_VARIABLES);
+        if (compiledDx == null) compiledDx = CompiledExpression.compileOr(dx, 0.0, DIRECTION_VARIABLES);
+        if (compiledDy == null) compiledDy = CompiledExpression.compileOr(dy, 0.0, DIRECTION_VARIABLES);
+        if (compiledDz == null) compiledDz = CompiledExpression.compileOr(dz, 0.0, DIRECTION_VARIABLES);
     }
 
     @Override
@@ -94,48 +111,29 @@ public final class MathEmittersShootType implements EmittersShootType {
 
     @Override
     public List<Vec3> getPositions(Vec3 origin, int tick, int count) {
+        setup();
         List<Vec3> result = new ArrayList<>(count);
+        double[] slots = {tick, count, 0.0};
         for (int i = 0; i < count; i++) {
-            double px = evalPosition(x, tick, count, i);
-            double py = evalPosition(y, tick, count, i);
-            double pz = evalPosition(z, tick, count, i);
-            result.add(origin.add(new Vec3(px, py, pz)));
+            slots[2] = i;
+            double px = compiledX.evaluate(slots);
+            double py = compiledY.evaluate(slots);
+            double pz = compiledZ.evaluate(slots);
+            result.add(origin.add(px, py, pz));
         }
         return result;
     }
 
     @Override
     public Vec3 getDefaultDirection(Vec3 enter, int tick, Vec3 pos, Vec3 origin) {
-        double ddx = evalDirection(dx, tick, pos, origin);
-        double ddy = evalDirection(dy, tick, pos, origin);
-        double ddz = evalDirection(dz, tick, pos, origin);
+        setup();
+        double[] slots = {tick, pos.x, pos.y, pos.z, origin.x, origin.y, origin.z};
+        double ddx = compiledDx.evaluate(slots);
+        double ddy = compiledDy.evaluate(slots);
+        double ddz = compiledDz.evaluate(slots);
         return enter.add(ddx, ddy, ddz);
     }
 
-    // ---- Helpers ----
-
-    private static double evalPosition(String expr, int tick, int count, int index) {
-        try {
-            return new ExpressionEvaluator(expr)
-                    .with("t", tick).with("c", count).with("i", index)
-                    .evaluate();
-        } catch (Exception e) {
-            return 0.0;
-        }
-    }
-
-    private static double evalDirection(String expr, int tick, Vec3 pos, Vec3 origin) {
-        try {
-            return new ExpressionEvaluator(expr)
-                    .with("t", tick)
-                    .with("x", pos.x).with("y", pos.y).with("z", pos.z)
-                    .with("ox", origin.x).with("oy", origin.y).with("oz", origin.z)
-                    .evaluate();
-        } catch (Exception e) {
-            return 0.0;
-        }
-    }
-
     /**
      * Encode this shoot type to a buffer.
      */
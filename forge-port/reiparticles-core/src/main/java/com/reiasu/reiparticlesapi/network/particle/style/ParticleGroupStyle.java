@@ -4,11 +4,18 @@ package com.reiasu.reiparticlesapi.network.particle.style;
 
 import com.reiasu.reiparticlesapi.network.buffer.ParticleControllerDataBuffer;
 import com.reiasu.reiparticlesapi.network.particle.ServerController;
+import com.reiasu.reiparticlesapi.particles.ClientParticleBudget;
+import com.reiasu.reiparticlesapi.particles.ClientParticlePool;
 import com.reiasu.reiparticlesapi.particles.Controllable;
 import com.reiasu.reiparticlesapi.particles.ControllableParticle;
+import com.reiasu.reiparticlesapi.particles.GroupTransform;
 import com.reiasu.reiparticlesapi.particles.ParticleDisplayer;
+import com.reiasu.reiparticlesapi.particles.PooledParticleTemplate;
 import com.reiasu.reiparticlesapi.particles.control.ControlParticleManager;
 import com.reiasu.reiparticlesapi.particles.control.ParticleController;
+import com.reiasu.reiparticlesapi.utils.LocalIds;
+import com.reiasu.reiparticlesapi.utils.LongDoubleHashMap;
+import com.reiasu.reiparticlesapi.utils.LongObjectHashMap;
 import com.reiasu.reiparticlesapi.utils.Math3DUtil;
 import com.reiasu.reiparticlesapi.utils.RelativeLocation;
 import net.minecraft.client.multiplayer.ClientLevel;
@@ -32,6 +39,10 @@ import java.util.function.Function;
  * <p>
  * Manages a collection of controllable particles arranged at relative locations,
  * with support for display, scaling, rotation, teleportation, and server↔client sync.
+ * <p>
+ * On the client, moving, rotating, scaling and fading a displayed style only updates its
+ * {@link GroupTransform}. Particles driven by a {@link ParticleController} are attached to
+ * it and placed when they are rendered; any other particle is teleported on each change.
  */
 public abstract class ParticleGroupStyle implements ServerController<ParticleGroupStyle>, Controllable<ParticleGroupStyle> {
 
@@ -50,11 +61,18 @@ public abstract class ParticleGroupStyle implements ServerController<ParticleGro
     private double visibleRange;
     private boolean autoToggle = true;
     private boolean displayed;
+    private final ParticleStyleDeltaTracker syncTracker = new ParticleStyleDeltaTracker();
 
     // ---- Particle management ----
-    private final ConcurrentHashMap<UUID, Controllable<?>> particles = new ConcurrentHashMap<>();
-    private final ConcurrentHashMap<Controllable<?>, RelativeLocation> particleLocations = new ConcurrentHashMap<>();
-    private final ConcurrentHashMap<UUID, Double> particleDefaultLength = new ConcurrentHashMap<>();
+    // Keyed by StyleData#getId(). Only touched on the client thread.
+    private final LongObjectHashMap<Controllable<?>> particles = new LongObjectHashMap<>();
+    private final LongObjectHashMap<RelativeLocation> particleLocations = new LongObjectHashMap<>();
+    private final LongDoubleHashMap particleDefaultLength = new LongDoubleHashMap();
+    // Displayed particles that are not attached to the transform and get teleported instead.
+    private final LongObjectHashMap<Controllable<?>> placedParticles = new LongObjectHashMap<>();
+    // Particles the ClientParticleBudget turned down, spawned again once it has recovered.
+    private final LongObjectHashMap<DeferredSpawn> deferredSpawns = new LongObjectHashMap<>();
+    private final GroupTransform transform = new GroupTransform();
 
     // ---- Tick actions ----
     private final List<Consumer<ParticleGroupStyle>> preTickActions = new ArrayList<>();
@@ -181,18 +199,79 @@ public abstract class ParticleGroupStyle implements ServerController<ParticleGro
         this.displayed = displayed;
     }
 
-    public ConcurrentHashMap<UUID, Controllable<?>> getParticles() {
+    /**
+     * Displayed particles by {@link StyleData#getId()}. Like the other id-keyed tables of a
+     * style, the map is not thread-safe and may only be used on the client thread.
+     */
+    public LongObjectHashMap<Controllable<?>> getParticlesById() {
         return particles;
     }
 
-    public ConcurrentHashMap<Controllable<?>, RelativeLocation> getParticleLocations() {
+    /**
+     * Local offsets of the displayed particles by {@link StyleData#getId()}: rotated by
+     * {@link #getRotate()} at display time, unscaled, and left untouched afterwards.
+     * {@link #getGroupTransform()} places them in the world. Client thread only.
+     */
+    public LongObjectHashMap<RelativeLocation> getParticleLocationsById() {
         return particleLocations;
     }
 
-    public ConcurrentHashMap<UUID, Double> getParticleDefaultLength() {
+    /** Unscaled distance from the origin by {@link StyleData#getId()}. Client thread only. */
+    public LongDoubleHashMap getParticleDefaultLengthById() {
         return particleDefaultLength;
     }
 
+    /**
+     * Copy of {@link #getParticlesById()} keyed by {@link StyleData#getUuid()}; changes to it
+     * do not reach the style.
+     *
+     * @deprecated use {@link #getParticlesById()}
+     */
+    @Deprecated
+    public ConcurrentHashMap<UUID, Controllable<?>> getParticles() {
+        ConcurrentHashMap<UUID, Controllable<?>> copy = new ConcurrentHashMap<>(particles.size());
+        particles.forEach((id, particle) -> copy.put(LocalIds.asUuid(id), particle));
+        return copy;
+    }
+
+    /**
+     * Copy of {@link #getParticleLocationsById()} keyed by {@link StyleData#getUuid()}; the
+     * locations themselves are shared with the style.
+     *
+     * @deprecated use {@link #getParticleLocationsById()}
+     */
+    @Deprecated
+    public ConcurrentHashMap<UUID, RelativeLocation> getParticleLocations() {
+        ConcurrentHashMap<UUID, RelativeLocation> copy = new ConcurrentHashMap<>(particleLocations.size());
+        particleLocations.forEach((id, location) -> copy.put(LocalIds.asUuid(id), location));
+        return copy;
+    }
+
+    /**
+     * Copy of {@link #getParticleDefaultLengthById()} keyed by {@link StyleData#getUuid()}.
+     *
+     * @deprecated use {@link #getParticleDefaultLengthById()}
+     */
+    @Deprecated
+    public ConcurrentHashMap<UUID, Double> getParticleDefaultLength() {
+        ConcurrentHashMap<UUID, Double> copy = new ConcurrentHashMap<>(particleDefaultLength.size());
+        particleDefaultLength.forEach((id, length) -> copy.put(LocalIds.asUuid(id), length));
+        return copy;
+    }
+
+    public GroupTransform getGroupTransform() {
+        return transform;
+    }
+
+    public float getGroupAlpha() {
+        return transform.getAlpha();
+    }
+
+    /** Alpha multiplier for every particle of the style, applied at render time. */
+    public void setGroupAlpha(float alpha) {
+        transform.setAlpha(alpha);
+    }
+
     // ---- Abstract methods that subclasses must implement ----
 
     /**
@@ -254,63 +333,125 @@ public abstract class ParticleGroupStyle implements ServerController<ParticleGro
         // Rotate initial positions
         List<RelativeLocation> locs = new ArrayList<>(locations.values());
         Math3DUtil.rotateAsAxis(locs, axis, rotate);
+        resetGroupTransform();
 
         for (Map.Entry<StyleData, RelativeLocation> entry : locations.entrySet()) {
-            StyleData data = entry.getKey();
-            RelativeLocation rl = entry.getValue();
-            UUID particleUUID = data.getUuid();
+            spawnParticle(entry.getKey(), entry.getValue());
+        }
+    }
 
+    /** Restarts the transform at the current position and scale, with no extra rotation. */
+    protected void resetGroupTransform() {
+        transform.reset(pos.x, pos.y, pos.z);
+        transform.setScale(scale);
+    }
+
+    /**
+     * Display one particle at the given local offset and start tracking it.
+     */
+    protected void spawnParticle(StyleData data, RelativeLocation local) {
+        // Levels that are not client levels (a headless replay) have nothing to render into.
+        if (world != null && !(world instanceof ClientLevel)) {
+            return;
+        }
+        ClientLevel clientWorld = (ClientLevel) world;
+        if (!ClientParticleBudget.INSTANCE.tryAcquire(getSpawnTier())) {
+            deferredSpawns.put(data.getId(), new DeferredSpawn(data, local));
+            return;
+        }
+        if (!deferredSpawns.isEmpty()) {
+            deferredSpawns.remove(data.getId());
+        }
+        UUID particleUUID = data.getUuid();
+        Vec3 toPos = transform.toWorld(local.getX(), local.getY(), local.getZ());
+
+        Controllable<?> controllable;
+        if (data.getPooledTemplate() != null) {
+            controllable = ClientParticlePool.INSTANCE.spawn(
+                    particleUUID, data.getPooledTemplate(), clientWorld, toPos);
+        } else {
             ParticleDisplayer displayer = data.getDisplayerBuilder().apply(particleUUID);
             if (displayer instanceof ParticleDisplayer.SingleParticleDisplayer) {
-                ParticleController controller = ControlParticleManager.INSTANCE.createControl(particleUUID);
+                ParticleController controller = ControlParticleManager.INSTANCE.createControl(data.getId());
                 controller.setInitInvoker(data.getParticleHandler());
             }
+            controllable = displayer.display(toPos, clientWorld);
+        }
+        if (controllable == null) {
+            return;
+        }
+        if (controllable instanceof ParticleController controller) {
+            data.getParticleControllerHandler().accept(controller);
+            controller.attachToGroup(transform, local);
+        } else {
+            placedParticles.put(data.getId(), controllable);
+        }
+        particles.put(data.getId(), controllable);
+        particleLocations.put(data.getId(), local);
+    }
 
-            Vec3 toPos = new Vec3(pos.x + rl.getX(), pos.y + rl.getY(), pos.z + rl.getZ());
-            Controllable<?> controllable = displayer.display(toPos, (ClientLevel) world);
-            if (controllable == null) {
-                continue;
-            }
-            if (controllable instanceof ParticleController) {
-                data.getParticleControllerHandler().accept((ParticleController) controllable);
-            }
-            particles.put(particleUUID, controllable);
-            particleLocations.put(controllable, rl);
+    /**
+     * Tier this style's particles are spawned under by the {@link ClientParticleBudget}.
+     * A particle the budget turns down is kept back and spawned on a later tick, once the
+     * budget has recovered.
+     */
+    protected ClientParticleBudget.Tier getSpawnTier() {
+        return ClientParticleBudget.Tier.NORMAL;
+    }
+
+    /**
+     * Remove one displayed particle, if present.
+     */
+    protected void removeParticle(long id) {
+        if (!deferredSpawns.isEmpty()) {
+            deferredSpawns.remove(id);
         }
+        Controllable<?> particle = particles.remove(id);
+        if (particle == null) {
+            return;
+        }
+        particle.remove();
+        particleLocations.remove(id);
+        placedParticles.remove(id);
     }
 
     /**
      * Clear all particles. If valid is true, keep the style alive; otherwise mark invalid.
      */
     public void clear(boolean valid) {
-        for (Controllable<?> c : particles.values()) {
-            c.remove();
-        }
+        particles.forEach((id, c) -> c.remove());
         particles.clear();
         particleLocations.clear();
         particleDefaultLength.clear();
+        placedParticles.clear();
+        deferredSpawns.clear();
+    }
+
+    /** Particles turned down by the {@link ClientParticleBudget} and not spawned yet. */
+    public int getDeferredSpawnCount() {
+        return deferredSpawns.size();
+    }
+
+    /** Spawns the particles the budget turned down until it turns one down again. */
+    private void retryDeferredSpawns() {
+        List<DeferredSpawn> pending = new ArrayList<>(deferredSpawns.size());
+        deferredSpawns.forEach((id, spawn) -> pending.add(spawn));
+        for (DeferredSpawn spawn : pending) {
+            deferredSpawns.remove(spawn.data().getId());
+            spawnParticle(spawn.data(), spawn.local());
+            if (deferredSpawns.containsKey(spawn.data().getId())) {
+                return;
+            }
+        }
     }
 
     /**
-     * Record default scale lengths and apply current scale factor.
+     * Record default scale lengths. The scale itself is applied by the group transform.
      */
     protected void toggleScale(Map<? extends StyleData, RelativeLocation> locations) {
         if (particleDefaultLength.isEmpty()) {
             for (Map.Entry<? extends StyleData, RelativeLocation> entry : locations.entrySet()) {
-                particleDefaultLength.put(entry.getKey().getUuid(), entry.getValue().length());
-            }
-        }
-        if (scale == 1.0) {
-            return;
-        }
-        for (Map.Entry<? extends StyleData, RelativeLocation> entry : locations.entrySet()) {
-            UUID uuid = entry.getKey().getUuid();
-            Double defLen = particleDefaultLength.get(uuid);
-            if (defLen == null) continue;
-            RelativeLocation rl = entry.getValue();
-            double currentLen = rl.length();
-            if (currentLen > 0.001) {
-                rl.multiply(defLen * scale / currentLen);
+                particleDefaultLength.put(entry.getKey().getId(), entry.getValue().length());
             }
         }
     }
@@ -319,30 +460,25 @@ public abstract class ParticleGroupStyle implements ServerController<ParticleGro
      * Update displayed particles' scale.
      */
     protected void toggleScaleDisplayed() {
-        if (scale == 1.0) {
-            return;
-        }
-        for (Map.Entry<Controllable<?>, RelativeLocation> entry : particleLocations.entrySet()) {
-            UUID puuid = entry.getKey().controlUUID();
-            Double defLen = particleDefaultLength.get(puuid);
-            if (defLen == null) continue;
-            RelativeLocation rl = entry.getValue();
-            double currentLen = rl.length();
-            if (currentLen > 0.001) {
-                rl.multiply(defLen * scale / currentLen);
-            }
-        }
+        transform.setScale(scale);
+        toggleRelative();
     }
 
     /**
-     * Teleport all particles to their current relative positions based on origin.
+     * Bring the transform up to date with the origin and teleport the particles
+     * that are not attached to it.
      */
     protected void toggleRelative() {
-        for (Map.Entry<Controllable<?>, RelativeLocation> entry : particleLocations.entrySet()) {
-            Controllable<?> c = entry.getKey();
-            RelativeLocation rl = entry.getValue();
-            c.teleportTo(rl.getX() + pos.x, rl.getY() + pos.y, rl.getZ() + pos.z);
+        transform.setOrigin(pos.x, pos.y, pos.z);
+        if (placedParticles.isEmpty()) {
+            return;
         }
+        placedParticles.forEach((id, c) -> {
+            RelativeLocation rl = particleLocations.get(id);
+            if (rl != null) {
+                c.teleportTo(transform.toWorld(rl.getX(), rl.getY(), rl.getZ()));
+            }
+        });
     }
 
     // ---- Transform operations ----
@@ -358,8 +494,7 @@ public abstract class ParticleGroupStyle implements ServerController<ParticleGro
     }
 
     public void rotateAsAxis(double radian) {
-        List<RelativeLocation> locs = new ArrayList<>(particleLocations.values());
-        Math3DUtil.rotateAsAxis(locs, axis, radian);
+        transform.rotateAsAxis(axis, radian);
         this.rotate += radian;
         if (this.rotate >= Math.PI * 2) {
             this.rotate -= Math.PI * 2;
@@ -368,17 +503,14 @@ public abstract class ParticleGroupStyle implements ServerController<ParticleGro
     }
 
     public void rotateToPoint(RelativeLocation to) {
-        List<RelativeLocation> locs = new ArrayList<>(particleLocations.values());
-        Math3DUtil.rotatePointsToPoint(locs, to, axis);
+        transform.rotateToPoint(axis, to);
         this.axis = to;
         toggleRelative();
     }
 
     public void rotateToWithAngle(RelativeLocation to, double radian) {
-        List<RelativeLocation> locs = new ArrayList<>(particleLocations.values());
-        Math3DUtil.rotatePointsToPoint(locs, to, axis);
-        List<RelativeLocation> locs2 = new ArrayList<>(particleLocations.values());
-        Math3DUtil.rotateAsAxis(locs2, to.normalize(), radian);
+        transform.rotateToPoint(axis, to);
+        transform.rotateAsAxis(to, radian);
         this.axis = to;
         this.rotate += radian;
         if (this.rotate >= Math.PI * 2) {
@@ -402,6 +534,10 @@ public abstract class ParticleGroupStyle implements ServerController<ParticleGro
 
     // ---- Packet args ----
 
+    ParticleStyleDeltaTracker getSyncTracker() {
+        return syncTracker;
+    }
+
     public Map<String, ParticleControllerDataBuffer<?>> writePacketArgs() {
         return new HashMap<>();
     }
@@ -463,10 +599,17 @@ public abstract class ParticleGroupStyle implements ServerController<ParticleGro
 
     @Override
     public void tick() {
+        transform.beginTick();
         for (Consumer<ParticleGroupStyle> action : preTickActions) {
             action.accept(this);
         }
         displayedTime++;
+        if (!deferredSpawns.isEmpty() && ClientParticleBudget.INSTANCE.isRecovered()) {
+            retryDeferredSpawns();
+        }
+    }
+
+    private record DeferredSpawn(StyleData data, RelativeLocation local) {
     }
 
     // ---- Inner class: StyleData ----
@@ -474,21 +617,43 @@ public abstract class ParticleGroupStyle implements ServerController<ParticleGro
     /**
      * Holds the data needed to create a single particle in a style:
      * the displayer builder, particle handler, and controller handler.
+     * <p>
+     * Data with a {@link PooledParticleTemplate} is spawned into the
+     * {@link ClientParticlePool} instead; the displayer and both handlers are then unused.
      */
     public static class StyleData {
-        private final UUID uuid;
+        private final long id;
+        private UUID uuid;
         private final Function<UUID, ParticleDisplayer> displayerBuilder;
         private Consumer<ControllableParticle> particleHandler;
         private Consumer<ParticleController> particleControllerHandler;
+        private PooledParticleTemplate pooledTemplate;
 
         public StyleData(Function<UUID, ParticleDisplayer> displayerBuilder) {
-            this.uuid = UUID.randomUUID();
+            this.id = LocalIds.next();
             this.displayerBuilder = displayerBuilder;
             this.particleHandler = p -> {};
             this.particleControllerHandler = c -> {};
         }
 
+        public StyleData(PooledParticleTemplate pooledTemplate) {
+            this((Function<UUID, ParticleDisplayer>) null);
+            this.pooledTemplate = pooledTemplate;
+        }
+
+        /** Client-local id; styles key their particle bookkeeping by it. */
+        public long getId() {
+            return id;
+        }
+
+        /**
+         * The id as a UUID, for displayers and controllers that are keyed by UUID.
+         * Created on first use, without {@link UUID#randomUUID()}.
+         */
         public UUID getUuid() {
+            if (uuid == null) {
+                uuid = LocalIds.asUuid(id);
+            }
             return uuid;
         }
 
@@ -519,5 +684,18 @@ public abstract class ParticleGroupStyle implements ServerController<ParticleGro
             this.particleControllerHandler = handler;
             return this;
         }
+
+        public PooledParticleTemplate getPooledTemplate() {
+            return pooledTemplate;
+        }
+
+        /**
+         * Spawn this particle into the client particle pool with the given template,
+         * or pass null to go back to the displayer.
+         */
+        public StyleData withPooledParticle(PooledParticleTemplate template) {
+            this.pooledTemplate = template;
+            return this;
+        }
     }
 }
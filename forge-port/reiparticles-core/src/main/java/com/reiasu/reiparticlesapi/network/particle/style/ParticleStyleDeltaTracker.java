@@ -0,0 +1,97 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.network.particle.style;
+
+import com.reiasu.reiparticlesapi.network.buffer.ParticleControllerDataBuffer;
+import com.reiasu.reiparticlesapi.utils.RelativeLocation;
+import net.minecraft.world.phys.Vec3;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Remembers the auto-toggle state last sent to a style's viewers and computes the
+ * keys that changed since.
+ * <p>
+ * The clock keys advance every tick on both sides, so they never make a style dirty
+ * on their own. They ride along with every delta and are re-sent on a keyframe every
+ * {@value #KEYFRAME_INTERVAL} ticks to correct drift. The baseline is shared by all
+ * viewers: a new viewer gets the full state in its CREATE packet first.
+ */
+final class ParticleStyleDeltaTracker {
+    static final int KEYFRAME_INTERVAL = 100;
+    static final Set<String> CLOCK_KEYS = Set.of("lastUpdatedGameTime", "displayedTime");
+
+    private final Map<String, Object> sent = new HashMap<>();
+    private long lastSentTick;
+    private boolean initialized;
+
+    /** Takes {@code state} as what every viewer already has. */
+    void reset(Map<String, ? extends ParticleControllerDataBuffer<?>> state, long tick) {
+        sent.clear();
+        for (Map.Entry<String, ? extends ParticleControllerDataBuffer<?>> entry : state.entrySet()) {
+            if (!CLOCK_KEYS.contains(entry.getKey())) {
+                sent.put(entry.getKey(), snapshot(entry.getValue().getLoadedValue()));
+            }
+        }
+        lastSentTick = tick;
+        initialized = true;
+    }
+
+    /**
+     * Returns the args to send for this tick, or {@code null} when nothing changed
+     * and no keyframe is due. The returned args become the new baseline.
+     */
+    Map<String, ParticleControllerDataBuffer<?>> delta(Map<String, ParticleControllerDataBuffer<?>> current, long tick) {
+        if (!initialized) {
+            reset(current, tick);
+            return null;
+        }
+        Map<String, ParticleControllerDataBuffer<?>> changed = null;
+        for (Map.Entry<String, ParticleControllerDataBuffer<?>> entry : current.entrySet()) {
+            String key = entry.getKey();
+            if (CLOCK_KEYS.contains(key)) {
+                continue;
+            }
+            Object value = snapshot(entry.getValue().getLoadedValue());
+            if (sent.containsKey(key) && Objects.deepEquals(sent.get(key), value)) {
+                continue;
+            }
+            if (changed == null) {
+                changed = new HashMap<>();
+            }
+            changed.put(key, entry.getValue());
+            sent.put(key, value);
+        }
+        if (changed == null) {
+            if (tick - lastSentTick < KEYFRAME_INTERVAL) {
+                return null;
+            }
+            changed = new HashMap<>();
+        }
+        for (String clockKey : CLOCK_KEYS) {
+            ParticleControllerDataBuffer<?> clock = current.get(clockKey);
+            if (clock != null) {
+                changed.put(clockKey, clock);
+            }
+        }
+        lastSentTick = tick;
+        return changed;
+    }
+
+    /** Copies mutable values into something with value equality. */
+    private static Object snapshot(Object value) {
+        if (value instanceof int[] array) {
+            return array.clone();
+        }
+        if (value instanceof long[] array) {
+            return array.clone();
+        }
+        if (value instanceof RelativeLocation location) {
+            return new Vec3(location.getX(), location.getY(), location.getZ());
+        }
+        return value;
+    }
+}
@@ -6,6 +6,7 @@ import com.reiasu.reiparticlesapi.network.ReiParticlesNetwork;
 import com.reiasu.reiparticlesapi.network.buffer.ParticleControllerDataBuffer;
 import com.reiasu.reiparticlesapi.network.buffer.ParticleControllerDataBuffers;
 import com.reiasu.reiparticlesapi.network.packet.PacketParticleStyleS2C;
+import com.reiasu.reiparticlesapi.network.particle.PlayerSpatialIndex;
 import com.reiasu.reiparticlesapi.particles.control.ControlType;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerLevel;
@@ -15,7 +16,6 @@ import net.minecraft.world.phys.Vec3;
 
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
@@ -24,7 +24,10 @@ import java.util.concurrent.ConcurrentHashMap;
 public final class ParticleStyleManager {
     private static final Map<UUID, ParticleGroupStyle> SERVER_VIEW_STYLES = new ConcurrentHashMap<>();
     private static final Map<UUID, Set<UUID>> VISIBLE = new ConcurrentHashMap<>();
+    /** Reverse of {@link #VISIBLE}: style id to the players that currently view it. */
+    private static final Map<UUID, Set<UUID>> VIEWERS = new ConcurrentHashMap<>();
     private static final Map<UUID, ParticleGroupStyle> CLIENT_VIEW_STYLES = new ConcurrentHashMap<>();
+    private static volatile int[] lastSyncStats = new int[2];
 
     private ParticleStyleManager() {
     }
@@ -78,11 +81,12 @@ public final class ParticleStyleManager {
         SERVER_VIEW_STYLES.put(style.getUuid(), style);
         if (world instanceof ServerLevel serverLevel) {
             style.setLastUpdatedGameTime(serverLevel.getGameTime());
-            for (ServerPlayer player : serverLevel.players()) {
+            style.getSyncTracker().reset(buildSyncArgs(style), serverLevel.getGameTime());
+            PlayerSpatialIndex.of(serverLevel).forEachWithin(pos, style.getVisibleRange(), (player, order, distanceSqr) -> {
                 if (canViewStyle(style, player)) {
                     addStylePlayerView(player, style);
                 }
-            }
+            });
         }
     }
 
@@ -95,6 +99,7 @@ public final class ParticleStyleManager {
     }
 
     public static void doTickServer() {
+        int[] stats = new int[2];
         SERVER_VIEW_STYLES.entrySet().removeIf(entry -> {
             ParticleGroupStyle style = entry.getValue();
             if (!(style.getWorld() instanceof ServerLevel serverLevel)) {
@@ -107,11 +112,20 @@ public final class ParticleStyleManager {
             style.tick();
 
             if (style.getAutoToggle() && !style.getCanceled()) {
-                PacketParticleStyleS2C changePacket = buildAutoTogglePacket(style);
-                for (UUID playerId : filterVisiblePlayer(style.getUuid())) {
-                    ServerPlayer player = serverLevel.getServer().getPlayerList().getPlayer(playerId);
-                    if (player != null) {
-                        ReiParticlesNetwork.sendTo(player, changePacket);
+                // Advance the baseline even without viewers; new viewers get the full state on CREATE.
+                Map<String, ParticleControllerDataBuffer<?>> delta =
+                        style.getSyncTracker().delta(buildSyncArgs(style), serverLevel.getGameTime());
+                if (delta == null) {
+                    stats[1]++;
+                } else {
+                    PacketParticleStyleS2C changePacket =
+                            new PacketParticleStyleS2C(style.getUuid(), ControlType.CHANGE, delta);
+                    for (UUID playerId : viewersOf(style.getUuid())) {
+                        ServerPlayer player = serverLevel.getServer().getPlayerList().getPlayer(playerId);
+                        if (player != null) {
+                            ReiParticlesNetwork.sendTo(player, changePacket);
+                            stats[0]++;
+                        }
                     }
                 }
             }
@@ -124,34 +138,41 @@ public final class ParticleStyleManager {
         });
 
         pruneDisconnectedPlayers();
+        lastSyncStats = stats;
     }
 
-    private static Set<UUID> filterVisiblePlayer(UUID styleId) {
-        Set<UUID> result = new HashSet<>();
-        for (Map.Entry<UUID, Set<UUID>> entry : VISIBLE.entrySet()) {
-            if (entry.getValue().contains(styleId)) {
-                result.add(entry.getKey());
-            }
+    /**
+     * Summarizes the last server tick: change packets sent and auto-toggle styles
+     * whose state was unchanged (no packet built).
+     */
+    public static String getDebugInfo() {
+        int[] stats = lastSyncStats;
+        int viewers = 0;
+        for (Set<UUID> set : VIEWERS.values()) {
+            viewers += set.size();
         }
-        return result;
+        return String.format("ParticleStyleManager: styles=%d, views=%d, changePackets=%d, unchanged=%d",
+                SERVER_VIEW_STYLES.size(), viewers, stats[0], stats[1]);
     }
 
-    private static void upgradeVisible(ParticleGroupStyle style, ServerLevel level) {
-        UUID styleId = style.getUuid();
-        for (ServerPlayer player : level.players()) {
-            Set<UUID> visibleSet = VISIBLE.computeIfAbsent(player.getUUID(), ignored -> ConcurrentHashMap.newKeySet());
-            boolean shouldView = canViewStyle(style, player);
-            boolean alreadyView = visibleSet.contains(styleId);
-
-            if (shouldView && !alreadyView) {
-                addStylePlayerView(player, style);
-                continue;
-            }
+    private static Set<UUID> viewersOf(UUID styleId) {
+        Set<UUID> viewers = VIEWERS.get(styleId);
+        return viewers != null ? viewers : Collections.emptySet();
+    }
 
-            if (!shouldView && alreadyView) {
+    private static void upgradeVisible(ParticleGroupStyle style, ServerLevel level) {
+        for (UUID playerId : viewersOf(style.getUuid())) {
+            ServerPlayer player = level.getServer().getPlayerList().getPlayer(playerId);
+            if (player != null && !canViewStyle(style, player)) {
                 removeStylePlayerView(player, style);
             }
         }
+
+        PlayerSpatialIndex.of(level).forEachWithin(style.getPos(), style.getVisibleRange(), (player, order, distanceSqr) -> {
+            if (!player.isSpectator()) {
+                addStylePlayerView(player, style);
+            }
+        });
     }
 
     private static boolean canViewStyle(ParticleGroupStyle style, ServerPlayer player) {
@@ -164,12 +185,17 @@ public final class ParticleStyleManager {
         if (style.getWorld() != player.level()) {
             return false;
         }
-        return style.getPos().distanceTo(player.position()) <= style.getVisibleRange();
+        double range = style.getVisibleRange();
+        return style.getPos().distanceToSqr(player.position()) <= range * range;
     }
 
     private static void removeStylePlayerView(ServerPlayer player, ParticleGroupStyle style) {
         Set<UUID> visibleSet = VISIBLE.computeIfAbsent(player.getUUID(), ignored -> ConcurrentHashMap.newKeySet());
         visibleSet.remove(style.getUuid());
+        Set<UUID> viewers = VIEWERS.get(style.getUuid());
+        if (viewers != null) {
+            viewers.remove(player.getUUID());
+        }
         PacketParticleStyleS2C packet = new PacketParticleStyleS2C(style.getUuid(), ControlType.REMOVE, Map.of());
         ReiParticlesNetwork.sendTo(player, packet);
     }
@@ -179,11 +205,13 @@ public final class ParticleStyleManager {
         if (!visibleSet.add(style.getUuid())) {
             return;
         }
+        VIEWERS.computeIfAbsent(style.getUuid(), ignored -> ConcurrentHashMap.newKeySet()).add(player.getUUID());
         PacketParticleStyleS2C packet = buildCreatePacket(style, style.getPos());
         ReiParticlesNetwork.sendTo(player, packet);
     }
 
-    private static PacketParticleStyleS2C buildAutoTogglePacket(ParticleGroupStyle style) {
+    /** Full auto-toggle state: the common style fields plus {@link ParticleGroupStyle#writePacketArgs()}. */
+    static Map<String, ParticleControllerDataBuffer<?>> buildSyncArgs(ParticleGroupStyle style) {
         ParticleControllerDataBuffers buffers = ParticleControllerDataBuffers.INSTANCE;
         Map<String, ParticleControllerDataBuffer<?>> args = new HashMap<>(style.writePacketArgs());
         args.put("rotate", buffers.doubleValue(style.getRotate()));
@@ -193,7 +221,7 @@ public final class ParticleStyleManager {
         args.put("displayedTime", buffers.longValue(style.getDisplayedTime()));
         args.put("visibleRange", buffers.doubleValue(style.getVisibleRange()));
         args.put("autoToggle", buffers.bool(style.getAutoToggle()));
-        return new PacketParticleStyleS2C(style.getUuid(), ControlType.CHANGE, args);
+        return args;
     }
 
     private static PacketParticleStyleS2C buildCreatePacket(ParticleGroupStyle style, Vec3 pos) {
@@ -216,10 +244,13 @@ public final class ParticleStyleManager {
 
     private static void removeAllPlayerView(ParticleGroupStyle style, ServerLevel level) {
         UUID styleId = style.getUuid();
-        for (Map.Entry<UUID, Set<UUID>> entry : VISIBLE.entrySet()) {
-            UUID playerId = entry.getKey();
-            Set<UUID> visibleSet = entry.getValue();
-            if (!visibleSet.remove(styleId)) {
+        Set<UUID> viewers = VIEWERS.remove(styleId);
+        if (viewers == null) {
+            return;
+        }
+        for (UUID playerId : viewers) {
+            Set<UUID> visibleSet = VISIBLE.get(playerId);
+            if (visibleSet == null || !visibleSet.remove(styleId)) {
                 continue;
             }
             if (level == null) {
@@ -236,6 +267,7 @@ public final class ParticleStyleManager {
     private static void pruneDisconnectedPlayers() {
         if (SERVER_VIEW_STYLES.isEmpty()) {
             VISIBLE.clear();
+            VIEWERS.clear();
             return;
         }
         VISIBLE.entrySet().removeIf(entry -> {
@@ -247,6 +279,12 @@ public final class ParticleStyleManager {
                     }
                 }
             }
+            for (UUID styleId : entry.getValue()) {
+                Set<UUID> viewers = VIEWERS.get(styleId);
+                if (viewers != null) {
+                    viewers.remove(playerId);
+                }
+            }
             return true;
         });
     }
@@ -2,17 +2,18 @@
 // Copyright (C) 2025 Reiasu
 package com.reiasu.reiparticlesapi.network.particle.style;
 
+import com.reiasu.reiparticlesapi.config.APIConfig;
 import com.reiasu.reiparticlesapi.network.buffer.ParticleControllerDataBuffer;
 import com.reiasu.reiparticlesapi.network.buffer.ParticleControllerDataBuffers;
-import com.reiasu.reiparticlesapi.particles.Controllable;
+import com.reiasu.reiparticlesapi.network.particle.util.SequencedSpawnQueue;
+import com.reiasu.reiparticlesapi.network.particle.util.SequencedStatusRanges;
 import com.reiasu.reiparticlesapi.particles.ControllableParticle;
 import com.reiasu.reiparticlesapi.particles.ParticleDisplayer;
-import com.reiasu.reiparticlesapi.particles.control.ControlParticleManager;
+import com.reiasu.reiparticlesapi.particles.PooledParticleTemplate;
 import com.reiasu.reiparticlesapi.particles.control.ParticleController;
 import com.reiasu.reiparticlesapi.particles.impl.ControllableEndRodEffect;
 import com.reiasu.reiparticlesapi.utils.Math3DUtil;
 import com.reiasu.reiparticlesapi.utils.RelativeLocation;
-import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.phys.Vec3;
 
@@ -23,6 +24,10 @@ import java.util.function.Function;
 /**
  * A particle style where particles are displayed sequentially (one-by-one)
  * and can be toggled on/off by index. Supports ordered particle display.
+ * <p>
+ * The displayed status is synced as runs of shown indices. The client diffs it against
+ * its own status, removes hidden particles at once and spawns shown ones from a
+ * {@link SequencedSpawnQueue} within {@link APIConfig#getSequencedSpawnBudget()} per tick.
  */
 public abstract class SequencedParticleStyle extends ParticleGroupStyle {
 
@@ -33,6 +38,7 @@ public abstract class SequencedParticleStyle extends ParticleGroupStyle {
     private ArrayList<Map.Entry<SortedStyleData, RelativeLocation>> sequencedParticles = new ArrayList<>();
     private int displayedParticleCount;
     private int particleLinkageDisplayCurrentIndex;
+    private final SequencedSpawnQueue spawnQueue = new SequencedSpawnQueue();
 
     public SequencedParticleStyle(double visibleRange, UUID uuid) {
         super(visibleRange, uuid);
@@ -70,6 +76,9 @@ public abstract class SequencedParticleStyle extends ParticleGroupStyle {
 
     public int getParticleLinkageDisplayCurrentIndex() { return particleLinkageDisplayCurrentIndex; }
 
+    /** Shown particles the client has not spawned yet. */
+    public int getPendingSpawnCount() { return spawnQueue.size(); }
+
     // ---- Status management ----
 
     public boolean getStatus(int index) {
@@ -92,6 +101,7 @@ public abstract class SequencedParticleStyle extends ParticleGroupStyle {
 
     public void clearStatus() {
         Arrays.fill(getDisplayedStatus(), 0L);
+        spawnQueue.clear();
         displayedParticleCount = 0;
         particleLinkageDisplayCurrentIndex = 0;
     }
@@ -101,8 +111,7 @@ public abstract class SequencedParticleStyle extends ParticleGroupStyle {
     public void addSingle() {
         if (getClient()) {
             if (particleLinkageDisplayCurrentIndex >= getParticlesCount()) return;
-            int idx = particleLinkageDisplayCurrentIndex++;
-            toggleFromStatus(idx, true);
+            showIndex(particleLinkageDisplayCurrentIndex++);
             return;
         }
         displayedParticleCount++;
@@ -116,30 +125,29 @@ public abstract class SequencedParticleStyle extends ParticleGroupStyle {
 
     public void addMultiple(int count) {
         if (getClient()) {
-            for (int i = 0; i < count; i++) addSingle();
+            int end = Math.min(particleLinkageDisplayCurrentIndex + Math.max(count, 0), getParticlesCount());
+            while (particleLinkageDisplayCurrentIndex < end) {
+                showIndex(particleLinkageDisplayCurrentIndex++);
+            }
             return;
         }
         if (count <= 0) return;
         if (count == 1) { addSingle(); return; }
 
         displayedParticleCount += count;
-        int[] indices = new int[count];
+        int start = particleLinkageDisplayCurrentIndex;
         for (int i = 0; i < count; i++) {
-            int idx = particleLinkageDisplayCurrentIndex + i;
-            setStatus(idx, true);
-            indices[i] = idx;
+            setStatus(start + i, true);
         }
-        Map<String, ParticleControllerDataBuffer<?>> args = buildChangeMultipleStatusArgs(indices, true);
-        int startIdx = particleLinkageDisplayCurrentIndex;
         particleLinkageDisplayCurrentIndex += count;
+        Map<String, ParticleControllerDataBuffer<?>> args = buildChangeRangeStatusArgs(start, start + count, true);
         change(g -> {}, args);
     }
 
     public void removeSingle() {
         if (getClient()) {
             if (particleLinkageDisplayCurrentIndex <= 0) return;
-            int idx = --particleLinkageDisplayCurrentIndex;
-            toggleFromStatus(idx, false);
+            hideIndex(--particleLinkageDisplayCurrentIndex);
             return;
         }
         displayedParticleCount = Math.max(displayedParticleCount - 1, 0);
@@ -153,21 +161,23 @@ public abstract class SequencedParticleStyle extends ParticleGroupStyle {
 
     public void removeMultiple(int count) {
         if (getClient()) {
-            for (int i = 0; i < count; i++) removeSingle();
+            int start = Math.max(particleLinkageDisplayCurrentIndex - Math.max(count, 0), 0);
+            while (particleLinkageDisplayCurrentIndex > start) {
+                hideIndex(--particleLinkageDisplayCurrentIndex);
+            }
             return;
         }
         if (count <= 0) return;
         if (count == 1) { removeSingle(); return; }
 
         displayedParticleCount = Math.max(displayedParticleCount - count, 0);
-        int[] indices = new int[count];
-        for (int i = 0; i < count; i++) {
-            if (particleLinkageDisplayCurrentIndex <= 0) break;
-            int idx = --particleLinkageDisplayCurrentIndex;
+        int end = particleLinkageDisplayCurrentIndex;
+        int start = Math.max(end - count, 0);
+        for (int idx = start; idx < end; idx++) {
             setStatus(idx, false);
-            indices[i] = idx;
         }
-        Map<String, ParticleControllerDataBuffer<?>> args = buildChangeMultipleStatusArgs(indices, false);
+        particleLinkageDisplayCurrentIndex = start;
+        Map<String, ParticleControllerDataBuffer<?>> args = buildChangeRangeStatusArgs(start, end, false);
         change(g -> {}, args);
     }
 
@@ -175,6 +185,7 @@ public abstract class SequencedParticleStyle extends ParticleGroupStyle {
 
     protected void toggleFromStatus(int index, boolean status) {
         if (index < 0 || index >= sequencedParticles.size()) return;
+        spawnQueue.remove(index);
         Map.Entry<SortedStyleData, RelativeLocation> entry = sequencedParticles.get(index);
         SortedStyleData data = entry.getKey();
         RelativeLocation rl = entry.getValue();
@@ -184,12 +195,7 @@ public abstract class SequencedParticleStyle extends ParticleGroupStyle {
             createWithIndex(data, rl);
         } else {
             // Remove particle
-            Controllable<?> particle = getParticles().get(data.getUuid());
-            if (particle != null) {
-                particle.remove();
-                getParticles().remove(data.getUuid());
-                getParticleLocations().remove(particle);
-            }
+            removeParticle(data.getId());
         }
         setStatus(index, status);
     }
@@ -201,23 +207,54 @@ public abstract class SequencedParticleStyle extends ParticleGroupStyle {
     }
 
     private void createWithIndex(SortedStyleData data, RelativeLocation rl) {
-        UUID particleUUID = data.getUuid();
-        ParticleDisplayer displayer = data.getDisplayerBuilder().apply(particleUUID);
+        spawnParticle(data, rl);
+    }
+
+    /** Client: marks {@code index} shown and queues its particle for the next tick. */
+    private void showIndex(int index) {
+        setStatus(index, true);
+        spawnQueue.add(index);
+    }
 
-        if (displayer instanceof ParticleDisplayer.SingleParticleDisplayer) {
-            ParticleController controller = ControlParticleManager.INSTANCE.createControl(particleUUID);
-            controller.setInitInvoker(data.getParticleHandler());
+    /** Client: marks {@code index} hidden and removes its particle, or drops it if still queued. */
+    private void hideIndex(int index) {
+        setStatus(index, false);
+        if (!spawnQueue.remove(index) && index < sequencedParticles.size()) {
+            removeParticle(sequencedParticles.get(index).getKey().getId());
         }
+    }
 
-        Vec3 toPos = new Vec3(getPos().x + rl.getX(), getPos().y + rl.getY(), getPos().z + rl.getZ());
-        Controllable<?> controllable = displayer.display(toPos, (ClientLevel) getWorld());
-        if (controllable == null) return;
+    private void spawnQueued(int index) {
+        if (index >= sequencedParticles.size() || !getStatus(index)) return;
+        Map.Entry<SortedStyleData, RelativeLocation> entry = sequencedParticles.get(index);
+        if (getParticlesById().containsKey(entry.getKey().getId())) return;
+        createWithIndex(entry.getKey(), entry.getValue());
+    }
 
-        if (controllable instanceof ParticleController) {
-            data.getParticleControllerHandler().accept((ParticleController) controllable);
+    /**
+     * Takes {@code status} as the displayed status. On the client, indices it turns off
+     * are hidden now and the ones it turns on are queued.
+     */
+    private void applyDisplayedStatus(long[] status) {
+        long[] old = displayedStatus == null ? new long[0] : displayedStatus;
+        displayedStatus = status;
+        if (!getClient()) return;
+        int words = Math.max(old.length, status.length);
+        for (int word = 0; word < words; word++) {
+            long before = word < old.length ? old[word] : 0L;
+            long after = word < status.length ? status[word] : 0L;
+            long diff = before ^ after;
+            while (diff != 0L) {
+                int bit = Long.numberOfTrailingZeros(diff);
+                int index = (word << 6) + bit;
+                if ((after & (1L << bit)) != 0L) {
+                    spawnQueue.add(index);
+                } else if (!spawnQueue.remove(index) && index < sequencedParticles.size()) {
+                    removeParticle(sequencedParticles.get(index).getKey().getId());
+                }
+                diff &= diff - 1L;
+            }
         }
-        getParticles().put(particleUUID, controllable);
-        getParticleLocations().put(controllable, rl);
     }
 
     // ---- Packet args helpers ----
@@ -230,9 +267,9 @@ public abstract class SequencedParticleStyle extends ParticleGroupStyle {
         return args;
     }
 
-    private Map<String, ParticleControllerDataBuffer<?>> buildChangeMultipleStatusArgs(int[] indices, boolean status) {
+    private Map<String, ParticleControllerDataBuffer<?>> buildChangeRangeStatusArgs(int start, int end, boolean status) {
         Map<String, ParticleControllerDataBuffer<?>> args = new HashMap<>();
-        args.put("seq_indices", ParticleControllerDataBuffers.INSTANCE.intArray(indices));
+        args.put("seq_range", ParticleControllerDataBuffers.INSTANCE.intArray(new int[]{start, end}));
         args.put("seq_status", ParticleControllerDataBuffers.INSTANCE.bool(status));
         args.put("seq_count", ParticleControllerDataBuffers.INSTANCE.intValue(displayedParticleCount));
         return args;
@@ -252,6 +289,7 @@ public abstract class SequencedParticleStyle extends ParticleGroupStyle {
         List<RelativeLocation> locs = new ArrayList<>(locations.values());
         Math3DUtil.rotateAsAxis(locs, getAxis(), getRotate());
         toggleScale(locations);
+        resetGroupTransform();
 
         for (Map.Entry<SortedStyleData, RelativeLocation> entry : locations.entrySet()) {
             sequencedParticles.add(entry);
@@ -265,16 +303,30 @@ public abstract class SequencedParticleStyle extends ParticleGroupStyle {
 
     @Override
     public void flush() {
-        if (!getParticles().isEmpty()) {
+        if (!getParticlesById().isEmpty()) {
             clear(true);
         }
         displayParticles();
+        if (getClient()) {
+            // Every shown particle was just cleared; bring them back through the budget.
+            spawnQueue.clear();
+            spawnQueue.addAll(getDisplayedStatus(), getParticlesCount());
+        }
+    }
+
+    @Override
+    public void tick() {
+        super.tick();
+        if (getClient() && !spawnQueue.isEmpty()) {
+            spawnQueue.drain(APIConfig.INSTANCE.getSequencedSpawnBudget(), this::spawnQueued);
+        }
     }
 
     @Override
     public Map<String, ParticleControllerDataBuffer<?>> writePacketArgs() {
         Map<String, ParticleControllerDataBuffer<?>> args = new HashMap<>();
-        args.put("seq_displayed_status", ParticleControllerDataBuffers.INSTANCE.longArray(getDisplayedStatus().clone()));
+        args.put("seq_status_ranges", ParticleControllerDataBuffers.INSTANCE.intArray(
+                SequencedStatusRanges.encode(getDisplayedStatus(), getParticlesCount())));
         args.put("seq_displayed_count", ParticleControllerDataBuffers.INSTANCE.intValue(displayedParticleCount));
         args.put("seq_current_index", ParticleControllerDataBuffers.INSTANCE.intValue(particleLinkageDisplayCurrentIndex));
         args.putAll(writePacketArgsSequenced());
@@ -283,10 +335,6 @@ public abstract class SequencedParticleStyle extends ParticleGroupStyle {
 
     @Override
     public void readPacketArgs(Map<String, ? extends ParticleControllerDataBuffer<?>> args) {
-        ParticleControllerDataBuffer<?> statusBuf = args.get("seq_displayed_status");
-        if (statusBuf != null) {
-            displayedStatus = (long[]) statusBuf.getLoadedValue();
-        }
         ParticleControllerDataBuffer<?> countBuf = args.get("seq_displayed_count");
         if (countBuf != null) {
             displayedParticleCount = (int) countBuf.getLoadedValue();
@@ -296,6 +344,17 @@ public abstract class SequencedParticleStyle extends ParticleGroupStyle {
             particleLinkageDisplayCurrentIndex = (int) indexBuf.getLoadedValue();
         }
         readPacketArgsSequenced(args);
+
+        ParticleControllerDataBuffer<?> rangesBuf = args.get("seq_status_ranges");
+        if (rangesBuf != null) {
+            int[] ranges = (int[]) rangesBuf.getLoadedValue();
+            int bits = Math.max(getParticlesCount(), ranges.length == 0 ? 0 : ranges[ranges.length - 1]);
+            applyDisplayedStatus(SequencedStatusRanges.decode(ranges, (bits + 63) / 64));
+        }
+        ParticleControllerDataBuffer<?> statusBuf = args.get("seq_displayed_status");
+        if (statusBuf != null) {
+            applyDisplayedStatus((long[]) statusBuf.getLoadedValue());
+        }
     }
 
     // ---- Inner classes ----
@@ -311,6 +370,11 @@ public abstract class SequencedParticleStyle extends ParticleGroupStyle {
             this.order = order;
         }
 
+        public SortedStyleData(PooledParticleTemplate pooledTemplate, int order) {
+            super(pooledTemplate);
+            this.order = order;
+        }
+
         public int getOrder() { return order; }
 
         @Override
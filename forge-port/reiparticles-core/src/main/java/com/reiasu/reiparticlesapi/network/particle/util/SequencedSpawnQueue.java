@@ -0,0 +1,108 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.network.particle.util;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Client-side backlog of sequenced particles that should be shown but are not spawned yet.
+ * <p>
+ * A sequenced style or composition queues every index its status turns on and spawns
+ * from the queue on its tick, at most {@link com.reiasu.reiparticlesapi.config.APIConfig#getSequencedSpawnBudget()}
+ * per tick and lowest index first, so revealing thousands of particles at once spreads
+ * over a few ticks instead of stalling one. Hiding is not budgeted: an index turned off
+ * before it was spawned is just dropped from the queue.
+ */
+public final class SequencedSpawnQueue {
+    private long[] pending = new long[0];
+    private int size;
+    private int firstWord;
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean contains(int index) {
+        int word = index >>> 6;
+        return index >= 0 && word < pending.length && (pending[word] & (1L << index)) != 0L;
+    }
+
+    public void add(int index) {
+        if (index < 0) {
+            return;
+        }
+        int word = index >>> 6;
+        if (word >= pending.length) {
+            pending = Arrays.copyOf(pending, Math.max(word + 1, pending.length * 2));
+        }
+        long bit = 1L << index;
+        if ((pending[word] & bit) == 0L) {
+            pending[word] |= bit;
+            size++;
+            firstWord = Math.min(firstWord, word);
+        }
+    }
+
+    /** Queues every set bit of {@code bits} below {@code count}. */
+    public void addAll(long[] bits, int count) {
+        int words = Math.min(bits.length, (count + 63) >>> 6);
+        for (int word = 0; word < words; word++) {
+            long value = bits[word];
+            while (value != 0L) {
+                int index = (word << 6) + Long.numberOfTrailingZeros(value);
+                if (index >= count) {
+                    break;
+                }
+                add(index);
+                value &= value - 1L;
+            }
+        }
+    }
+
+    /** Drops {@code index}; returns whether it was still waiting to be spawned. */
+    public boolean remove(int index) {
+        if (!contains(index)) {
+            return false;
+        }
+        pending[index >>> 6] &= ~(1L << index);
+        size--;
+        return true;
+    }
+
+    public void clear() {
+        Arrays.fill(pending, 0L);
+        size = 0;
+        firstWord = 0;
+    }
+
+    /**
+     * Hands up to {@code budget} queued indices to {@code spawn}, lowest first, and returns
+     * how many it handed out. A budget of {@code 0} or less drains the queue.
+     */
+    public int drain(int budget, IntConsumer spawn) {
+        int limit = budget <= 0 ? Integer.MAX_VALUE : budget;
+        int drained = 0;
+        while (size > 0 && drained < limit && firstWord < pending.length) {
+            long value = pending[firstWord];
+            if (value == 0L) {
+                firstWord++;
+                continue;
+            }
+            int index = (firstWord << 6) + Long.numberOfTrailingZeros(value);
+            pending[firstWord] = value & (value - 1L);
+            size--;
+            drained++;
+            // May queue more; add() moves firstWord back if it has to.
+            spawn.accept(index);
+        }
+        if (size == 0) {
+            firstWord = 0;
+        }
+        return drained;
+    }
+}
@@ -0,0 +1,119 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.network.particle.util;
+
+import net.minecraft.network.FriendlyByteBuf;
+
+import java.util.Arrays;
+
+/**
+ * Run-length form of the {@code long[]} displayed-status bitsets kept by sequenced
+ * styles and compositions.
+ * <p>
+ * A status is sent as {@code [start, end)} pairs of set bits. Sequenced effects reveal
+ * and hide particles in order, so a status is usually one or two runs no matter how many
+ * particles are shown, where the bitset costs a word per 64 particles.
+ */
+public final class SequencedStatusRanges {
+    private static final int[] EMPTY = new int[0];
+
+    private SequencedStatusRanges() {
+    }
+
+    /** Runs of set bits below {@code count}, as {@code [start0, end0, start1, end1, ...]}. */
+    public static int[] encode(long[] bits, int count) {
+        int limit = Math.min(count, bits.length << 6);
+        int[] ranges = EMPTY;
+        int size = 0;
+        int index = nextSet(bits, 0, limit);
+        while (index < limit) {
+            int end = nextClear(bits, index, limit);
+            if (size + 2 > ranges.length) {
+                ranges = Arrays.copyOf(ranges, Math.max(4, ranges.length * 2));
+            }
+            ranges[size++] = index;
+            ranges[size++] = end;
+            index = nextSet(bits, end, limit);
+        }
+        return size == ranges.length ? ranges : Arrays.copyOf(ranges, size);
+    }
+
+    /** Rebuilds a bitset of {@code words} words; runs outside it are clipped. */
+    public static long[] decode(int[] ranges, int words) {
+        long[] bits = new long[Math.max(words, 0)];
+        int limit = bits.length << 6;
+        for (int i = 0; i + 1 < ranges.length; i += 2) {
+            setRange(bits, Math.max(ranges[i], 0), Math.min(ranges[i + 1], limit));
+        }
+        return bits;
+    }
+
+    /** Writes the runs as a varint count followed by varint gaps and lengths. */
+    public static void write(FriendlyByteBuf buf, long[] bits, int count) {
+        int[] ranges = encode(bits, count);
+        buf.writeVarInt(ranges.length / 2);
+        int previous = 0;
+        for (int i = 0; i < ranges.length; i += 2) {
+            buf.writeVarInt(ranges[i] - previous);
+            buf.writeVarInt(ranges[i + 1] - ranges[i]);
+            previous = ranges[i + 1];
+        }
+    }
+
+    /** Reads what {@link #write} wrote into a bitset of {@code words} words. */
+    public static long[] read(FriendlyByteBuf buf, int words) {
+        int runs = buf.readVarInt();
+        int[] ranges = new int[Math.max(runs, 0) * 2];
+        int previous = 0;
+        for (int i = 0; i < ranges.length; i += 2) {
+            ranges[i] = previous + buf.readVarInt();
+            ranges[i + 1] = ranges[i] + buf.readVarInt();
+            previous = ranges[i + 1];
+        }
+        return decode(ranges, words);
+    }
+
+    private static void setRange(long[] bits, int from, int to) {
+        while (from < to) {
+            int word = from >>> 6;
+            int end = Math.min(to, (word + 1) << 6);
+            long mask = (end - from == 64 ? -1L : ((1L << (end - from)) - 1L)) << (from & 63);
+            bits[word] |= mask;
+            from = end;
+        }
+    }
+
+    private static int nextSet(long[] bits, int from, int limit) {
+        int word = from >>> 6;
+        if (word >= bits.length) {
+            return limit;
+        }
+        long current = bits[word] & (-1L << (from & 63));
+        while (true) {
+            if (current != 0L) {
+                return Math.min(limit, (word << 6) + Long.numberOfTrailingZeros(current));
+            }
+            if (++word >= bits.length) {
+                return limit;
+            }
+            current = bits[word];
+        }
+    }
+
+    private static int nextClear(long[] bits, int from, int limit) {
+        int word = from >>> 6;
+        if (word >= bits.length) {
+            return limit;
+        }
+        long current = ~bits[word] & (-1L << (from & 63));
+        while (true) {
+            if (current != 0L) {
+                return Math.min(limit, (word << 6) + Long.numberOfTrailingZeros(current));
+            }
+            if (++word >= bits.length) {
+                return limit;
+            }
+            current = ~bits[word];
+        }
+    }
+}
@@ -0,0 +1,195 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.network.particle.util;
+
+import com.reiasu.reiparticlesapi.network.ReiParticlesNetwork;
+import com.reiasu.reiparticlesapi.network.packet.PacketParticleBatchS2C;
+import com.reiasu.reiparticlesapi.profiler.TickProfiler;
+import io.netty.buffer.Unpooled;
+import net.minecraft.core.particles.ParticleOptions;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.phys.Vec3;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects particle spawns per level during a tick and sends them as
+ * {@link PacketParticleBatchS2C} packets, at most a handful per player, on {@link #flush()}.
+ * <p>
+ * Options that serialize to the same bytes are folded onto one instance so that
+ * per-particle {@code new DustParticleOptions(...)} calls still share a palette slot.
+ * Players that see every spawn of a level share the same packets.
+ */
+final class ServerParticleBatchCollector {
+    private static final double FORCE_RANGE_SQR = 512.0 * 512.0;
+    private static final double NORMAL_RANGE_SQR = 32.0 * 32.0;
+
+    private final Map<ServerLevel, LevelSpawns> pending = new IdentityHashMap<>();
+    private final Map<ByteBuffer, ParticleOptions> canonical = new HashMap<>();
+    private final Map<ParticleOptions, ParticleOptions> canonicalByIdentity = new IdentityHashMap<>();
+    private final FriendlyByteBuf keyScratch = new FriendlyByteBuf(Unpooled.buffer(64));
+
+    synchronized void add(ServerLevel level, ParticleOptions options, boolean force,
+                          double x, double y, double z,
+                          int count,
+                          double xDist, double yDist, double zDist,
+                          double speed) {
+        pending.computeIfAbsent(level, ignored -> new LevelSpawns())
+                .add(canonicalize(options), force, x, y, z, count, xDist, yDist, zDist, speed);
+        TickProfiler.SERVER.count("particles.spawned", Math.max(1, count));
+    }
+
+    synchronized int pendingCount() {
+        int total = 0;
+        for (LevelSpawns spawns : pending.values()) {
+            total += spawns.size;
+        }
+        return total;
+    }
+
+    synchronized void clear() {
+        pending.clear();
+        canonical.clear();
+        canonicalByIdentity.clear();
+    }
+
+    /** Sends everything collected since the last flush and resets the collector. */
+    void flush() {
+        Map<ServerLevel, LevelSpawns> snapshot;
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            snapshot = new IdentityHashMap<>(pending);
+            pending.clear();
+            canonical.clear();
+            canonicalByIdentity.clear();
+        }
+        for (Map.Entry<ServerLevel, LevelSpawns> entry : snapshot.entrySet()) {
+            flushLevel(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private void flushLevel(ServerLevel level, LevelSpawns spawns) {
+        List<PacketParticleBatchS2C> shared = null;
+        for (ServerPlayer player : level.players()) {
+            Vec3 viewer = player.position();
+            if (spawns.allInRange(viewer)) {
+                if (shared == null) {
+                    shared = spawns.build(null);
+                }
+                sendAll(player, shared);
+            } else {
+                sendAll(player, spawns.build(viewer));
+            }
+        }
+    }
+
+    private static void sendAll(ServerPlayer player, List<PacketParticleBatchS2C> packets) {
+        for (PacketParticleBatchS2C packet : packets) {
+            ReiParticlesNetwork.sendTo(player, packet);
+        }
+    }
+
+    private ParticleOptions canonicalize(ParticleOptions options) {
+        ParticleOptions known = canonicalByIdentity.get(options);
+        if (known != null) {
+            return known;
+        }
+        keyScratch.clear();
+        keyScratch.writeId(BuiltInRegistries.PARTICLE_TYPE, options.getType());
+        options.writeToNetwork(keyScratch);
+        byte[] key = new byte[keyScratch.readableBytes()];
+        keyScratch.getBytes(keyScratch.readerIndex(), key);
+        ParticleOptions shared = canonical.putIfAbsent(ByteBuffer.wrap(key), options);
+        ParticleOptions result = shared != null ? shared : options;
+        canonicalByIdentity.put(options, result);
+        return result;
+    }
+
+    private static final class LevelSpawns {
+        private ParticleOptions[] options = new ParticleOptions[64];
+        private boolean[] force = new boolean[64];
+        private int[] counts = new int[64];
+        private double[] positions = new double[64 * 3];
+        private double[] params = new double[64 * 4];
+        private int size;
+
+        private void add(ParticleOptions type, boolean forced,
+                         double x, double y, double z,
+                         int count,
+                         double xDist, double yDist, double zDist,
+                         double speed) {
+            if (size == options.length) {
+                int capacity = size * 2;
+                options = Arrays.copyOf(options, capacity);
+                force = Arrays.copyOf(force, capacity);
+                counts = Arrays.copyOf(counts, capacity);
+                positions = Arrays.copyOf(positions, capacity * 3);
+                params = Arrays.copyOf(params, capacity * 4);
+            }
+            options[size] = type;
+            force[size] = forced;
+            counts[size] = count;
+            positions[size * 3] = x;
+            positions[size * 3 + 1] = y;
+            positions[size * 3 + 2] = z;
+            params[size * 4] = xDist;
+            params[size * 4 + 1] = yDist;
+            params[size * 4 + 2] = zDist;
+            params[size * 4 + 3] = speed;
+            size++;
+        }
+
+        private boolean inRange(int i, Vec3 viewer) {
+            double dx = positions[i * 3] - viewer.x;
+            double dy = positions[i * 3 + 1] - viewer.y;
+            double dz = positions[i * 3 + 2] - viewer.z;
+            return dx * dx + dy * dy + dz * dz < (force[i] ? FORCE_RANGE_SQR : NORMAL_RANGE_SQR);
+        }
+
+        private boolean allInRange(Vec3 viewer) {
+            for (int i = 0; i < size; i++) {
+                if (!inRange(i, viewer)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /** Builds the packets for one viewer, or for every spawn when {@code viewer} is null. */
+        private List<PacketParticleBatchS2C> build(Vec3 viewer) {
+            List<PacketParticleBatchS2C> packets = new ArrayList<>(1);
+            PacketParticleBatchS2C.Builder builder = null;
+            for (int i = 0; i < size; i++) {
+                if (viewer != null && !inRange(i, viewer)) {
+                    continue;
+                }
+                double x = positions[i * 3];
+                double y = positions[i * 3 + 1];
+                double z = positions[i * 3 + 2];
+                if (builder == null || !builder.accepts(x, y, z)) {
+                    if (builder != null) {
+                        packets.add(builder.build());
+                    }
+                    builder = new PacketParticleBatchS2C.Builder(new Vec3(x, y, z));
+                }
+                builder.add(options[i], force[i], x, y, z, counts[i],
+                        params[i * 4], params[i * 4 + 1], params[i * 4 + 2], params[i * 4 + 3]);
+            }
+            if (builder != null && !builder.isEmpty()) {
+                packets.add(builder.build());
+            }
+            return packets;
+        }
+    }
+}
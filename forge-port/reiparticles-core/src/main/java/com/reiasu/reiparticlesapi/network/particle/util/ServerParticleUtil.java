@@ -13,9 +13,14 @@ import net.minecraft.world.phys.Vec3;
 /**
  * Utility for spawning vanilla and custom particles on the server side,
  * sending them to all players (optionally filtered by range).
+ * <p>
+ * The {@code collect} variants queue spawns for the current tick instead of sending
+ * a packet per call; the runtime flushes them once per player at the end of the
+ * server tick as {@link com.reiasu.reiparticlesapi.network.packet.PacketParticleBatchS2C}.
  */
 public final class ServerParticleUtil {
     private static final double FORCE_PARTICLE_RANGE = 512.0;
+    private static final ServerParticleBatchCollector COLLECTOR = new ServerParticleBatchCollector();
     public static final ServerParticleUtil INSTANCE = new ServerParticleUtil();
 
     private ServerParticleUtil() {}
@@ -30,6 +35,42 @@ public final class ServerParticleUtil {
                 FORCE_PARTICLE_RANGE);
     }
 
+    /** Batched counterpart of {@link #sendForce}: visible up to 512 blocks, sent on the next flush. */
+    public static void collectForce(
+            ServerLevel level, ParticleOptions type,
+            double x, double y, double z,
+            int count,
+            double xDist, double yDist, double zDist,
+            double speed) {
+        COLLECTOR.add(level, type, true, x, y, z, count, xDist, yDist, zDist, speed);
+    }
+
+    /**
+     * Batched counterpart of {@code ServerLevel#sendParticles(ParticleOptions, double, double, double,
+     * int, double, double, double, double)}: visible up to 32 blocks, sent on the next flush.
+     */
+    public static void collect(
+            ServerLevel level, ParticleOptions type,
+            double x, double y, double z,
+            int count,
+            double xDist, double yDist, double zDist,
+            double speed) {
+        COLLECTOR.add(level, type, false, x, y, z, count, xDist, yDist, zDist, speed);
+    }
+
+    /** Sends every collected spawn to the players in range. Called once per server tick. */
+    public static void flushCollected() {
+        COLLECTOR.flush();
+    }
+
+    public static int getCollectedCount() {
+        return COLLECTOR.pendingCount();
+    }
+
+    public static void clearCollected() {
+        COLLECTOR.clear();
+    }
+
     public void spawnSingle(ParticleOptions type, ServerLevel world, Vec3 pos,
                             Vec3 delta, boolean force, double speed, int count) {
         for (ServerPlayer player : world.players()) {
@@ -0,0 +1,123 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.network.trace;
+
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.FriendlyByteBuf;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A recorded stretch of ReiParticles server-to-client traffic, as written by
+ * {@link PacketTraceWriter}.
+ * <p>
+ * The file starts with {@link #MAGIC} and a var int {@link #VERSION}, followed by records
+ * that each open with a kind byte:
+ * <ul>
+ *   <li>{@link #TYPE}: var int id, packet class name</li>
+ *   <li>{@link #RECIPIENT}: var int id, player UUID</li>
+ *   <li>{@link #TICK}: var int ticks elapsed since the previous tick record</li>
+ *   <li>{@link #PACKET}: var int type id, var int recipient id, var int length, payload</li>
+ *   <li>{@link #REPEAT}: var int recipient id, var int index of an earlier record of the
+ *   same tick (counting both packet and repeat records)</li>
+ * </ul>
+ * Types and recipients are defined on first use, so a packet costs a few bytes over its
+ * payload, and a packet sent to several players in one tick is stored once.
+ *
+ * @param ticks   server ticks the recording spans
+ * @param packets every recorded packet, in send order
+ */
+public record PacketTrace(int ticks, List<Packet> packets) {
+    static final int MAGIC = 0x52505452;
+    static final int VERSION = 1;
+    static final byte TYPE = 0;
+    static final byte RECIPIENT = 1;
+    static final byte TICK = 2;
+    static final byte PACKET = 3;
+    static final byte REPEAT = 4;
+
+    /**
+     * One packet as it went out. A packet sent to several players shares its
+     * {@code payload} array between their entries.
+     *
+     * @param payload the message body as the channel encodes it, without the message id
+     */
+    public record Packet(int tick, UUID recipient, String type, byte[] payload) {
+    }
+
+    public static PacketTrace read(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return read(in);
+        }
+    }
+
+    /** Reads a whole trace; the stream is consumed to its end. */
+    public static PacketTrace read(InputStream in) throws IOException {
+        FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.wrappedBuffer(in.readAllBytes()));
+        try {
+            if (buf.readableBytes() < 4 || buf.readInt() != MAGIC) {
+                throw new IOException("Not a ReiParticles packet trace");
+            }
+            int version = buf.readVarInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported packet trace version " + version);
+            }
+            List<String> types = new ArrayList<>();
+            List<UUID> recipients = new ArrayList<>();
+            List<Packet> packets = new ArrayList<>();
+            int tickStart = 0;
+            int tick = 0;
+            while (buf.isReadable()) {
+                byte kind = buf.readByte();
+                switch (kind) {
+                    case TYPE -> {
+                        checkId(buf.readVarInt(), types.size(), "type");
+                        types.add(buf.readUtf());
+                    }
+                    case RECIPIENT -> {
+                        checkId(buf.readVarInt(), recipients.size(), "recipient");
+                        recipients.add(buf.readUUID());
+                    }
+                    case TICK -> {
+                        tick += buf.readVarInt();
+                        tickStart = packets.size();
+                    }
+                    case PACKET -> {
+                        String type = types.get(buf.readVarInt());
+                        UUID recipient = recipients.get(buf.readVarInt());
+                        int length = buf.readVarInt();
+                        if (length < 0 || length > buf.readableBytes()) {
+                            throw new IOException("Truncated or corrupt packet trace");
+                        }
+                        byte[] payload = new byte[length];
+                        buf.readBytes(payload);
+                        packets.add(new Packet(tick, recipient, type, payload));
+                    }
+                    case REPEAT -> {
+                        UUID recipient = recipients.get(buf.readVarInt());
+                        Packet original = packets.get(tickStart + buf.readVarInt());
+                        packets.add(new Packet(tick, recipient, original.type(), original.payload()));
+                    }
+                    default -> throw new IOException("Unknown packet trace record " + kind);
+                }
+            }
+            return new PacketTrace(tick, List.copyOf(packets));
+        } catch (IndexOutOfBoundsException e) {
+            throw new IOException("Truncated or corrupt packet trace", e);
+        } finally {
+            buf.release();
+        }
+    }
+
+    private static void checkId(int id, int expected, String what) throws IOException {
+        if (id != expected) {
+            throw new IOException("Packet trace defines " + what + " " + id + ", expected " + expected);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.network.trace;
+
+import com.reiasu.reiparticlesapi.ReiParticlesConstants;
+import com.reiasu.reiparticlesapi.network.ReiParticlesNetwork;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Records every packet {@link ReiParticlesNetwork#sendTo} is given into a {@link PacketTrace}
+ * file, with the server tick and recipient it was sent on.
+ * <p>
+ * Packets are recorded as sent, before bundling, encoded by the runtime's
+ * {@link ReiParticlesNetwork.BundleCodec}; a packet queued for several players is encoded
+ * once per tick. The tick count advances on every {@link ReiParticlesNetwork#flush()}.
+ * Recording costs nothing while it is off. Started with {@code /reiparticles trace start}.
+ */
+public final class PacketTraceRecorder {
+    public static final PacketTraceRecorder INSTANCE = new PacketTraceRecorder();
+
+    /** What a finished recording holds; {@code bytes} counts payloads as sent, repeats included. */
+    public record Summary(Path file, int ticks, long packets, long bytes) {
+    }
+
+    private volatile boolean recording;
+    private PacketTraceWriter writer;
+    private Path file;
+    private int tick;
+    private long packets;
+    private long bytes;
+    private final Map<Object, byte[]> tickPayloads = new IdentityHashMap<>();
+
+    private PacketTraceRecorder() {
+    }
+
+    public boolean isRecording() {
+        return recording;
+    }
+
+    /** Starts recording into {@code file}, replacing it if it exists. */
+    public synchronized void start(Path file) throws IOException {
+        if (recording) {
+            throw new IllegalStateException("Already recording to " + this.file);
+        }
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        writer = new PacketTraceWriter(new BufferedOutputStream(Files.newOutputStream(file)));
+        this.file = file;
+        tick = 0;
+        packets = 0L;
+        bytes = 0L;
+        tickPayloads.clear();
+        recording = true;
+    }
+
+    /** Stops recording and closes the file; {@code null} if nothing was being recorded. */
+    public synchronized Summary stop() throws IOException {
+        if (!recording) {
+            return null;
+        }
+        recording = false;
+        Summary summary = new Summary(file, tick, packets, bytes);
+        PacketTraceWriter finished = writer;
+        writer = null;
+        tickPayloads.clear();
+        finished.close(tick);
+        return summary;
+    }
+
+    /** Records one packet sent to {@code recipient}; ignored unless recording. */
+    public void record(UUID recipient, Object packet, ReiParticlesNetwork.BundleCodec codec) {
+        if (!recording || recipient == null || packet == null || codec == null) {
+            return;
+        }
+        synchronized (this) {
+            if (!recording) {
+                return;
+            }
+            try {
+                byte[] payload = tickPayloads.get(packet);
+                if (payload == null) {
+                    payload = codec.encode(packet);
+                    tickPayloads.put(packet, payload);
+                }
+                writer.packet(tick, recipient, packet, payload);
+                packets++;
+                bytes += payload.length;
+            } catch (IOException e) {
+                ReiParticlesConstants.logger.warn("Packet trace {} failed; recording stopped", file, e);
+                abort();
+            } catch (RuntimeException e) {
+                ReiParticlesConstants.logger.debug("Packet {} not recorded: {}",
+                        packet.getClass().getSimpleName(), e.getMessage());
+            }
+        }
+    }
+
+    /** Advances the recorded tick. Called by {@link ReiParticlesNetwork#flush()}. */
+    public void endTick() {
+        if (!recording) {
+            return;
+        }
+        synchronized (this) {
+            if (recording) {
+                tick++;
+                tickPayloads.clear();
+            }
+        }
+    }
+
+    private void abort() {
+        recording = false;
+        try {
+            writer.close(tick);
+        } catch (IOException ignored) {
+            // Already reported the failure that got us here.
+        }
+        writer = null;
+        tickPayloads.clear();
+    }
+}
@@ -0,0 +1,132 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.network.trace;
+
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.FriendlyByteBuf;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Writes a {@link PacketTrace} incrementally. Records are staged in memory and written
+ * to the stream once they pass {@link #FLUSH_BYTES} and on {@link #close(int)}.
+ * <p>
+ * Not thread-safe; {@link PacketTraceRecorder} serializes its calls.
+ */
+public final class PacketTraceWriter implements Closeable {
+    private static final int FLUSH_BYTES = 64 * 1024;
+
+    private final OutputStream out;
+    private final FriendlyByteBuf staged = new FriendlyByteBuf(Unpooled.buffer(FLUSH_BYTES));
+    private final Map<String, Integer> types = new HashMap<>();
+    private final Map<UUID, Integer> recipients = new HashMap<>();
+    private final Map<Object, Integer> tickPackets = new IdentityHashMap<>();
+    private int tick;
+    private int tickRecords;
+    private boolean closed;
+
+    public PacketTraceWriter(OutputStream out) {
+        this.out = out;
+        staged.writeInt(PacketTrace.MAGIC);
+        staged.writeVarInt(PacketTrace.VERSION);
+    }
+
+    /**
+     * Records {@code packet}, sent to {@code recipient} on {@code tick}. If the same packet
+     * object was already recorded this tick only a reference to it is written.
+     *
+     * @param tick    server tick, never lower than the previous call's
+     * @param payload the encoded packet; unused when the packet is a repeat
+     */
+    public void packet(int tick, UUID recipient, Object packet, byte[] payload) throws IOException {
+        advanceTo(tick);
+        int recipientId = recipientId(recipient);
+        Integer earlier = tickPackets.get(packet);
+        if (earlier != null) {
+            staged.writeByte(PacketTrace.REPEAT);
+            staged.writeVarInt(recipientId);
+            staged.writeVarInt(earlier);
+        } else {
+            int typeId = typeId(packet.getClass().getSimpleName());
+            staged.writeByte(PacketTrace.PACKET);
+            staged.writeVarInt(typeId);
+            staged.writeVarInt(recipientId);
+            staged.writeVarInt(payload.length);
+            staged.writeBytes(payload);
+            tickPackets.put(packet, tickRecords);
+        }
+        tickRecords++;
+        if (staged.readableBytes() >= FLUSH_BYTES) {
+            drain();
+        }
+    }
+
+    /** Marks the trace as ending at {@code endTick} and closes the stream. */
+    public void close(int endTick) throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            advanceTo(endTick);
+            drain();
+            out.flush();
+        } finally {
+            staged.release();
+            out.close();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        close(tick);
+    }
+
+    private void advanceTo(int tick) {
+        if (tick <= this.tick) {
+            return;
+        }
+        staged.writeByte(PacketTrace.TICK);
+        staged.writeVarInt(tick - this.tick);
+        this.tick = tick;
+        tickPackets.clear();
+        tickRecords = 0;
+    }
+
+    private int typeId(String type) {
+        Integer id = types.get(type);
+        if (id != null) {
+            return id;
+        }
+        int next = types.size();
+        types.put(type, next);
+        staged.writeByte(PacketTrace.TYPE);
+        staged.writeVarInt(next);
+        staged.writeUtf(type);
+        return next;
+    }
+
+    private int recipientId(UUID recipient) {
+        Integer id = recipients.get(recipient);
+        if (id != null) {
+            return id;
+        }
+        int next = recipients.size();
+        recipients.put(recipient, next);
+        staged.writeByte(PacketTrace.RECIPIENT);
+        staged.writeVarInt(next);
+        staged.writeUUID(recipient);
+        return next;
+    }
+
+    private void drain() throws IOException {
+        staged.readBytes(out, staged.readableBytes());
+        staged.clear();
+    }
+}
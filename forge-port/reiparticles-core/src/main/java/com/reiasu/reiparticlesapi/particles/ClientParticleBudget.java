@@ -0,0 +1,184 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.particles;
+
+import com.reiasu.reiparticlesapi.config.APIConfig;
+import com.reiasu.reiparticlesapi.profiler.TickProfiler;
+import com.reiasu.reiparticlesapi.scheduler.TickPriority;
+
+import java.util.SplittableRandom;
+
+/**
+ * Client-wide governor that every budgeted spawn path asks before adding a particle.
+ * <p>
+ * The runtime feeds it the frame time of every rendered frame ({@link #recordFrame}) and
+ * the live particle count once per tick ({@link #beginTick}). From those it keeps a
+ * density in {@code [min, 1]}: {@code 1} while frames meet
+ * {@link APIConfig#getClientTargetFps()} and the count stays under
+ * {@link APIConfig#getClientParticleSoftCap()} (with ten percent headroom), lower in
+ * proportion to how far either is over. The density falls quickly and recovers slowly,
+ * so effects thin out gradually instead of the frame rate collapsing, and do not flicker
+ * back the moment it recovers.
+ * <p>
+ * {@link #tryAcquire} keeps a spawn with the density as its probability ({@link Tier#LOW}
+ * with the density squared; {@link Tier#ESSENTIAL} always), and never beyond
+ * {@link APIConfig#getClientSpawnsPerTick()} per tick. Client emitter ticks run inside
+ * {@link #enterEmitter}/{@link #exitEmitter}, which splits what is left of that cap evenly
+ * over the emitters still to tick, so one dense emitter cannot starve the others.
+ * <p>
+ * Persistent shapes (styles and compositions) keep the points it turns down and spawn them
+ * again once the budget {@link #isRecovered() has recovered}, so thinning them leaves no
+ * permanent holes; emitter spawns are transient and are simply dropped.
+ * <p>
+ * Like {@link ClientParticlePool}, the budget is only touched from the client thread.
+ */
+public final class ClientParticleBudget {
+    public static final ClientParticleBudget INSTANCE = new ClientParticleBudget(System.nanoTime());
+
+    /** Frames longer than this (loading screens, a debugger pause) are counted as this long. */
+    private static final long MAX_FRAME_NANOS = 250_000_000L;
+    private static final double FRAME_SMOOTHING = 0.1;
+    private static final double DENSITY_DROP_RATE = 0.35;
+    private static final double DENSITY_RECOVER_RATE = 0.05;
+    /** Pressure tolerated before thinning starts, so frame-time jitter around the target is ignored. */
+    private static final double HEADROOM = 1.1;
+    /** Densities this close to full are treated as full, sparing every spawn a random draw. */
+    private static final double FULL_DENSITY = 0.995;
+
+    /** How readily a spawn is thinned when the client is over budget. */
+    public enum Tier {
+        /** Never thinned or capped; still counts against the tick's cap. */
+        ESSENTIAL,
+        /** Kept with the current density as probability. */
+        NORMAL,
+        /** Kept with the density squared as probability, so it thins first. */
+        LOW;
+
+        public static Tier of(TickPriority priority) {
+            return priority != null && priority.isDeferrable() ? LOW : NORMAL;
+        }
+    }
+
+    private final SplittableRandom random;
+    private double frameNanos;
+    private int liveParticles;
+    private double density = 1.0;
+    private long remaining = Long.MAX_VALUE;
+    private int spawnedThisTick;
+    private Tier scopeTier;
+    private long scopeQuota;
+
+    ClientParticleBudget(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    /** Folds the wall time of one rendered frame into the running frame time. */
+    public void recordFrame(long nanos) {
+        if (nanos <= 0L) {
+            return;
+        }
+        long clamped = Math.min(nanos, MAX_FRAME_NANOS);
+        frameNanos = frameNanos == 0.0 ? clamped : frameNanos + (clamped - frameNanos) * FRAME_SMOOTHING;
+    }
+
+    /**
+     * Starts a client tick: moves the density toward what the frame time and
+     * {@code liveParticles} allow, and refills the per-tick cap.
+     */
+    public void beginTick(int liveParticles) {
+        this.liveParticles = Math.max(0, liveParticles);
+        APIConfig config = APIConfig.INSTANCE;
+        double pressure = 1.0;
+        int targetFps = config.getClientTargetFps();
+        if (targetFps > 0 && frameNanos > 0.0) {
+            pressure = Math.max(pressure, frameNanos * targetFps / 1.0E9);
+        }
+        int softCap = config.getClientParticleSoftCap();
+        if (softCap > 0) {
+            pressure = Math.max(pressure, this.liveParticles / (double) softCap);
+        }
+        double target = Math.max(config.getClientMinDensityPercent() / 100.0, Math.min(1.0, HEADROOM / pressure));
+        double rate = target < density ? DENSITY_DROP_RATE : DENSITY_RECOVER_RATE;
+        density += (target - density) * rate;
+        if (density >= FULL_DENSITY) {
+            density = 1.0;
+        }
+
+        int cap = config.getClientSpawnsPerTick();
+        remaining = cap > 0 ? cap : Long.MAX_VALUE;
+        spawnedThisTick = 0;
+        scopeTier = null;
+    }
+
+    /**
+     * Opens the quota of one emitter tick: spawns until {@link #exitEmitter()} use
+     * {@code priority}'s tier by default and share at most an even part of what is left
+     * of this tick's cap.
+     *
+     * @param emittersLeft emitters still to tick this tick, this one included
+     */
+    public void enterEmitter(TickPriority priority, int emittersLeft) {
+        scopeTier = Tier.of(priority);
+        scopeQuota = remaining == Long.MAX_VALUE ? Long.MAX_VALUE
+                : (remaining + Math.max(1, emittersLeft) - 1) / Math.max(1, emittersLeft);
+    }
+
+    public void exitEmitter() {
+        scopeTier = null;
+    }
+
+    /** {@link #tryAcquire(Tier)} with the tier of the running emitter, or {@link Tier#NORMAL}. */
+    public boolean tryAcquire() {
+        return tryAcquire(scopeTier != null ? scopeTier : Tier.NORMAL);
+    }
+
+    /** Whether one particle of {@code tier} may be spawned now; a {@code true} is charged to the budget. */
+    public boolean tryAcquire(Tier tier) {
+        boolean scoped = scopeTier != null;
+        if (tier != Tier.ESSENTIAL) {
+            if (remaining <= 0L || (scoped && scopeQuota <= 0L)) {
+                TickProfiler.CLIENT.count("particles.capped", 1L);
+                return false;
+            }
+            double keep = tier == Tier.LOW ? density * density : density;
+            if (keep < 1.0 && random.nextDouble() >= keep) {
+                TickProfiler.CLIENT.count("particles.thinned", 1L);
+                return false;
+            }
+        }
+        if (remaining != Long.MAX_VALUE && remaining > 0L) {
+            remaining--;
+        }
+        if (scoped && scopeQuota != Long.MAX_VALUE && scopeQuota > 0L) {
+            scopeQuota--;
+        }
+        spawnedThisTick++;
+        return true;
+    }
+
+    /**
+     * Whether spawns turned down earlier should be retried: the density is back to full, so
+     * only the per-tick cap can still turn a spawn down.
+     */
+    public boolean isRecovered() {
+        return density >= 1.0;
+    }
+
+    /** Current density in {@code [0, 1]}; {@code 1} means nothing is thinned. */
+    public double getDensity() {
+        return density;
+    }
+
+    /** Smoothed frame time in nanoseconds, {@code 0} before the first frame. */
+    public long getFrameNanos() {
+        return (long) frameNanos;
+    }
+
+    public int getLiveParticles() {
+        return liveParticles;
+    }
+
+    public int getSpawnedThisTick() {
+        return spawnedThisTick;
+    }
+}
@@ -0,0 +1,326 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.particles;
+
+import com.mojang.blaze3d.vertex.VertexConsumer;
+import com.reiasu.reiparticlesapi.profiler.TickProfiler;
+import net.minecraft.client.Camera;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.client.renderer.texture.TextureAtlas;
+import net.minecraft.client.renderer.texture.TextureAtlasSprite;
+import net.minecraft.util.Mth;
+import net.minecraft.world.phys.Vec3;
+import org.joml.Quaternionf;
+import org.joml.Vector3f;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Structure-of-arrays store for lightweight client particles.
+ * <p>
+ * Each particle is one slot across a set of primitive arrays instead of a
+ * {@link ControllableParticle} with its own state, controller and manager entry.
+ * The whole pool is ticked in one loop and rendered by a single carrier particle
+ * under {@link ReiParticleTextureSheet#POOLED_TRANSLUCENT}.
+ * <p>
+ * Like the vanilla particle engine, the pool is only touched from the client thread.
+ * Released slots are reused; a generation counter per slot makes stale
+ * {@link PooledParticle} handles harmless.
+ */
+public final class ClientParticlePool {
+    public static final ClientParticlePool INSTANCE = new ClientParticlePool();
+
+    private static final int INITIAL_CAPACITY = 256;
+    private static final byte FLAG_ALIVE = 1;
+    private static final byte FLAG_FACE_TO_CAMERA = 2;
+
+    private double[] positions;
+    private double[] previousPositions;
+    private double[] targetPositions;
+    private float[] rotations;
+    private float[] previousRotations;
+    private float[] colors;
+    private float[] uvs;
+    private float[] sizes;
+    private int[] ages;
+    private int[] lifetimes;
+    private int[] lights;
+    private int[] generations;
+    private byte[] flags;
+    private int[] freeSlots;
+    private int freeCount;
+    private int used;
+    private int size;
+
+    private final Quaternionf rotationScratch = new Quaternionf();
+    private final Vector3f renderPosScratch = new Vector3f();
+    private final Vector3f vertexScratch = new Vector3f();
+    private PooledParticleCarrier carrier;
+
+    ClientParticlePool() {
+        allocateArrays(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Spawns a particle at {@code pos}, adding the carrier to the particle engine if
+     * it is not there yet.
+     *
+     * @param uuid id reported by {@link PooledParticle#controlUUID()}, usually the owning style data's id
+     */
+    public PooledParticle spawn(UUID uuid, PooledParticleTemplate template, ClientLevel world, Vec3 pos) {
+        ensureCarrier(world);
+        TickProfiler.CLIENT.count("particles.spawned", 1L);
+        TextureAtlasSprite sprite = Minecraft.getInstance()
+                .getTextureAtlas(TextureAtlas.LOCATION_PARTICLES)
+                .apply(template.getSprite());
+        return allocate(uuid, template, pos.x, pos.y, pos.z,
+                sprite.getU0(), sprite.getU1(), sprite.getV0(), sprite.getV1());
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return sizes.length;
+    }
+
+    /** Releases every slot. Outstanding handles become stale. */
+    public void clear() {
+        for (int i = 0; i < used; i++) {
+            if ((flags[i] & FLAG_ALIVE) != 0) {
+                flags[i] = 0;
+                generations[i]++;
+            }
+        }
+        freeCount = 0;
+        used = 0;
+        size = 0;
+    }
+
+    PooledParticle allocate(UUID uuid, PooledParticleTemplate template,
+                            double x, double y, double z,
+                            float u0, float u1, float v0, float v1) {
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            if (used == sizes.length) {
+                grow(used * 2);
+            }
+            slot = used++;
+        }
+        int p = slot * 3;
+        positions[p] = previousPositions[p] = targetPositions[p] = x;
+        positions[p + 1] = previousPositions[p + 1] = targetPositions[p + 1] = y;
+        positions[p + 2] = previousPositions[p + 2] = targetPositions[p + 2] = z;
+        Arrays.fill(rotations, p, p + 3, 0.0f);
+        Arrays.fill(previousRotations, p, p + 3, 0.0f);
+        int c = slot * 4;
+        colors[c] = template.getRed();
+        colors[c + 1] = template.getGreen();
+        colors[c + 2] = template.getBlue();
+        colors[c + 3] = template.getAlpha();
+        uvs[c] = u0;
+        uvs[c + 1] = u1;
+        uvs[c + 2] = v0;
+        uvs[c + 3] = v1;
+        sizes[slot] = template.getSize();
+        ages[slot] = 0;
+        lifetimes[slot] = template.getLifetime();
+        lights[slot] = template.packedLight();
+        flags[slot] = (byte) (FLAG_ALIVE | (template.getFaceToCamera() ? FLAG_FACE_TO_CAMERA : 0));
+        size++;
+        return new PooledParticle(this, uuid, slot, generations[slot]);
+    }
+
+    /** Applies pending teleports, ages every particle and releases expired ones. */
+    void tick() {
+        for (int i = 0; i < used; i++) {
+            if ((flags[i] & FLAG_ALIVE) == 0) {
+                continue;
+            }
+            int p = i * 3;
+            previousPositions[p] = positions[p];
+            previousPositions[p + 1] = positions[p + 1];
+            previousPositions[p + 2] = positions[p + 2];
+            positions[p] = targetPositions[p];
+            positions[p + 1] = targetPositions[p + 1];
+            positions[p + 2] = targetPositions[p + 2];
+            previousRotations[p] = rotations[p];
+            previousRotations[p + 1] = rotations[p + 1];
+            previousRotations[p + 2] = rotations[p + 2];
+            int lifetime = lifetimes[i];
+            if (++ages[i] >= lifetime && lifetime >= 0) {
+                free(i);
+            }
+        }
+    }
+
+    void render(VertexConsumer consumer, Camera camera, float tickDelta) {
+        render(consumer, camera.rotation(), camera.getPosition(), tickDelta);
+    }
+
+    void render(VertexConsumer consumer, Quaternionf cameraRotation, Vec3 cameraPos, float tickDelta) {
+        for (int i = 0; i < used; i++) {
+            byte flag = flags[i];
+            if ((flag & FLAG_ALIVE) == 0) {
+                continue;
+            }
+            boolean faceToCamera = (flag & FLAG_FACE_TO_CAMERA) != 0;
+            int p = i * 3;
+            int c = i * 4;
+            ControllableParticleRenderHelper.resolveQuaternion(
+                    rotationScratch,
+                    faceToCamera,
+                    cameraRotation,
+                    tickDelta,
+                    previousRotations[p],
+                    rotations[p],
+                    previousRotations[p + 1],
+                    rotations[p + 1],
+                    previousRotations[p + 2],
+                    rotations[p + 2]);
+            ControllableParticleRenderHelper.resolveRenderPos(
+                    renderPosScratch,
+                    previousPositions[p],
+                    previousPositions[p + 1],
+                    previousPositions[p + 2],
+                    positions[p],
+                    positions[p + 1],
+                    positions[p + 2],
+                    cameraPos,
+                    tickDelta);
+            ControllableParticleRenderHelper.emitQuad(
+                    consumer,
+                    rotationScratch,
+                    vertexScratch,
+                    renderPosScratch,
+                    sizes[i],
+                    uvs[c],
+                    uvs[c + 1],
+                    uvs[c + 2],
+                    uvs[c + 3],
+                    colors[c],
+                    colors[c + 1],
+                    colors[c + 2],
+                    colors[c + 3],
+                    lights[i],
+                    !faceToCamera);
+        }
+    }
+
+    // ---- Handle operations; a stale generation turns them into no-ops ----
+
+    boolean isAlive(int slot, int generation) {
+        return generations[slot] == generation && (flags[slot] & FLAG_ALIVE) != 0;
+    }
+
+    void release(int slot, int generation) {
+        if (isAlive(slot, generation)) {
+            free(slot);
+        }
+    }
+
+    void teleport(int slot, int generation, double x, double y, double z) {
+        if (!isAlive(slot, generation)) {
+            return;
+        }
+        int p = slot * 3;
+        targetPositions[p] = x;
+        targetPositions[p + 1] = y;
+        targetPositions[p + 2] = z;
+    }
+
+    void setRotation(int slot, int generation, float pitch, float yaw, float roll) {
+        if (!isAlive(slot, generation)) {
+            return;
+        }
+        int p = slot * 3;
+        rotations[p] = pitch;
+        rotations[p + 1] = yaw;
+        rotations[p + 2] = roll;
+    }
+
+    void setColor(int slot, int generation, float red, float green, float blue) {
+        if (!isAlive(slot, generation)) {
+            return;
+        }
+        int c = slot * 4;
+        colors[c] = red;
+        colors[c + 1] = green;
+        colors[c + 2] = blue;
+    }
+
+    void setAlpha(int slot, int generation, float alpha) {
+        if (isAlive(slot, generation)) {
+            colors[slot * 4 + 3] = Mth.clamp(alpha, 0.0f, 1.0f);
+        }
+    }
+
+    void setSize(int slot, int generation, float value) {
+        if (isAlive(slot, generation)) {
+            sizes[slot] = value;
+        }
+    }
+
+    Vec3 positionOf(int slot) {
+        int p = slot * 3;
+        return new Vec3(positions[p], positions[p + 1], positions[p + 2]);
+    }
+
+    private void free(int slot) {
+        flags[slot] = 0;
+        generations[slot]++;
+        freeSlots[freeCount++] = slot;
+        size--;
+    }
+
+    private void ensureCarrier(ClientLevel world) {
+        if (carrier != null && carrier.isAlive() && carrier.belongsTo(world)) {
+            return;
+        }
+        if (carrier != null && !carrier.belongsTo(world)) {
+            // The old level's particle engine state is gone; so are its particles.
+            clear();
+        }
+        carrier = new PooledParticleCarrier(world, this);
+        Minecraft.getInstance().particleEngine.add(carrier);
+    }
+
+    private void allocateArrays(int capacity) {
+        positions = new double[capacity * 3];
+        previousPositions = new double[capacity * 3];
+        targetPositions = new double[capacity * 3];
+        rotations = new float[capacity * 3];
+        previousRotations = new float[capacity * 3];
+        colors = new float[capacity * 4];
+        uvs = new float[capacity * 4];
+        sizes = new float[capacity];
+        ages = new int[capacity];
+        lifetimes = new int[capacity];
+        lights = new int[capacity];
+        generations = new int[capacity];
+        flags = new byte[capacity];
+        freeSlots = new int[capacity];
+    }
+
+    private void grow(int capacity) {
+        positions = Arrays.copyOf(positions, capacity * 3);
+        previousPositions = Arrays.copyOf(previousPositions, capacity * 3);
+        targetPositions = Arrays.copyOf(targetPositions, capacity * 3);
+        rotations = Arrays.copyOf(rotations, capacity * 3);
+        previousRotations = Arrays.copyOf(previousRotations, capacity * 3);
+        colors = Arrays.copyOf(colors, capacity * 4);
+        uvs = Arrays.copyOf(uvs, capacity * 4);
+        sizes = Arrays.copyOf(sizes, capacity);
+        ages = Arrays.copyOf(ages, capacity);
+        lifetimes = Arrays.copyOf(lifetimes, capacity);
+        lights = Arrays.copyOf(lights, capacity);
+        generations = Arrays.copyOf(generations, capacity);
+        flags = Arrays.copyOf(flags, capacity);
+        freeSlots = Arrays.copyOf(freeSlots, capacity);
+    }
+}
@@ -22,6 +22,7 @@ import net.minecraft.world.phys.BlockHitResult;
 import net.minecraft.world.phys.HitResult;
 import net.minecraft.world.phys.Vec3;
 import org.joml.Vector2f;
+import org.joml.Vector3d;
 import org.joml.Vector3f;
 
 import java.util.UUID;
@@ -37,6 +38,7 @@ import java.util.UUID;
  *   <li>Color, alpha, light, size control</li>
  *   <li>Camera-facing or fixed-orientation rendering</li>
  *   <li>Double-sided quad rendering (front and back faces)</li>
+ *   <li>Render-time placement through a shared {@link GroupTransform}</li>
  * </ul>
  */
 public abstract class ControllableParticle extends TextureSheetParticle {
@@ -56,6 +58,8 @@ public abstract class ControllableParticle extends TextureSheetParticle {
     private ParticleRenderType textureSheet;
     private boolean minecraftTick;
     private final ControllableParticleState runtimeState;
+    private final BlockPos.MutableBlockPos lightPos = new BlockPos.MutableBlockPos();
+    private GroupTransform groupTransform;
 
     public ControllableParticle(ClientLevel world, Vec3 pos, Vec3 velocity, UUID controlUUID, boolean faceToCamera) {
         super(world, pos.x, pos.y, pos.z, velocity.x, velocity.y, velocity.z);
@@ -380,7 +384,12 @@ public abstract class ControllableParticle extends TextureSheetParticle {
         this.alpha = Mth.clamp(alpha, 0.0f, 1.0f);
     }
 
+    /** Teleports to {@code pos}, stopping short of the first block in the way unless attached to a group. */
     public void moveToWithPhysics(Vec3 pos) {
+        if (groupTransform != null) {
+            teleportTo(pos);
+            return;
+        }
         Vec3 rel = pos.subtract(getLoc());
         BlockHitResult res = PhysicsUtil.collide(getLoc(), rel, (Level) getClientWorld());
         Vec3 actualPos = res.getType() != HitResult.Type.MISS
@@ -389,7 +398,7 @@ public abstract class ControllableParticle extends TextureSheetParticle {
     }
 
     public void moveToWithPhysics(Vec3 pos, BlockHitResult collideResult) {
-        Vec3 actualPos = collideResult.getType() != HitResult.Type.MISS
+        Vec3 actualPos = groupTransform == null && collideResult.getType() != HitResult.Type.MISS
                 ? PhysicsUtil.fixBeforeCollidePosition(collideResult) : pos;
         teleportTo(actualPos);
     }
@@ -402,6 +411,40 @@ public abstract class ControllableParticle extends TextureSheetParticle {
         moveToWithPhysics(new Vec3(x, y, z));
     }
 
+    public GroupTransform getGroupTransform() {
+        return groupTransform;
+    }
+
+    /**
+     * Moves this particle into the local frame of {@code transform}, at the given offset.
+     * From now on its position, teleports and velocity are local to the group, and the
+     * group's origin, rotation, scale and alpha are applied when it is rendered.
+     * World physics do not apply to attached particles: the vanilla tick is skipped even
+     * with {@link #setMinecraftTick minecraftTick} on, and {@link #moveToWithPhysics} moves
+     * without colliding. The group owns their lifetime.
+     */
+    public void attachToGroup(GroupTransform transform, double localX, double localY, double localZ) {
+        this.groupTransform = transform;
+        this.runtimeState.consumePendingTeleport();
+        setPos(localX, localY, localZ);
+        this.xo = localX;
+        this.yo = localY;
+        this.zo = localZ;
+    }
+
+    /** Leaves the group, keeping the particle at its current world position. */
+    public void detachFromGroup() {
+        if (groupTransform == null) {
+            return;
+        }
+        Vec3 world = groupTransform.toWorld(this.x, this.y, this.z);
+        this.groupTransform = null;
+        setPos(world.x, world.y, world.z);
+        this.xo = world.x;
+        this.yo = world.y;
+        this.zo = world.z;
+    }
+
     public ControllableParticle setInterpolator(ParticleLerpInterpolator newInterpolator) {
         this.interpolator = newInterpolator;
         return this;
@@ -412,7 +455,8 @@ public abstract class ControllableParticle extends TextureSheetParticle {
         if (this.age > this.lifetime) {
             this.age = this.lifetime;
         }
-        if (this.minecraftTick) {
+        boolean worldTick = this.minecraftTick && groupTransform == null;
+        if (worldTick) {
             super.tick();
         }
         this.controllerBridge.tick();
@@ -423,7 +467,7 @@ public abstract class ControllableParticle extends TextureSheetParticle {
 
         Vec3 pendingTeleport = this.runtimeState.consumePendingTeleport();
         if (pendingTeleport != null) {
-            if (!this.minecraftTick) {
+            if (!worldTick) {
                 AABB bb = getBoundingBox();
                 setBoundingBox(AABB.ofSize(getLoc(),
                         bb.maxX - bb.minX,
@@ -460,11 +504,21 @@ public abstract class ControllableParticle extends TextureSheetParticle {
     @Override
     protected int getLightColor(float partialTick) {
         if (this.light == -1) {
-            return LevelRenderer.getLightColor(this.level, BlockPos.containing(getLoc()));
+            if (groupTransform != null) {
+                Vector3d world = groupTransform.toWorldScratch(this.x, this.y, this.z);
+                return LevelRenderer.getLightColor(this.level, lightPos.set(world.x, world.y, world.z));
+            }
+            return LevelRenderer.getLightColor(this.level, lightPos.set(this.x, this.y, this.z));
         }
         return LightTexture.pack(this.light, this.light);
     }
 
+    /** The bounding box of an attached particle is in group space, so frustum culling cannot use it. */
+    @Override
+    public boolean shouldCull() {
+        return groupTransform == null && super.shouldCull();
+    }
+
     Vec3 previousPos() {
         return new Vec3(this.xo, this.yo, this.zo);
     }
@@ -473,6 +527,30 @@ public abstract class ControllableParticle extends TextureSheetParticle {
         return getLoc();
     }
 
+    double previousX() {
+        return this.xo;
+    }
+
+    double previousY() {
+        return this.yo;
+    }
+
+    double previousZ() {
+        return this.zo;
+    }
+
+    double currentX() {
+        return this.x;
+    }
+
+    double currentY() {
+        return this.y;
+    }
+
+    double currentZ() {
+        return this.z;
+    }
+
     float previewPitchValue() {
         return runtimeState.getPreviewPitch();
     }
@@ -530,7 +608,7 @@ public abstract class ControllableParticle extends TextureSheetParticle {
     }
 
     float alphaChannel() {
-        return this.alpha;
+        return groupTransform == null ? this.alpha : this.alpha * groupTransform.getAlpha();
     }
 
     int lightColorAt(float tickDelta) {
@@ -9,13 +9,27 @@ import net.minecraft.world.phys.Vec3;
 import org.joml.Quaternionf;
 import org.joml.Vector3f;
 
+/**
+ * Emits the quad of a {@link ControllableParticle}.
+ * <p>
+ * Rendering runs once per particle per frame, so the hot path works on per-thread
+ * scratch objects and on the particle's primitive position fields. Only particles
+ * with a custom {@link ParticleLerpInterpolator} go through the {@link Vec3} based
+ * interpolation. Particles attached to a {@link GroupTransform} get the group's
+ * placement applied here as well, so moving the group never touches the particles.
+ */
 final class ControllableParticleRenderHelper {
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
     private ControllableParticleRenderHelper() {
     }
 
     static void render(ControllableParticle particle, VertexConsumer vertexConsumer, Camera camera, float tickDelta) {
+        Scratch scratch = SCRATCH.get();
+        boolean faceToCamera = particle.getFaceToCamera();
         Quaternionf rotation = resolveQuaternion(
-                particle.getFaceToCamera(),
+                scratch.rotation,
+                faceToCamera,
                 camera.rotation(),
                 tickDelta,
                 particle.previewPitchValue(),
@@ -24,19 +38,96 @@ final class ControllableParticleRenderHelper {
                 particle.currentYawValue(),
                 particle.previewRollValue(),
                 particle.currentRollValue());
-        Vector3f renderPos = resolveRenderPos(
-                particle.getInterpolator(),
-                particle.previousPos(),
-                particle.currentPos(),
-                camera.getPosition(),
-                tickDelta);
-        int light = particle.lightColorAt(tickDelta);
-
-        if (particle.getFaceToCamera()) {
-            renderQuad(particle, vertexConsumer, rotation, renderPos.x, renderPos.y, renderPos.z, tickDelta, light);
-            return;
+        GroupTransform group = particle.getGroupTransform();
+        Vector3f renderPos;
+        if (group == null) {
+            renderPos = resolveRenderPos(scratch.renderPos, particle, camera.getPosition(), tickDelta);
+        } else {
+            renderPos = resolveGroupRenderPos(scratch.renderPos, group, particle, camera.getPosition(), tickDelta);
+            if (!faceToCamera) {
+                rotation.premul(group.rotationAt(tickDelta));
+            }
+        }
+
+        emitQuad(
+                vertexConsumer,
+                rotation,
+                scratch.vertex,
+                renderPos,
+                particle.quadSizeAt(tickDelta),
+                particle.minU(),
+                particle.maxU(),
+                particle.minV(),
+                particle.maxV(),
+                particle.redChannel(),
+                particle.greenChannel(),
+                particle.blueChannel(),
+                particle.alphaChannel(),
+                particle.lightColorAt(tickDelta),
+                !faceToCamera);
+    }
+
+    static Vector3f resolveRenderPos(Vector3f dest, ControllableParticle particle, Vec3 cameraPos, float tickDelta) {
+        ParticleLerpInterpolator interpolator = particle.getInterpolator();
+        if (interpolator == ControllableParticle.LINEAR_INTERPOLATOR) {
+            return resolveRenderPos(
+                    dest,
+                    particle.previousX(),
+                    particle.previousY(),
+                    particle.previousZ(),
+                    particle.currentX(),
+                    particle.currentY(),
+                    particle.currentZ(),
+                    cameraPos,
+                    tickDelta);
         }
-        renderDoubleSidedQuad(particle, vertexConsumer, rotation, renderPos.x, renderPos.y, renderPos.z, tickDelta, light);
+        Vec3 lerpedPos = interpolator.consume(particle.previousPos(), particle.currentPos(), tickDelta);
+        return dest.set(
+                (float) (lerpedPos.x - cameraPos.x),
+                (float) (lerpedPos.y - cameraPos.y),
+                (float) (lerpedPos.z - cameraPos.z));
+    }
+
+    /**
+     * Render position of a particle attached to {@code group}: its interpolated local offset
+     * placed by the group's interpolated origin, rotation and scale.
+     */
+    static Vector3f resolveGroupRenderPos(Vector3f dest,
+                                          GroupTransform group,
+                                          ControllableParticle particle,
+                                          Vec3 cameraPos,
+                                          float tickDelta) {
+        ParticleLerpInterpolator interpolator = particle.getInterpolator();
+        if (interpolator == ControllableParticle.LINEAR_INTERPOLATOR) {
+            return group.toRenderPos(
+                    dest,
+                    Mth.lerp(tickDelta, particle.previousX(), particle.currentX()),
+                    Mth.lerp(tickDelta, particle.previousY(), particle.currentY()),
+                    Mth.lerp(tickDelta, particle.previousZ(), particle.currentZ()),
+                    cameraPos,
+                    tickDelta);
+        }
+        Vec3 local = interpolator.consume(particle.previousPos(), particle.currentPos(), tickDelta);
+        return group.toRenderPos(dest, local.x, local.y, local.z, cameraPos, tickDelta);
+    }
+
+    /**
+     * Same result as {@link ControllableParticle#LINEAR_INTERPOLATOR} followed by the
+     * camera offset, without the intermediate {@link Vec3}s.
+     */
+    static Vector3f resolveRenderPos(Vector3f dest,
+                                     double previousX,
+                                     double previousY,
+                                     double previousZ,
+                                     double currentX,
+                                     double currentY,
+                                     double currentZ,
+                                     Vec3 cameraPos,
+                                     float tickDelta) {
+        return dest.set(
+                (float) (Mth.lerp(tickDelta, previousX, currentX) - cameraPos.x),
+                (float) (Mth.lerp(tickDelta, previousY, currentY) - cameraPos.y),
+                (float) (Mth.lerp(tickDelta, previousZ, currentZ) - cameraPos.z));
     }
 
     static Vector3f resolveRenderPos(ParticleLerpInterpolator interpolator,
@@ -57,68 +148,73 @@ final class ControllableParticleRenderHelper {
                                          float currentYaw,
                                          float previewRoll,
                                          float currentRoll) {
-        Quaternionf rotation = new Quaternionf();
+        return resolveQuaternion(new Quaternionf(), faceToCamera, cameraRotation, tickDelta,
+                previewPitch, currentPitch, previewYaw, currentYaw, previewRoll, currentRoll);
+    }
+
+    static Quaternionf resolveQuaternion(Quaternionf dest,
+                                         boolean faceToCamera,
+                                         Quaternionf cameraRotation,
+                                         float tickDelta,
+                                         float previewPitch,
+                                         float currentPitch,
+                                         float previewYaw,
+                                         float currentYaw,
+                                         float previewRoll,
+                                         float currentRoll) {
         if (faceToCamera) {
-            rotation.set(cameraRotation);
+            dest.set(cameraRotation);
             if (currentRoll != 0.0f) {
-                rotation.rotateZ(Mth.lerp(tickDelta, previewRoll, currentRoll));
+                dest.rotateZ(Mth.lerp(tickDelta, previewRoll, currentRoll));
             }
-            return rotation;
+            return dest;
         }
-        return rotation.rotateXYZ(
+        return dest.identity().rotateXYZ(
                 Mth.lerp(tickDelta, previewPitch, currentPitch),
                 Mth.lerp(tickDelta, previewYaw, currentYaw),
                 Mth.lerp(tickDelta, previewRoll, currentRoll));
     }
 
-    private static void renderQuad(ControllableParticle particle,
-                                   VertexConsumer consumer,
-                                   Quaternionf rotation,
-                                   float x,
-                                   float y,
-                                   float z,
-                                   float tickDelta,
-                                   int light) {
-        float size = particle.quadSizeAt(tickDelta);
-        float u0 = particle.minU();
-        float u1 = particle.maxU();
-        float v0 = particle.minV();
-        float v1 = particle.maxV();
-
-        addVertex(particle, consumer, rotation, x, y, z, 1.0f, -1.0f, u1, v1, size, light);
-        addVertex(particle, consumer, rotation, x, y, z, 1.0f, 1.0f, u1, v0, size, light);
-        addVertex(particle, consumer, rotation, x, y, z, -1.0f, 1.0f, u0, v0, size, light);
-        addVertex(particle, consumer, rotation, x, y, z, -1.0f, -1.0f, u0, v1, size, light);
-    }
+    /**
+     * Writes the four corners of the quad, plus the reversed back face when
+     * {@code doubleSided}. {@code vertex} is overwritten for every corner.
+     */
+    static void emitQuad(VertexConsumer consumer,
+                         Quaternionf rotation,
+                         Vector3f vertex,
+                         Vector3f renderPos,
+                         float size,
+                         float u0,
+                         float u1,
+                         float v0,
+                         float v1,
+                         float red,
+                         float green,
+                         float blue,
+                         float alpha,
+                         int light,
+                         boolean doubleSided) {
+        float x = renderPos.x;
+        float y = renderPos.y;
+        float z = renderPos.z;
 
-    private static void renderDoubleSidedQuad(ControllableParticle particle,
-                                              VertexConsumer consumer,
-                                              Quaternionf rotation,
-                                              float x,
-                                              float y,
-                                              float z,
-                                              float tickDelta,
-                                              int light) {
-        float size = particle.quadSizeAt(tickDelta);
-        float u0 = particle.minU();
-        float u1 = particle.maxU();
-        float v0 = particle.minV();
-        float v1 = particle.maxV();
-
-        addVertex(particle, consumer, rotation, x, y, z, 1.0f, -1.0f, u1, v1, size, light);
-        addVertex(particle, consumer, rotation, x, y, z, 1.0f, 1.0f, u1, v0, size, light);
-        addVertex(particle, consumer, rotation, x, y, z, -1.0f, 1.0f, u0, v0, size, light);
-        addVertex(particle, consumer, rotation, x, y, z, -1.0f, -1.0f, u0, v1, size, light);
-
-        addVertex(particle, consumer, rotation, x, y, z, -1.0f, -1.0f, u0, v1, size, light);
-        addVertex(particle, consumer, rotation, x, y, z, -1.0f, 1.0f, u0, v0, size, light);
-        addVertex(particle, consumer, rotation, x, y, z, 1.0f, 1.0f, u1, v0, size, light);
-        addVertex(particle, consumer, rotation, x, y, z, 1.0f, -1.0f, u1, v1, size, light);
+        addVertex(consumer, rotation, vertex, x, y, z, 1.0f, -1.0f, u1, v1, size, red, green, blue, alpha, light);
+        addVertex(consumer, rotation, vertex, x, y, z, 1.0f, 1.0f, u1, v0, size, red, green, blue, alpha, light);
+        addVertex(consumer, rotation, vertex, x, y, z, -1.0f, 1.0f, u0, v0, size, red, green, blue, alpha, light);
+        addVertex(consumer, rotation, vertex, x, y, z, -1.0f, -1.0f, u0, v1, size, red, green, blue, alpha, light);
+        if (!doubleSided) {
+            return;
+        }
+
+        addVertex(consumer, rotation, vertex, x, y, z, -1.0f, -1.0f, u0, v1, size, red, green, blue, alpha, light);
+        addVertex(consumer, rotation, vertex, x, y, z, -1.0f, 1.0f, u0, v0, size, red, green, blue, alpha, light);
+        addVertex(consumer, rotation, vertex, x, y, z, 1.0f, 1.0f, u1, v0, size, red, green, blue, alpha, light);
+        addVertex(consumer, rotation, vertex, x, y, z, 1.0f, -1.0f, u1, v1, size, red, green, blue, alpha, light);
     }
 
-    private static void addVertex(ControllableParticle particle,
-                                  VertexConsumer consumer,
+    private static void addVertex(VertexConsumer consumer,
                                   Quaternionf rotation,
+                                  Vector3f vertex,
                                   float dx,
                                   float dy,
                                   float dz,
@@ -127,16 +223,22 @@ final class ControllableParticleRenderHelper {
                                   float tu,
                                   float tv,
                                   float size,
+                                  float red,
+                                  float green,
+                                  float blue,
+                                  float alpha,
                                   int light) {
-        Vector3f pos = new Vector3f(vx, vy, 0.0f).rotate(rotation).mul(size).add(dx, dy, dz);
-        consumer.vertex(pos.x, pos.y, pos.z)
+        vertex.set(vx, vy, 0.0f).rotate(rotation).mul(size).add(dx, dy, dz);
+        consumer.vertex(vertex.x, vertex.y, vertex.z)
                 .uv(tu, tv)
-                .color(
-                        particle.redChannel(),
-                        particle.greenChannel(),
-                        particle.blueChannel(),
-                        particle.alphaChannel())
+                .color(red, green, blue, alpha)
                 .uv2(light)
                 .endVertex();
     }
+
+    private static final class Scratch {
+        private final Quaternionf rotation = new Quaternionf();
+        private final Vector3f renderPos = new Vector3f();
+        private final Vector3f vertex = new Vector3f();
+    }
 }
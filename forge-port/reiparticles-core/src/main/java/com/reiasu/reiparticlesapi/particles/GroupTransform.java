@@ -0,0 +1,215 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.particles;
+
+import com.reiasu.reiparticlesapi.utils.RelativeLocation;
+import net.minecraft.util.Mth;
+import net.minecraft.world.phys.Vec3;
+import org.joml.Quaterniond;
+import org.joml.Quaternionf;
+import org.joml.Vector3d;
+import org.joml.Vector3f;
+
+/**
+ * Origin, rotation, scale and alpha multiplier shared by every particle of a group.
+ * <p>
+ * A {@link ControllableParticle} attached with
+ * {@link ControllableParticle#attachToGroup(GroupTransform, double, double, double)}
+ * keeps its position as a fixed offset in the group's local frame. The world position is
+ * {@code origin + rotation * (scale * offset)}, worked out when the particle is rendered.
+ * Rotating, scaling, moving or fading the whole group therefore only changes this object.
+ * <p>
+ * Origin, rotation and scale are interpolated between the previous and the current tick,
+ * so {@link #beginTick()} must be called once per client tick before the group changes.
+ * Client thread only.
+ */
+public final class GroupTransform {
+    private double originX;
+    private double originY;
+    private double originZ;
+    private double previousOriginX;
+    private double previousOriginY;
+    private double previousOriginZ;
+    private final Quaterniond rotation = new Quaterniond();
+    private final Quaterniond previousRotation = new Quaterniond();
+    private double scale = 1.0;
+    private double previousScale = 1.0;
+    private float alpha = 1.0f;
+
+    // Interpolated values for the frame being rendered, shared by all particles of the group.
+    private int version;
+    private int frameVersion = -1;
+    private float frameDelta = Float.NaN;
+    private double frameOriginX;
+    private double frameOriginY;
+    private double frameOriginZ;
+    private double frameScale;
+    private final Quaterniond frameRotation = new Quaterniond();
+    private final Quaternionf frameRotationF = new Quaternionf();
+
+    private final Quaterniond step = new Quaterniond();
+    private final Vector3d offset = new Vector3d();
+
+    public GroupTransform() {
+    }
+
+    /** Places the group at the given origin with no rotation and a scale of 1, without interpolation. */
+    public GroupTransform reset(double x, double y, double z) {
+        originX = previousOriginX = x;
+        originY = previousOriginY = y;
+        originZ = previousOriginZ = z;
+        rotation.identity();
+        previousRotation.identity();
+        scale = previousScale = 1.0;
+        version++;
+        return this;
+    }
+
+    /** Makes the current state the interpolation start of the next frames. */
+    public void beginTick() {
+        previousOriginX = originX;
+        previousOriginY = originY;
+        previousOriginZ = originZ;
+        previousRotation.set(rotation);
+        previousScale = scale;
+        version++;
+    }
+
+    public void setOrigin(double x, double y, double z) {
+        originX = x;
+        originY = y;
+        originZ = z;
+        version++;
+    }
+
+    public double getOriginX() {
+        return originX;
+    }
+
+    public double getOriginY() {
+        return originY;
+    }
+
+    public double getOriginZ() {
+        return originZ;
+    }
+
+    public double getScale() {
+        return scale;
+    }
+
+    public void setScale(double scale) {
+        this.scale = scale;
+        version++;
+    }
+
+    public float getAlpha() {
+        return alpha;
+    }
+
+    /** Multiplier applied on top of each particle's own alpha. */
+    public void setAlpha(float alpha) {
+        this.alpha = Mth.clamp(alpha, 0.0f, 1.0f);
+    }
+
+    public Quaterniond getRotation(Quaterniond dest) {
+        return dest.set(rotation);
+    }
+
+    /**
+     * Rotates the group around a world-space axis through its origin, with the same
+     * handedness as {@link com.reiasu.reiparticlesapi.utils.Math3DUtil#rotateAsAxis}.
+     */
+    public void rotateAsAxis(RelativeLocation axis, double radian) {
+        double length = axis.length();
+        if (length < 1.0E-10) {
+            return;
+        }
+        step.rotationAxis(radian, axis.getX() / length, axis.getY() / length, axis.getZ() / length);
+        rotation.premul(step).normalize();
+        version++;
+    }
+
+    /**
+     * Rotates the group so that {@code from} turns into {@code to}, the same rotation
+     * {@link com.reiasu.reiparticlesapi.utils.Math3DUtil#rotatePointsToPoint} applies to points.
+     */
+    public void rotateToPoint(RelativeLocation from, RelativeLocation to) {
+        double fromLength = from.length();
+        double toLength = to.length();
+        if (fromLength < 1.0E-10 || toLength < 1.0E-10) {
+            return;
+        }
+        double fx = from.getX() / fromLength;
+        double fy = from.getY() / fromLength;
+        double fz = from.getZ() / fromLength;
+        double tx = to.getX() / toLength;
+        double ty = to.getY() / toLength;
+        double tz = to.getZ() / toLength;
+        double cx = fy * tz - fz * ty;
+        double cy = fz * tx - fx * tz;
+        double cz = fx * ty - fy * tx;
+        double crossLength = Math.sqrt(cx * cx + cy * cy + cz * cz);
+        double dot = fx * tx + fy * ty + fz * tz;
+        if (crossLength < 1.0E-10) {
+            if (dot >= 0.0) {
+                return;
+            }
+            // Half turn around the same perpendicular Math3DUtil picks.
+            if (Math.abs(fx) < 0.9) {
+                double length = Math.sqrt(fz * fz + fy * fy);
+                step.rotationAxis(Math.PI, 0.0, fz / length, -fy / length);
+            } else {
+                double length = Math.sqrt(fz * fz + fx * fx);
+                step.rotationAxis(Math.PI, -fz / length, 0.0, fx / length);
+            }
+        } else {
+            step.rotationAxis(Math.acos(Mth.clamp(dot, -1.0, 1.0)),
+                    cx / crossLength, cy / crossLength, cz / crossLength);
+        }
+        rotation.premul(step).normalize();
+        version++;
+    }
+
+    /** World position of a local offset in the current tick. */
+    public Vec3 toWorld(double localX, double localY, double localZ) {
+        rotation.transform(offset.set(localX, localY, localZ).mul(scale));
+        return new Vec3(originX + offset.x, originY + offset.y, originZ + offset.z);
+    }
+
+    /** Like {@link #toWorld(double, double, double)}, into a vector owned by this transform. */
+    Vector3d toWorldScratch(double localX, double localY, double localZ) {
+        rotation.transform(offset.set(localX, localY, localZ).mul(scale));
+        return offset.add(originX, originY, originZ);
+    }
+
+    /** World position of a local offset at {@code tickDelta}, minus the camera position. */
+    Vector3f toRenderPos(Vector3f dest, double localX, double localY, double localZ, Vec3 cameraPos, float tickDelta) {
+        resolveFrame(tickDelta);
+        frameRotation.transform(offset.set(localX, localY, localZ).mul(frameScale));
+        return dest.set(
+                (float) (frameOriginX + offset.x - cameraPos.x),
+                (float) (frameOriginY + offset.y - cameraPos.y),
+                (float) (frameOriginZ + offset.z - cameraPos.z));
+    }
+
+    /** Group rotation at {@code tickDelta}; the returned object is reused by later calls. */
+    Quaternionf rotationAt(float tickDelta) {
+        resolveFrame(tickDelta);
+        return frameRotationF;
+    }
+
+    private void resolveFrame(float tickDelta) {
+        if (frameVersion == version && frameDelta == tickDelta) {
+            return;
+        }
+        frameOriginX = Mth.lerp(tickDelta, previousOriginX, originX);
+        frameOriginY = Mth.lerp(tickDelta, previousOriginY, originY);
+        frameOriginZ = Mth.lerp(tickDelta, previousOriginZ, originZ);
+        frameScale = Mth.lerp(tickDelta, previousScale, scale);
+        previousRotation.slerp(rotation, tickDelta, frameRotation);
+        frameRotationF.set(frameRotation);
+        frameVersion = version;
+        frameDelta = tickDelta;
+    }
+}
@@ -9,6 +9,7 @@ import com.reiasu.reiparticlesapi.network.particle.style.ParticleGroupStyle;
 import com.reiasu.reiparticlesapi.particles.control.ControlParticleManager;
 import com.reiasu.reiparticlesapi.particles.control.ParticleController;
 import com.reiasu.reiparticlesapi.particles.control.group.ControllableParticleGroup;
+import com.reiasu.reiparticlesapi.profiler.TickProfiler;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.world.phys.Vec3;
 
@@ -99,6 +100,7 @@ public interface ParticleDisplayer {
         public Controllable<?> display(Vec3 loc, ClientLevel world) {
             // Spawn the particle effect in the world (ControllableParticleEffect extends ParticleOptions)
             world.addAlwaysVisibleParticle(effect, true, loc.x, loc.y, loc.z, 0.0, 0.0, 0.0);
+            TickProfiler.CLIENT.count("particles.spawned", 1L);
             ParticleController controller = ControlParticleManager.INSTANCE.getControl(effect.getControlUUID());
             return controller;
         }
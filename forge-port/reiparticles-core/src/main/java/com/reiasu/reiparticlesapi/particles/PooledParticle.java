@@ -0,0 +1,103 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.particles;
+
+import com.reiasu.reiparticlesapi.utils.Math3DUtil;
+import com.reiasu.reiparticlesapi.utils.RelativeLocation;
+import net.minecraft.world.phys.Vec3;
+import org.joml.Vector3f;
+
+import java.util.UUID;
+
+/**
+ * Handle to one particle in a {@link ClientParticlePool}.
+ * <p>
+ * The particle itself is a slot in the pool's arrays; this handle only remembers the
+ * slot and the generation it was spawned in. Once the slot is released, by
+ * {@link #remove()} or by its lifetime running out, every call on the handle is ignored.
+ */
+public final class PooledParticle implements Controllable<PooledParticle> {
+    private final ClientParticlePool pool;
+    private final UUID uuid;
+    private final int slot;
+    private final int generation;
+
+    PooledParticle(ClientParticlePool pool, UUID uuid, int slot, int generation) {
+        this.pool = pool;
+        this.uuid = uuid;
+        this.slot = slot;
+        this.generation = generation;
+    }
+
+    public boolean isAlive() {
+        return pool.isAlive(slot, generation);
+    }
+
+    /** Current position; the last teleport becomes visible on the next pool tick. */
+    public Vec3 getPos() {
+        return pool.positionOf(slot);
+    }
+
+    public void setColor(float red, float green, float blue) {
+        pool.setColor(slot, generation, red, green, blue);
+    }
+
+    public void setAlpha(float alpha) {
+        pool.setAlpha(slot, generation, alpha);
+    }
+
+    public void setSize(float size) {
+        pool.setSize(slot, generation, size);
+    }
+
+    public void setRotation(float pitch, float yaw, float roll) {
+        pool.setRotation(slot, generation, pitch, yaw, roll);
+    }
+
+    public void rotateParticleTo(Vector3f target) {
+        float[] angles = Math3DUtil.calculateEulerAnglesToPointArray(target);
+        setRotation(angles[0], angles[1], angles[2]);
+    }
+
+    // ---- Controllable interface ----
+
+    @Override
+    public UUID controlUUID() {
+        return uuid;
+    }
+
+    @Override
+    public void rotateToPoint(RelativeLocation to) {
+        // No-op for a single particle
+    }
+
+    @Override
+    public void rotateToWithAngle(RelativeLocation to, double radian) {
+        // No-op for a single particle
+    }
+
+    @Override
+    public void rotateAsAxis(double radian) {
+        // No-op for a single particle
+    }
+
+    @Override
+    public void teleportTo(Vec3 pos) {
+        teleportTo(pos.x, pos.y, pos.z);
+    }
+
+    @Override
+    public void teleportTo(double x, double y, double z) {
+        pool.teleport(slot, generation, x, y, z);
+    }
+
+    @Override
+    public void remove() {
+        pool.release(slot, generation);
+    }
+
+    @Override
+    public PooledParticle getControlObject() {
+        return this;
+    }
+}
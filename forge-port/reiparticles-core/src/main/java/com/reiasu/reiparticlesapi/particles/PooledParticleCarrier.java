@@ -0,0 +1,50 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.particles;
+
+import com.mojang.blaze3d.vertex.VertexConsumer;
+import net.minecraft.client.Camera;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.client.particle.Particle;
+import net.minecraft.client.particle.ParticleRenderType;
+
+/**
+ * The one particle the vanilla engine sees for a {@link ClientParticlePool}.
+ * It ticks and renders the whole pool and removes itself once the pool is empty.
+ */
+final class PooledParticleCarrier extends Particle {
+    private final ClientParticlePool pool;
+
+    PooledParticleCarrier(ClientLevel world, ClientParticlePool pool) {
+        super(world, 0.0, 0.0, 0.0);
+        this.pool = pool;
+    }
+
+    boolean belongsTo(ClientLevel world) {
+        return this.level == world;
+    }
+
+    @Override
+    public void tick() {
+        pool.tick();
+        if (pool.size() == 0) {
+            remove();
+        }
+    }
+
+    @Override
+    public void render(VertexConsumer vertexConsumer, Camera camera, float tickDelta) {
+        pool.render(vertexConsumer, camera, tickDelta);
+    }
+
+    @Override
+    public ParticleRenderType getRenderType() {
+        return ReiParticleTextureSheet.POOLED_TRANSLUCENT;
+    }
+
+    @Override
+    public boolean shouldCull() {
+        // Pooled particles are spread over the level; the carrier has no meaningful bounds.
+        return false;
+    }
+}
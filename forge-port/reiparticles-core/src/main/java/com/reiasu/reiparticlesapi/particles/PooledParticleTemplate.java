@@ -0,0 +1,117 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.particles;
+
+import net.minecraft.client.renderer.LightTexture;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.util.Mth;
+
+/**
+ * Initial appearance of a particle spawned into the {@link ClientParticlePool}.
+ * <p>
+ * A template is only read when a particle is spawned, so one instance can be shared
+ * by every dot of a style. Per-particle changes go through {@link PooledParticle}.
+ */
+public final class PooledParticleTemplate {
+    public static final ResourceLocation DEFAULT_SPRITE = new ResourceLocation("minecraft", "generic_0");
+
+    private ResourceLocation sprite = DEFAULT_SPRITE;
+    private float red = 1.0f;
+    private float green = 1.0f;
+    private float blue = 1.0f;
+    private float alpha = 1.0f;
+    private float size = 0.2f;
+    private int light = 15;
+    private int lifetime = -1;
+    private boolean faceToCamera = true;
+
+    public ResourceLocation getSprite() {
+        return sprite;
+    }
+
+    public float getRed() {
+        return red;
+    }
+
+    public float getGreen() {
+        return green;
+    }
+
+    public float getBlue() {
+        return blue;
+    }
+
+    public float getAlpha() {
+        return alpha;
+    }
+
+    public float getSize() {
+        return size;
+    }
+
+    public int getLight() {
+        return light;
+    }
+
+    public int getLifetime() {
+        return lifetime;
+    }
+
+    public boolean getFaceToCamera() {
+        return faceToCamera;
+    }
+
+    /**
+     * Sprite in the particle atlas, e.g. {@code minecraft:generic_0}.
+     */
+    public PooledParticleTemplate withSprite(ResourceLocation sprite) {
+        this.sprite = sprite == null ? DEFAULT_SPRITE : sprite;
+        return this;
+    }
+
+    public PooledParticleTemplate withColor(float red, float green, float blue) {
+        this.red = red;
+        this.green = green;
+        this.blue = blue;
+        return this;
+    }
+
+    public PooledParticleTemplate withAlpha(float alpha) {
+        this.alpha = Mth.clamp(alpha, 0.0f, 1.0f);
+        return this;
+    }
+
+    /**
+     * Half the quad edge length, the same unit as {@link ControllableParticle#setSize(float)}.
+     */
+    public PooledParticleTemplate withSize(float size) {
+        this.size = size;
+        return this;
+    }
+
+    /**
+     * Fixed block and sky light level. Pooled particles do not sample world light.
+     */
+    public PooledParticleTemplate withLight(int light) {
+        this.light = Mth.clamp(light, 0, 15);
+        return this;
+    }
+
+    /**
+     * Ticks until the particle removes itself, or a negative value to keep it until
+     * its owner removes it.
+     */
+    public PooledParticleTemplate withLifetime(int lifetime) {
+        this.lifetime = lifetime;
+        return this;
+    }
+
+    public PooledParticleTemplate withFaceToCamera(boolean faceToCamera) {
+        this.faceToCamera = faceToCamera;
+        return this;
+    }
+
+    int packedLight() {
+        return LightTexture.pack(light, light);
+    }
+}
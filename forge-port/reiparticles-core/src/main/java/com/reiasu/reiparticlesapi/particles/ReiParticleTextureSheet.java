@@ -46,6 +46,31 @@ public final class ReiParticleTextureSheet {
         }
     };
 
+    /**
+     * Translucent sheet used by {@link ClientParticlePool}. All pooled particles are
+     * written by a single carrier particle, so this type sees one draw per frame.
+     */
+    public static final ParticleRenderType POOLED_TRANSLUCENT = new ParticleRenderType() {
+        @Override
+        public void begin(BufferBuilder builder, TextureManager textureManager) {
+            RenderSystem.depthMask(true);
+            RenderSystem.setShaderTexture(0, TextureAtlas.LOCATION_PARTICLES);
+            RenderSystem.enableBlend();
+            RenderSystem.defaultBlendFunc();
+            builder.begin(VertexFormat.Mode.QUADS, DefaultVertexFormat.PARTICLE);
+        }
+
+        @Override
+        public void end(Tesselator tesselator) {
+            tesselator.end();
+        }
+
+        @Override
+        public String toString() {
+            return "REI_POOLED_TRANSLUCENT";
+        }
+    };
+
     private ReiParticleTextureSheet() {
     }
 
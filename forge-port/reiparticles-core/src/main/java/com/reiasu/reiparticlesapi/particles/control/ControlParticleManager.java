@@ -2,6 +2,9 @@
 // Copyright (C) 2025 Reiasu
 package com.reiasu.reiparticlesapi.particles.control;
 
+import com.reiasu.reiparticlesapi.utils.LocalIds;
+import com.reiasu.reiparticlesapi.utils.LongObjectHashMap;
+
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -11,11 +14,16 @@ import java.util.concurrent.ConcurrentHashMap;
  * Each controlled particle gets a UUID; the manager stores and retrieves the
  * corresponding controller so the particle can be mutated from server-driven
  * commands.
+ * <p>
+ * Controllers of style particles are keyed by their {@link LocalIds} id, like the style's
+ * own tables, and a {@link LocalIds#isLocal local} UUID is looked up by the id it wraps.
+ * That table is touched on the client thread only. Any other UUID keeps the concurrent map.
  */
 public final class ControlParticleManager {
 
     public static final ControlParticleManager INSTANCE = new ControlParticleManager();
 
+    private final LongObjectHashMap<ParticleController> localControls = new LongObjectHashMap<>();
     private final ConcurrentHashMap<UUID, ParticleController> controls = new ConcurrentHashMap<>();
 
     private ControlParticleManager() {
@@ -25,14 +33,32 @@ public final class ControlParticleManager {
      * Look up a controller by UUID. Returns {@code null} if none is registered.
      */
     public ParticleController getControl(UUID uuid) {
-        return controls.get(uuid);
+        return LocalIds.isLocal(uuid) ? localControls.get(LocalIds.idOf(uuid)) : controls.get(uuid);
+    }
+
+    /**
+     * Look up a controller by local id. Returns {@code null} if none is registered.
+     */
+    public ParticleController getControl(long id) {
+        return localControls.get(id);
     }
 
     /**
      * Remove a controller by UUID.
      */
     public void removeControl(UUID uuid) {
-        controls.remove(uuid);
+        if (LocalIds.isLocal(uuid)) {
+            localControls.remove(LocalIds.idOf(uuid));
+        } else {
+            controls.remove(uuid);
+        }
+    }
+
+    /**
+     * Remove a controller by local id.
+     */
+    public void removeControl(long id) {
+        localControls.remove(id);
     }
 
     /**
@@ -43,7 +69,24 @@ public final class ControlParticleManager {
      */
     public ParticleController createControl(UUID uuid) {
         ParticleController controller = new ParticleController(uuid);
-        controls.put(uuid, controller);
+        if (LocalIds.isLocal(uuid)) {
+            localControls.put(LocalIds.idOf(uuid), controller);
+        } else {
+            controls.put(uuid, controller);
+        }
+        return controller;
+    }
+
+    /**
+     * Create a new controller for the given local id and register it. Its UUID is
+     * {@link LocalIds#asUuid(long)} of the id.
+     *
+     * @param id the local id, as from {@code StyleData#getId()}
+     * @return the newly created controller
+     */
+    public ParticleController createControl(long id) {
+        ParticleController controller = new ParticleController(LocalIds.asUuid(id));
+        localControls.put(id, controller);
         return controller;
     }
 }
@@ -4,6 +4,7 @@ package com.reiasu.reiparticlesapi.particles.control;
 
 import com.reiasu.reiparticlesapi.particles.Controllable;
 import com.reiasu.reiparticlesapi.particles.ControllableParticle;
+import com.reiasu.reiparticlesapi.particles.GroupTransform;
 import com.reiasu.reiparticlesapi.utils.RelativeLocation;
 import net.minecraft.world.phys.Vec3;
 import org.joml.Vector3f;
@@ -28,6 +29,8 @@ public final class ParticleController implements Controllable<ControllablePartic
     private final List<Consumer<ControllableParticle>> invokeQueue = new ArrayList<>();
     private final ConcurrentHashMap<String, Object> bufferedData = new ConcurrentHashMap<>();
     private Consumer<ControllableParticle> initInvoker;
+    private GroupTransform pendingGroup;
+    private RelativeLocation pendingGroupOffset;
 
     public ParticleController(UUID uuid) {
         this.uuid = uuid;
@@ -79,6 +82,25 @@ public final class ParticleController implements Controllable<ControllablePartic
             throw new IllegalArgumentException("Particle uuid invalid");
         }
         this.particle = particle;
+        if (pendingGroup != null) {
+            particle.attachToGroup(pendingGroup,
+                    pendingGroupOffset.getX(), pendingGroupOffset.getY(), pendingGroupOffset.getZ());
+            pendingGroup = null;
+            pendingGroupOffset = null;
+        }
+    }
+
+    /**
+     * Attaches the particle to {@code group} at the given local offset, or does so as soon
+     * as the particle is loaded. See {@link ControllableParticle#attachToGroup}.
+     */
+    public void attachToGroup(GroupTransform group, RelativeLocation offset) {
+        if (particle != null) {
+            particle.attachToGroup(group, offset.getX(), offset.getY(), offset.getZ());
+            return;
+        }
+        this.pendingGroup = group;
+        this.pendingGroupOffset = offset;
     }
 
     /**
@@ -0,0 +1,57 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.profiler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Renders a {@link TickProfiler.Snapshot} as chat lines for {@code /reiparticles profile}.
+ */
+public final class ProfileReport {
+    private ProfileReport() {
+    }
+
+    /**
+     * @param maxSections sections listed after the total, slowest p99 first
+     */
+    public static List<String> lines(TickProfiler.Snapshot snapshot, int maxSections) {
+        List<String> lines = new ArrayList<>();
+        TickProfiler.Stats total = snapshot.total();
+        if (total.samples() == 0) {
+            lines.add("[" + snapshot.side() + "] no ticks recorded");
+            return lines;
+        }
+        lines.add(String.format(Locale.ROOT, "[%s] last %d of %d ticks, total %s",
+                snapshot.side(), total.samples(), snapshot.ticks(), millis(total)));
+        int listed = 0;
+        for (Map.Entry<String, TickProfiler.Stats> entry : snapshot.sections().entrySet()) {
+            if (listed++ == maxSections) {
+                lines.add(String.format(Locale.ROOT, "  ... %d more", snapshot.sections().size() - maxSections));
+                break;
+            }
+            lines.add("  " + entry.getKey() + " " + millis(entry.getValue()));
+        }
+        for (Map.Entry<String, TickProfiler.Stats> entry : snapshot.counters().entrySet()) {
+            TickProfiler.Stats stats = entry.getValue();
+            lines.add(String.format(Locale.ROOT, "  %s/tick p50=%d p95=%d p99=%d max=%d",
+                    entry.getKey(), stats.p50(), stats.p95(), stats.p99(), stats.max()));
+        }
+        if (!snapshot.gauges().isEmpty()) {
+            StringBuilder objects = new StringBuilder("  objects:");
+            for (Map.Entry<String, Long> entry : snapshot.gauges().entrySet()) {
+                objects.append(' ').append(entry.getKey()).append('=').append(entry.getValue());
+            }
+            lines.add(objects.toString());
+        }
+        return lines;
+    }
+
+    private static String millis(TickProfiler.Stats stats) {
+        return String.format(Locale.ROOT, "p50=%.2fms p95=%.2fms p99=%.2fms max=%.2fms",
+                stats.p50() / 1_000_000.0, stats.p95() / 1_000_000.0,
+                stats.p99() / 1_000_000.0, stats.max() / 1_000_000.0);
+    }
+}
@@ -0,0 +1,57 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.profiler;
+
+import java.util.Arrays;
+
+/**
+ * Ring buffer of the last {@code capacity} samples of one section or counter.
+ * Percentiles are computed on demand from a sorted copy, so adding stays O(1).
+ */
+final class RollingWindow {
+    private long[] samples;
+    private int next;
+    private int size;
+    private long last;
+
+    RollingWindow(int capacity) {
+        samples = new long[Math.max(1, capacity)];
+    }
+
+    /** Adds a sample, dropping the history first if {@code capacity} changed. */
+    synchronized void add(long sample, int capacity) {
+        if (capacity != samples.length && capacity > 0) {
+            samples = new long[capacity];
+            next = 0;
+            size = 0;
+        }
+        samples[next] = sample;
+        next = (next + 1) % samples.length;
+        if (size < samples.length) {
+            size++;
+        }
+        last = sample;
+    }
+
+    synchronized void clear() {
+        next = 0;
+        size = 0;
+        last = 0L;
+    }
+
+    synchronized TickProfiler.Stats stats() {
+        if (size == 0) {
+            return TickProfiler.Stats.EMPTY;
+        }
+        long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+        return new TickProfiler.Stats(size, last,
+                percentile(sorted, 50), percentile(sorted, 95), percentile(sorted, 99), sorted[size - 1]);
+    }
+
+    /** Nearest-rank percentile of an ascending array. */
+    static long percentile(long[] sorted, int percent) {
+        int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+    }
+}
@@ -0,0 +1,27 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.profiler;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event covering one subsystem's tick, committed by {@link TickProfiler#time} while
+ * {@code profilerJfrEvents} is enabled and a recording has the event turned on.
+ */
+@Name("reiparticles.SubsystemTick")
+@Label("ReiParticles Subsystem Tick")
+@Category("ReiParticles")
+@Description("Time spent in one ReiParticles subsystem during a tick")
+@StackTrace(false)
+final class SubsystemTickEvent extends Event {
+    @Label("Side")
+    String side;
+
+    @Label("Subsystem")
+    String subsystem;
+}
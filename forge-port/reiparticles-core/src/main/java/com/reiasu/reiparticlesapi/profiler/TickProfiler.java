@@ -0,0 +1,151 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.profiler;
+
+import com.reiasu.reiparticlesapi.config.APIConfig;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Timings and counters of the ReiParticles tick handlers on one side.
+ * <p>
+ * The runtime wraps each subsystem tick in {@link #time} and calls {@link #endTick()} after
+ * the last one. Subsystems report work with {@link #count}; each counter's per-tick total
+ * and each section's time go into a rolling window of the last
+ * {@link APIConfig#getProfilerWindowTicks()} ticks, from which {@link #snapshot()} reports
+ * p50/p95/p99. Object counts are registered as {@link #gauge gauges} and read on snapshot.
+ * <p>
+ * {@link #time} and {@link #endTick()} are called from the ticking thread;
+ * {@link #count} and {@link #snapshot()} may be called from any thread.
+ */
+public final class TickProfiler {
+    public static final TickProfiler SERVER = new TickProfiler("server");
+    public static final TickProfiler CLIENT = new TickProfiler("client");
+
+    private static final boolean JFR_AVAILABLE = ModuleLayer.boot().findModule("jdk.jfr").isPresent();
+
+    /** Window statistics; times are in nanoseconds, counters in units per tick. */
+    public record Stats(int samples, long last, long p50, long p95, long p99, long max) {
+        public static final Stats EMPTY = new Stats(0, 0L, 0L, 0L, 0L, 0L);
+    }
+
+    /**
+     * What {@link #snapshot()} saw. Sections are ordered by p99, slowest first;
+     * counters and gauges by name.
+     */
+    public record Snapshot(String side, long ticks, Stats total, Map<String, Stats> sections,
+                           Map<String, Stats> counters, Map<String, Long> gauges) {
+    }
+
+    private final String side;
+    private final Map<String, RollingWindow> sections = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private final Map<String, RollingWindow> counterWindows = new ConcurrentHashMap<>();
+    private final Map<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+    private final RollingWindow total = new RollingWindow(APIConfig.INSTANCE.getProfilerWindowTicks());
+    private long tickNanos;
+    private volatile long ticks;
+
+    TickProfiler(String side) {
+        this.side = side;
+    }
+
+    public String getSide() {
+        return side;
+    }
+
+    /** Runs {@code task} and records its time under {@code section}, also when it throws. */
+    public void time(String section, Runnable task) {
+        SubsystemTickEvent event = null;
+        if (JFR_AVAILABLE && APIConfig.INSTANCE.isProfilerJfrEvents()) {
+            event = new SubsystemTickEvent();
+            event.begin();
+        }
+        long start = System.nanoTime();
+        try {
+            task.run();
+        } finally {
+            record(section, System.nanoTime() - start);
+            if (event != null) {
+                event.end();
+                if (event.shouldCommit()) {
+                    event.side = side;
+                    event.subsystem = section;
+                    event.commit();
+                }
+            }
+        }
+    }
+
+    public void record(String section, long nanos) {
+        sections.computeIfAbsent(section, ignored -> new RollingWindow(window()))
+                .add(nanos, window());
+        tickNanos += nanos;
+    }
+
+    public void count(String counter, long delta) {
+        counters.computeIfAbsent(counter, ignored -> new LongAdder()).add(delta);
+    }
+
+    /** Registers an object count read on every {@link #snapshot()}, replacing one of the same name. */
+    public void gauge(String name, LongSupplier value) {
+        gauges.put(name, value);
+    }
+
+    /** Closes the current tick: pushes the total time and every counter's tick value into the windows. */
+    public void endTick() {
+        int window = window();
+        total.add(tickNanos, window);
+        tickNanos = 0L;
+        for (Map.Entry<String, LongAdder> entry : counters.entrySet()) {
+            counterWindows.computeIfAbsent(entry.getKey(), ignored -> new RollingWindow(window))
+                    .add(entry.getValue().sumThenReset(), window);
+        }
+        ticks++;
+    }
+
+    public Snapshot snapshot() {
+        List<Map.Entry<String, Stats>> sectionStats = new ArrayList<>();
+        for (Map.Entry<String, RollingWindow> entry : sections.entrySet()) {
+            sectionStats.add(Map.entry(entry.getKey(), entry.getValue().stats()));
+        }
+        sectionStats.sort(Comparator.comparingLong((Map.Entry<String, Stats> e) -> e.getValue().p99()).reversed()
+                .thenComparing(Map.Entry::getKey));
+        Map<String, Stats> orderedSections = new LinkedHashMap<>();
+        for (Map.Entry<String, Stats> entry : sectionStats) {
+            orderedSections.put(entry.getKey(), entry.getValue());
+        }
+
+        Map<String, Stats> counterStats = new LinkedHashMap<>();
+        counterWindows.keySet().stream().sorted()
+                .forEach(name -> counterStats.put(name, counterWindows.get(name).stats()));
+
+        Map<String, Long> gaugeValues = new LinkedHashMap<>();
+        gauges.keySet().stream().sorted()
+                .forEach(name -> gaugeValues.put(name, gauges.get(name).getAsLong()));
+
+        return new Snapshot(side, ticks, total.stats(), orderedSections, counterStats, gaugeValues);
+    }
+
+    /** Drops every sample and counter; registered gauges are kept. */
+    public void reset() {
+        sections.clear();
+        counterWindows.clear();
+        for (LongAdder adder : counters.values()) {
+            adder.reset();
+        }
+        total.clear();
+        ticks = 0L;
+    }
+
+    private static int window() {
+        return APIConfig.INSTANCE.getProfilerWindowTicks();
+    }
+}
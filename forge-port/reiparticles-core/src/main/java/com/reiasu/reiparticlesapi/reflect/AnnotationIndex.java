@@ -0,0 +1,135 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.reflect;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A build-time list of the annotated classes under one package root, as written by the
+ * {@code reiparticles-processor} annotation processor into
+ * {@code META-INF/reiparticles/annotation-index/<root>.idx}.
+ * <p>
+ * An index only covers the packages it lists. Other jars may compile classes under the
+ * same root, as addons do under {@code com.reiasu}, so a package none of the indexes lists
+ * is left to the classpath scan; the indexes that do list it are merged.
+ */
+final class AnnotationIndex {
+    static final String DIRECTORY = "META-INF/reiparticles/annotation-index/";
+    static final String SUFFIX = ".idx";
+    private static final String PACKAGE = "package ";
+
+    private final String root;
+    private final Set<String> packages;
+    private final List<Entry> entries;
+
+    private record Entry(String packageName, String className, String[] annotations) {
+    }
+
+    private AnnotationIndex(String root, Set<String> packages, List<Entry> entries) {
+        this.root = root;
+        this.packages = packages;
+        this.entries = entries;
+    }
+
+    String getRoot() {
+        return root;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * Finds the indexes covering {@code packageName}: those named after it or after one of
+     * its parent packages that list it or one of its subpackages. Indexes already read,
+     * keyed by URL, are taken from {@code cache}.
+     */
+    static List<AnnotationIndex> locate(ClassLoader loader, String packageName, Map<String, AnnotationIndex> cache)
+            throws IOException {
+        List<AnnotationIndex> found = new ArrayList<>();
+        for (String candidate = packageName; !candidate.isEmpty(); candidate = parent(candidate)) {
+            Enumeration<URL> urls = loader.getResources(DIRECTORY + candidate + SUFFIX);
+            while (urls.hasMoreElements()) {
+                URL url = urls.nextElement();
+                AnnotationIndex index = cache.get(url.toString());
+                if (index == null) {
+                    try (InputStream in = url.openStream()) {
+                        index = read(candidate, in);
+                    }
+                    cache.put(url.toString(), index);
+                }
+                if (index.covers(packageName)) {
+                    found.add(index);
+                }
+            }
+        }
+        return found;
+    }
+
+    static AnnotationIndex read(String root, InputStream in) throws IOException {
+        Set<String> packages = new HashSet<>();
+        List<Entry> entries = new ArrayList<>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String packageName = null;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isEmpty()) {
+                continue;
+            }
+            if (line.startsWith(PACKAGE)) {
+                packageName = line.substring(PACKAGE.length());
+                packages.add(packageName);
+                continue;
+            }
+            String[] parts = line.split(" ");
+            if (packageName == null || parts.length < 2) {
+                throw new IOException("Malformed annotation index line: " + line);
+            }
+            String className = packageName.isEmpty() ? parts[0] : packageName + "." + parts[0];
+            entries.add(new Entry(packageName, className, Arrays.copyOfRange(parts, 1, parts.length)));
+        }
+        return new AnnotationIndex(root, Set.copyOf(packages), List.copyOf(entries));
+    }
+
+    /** Whether this index lists {@code packageName} or one of its subpackages. */
+    boolean covers(String packageName) {
+        String prefix = packageName + ".";
+        for (String listed : packages) {
+            if (listed.equals(packageName) || listed.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Adds the classes in {@code packageName} and its subpackages to {@code out}. */
+    int collect(String packageName, Collection<SimpleClassInfo> out) {
+        String prefix = packageName + ".";
+        int added = 0;
+        for (Entry entry : entries) {
+            if (entry.packageName().equals(packageName) || entry.packageName().startsWith(prefix)) {
+                out.add(new SimpleClassInfo(entry.className(), new HashSet<>(Arrays.asList(entry.annotations()))));
+                added++;
+            }
+        }
+        return added;
+    }
+
+    private static String parent(String packageName) {
+        int dot = packageName.lastIndexOf('.');
+        return dot < 0 ? "" : packageName.substring(0, dot);
+    }
+}
@@ -8,18 +8,24 @@ import io.github.classgraph.ClassInfo;
 import io.github.classgraph.ClassInfoList;
 import io.github.classgraph.ScanResult;
 
+import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
- * Classpath scanner using ClassGraph that discovers annotated classes at runtime.
+ * Discovers annotated classes in the registered packages.
  * <p>
- * Packages to scan must be registered via {@link #registerPackage(Class)} or
- * {@link #registerPackage(String)} before calling {@link #scan()}.
+ * Packages covered by a build-time annotation index (see {@link AnnotationIndex}) are read
+ * from it; only the rest fall back to a ClassGraph classpath scan. Packages to scan must be
+ * registered via {@link #registerPackage(Class)} or {@link #registerPackage(String)} before
+ * calling {@link #scan()}.
  */
 public final class ReiAPIScanner {
 
@@ -29,21 +35,71 @@ public final class ReiAPIScanner {
     private final HashSet<String> scanPackages = new HashSet<>();
     private boolean loaded = false;
     private final HashSet<SimpleClassInfo> classes = new HashSet<>();
+    private long lastIndexNanos;
+    private long lastClassGraphNanos;
 
     private ReiAPIScanner() {
     }
 
     /**
-     * Perform the classpath scan for all currently registered packages.
+     * Collect the annotated classes of all currently registered packages, from their
+     * annotation index where there is one and by a classpath scan otherwise.
      */
     public void scan() {
         loaded = true;
+        List<String> unindexed = readIndexes();
+        lastClassGraphNanos = 0L;
+        if (!unindexed.isEmpty()) {
+            scanClassGraph(unindexed);
+        }
+    }
+
+    /** Time the last {@link #scan()} spent reading annotation indexes. */
+    public long getLastIndexNanos() {
+        return lastIndexNanos;
+    }
 
+    /** Time the last {@link #scan()} spent in ClassGraph; 0 if every package was indexed. */
+    public long getLastClassGraphNanos() {
+        return lastClassGraphNanos;
+    }
+
+    private List<String> readIndexes() {
+        long start = System.nanoTime();
+        ClassLoader loader = ReiAPIScanner.class.getClassLoader();
+        Map<String, AnnotationIndex> read = new HashMap<>();
+        List<String> unindexed = new ArrayList<>();
+        int found = 0;
+        for (String packageName : scanPackages) {
+            try {
+                List<AnnotationIndex> indexes = AnnotationIndex.locate(loader, packageName, read);
+                if (indexes.isEmpty()) {
+                    unindexed.add(packageName);
+                    continue;
+                }
+                for (AnnotationIndex index : indexes) {
+                    found += index.collect(packageName, classes);
+                }
+            } catch (IOException e) {
+                LOGGER.warn("Failed to read annotation index for {}; scanning it instead", packageName, e);
+                unindexed.add(packageName);
+            }
+        }
+        lastIndexNanos = System.nanoTime() - start;
+        int indexed = scanPackages.size() - unindexed.size();
+        if (indexed > 0) {
+            LOGGER.info("Read {} annotated classes for {} packages from {} annotation indexes in {}ms",
+                    found, indexed, read.size(), millis(lastIndexNanos));
+        }
+        return unindexed;
+    }
+
+    private void scanClassGraph(List<String> packageNames) {
         try {
-            long start = System.currentTimeMillis();
-            LOGGER.info("Starting ClassGraph scan...");
+            long start = System.nanoTime();
+            LOGGER.info("Starting ClassGraph scan of {} packages without an annotation index...", packageNames.size());
 
-            String[] packages = scanPackages.toArray(new String[0]);
+            String[] packages = packageNames.toArray(new String[0]);
             try (ScanResult scanResult = new ClassGraph()
                     .enableClassInfo()
                     .enableAnnotationInfo()
@@ -62,14 +118,18 @@ public final class ReiAPIScanner {
                 }
             }
 
-            long end = System.currentTimeMillis();
-            LOGGER.info("ClassGraph scan completed in {}ms", (end - start));
+            lastClassGraphNanos = System.nanoTime() - start;
+            LOGGER.info("ClassGraph scan completed in {}ms", millis(lastClassGraphNanos));
         } catch (LinkageError e) {
             LOGGER.warn("ClassGraph not available; falling back to explicit listener registration only. "
                     + "Use registerListenerInstance() or registerAnnotatedClass() instead.", e);
         }
     }
 
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1.0E6);
+    }
+
     /**
      * Return all scanned classes that carry the given annotation.
      */
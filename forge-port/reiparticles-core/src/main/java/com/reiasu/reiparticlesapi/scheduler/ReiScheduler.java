@@ -2,22 +2,39 @@
 // Copyright (C) 2025 Reiasu
 package com.reiasu.reiparticlesapi.scheduler;
 
+import com.reiasu.reiparticlesapi.config.APIConfig;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 
 /**
  * Tick-based task scheduler. Supports one-shot, repeating (with interval),
- * and repeating-with-max-tick tasks. Thread-safe task queues are maintained
- * separately for server and client ticks.
+ * and repeating-with-max-tick tasks. Server and client ticks have separate lanes;
+ * tasks may be scheduled and cancelled from any thread.
+ * <p>
+ * Each lane is a hashed timing wheel: a task sits in the bucket of the tick it is due
+ * on and is not touched before then, so a tick costs the tasks due on it rather than
+ * every pending task. Tasks with a cancel predicate are also visited every tick after
+ * their pre-delay, since the predicate has to be polled. Tasks due on the same tick run
+ * in the order they were scheduled.
+ * <p>
+ * Server ticks honour {@link APIConfig#getServerTickBudgetNanos()}: once it is spent,
+ * {@link TickPriority#LOW} tasks wait for a later tick instead of stretching this one.
  */
 public final class ReiScheduler {
 
     public static final ReiScheduler INSTANCE = new ReiScheduler();
 
-    private final ConcurrentLinkedQueue<TickRunnable> serverTicks = new ConcurrentLinkedQueue<>();
-    private final ConcurrentLinkedQueue<TickRunnable> serverTaskQueue = new ConcurrentLinkedQueue<>();
-    private final ConcurrentLinkedQueue<TickRunnable> clientTicks = new ConcurrentLinkedQueue<>();
-    private final ConcurrentLinkedQueue<TickRunnable> clientTaskQueue = new ConcurrentLinkedQueue<>();
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    private final TickLane serverLane = new TickLane();
+    private final TickLane clientLane = new TickLane();
 
     private ReiScheduler() {
     }
@@ -28,76 +45,72 @@ public final class ReiScheduler {
     }
 
     public void doServerTick() {
-        doTick(serverTicks, serverTaskQueue);
+        serverLane.tick(APIConfig.INSTANCE.getServerTickBudgetNanos());
     }
 
     public void doClientTick() {
-        doTick(clientTicks, clientTaskQueue);
+        clientLane.tick(0L);
     }
 
-    private static void doTick(
-            ConcurrentLinkedQueue<TickRunnable> activeTicks,
-            ConcurrentLinkedQueue<TickRunnable> queuedTicks
-    ) {
-        TickRunnable queued;
-        while ((queued = queuedTicks.poll()) != null) {
-            activeTicks.add(queued);
-        }
-        activeTicks.removeIf(task -> {
-            task.doTick();
-            return task.isCancelled();
-        });
+    /** Number of {@link TickPriority#LOW} server tasks deferred by the last server tick. */
+    public int getLastServerDeferredCount() {
+        return serverLane.lastDeferred;
+    }
+
+    /** Number of server tasks that are queued or running. */
+    public int getServerTaskCount() {
+        return serverLane.size();
     }
 
     /** Schedule a one-shot task after {@code delay} ticks on the server scheduler. */
     public TickRunnable runTask(int delay, Runnable action) {
-        return enqueue(serverTaskQueue, createTask(delay, action, false, 0, 0));
+        return enqueue(serverLane, createTask(delay, action, false, 0, 0));
     }
 
     /** Schedule a one-shot task after {@code delay} ticks on the client scheduler. */
     public TickRunnable runClientTask(int delay, Runnable action) {
-        return enqueue(clientTaskQueue, createTask(delay, action, false, 0, 0));
+        return enqueue(clientLane, createTask(delay, action, false, 0, 0));
     }
 
     /** Schedule a repeating task that runs every {@code delay} ticks on the server scheduler. */
     public TickRunnable runTaskTimer(int delay, Runnable action) {
-        return enqueue(serverTaskQueue, createTask(delay, action, true, -1, 0));
+        return enqueue(serverLane, createTask(delay, action, true, -1, 0));
     }
 
     /** Schedule a repeating task that runs every {@code delay} ticks on the client scheduler. */
     public TickRunnable runClientTaskTimer(int delay, Runnable action) {
-        return enqueue(clientTaskQueue, createTask(delay, action, true, -1, 0));
+        return enqueue(clientLane, createTask(delay, action, true, -1, 0));
     }
 
     /** Schedule a repeating task that runs every tick up to {@code maxLoopTick} total ticks. */
     public TickRunnable runTaskTimerMaxTick(int maxLoopTick, Runnable action) {
-        return enqueue(serverTaskQueue, createTask(1, action, true, maxLoopTick, 0));
+        return enqueue(serverLane, createTask(1, action, true, maxLoopTick, 0));
     }
 
     /** Schedule a repeating task that runs every tick up to {@code maxLoopTick} total ticks on the client scheduler. */
     public TickRunnable runClientTaskTimerMaxTick(int maxLoopTick, Runnable action) {
-        return enqueue(clientTaskQueue, createTask(1, action, true, maxLoopTick, 0));
+        return enqueue(clientLane, createTask(1, action, true, maxLoopTick, 0));
     }
 
     /** Schedule a repeating task with a pre-delay, then runs every tick up to {@code maxLoopTick}. */
     public TickRunnable runTaskTimerMaxTick(int preDelay, int maxLoopTick, Runnable action) {
-        return enqueue(serverTaskQueue, createTask(1, action, true, maxLoopTick, preDelay));
+        return enqueue(serverLane, createTask(1, action, true, maxLoopTick, preDelay));
     }
 
     /** Schedule a repeating task with a pre-delay on the client scheduler, then runs every tick up to {@code maxLoopTick}. */
     public TickRunnable runClientTaskTimerMaxTick(int preDelay, int maxLoopTick, Runnable action) {
-        return enqueue(clientTaskQueue, createTask(1, action, true, maxLoopTick, preDelay));
+        return enqueue(clientLane, createTask(1, action, true, maxLoopTick, preDelay));
     }
 
     public void clear() {
-        cancelAndClear(serverTicks);
-        cancelAndClear(serverTaskQueue);
-        cancelAndClear(clientTicks);
-        cancelAndClear(clientTaskQueue);
+        serverLane.clear();
+        clientLane.clear();
     }
 
-    private static TickRunnable enqueue(ConcurrentLinkedQueue<TickRunnable> queue, TickRunnable task) {
-        queue.add(task);
+    private static TickRunnable enqueue(TickLane lane, TickRunnable task) {
+        task.lane = lane;
+        task.sequence = SEQUENCE.getAndIncrement();
+        lane.queued.add(task);
         return task;
     }
 
@@ -107,10 +120,227 @@ public final class ReiScheduler {
         return task;
     }
 
-    private static void cancelAndClear(ConcurrentLinkedQueue<TickRunnable> queue) {
-        TickRunnable task;
-        while ((task = queue.poll()) != null) {
-            task.cancel();
+    /**
+     * Timing wheel of one side. Scheduling, cancelling and predicate changes from any thread
+     * go through concurrent queues that the lane drains at the start of its next tick; every
+     * other field is only touched by the ticking thread.
+     * <p>
+     * Normal tasks due this tick run in scheduling order. Low-priority tasks due this tick
+     * join a rotating queue and run from its head while the tick budget lasts, so the ones
+     * left over are first in line on the next tick.
+     */
+    private static final class TickLane {
+        private static final int WHEEL_BITS = 9;
+        private static final int WHEEL_MASK = (1 << WHEEL_BITS) - 1;
+        private static final Comparator<TickRunnable> BY_SEQUENCE = Comparator.comparingLong(task -> task.sequence);
+
+        private final ConcurrentLinkedQueue<TickRunnable> queued = new ConcurrentLinkedQueue<>();
+        private final ConcurrentLinkedQueue<TickRunnable> cancelled = new ConcurrentLinkedQueue<>();
+        private final ConcurrentLinkedQueue<TickRunnable> watchRequests = new ConcurrentLinkedQueue<>();
+        /** Bucket heads of intrusive doubly linked lists, indexed by due tick. */
+        private final TickRunnable[] wheel = new TickRunnable[1 << WHEEL_BITS];
+        /** Tasks with a cancel predicate, visited every tick once their pre-delay is over. */
+        private final List<TickRunnable> watched = new ArrayList<>();
+        private final ArrayDeque<TickRunnable> deferrable = new ArrayDeque<>();
+        private final List<TickRunnable> visits = new ArrayList<>();
+        private long now;
+        private int placed;
+        private volatile int lastDeferred;
+
+        void tick(long budgetNanos) {
+            long started = System.nanoTime();
+            now++;
+            drainCancelled();
+            TickRunnable task;
+            while ((task = queued.poll()) != null) {
+                place(task);
+            }
+            while ((task = watchRequests.poll()) != null) {
+                watch(task);
+            }
+
+            collectVisits();
+            for (TickRunnable current : visits) {
+                if (current.inDeferrable) {
+                    continue;
+                }
+                if (current.getPriority().isDeferrable()) {
+                    current.inDeferrable = true;
+                    deferrable.add(current);
+                } else {
+                    visit(current);
+                }
+            }
+            visits.clear();
+
+            // At least one low-priority task runs per tick, so none of them can starve.
+            int remaining = deferrable.size();
+            boolean first = true;
+            while (remaining > 0
+                    && (first || budgetNanos <= 0L || System.nanoTime() - started < budgetNanos)) {
+                first = false;
+                remaining--;
+                TickRunnable current = deferrable.poll();
+                current.inDeferrable = false;
+                visit(current);
+            }
+            lastDeferred = remaining;
+        }
+
+        int size() {
+            return placed + queued.size();
+        }
+
+        void clear() {
+            List<TickRunnable> all = new ArrayList<>(deferrable);
+            for (TickRunnable head : wheel) {
+                for (TickRunnable task = head; task != null; task = task.next) {
+                    all.add(task);
+                }
+            }
+            all.addAll(watched);
+            TickRunnable task;
+            while ((task = queued.poll()) != null) {
+                all.add(task);
+            }
+            for (TickRunnable each : all) {
+                each.cancel();
+            }
+            Arrays.fill(wheel, null);
+            for (TickRunnable each : all) {
+                each.slot = -1;
+                each.prev = null;
+                each.next = null;
+                each.placed = false;
+                each.watched = false;
+                each.inDeferrable = false;
+            }
+            watched.clear();
+            deferrable.clear();
+            cancelled.clear();
+            watchRequests.clear();
+            placed = 0;
+            lastDeferred = 0;
+        }
+
+        private void place(TickRunnable task) {
+            if (task.cancelled) {
+                return;
+            }
+            task.placed = true;
+            placed++;
+            // The task's first tick is this one: the pre-delay consumes ticks before its
+            // counter starts, and it is due when the counter reaches the delay.
+            task.checkFrom = now + task.preDelay;
+            task.due = task.checkFrom + task.delay - 1;
+            link(task);
+            watch(task);
+        }
+
+        private void watch(TickRunnable task) {
+            if (task.placed && !task.watched && !task.cancelled && task.cancelPredicate != null) {
+                task.watched = true;
+                watched.add(task);
+            }
+        }
+
+        private void drainCancelled() {
+            TickRunnable task;
+            while ((task = cancelled.poll()) != null) {
+                if (task.placed) {
+                    unlink(task);
+                    task.placed = false;
+                    placed--;
+                }
+            }
+        }
+
+        private void collectVisits() {
+            TickRunnable task = wheel[(int) (now & WHEEL_MASK)];
+            while (task != null) {
+                TickRunnable next = task.next;
+                if (task.due == now) {
+                    unlink(task);
+                    task.visitTick = now;
+                    visits.add(task);
+                }
+                task = next;
+            }
+            int kept = 0;
+            for (TickRunnable current : watched) {
+                if (current.cancelled || current.cancelPredicate == null) {
+                    current.watched = false;
+                    continue;
+                }
+                watched.set(kept++, current);
+                if (current.checkFrom <= now && current.visitTick != now) {
+                    current.visitTick = now;
+                    visits.add(current);
+                }
+            }
+            watched.subList(kept, watched.size()).clear();
+            if (visits.size() > 1) {
+                visits.sort(BY_SEQUENCE);
+            }
+        }
+
+        private void visit(TickRunnable task) {
+            if (task.cancelled) {
+                return;
+            }
+            Predicate<TickRunnable> predicate = task.cancelPredicate;
+            if (predicate != null && predicate.test(task)) {
+                task.cancel();
+                return;
+            }
+            if (task.due > now) {
+                return;
+            }
+            // Taken out of the wheel while it runs; a low-priority task may be late.
+            unlink(task);
+            task.action.run();
+            if (!task.repeating) {
+                task.cancel();
+                return;
+            }
+            task.loopCount++;
+            if (task.maxTick > 0 && task.loopCount >= task.maxTick) {
+                task.cancel();
+                return;
+            }
+            if (!task.cancelled) {
+                task.due = now + task.delay;
+                link(task);
+            }
+        }
+
+        private void link(TickRunnable task) {
+            int slot = (int) (task.due & WHEEL_MASK);
+            TickRunnable head = wheel[slot];
+            task.slot = slot;
+            task.prev = null;
+            task.next = head;
+            if (head != null) {
+                head.prev = task;
+            }
+            wheel[slot] = task;
+        }
+
+        private void unlink(TickRunnable task) {
+            if (task.slot < 0) {
+                return;
+            }
+            if (task.prev != null) {
+                task.prev.next = task.next;
+            } else {
+                wheel[task.slot] = task.next;
+            }
+            if (task.next != null) {
+                task.next.prev = task.prev;
+            }
+            task.prev = null;
+            task.next = null;
+            task.slot = -1;
         }
     }
 
@@ -124,11 +354,24 @@ public final class ReiScheduler {
         private final boolean repeating;
         private final int maxTick; // -1 = infinite
         private int preDelay;
-        private int currentTick;
         private int loopCount;
-        private boolean cancelled;
-        private Predicate<TickRunnable> cancelPredicate;
+        private volatile boolean cancelled;
+        private volatile Predicate<TickRunnable> cancelPredicate;
         private Runnable finishCallback;
+        private volatile TickPriority priority = TickPriority.NORMAL;
+
+        // Wheel state, owned by the lane's ticking thread.
+        private TickLane lane;
+        private long sequence;
+        private long checkFrom;
+        private long due;
+        private long visitTick = -1L;
+        private int slot = -1;
+        private TickRunnable prev;
+        private TickRunnable next;
+        private boolean placed;
+        private boolean watched;
+        private boolean inDeferrable;
 
         TickRunnable(int delay, Runnable action, boolean repeating, int maxTick) {
             this.delay = Math.max(delay, 1);
@@ -137,11 +380,16 @@ public final class ReiScheduler {
             this.maxTick = maxTick;
         }
 
+        /** Cancels the task and runs its finish callback; the lane drops it on its next tick. */
         public void cancel() {
             if (cancelled) {
                 return;
             }
             this.cancelled = true;
+            TickLane owner = lane;
+            if (owner != null) {
+                owner.cancelled.add(this);
+            }
             if (finishCallback != null) {
                 finishCallback.run();
             }
@@ -151,14 +399,33 @@ public final class ReiScheduler {
             return cancelled;
         }
 
+        /** Polled every tick once the pre-delay is over, before the task's action; cancels the task when true. */
         public void setCancelPredicate(Predicate<TickRunnable> predicate) {
             this.cancelPredicate = predicate;
+            TickLane owner = lane;
+            if (predicate != null && owner != null) {
+                owner.watchRequests.add(this);
+            }
         }
 
         public void setFinishCallback(Runnable callback) {
             this.finishCallback = callback;
         }
 
+        public TickPriority getPriority() {
+            return priority;
+        }
+
+        /**
+         * Marks this task as {@link TickPriority#LOW} to let the server tick budget defer it.
+         * A deferred run is not lost; it happens on a later tick, and a repeating task's
+         * next run counts from there.
+         */
+        public TickRunnable setPriority(TickPriority priority) {
+            this.priority = priority == null ? TickPriority.NORMAL : priority;
+            return this;
+        }
+
         void setPreDelay(int preDelay) {
             this.preDelay = preDelay;
         }
@@ -166,40 +433,5 @@ public final class ReiScheduler {
         public int getLoopCount() {
             return loopCount;
         }
-
-        void doTick() {
-            if (cancelled) {
-                return;
-            }
-
-            if (preDelay > 0) {
-                preDelay--;
-                return;
-            }
-
-            currentTick++;
-
-            if (cancelPredicate != null && cancelPredicate.test(this)) {
-                cancel();
-                return;
-            }
-
-            if (!repeating) {
-                if (currentTick >= delay) {
-                    action.run();
-                    cancel();
-                }
-                return;
-            }
-
-            if (currentTick >= delay) {
-                action.run();
-                currentTick = 0;
-                loopCount++;
-                if (maxTick > 0 && loopCount >= maxTick) {
-                    cancel();
-                }
-            }
-        }
     }
 }
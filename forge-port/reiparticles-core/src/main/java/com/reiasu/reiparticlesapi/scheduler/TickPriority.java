@@ -0,0 +1,21 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.scheduler;
+
+/**
+ * How a scheduled task or emitter is treated once the server tick budget
+ * ({@link com.reiasu.reiparticlesapi.config.APIConfig#getServerTickBudgetNanos()}) is spent.
+ */
+public enum TickPriority {
+    /** Always runs every tick, regardless of the budget. */
+    NORMAL,
+    /**
+     * Runs only while budget remains. Work that does not fit is deferred to the next
+     * tick, and the deferred entries go first then, so every entry gets its turn.
+     */
+    LOW;
+
+    public boolean isDeferrable() {
+        return this == LOW;
+    }
+}
@@ -0,0 +1,44 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.utils;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Ids for objects that never leave this game instance, such as the particles of a
+ * style, as a cheap alternative to {@link UUID#randomUUID()}.
+ * <p>
+ * Ids count up from 1 and are never reused while the game runs. Where an API still
+ * wants a {@link UUID}, {@link #asUuid(long)} wraps the id without drawing from
+ * {@code SecureRandom}. Its most significant half is zero, so it can never equal a
+ * random (version 4) UUID sent by the server.
+ */
+public final class LocalIds {
+    private static final AtomicLong NEXT = new AtomicLong();
+
+    private LocalIds() {
+    }
+
+    public static long next() {
+        return NEXT.incrementAndGet();
+    }
+
+    public static UUID asUuid(long id) {
+        return new UUID(0L, id);
+    }
+
+    /** A fresh id already wrapped as a UUID. */
+    public static UUID nextUuid() {
+        return asUuid(next());
+    }
+
+    public static boolean isLocal(UUID uuid) {
+        return uuid.getMostSignificantBits() == 0L && uuid.getLeastSignificantBits() != 0L;
+    }
+
+    /** The id a {@link #isLocal local} UUID wraps; the inverse of {@link #asUuid(long)}. */
+    public static long idOf(UUID uuid) {
+        return uuid.getLeastSignificantBits();
+    }
+}
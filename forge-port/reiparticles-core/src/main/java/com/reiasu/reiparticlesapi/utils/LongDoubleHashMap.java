@@ -0,0 +1,159 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.utils;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map from {@code long} keys to {@code double} values,
+ * with the same layout and key rules as {@link LongObjectHashMap}. Not thread-safe.
+ */
+public final class LongDoubleHashMap {
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(long key, double value);
+    }
+
+    private long[] keys;
+    private double[] values;
+    private int mask;
+    private int size;
+
+    public LongDoubleHashMap() {
+        this(16);
+    }
+
+    public LongDoubleHashMap(int expectedSize) {
+        allocate(LongObjectHashMap.tableSizeFor(expectedSize));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean containsKey(long key) {
+        return key != 0L && indexOf(key) >= 0;
+    }
+
+    public double getOrDefault(long key, double defaultValue) {
+        if (key == 0L) {
+            return defaultValue;
+        }
+        int index = indexOf(key);
+        return index >= 0 ? values[index] : defaultValue;
+    }
+
+    public void put(long key, double value) {
+        if (key == 0L) {
+            throw new IllegalArgumentException("Key 0 is reserved");
+        }
+        for (int i = slot(key); ; i = (i + 1) & mask) {
+            long k = keys[i];
+            if (k == key) {
+                values[i] = value;
+                return;
+            }
+            if (k == 0L) {
+                keys[i] = key;
+                values[i] = value;
+                if (++size > (mask + 1) * 3 / 4) {
+                    rehash((mask + 1) * 2);
+                }
+                return;
+            }
+        }
+    }
+
+    public boolean remove(long key) {
+        if (key == 0L) {
+            return false;
+        }
+        int index = indexOf(key);
+        if (index < 0) {
+            return false;
+        }
+        size--;
+        shiftBack(index);
+        return true;
+    }
+
+    public void clear() {
+        if (size == 0) {
+            return;
+        }
+        Arrays.fill(keys, 0L);
+        size = 0;
+    }
+
+    public void forEach(EntryConsumer consumer) {
+        long[] table = keys;
+        double[] tableValues = values;
+        for (int i = 0; i < table.length; i++) {
+            if (table[i] != 0L) {
+                consumer.accept(table[i], tableValues[i]);
+            }
+        }
+    }
+
+    private int indexOf(long key) {
+        for (int i = slot(key); ; i = (i + 1) & mask) {
+            long k = keys[i];
+            if (k == key) {
+                return i;
+            }
+            if (k == 0L) {
+                return -1;
+            }
+        }
+    }
+
+    private void shiftBack(int gap) {
+        int i = gap;
+        while (true) {
+            i = (i + 1) & mask;
+            long k = keys[i];
+            if (k == 0L) {
+                break;
+            }
+            int home = slot(k);
+            if (gap <= i ? (home <= gap || home > i) : (home <= gap && home > i)) {
+                keys[gap] = k;
+                values[gap] = values[i];
+                gap = i;
+            }
+        }
+        keys[gap] = 0L;
+    }
+
+    private int slot(long key) {
+        return LongObjectHashMap.mix(key) & mask;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        double[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            long k = oldKeys[i];
+            if (k == 0L) {
+                continue;
+            }
+            int j = slot(k);
+            while (keys[j] != 0L) {
+                j = (j + 1) & mask;
+            }
+            keys[j] = k;
+            values[j] = oldValues[i];
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new double[capacity];
+        mask = capacity - 1;
+    }
+}
@@ -0,0 +1,207 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Open-addressing hash map from primitive {@code long} keys to objects.
+ * <p>
+ * Keys live in a flat {@code long[]} with linear probing, so lookups do not box the
+ * key and entries cost no node objects. Key {@code 0} marks an empty slot and cannot
+ * be stored; ids from {@link LocalIds} start at 1. Not thread-safe.
+ */
+public final class LongObjectHashMap<V> {
+    @FunctionalInterface
+    public interface EntryConsumer<V> {
+        void accept(long key, V value);
+    }
+
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] keys;
+    private Object[] values;
+    private int mask;
+    private int size;
+
+    public LongObjectHashMap() {
+        this(MIN_CAPACITY);
+    }
+
+    public LongObjectHashMap(int expectedSize) {
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean containsKey(long key) {
+        return get(key) != null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        if (key == 0L) {
+            return null;
+        }
+        for (int i = slot(key); ; i = (i + 1) & mask) {
+            long k = keys[i];
+            if (k == key) {
+                return (V) values[i];
+            }
+            if (k == 0L) {
+                return null;
+            }
+        }
+    }
+
+    /** Maps {@code key} to a non-null {@code value}; returns the previous value or null. */
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value) {
+        if (key == 0L) {
+            throw new IllegalArgumentException("Key 0 is reserved");
+        }
+        if (value == null) {
+            throw new IllegalArgumentException("Null values are not supported");
+        }
+        for (int i = slot(key); ; i = (i + 1) & mask) {
+            long k = keys[i];
+            if (k == key) {
+                V previous = (V) values[i];
+                values[i] = value;
+                return previous;
+            }
+            if (k == 0L) {
+                keys[i] = key;
+                values[i] = value;
+                if (++size > (mask + 1) * 3 / 4) {
+                    rehash((mask + 1) * 2);
+                }
+                return null;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public V remove(long key) {
+        if (key == 0L) {
+            return null;
+        }
+        for (int i = slot(key); ; i = (i + 1) & mask) {
+            long k = keys[i];
+            if (k == 0L) {
+                return null;
+            }
+            if (k == key) {
+                V previous = (V) values[i];
+                size--;
+                shiftBack(i);
+                return previous;
+            }
+        }
+    }
+
+    public void clear() {
+        if (size == 0) {
+            return;
+        }
+        Arrays.fill(keys, 0L);
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void forEach(EntryConsumer<? super V> consumer) {
+        long[] table = keys;
+        Object[] tableValues = values;
+        for (int i = 0; i < table.length; i++) {
+            if (table[i] != 0L) {
+                consumer.accept(table[i], (V) tableValues[i]);
+            }
+        }
+    }
+
+    /** Copies the values into a new list, in table order. */
+    @SuppressWarnings("unchecked")
+    public List<V> values() {
+        List<V> result = new ArrayList<>(size);
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0L) {
+                result.add((V) values[i]);
+            }
+        }
+        return result;
+    }
+
+    /** Closes the gap at {@code gap} so that later probes still find displaced keys. */
+    private void shiftBack(int gap) {
+        int i = gap;
+        while (true) {
+            i = (i + 1) & mask;
+            long k = keys[i];
+            if (k == 0L) {
+                break;
+            }
+            int home = slot(k);
+            // Move k into the gap unless its home lies cyclically in (gap, i].
+            if (gap <= i ? (home <= gap || home > i) : (home <= gap && home > i)) {
+                keys[gap] = k;
+                values[gap] = values[i];
+                gap = i;
+            }
+        }
+        keys[gap] = 0L;
+        values[gap] = null;
+    }
+
+    private int slot(long key) {
+        return mix(key) & mask;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            long k = oldKeys[i];
+            if (k == 0L) {
+                continue;
+            }
+            int j = slot(k);
+            while (keys[j] != 0L) {
+                j = (j + 1) & mask;
+            }
+            keys[j] = k;
+            values[j] = oldValues[i];
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+    }
+
+    /** Spreads sequential ids over the table (the murmur3 64-bit finalizer). */
+    static int mix(long key) {
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    static int tableSizeFor(int expectedSize) {
+        int needed = (int) Math.min(1L << 30, Math.max(MIN_CAPACITY, (long) expectedSize * 4 / 3 + 1));
+        return Integer.highestOneBit(needed - 1) << 1;
+    }
+}
@@ -0,0 +1,153 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.utils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A uniform column grid (cells on the XZ plane) for point range queries.
+ * <p>
+ * Values are bucketed by cell on {@link #add}; queries only visit cells that can
+ * intersect the query sphere, or only the occupied cells when that is cheaper, so the
+ * cost follows local density instead of the total number of entries. Distances are
+ * compared squared. Not thread-safe: rebuild and query from a single thread.
+ */
+public final class SpatialGrid<T> {
+    /**
+     * Receives a value inside the query range together with its order
+     * and squared distance to the query point.
+     */
+    @FunctionalInterface
+    public interface Visitor<T> {
+        void accept(T value, int order, double distanceSqr);
+    }
+
+    private final double cellSize;
+    private final Map<Long, Cell<T>> cells = new HashMap<>();
+    private int size;
+
+    public SpatialGrid(double cellSize) {
+        if (!(cellSize > 0.0)) {
+            throw new IllegalArgumentException("cellSize must be positive");
+        }
+        this.cellSize = cellSize;
+    }
+
+    public void clear() {
+        cells.clear();
+        size = 0;
+    }
+
+    /** Adds a value; its order is the number of values added before it since the last clear. */
+    public void add(T value, double x, double y, double z) {
+        add(value, size, x, y, z);
+    }
+
+    /** Adds a value with a caller-defined order that is reported back to query visitors. */
+    public void add(T value, int order, double x, double y, double z) {
+        int cx = cellCoord(x);
+        int cz = cellCoord(z);
+        cells.computeIfAbsent(pack(cx, cz), ignored -> new Cell<>(cx, cz))
+                .entries.add(new Entry<>(value, order, x, y, z));
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void forEachWithin(double x, double y, double z, double range, Visitor<T> visitor) {
+        if (size == 0 || !(range >= 0.0)) {
+            return;
+        }
+        double rangeSqr = range * range;
+        int minX = cellCoord(x - range);
+        int maxX = cellCoord(x + range);
+        int minZ = cellCoord(z - range);
+        int maxZ = cellCoord(z + range);
+        double cellsInRange = ((double) maxX - minX + 1.0) * ((double) maxZ - minZ + 1.0);
+        if (cellsInRange <= cells.size()) {
+            for (int cx = minX; cx <= maxX; cx++) {
+                for (int cz = minZ; cz <= maxZ; cz++) {
+                    Cell<T> cell = cells.get(pack(cx, cz));
+                    if (cell != null) {
+                        visitCell(cell, x, y, z, rangeSqr, visitor);
+                    }
+                }
+            }
+            return;
+        }
+        for (Cell<T> cell : cells.values()) {
+            if (cell.cx >= minX && cell.cx <= maxX && cell.cz >= minZ && cell.cz <= maxZ
+                    && cellDistanceSqr(cell, x, z) <= rangeSqr) {
+                visitCell(cell, x, y, z, rangeSqr, visitor);
+            }
+        }
+    }
+
+    public List<T> within(double x, double y, double z, double range) {
+        List<T> result = new ArrayList<>();
+        forEachWithin(x, y, z, range, (value, order, distanceSqr) -> result.add(value));
+        return result;
+    }
+
+    /**
+     * Returns the squared distance to the nearest value within {@code range},
+     * or {@link Double#MAX_VALUE} when there is none.
+     */
+    public double nearestDistanceSqr(double x, double y, double z, double range) {
+        double[] best = {Double.MAX_VALUE};
+        forEachWithin(x, y, z, range, (value, order, distanceSqr) -> {
+            if (distanceSqr < best[0]) {
+                best[0] = distanceSqr;
+            }
+        });
+        return best[0];
+    }
+
+    private static <T> void visitCell(Cell<T> cell, double x, double y, double z, double rangeSqr, Visitor<T> visitor) {
+        for (Entry<T> entry : cell.entries) {
+            double dx = entry.x - x;
+            double dy = entry.y - y;
+            double dz = entry.z - z;
+            double distanceSqr = dx * dx + dy * dy + dz * dz;
+            if (distanceSqr <= rangeSqr) {
+                visitor.accept(entry.value, entry.order, distanceSqr);
+            }
+        }
+    }
+
+    private double cellDistanceSqr(Cell<?> cell, double x, double z) {
+        double minX = cell.cx * cellSize;
+        double minZ = cell.cz * cellSize;
+        double dx = Math.max(0.0, Math.max(minX - x, x - (minX + cellSize)));
+        double dz = Math.max(0.0, Math.max(minZ - z, z - (minZ + cellSize)));
+        return dx * dx + dz * dz;
+    }
+
+    private int cellCoord(double value) {
+        double cell = Math.floor(value / cellSize);
+        return (int) Math.max(Integer.MIN_VALUE / 2, Math.min(Integer.MAX_VALUE / 2, cell));
+    }
+
+    private static long pack(int cx, int cz) {
+        return ((long) cx << 32) | (cz & 0xFFFFFFFFL);
+    }
+
+    private static final class Cell<T> {
+        private final int cx;
+        private final int cz;
+        private final List<Entry<T>> entries = new ArrayList<>(2);
+
+        private Cell(int cx, int cz) {
+            this.cx = cx;
+            this.cz = cz;
+        }
+    }
+
+    private record Entry<T>(T value, int order, double x, double y, double z) {
+    }
+}
@@ -4,15 +4,13 @@ package com.reiasu.reiparticlesapi.utils.helper.impl;
 
 import com.reiasu.reiparticlesapi.network.particle.style.ParticleGroupStyle;
 import com.reiasu.reiparticlesapi.particles.Controllable;
-import com.reiasu.reiparticlesapi.particles.control.ParticleController;
 import com.reiasu.reiparticlesapi.utils.helper.AlphaHelper;
 
 /**
  * {@link AlphaHelper} implementation for {@link ParticleGroupStyle}.
- * Propagates alpha changes recursively to all particles in the style's hierarchy.
  * <p>
- * Propagates alpha changes to all particles in the style via
- * {@link ParticleController} instances found in the style's particle map.
+ * The alpha is applied as the style's group alpha, a multiplier every attached
+ * particle picks up at render time, so a fade step does not visit the particles.
  */
 public final class StyleAlphaHelper extends AlphaHelper {
     private ParticleGroupStyle style;
@@ -51,15 +49,8 @@ public final class StyleAlphaHelper extends AlphaHelper {
     @Override
     public void setAlpha(double alpha) {
         this.currentAlpha = (float) alpha;
-        if (style == null) return;
-        for (Controllable<?> c : style.getParticles().values()) {
-            if (c instanceof ParticleController pc) {
-                try {
-                    pc.getParticle().setParticleAlpha(currentAlpha);
-                } catch (IllegalStateException e) {
-                    // Particle not loaded yet
-                }
-            }
+        if (style != null) {
+            style.setGroupAlpha(currentAlpha);
         }
     }
 
@@ -8,10 +8,9 @@ import com.reiasu.reiparticlesapi.utils.helper.AlphaHelper;
 
 /**
  * {@link AlphaHelper} implementation for {@link ParticleComposition}.
- * Uses BFS traversal to propagate alpha to all nested particles/styles/groups.
  * <p>
- * Uses BFS traversal through composition children to propagate alpha
- * to all leaf {@link ParticleController} instances.
+ * The alpha is applied as the composition's group alpha, a multiplier every attached
+ * particle picks up at render time.
  */
 public final class CompositionAlphaHelper extends AlphaHelper {
     private ParticleComposition composition;
@@ -23,7 +22,7 @@ public final class CompositionAlphaHelper extends AlphaHelper {
 
     @Override
     public Controllable<?> getLoadedGroup() {
-        return null; // ParticleComposition does not implement Controllable
+        return composition;
     }
 
     @Override
@@ -35,13 +34,15 @@ public final class CompositionAlphaHelper extends AlphaHelper {
     public void setAlpha(double alpha) {
         this.alpha = alpha;
         if (composition != null) {
-            composition.setScale(composition.getScale()); // trigger re-render
+            composition.setGroupAlpha((float) alpha);
         }
     }
 
     @Override
     public void loadController(Controllable<?> controller) {
-        // ParticleComposition is not a Controllable in the current forge-port
+        if (controller instanceof ParticleComposition pc) {
+            loadComposition(pc);
+        }
     }
 
     /**
@@ -0,0 +1,412 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.utils.math;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A math expression parsed once into a tree of evaluation nodes.
+ * <p>
+ * Accepts the same grammar as {@link ExpressionEvaluator}. Variables are bound to slot
+ * indices at compile time: the {@code i}-th name passed to {@link #compile(String, String...)}
+ * reads {@code slots[i]} in {@link #evaluate(double[])}. {@code PI} and {@code E} are
+ * constants, and every sub-expression without variables is folded into a constant.
+ * <p>
+ * Compiled expressions are immutable and cached by source and variable names, so looking
+ * one up per tick is cheap. Instances are thread-safe.
+ * <p>
+ * Usage:
+ * <pre>{@code
+ * CompiledExpression expr = CompiledExpression.compile("sin(t * PI / 180) * c", "t", "c");
+ * double result = expr.evaluate(new double[]{90, 2});
+ * }</pre>
+ */
+public final class CompiledExpression {
+    private static final int MAX_CACHED = 1024;
+    private static final Map<Key, CompiledExpression> CACHE = new ConcurrentHashMap<>();
+
+    private final String source;
+    private final List<String> variables;
+    private final Node root;
+    private final String error;
+
+    private CompiledExpression(String source, List<String> variables, Node root, String error) {
+        this.source = source;
+        this.variables = variables;
+        this.root = root;
+        this.error = error;
+    }
+
+    /**
+     * Compiles {@code source} with the given variable names bound to slots {@code 0..n-1}.
+     *
+     * @throws IllegalArgumentException if the expression is malformed or uses an unknown
+     *                                  variable or function
+     */
+    public static CompiledExpression compile(String source, String... variables) {
+        CompiledExpression compiled = lookup(source, variables, false);
+        if (compiled.error != null) {
+            throw new IllegalArgumentException(compiled.error);
+        }
+        return compiled;
+    }
+
+    /**
+     * Like {@link #compile(String, String...)}, but returns a constant {@code fallback}
+     * for a null or invalid expression instead of throwing.
+     */
+    public static CompiledExpression compileOr(String source, double fallback, String... variables) {
+        if (source == null) {
+            return constant(fallback);
+        }
+        CompiledExpression compiled = lookup(source, variables, false);
+        return compiled.error != null ? constant(fallback) : compiled;
+    }
+
+    /**
+     * Compiles {@code source} and binds every identifier other than {@code PI} and
+     * {@code E} to a slot, in order of first appearance; see {@link #getVariables()}.
+     */
+    public static CompiledExpression compileFree(String source) {
+        CompiledExpression compiled = lookup(source, new String[0], true);
+        if (compiled.error != null) {
+            throw new IllegalArgumentException(compiled.error);
+        }
+        return compiled;
+    }
+
+    public static CompiledExpression constant(double value) {
+        return new CompiledExpression(Double.toString(value), List.of(), new Constant(value), null);
+    }
+
+    static int cacheSize() {
+        return CACHE.size();
+    }
+
+    private static CompiledExpression lookup(String source, String[] variables, boolean free) {
+        Key key = new Key(source, Arrays.asList(variables), free);
+        CompiledExpression cached = CACHE.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        CompiledExpression compiled = parse(source, key.variables(), free);
+        if (CACHE.size() >= MAX_CACHED) {
+            // Sources can come from the network; keep the cache from growing without bound.
+            CACHE.clear();
+        }
+        CACHE.put(key, compiled);
+        return compiled;
+    }
+
+    private static CompiledExpression parse(String source, List<String> variables, boolean free) {
+        Parser parser = new Parser(source, variables, free);
+        try {
+            Node root = parser.parse();
+            return new CompiledExpression(source, parser.slotNames(), root, null);
+        } catch (IllegalArgumentException e) {
+            return new CompiledExpression(source, parser.slotNames(), null, e.getMessage());
+        }
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    /** Variable names by slot index. */
+    public List<String> getVariables() {
+        return variables;
+    }
+
+    /** True if the whole expression folded into a constant. */
+    public boolean isConstant() {
+        return root instanceof Constant;
+    }
+
+    /** Evaluates with {@code slots[i]} as the value of the {@code i}-th variable. */
+    public double evaluate(double[] slots) {
+        return root.eval(slots);
+    }
+
+    public double evaluate() {
+        return root.eval(null);
+    }
+
+    public double evaluate(double a) {
+        return root.eval(new double[]{a});
+    }
+
+    @Override
+    public String toString() {
+        return source;
+    }
+
+    private record Key(String source, List<String> variables, boolean free) {
+    }
+
+    @FunctionalInterface
+    private interface Node {
+        double eval(double[] slots);
+    }
+
+    private record Constant(double value) implements Node {
+        @Override
+        public double eval(double[] slots) {
+            return value;
+        }
+    }
+
+    private record Variable(int slot) implements Node {
+        @Override
+        public double eval(double[] slots) {
+            return slots[slot];
+        }
+    }
+
+    @FunctionalInterface
+    private interface BinaryOp {
+        double apply(double a, double b);
+    }
+
+    @FunctionalInterface
+    private interface UnaryOp {
+        double apply(double a);
+    }
+
+    private static final BinaryOp ADD = (a, b) -> a + b;
+    private static final BinaryOp SUBTRACT = (a, b) -> a - b;
+    private static final BinaryOp MULTIPLY = (a, b) -> a * b;
+    private static final BinaryOp DIVIDE = (a, b) -> b == 0 ? 0 : a / b;
+    private static final BinaryOp REMAINDER = (a, b) -> b == 0 ? 0 : a % b;
+    private static final BinaryOp POWER = Math::pow;
+
+    /** Recursive-descent parser building the node tree; mirrors {@link ExpressionEvaluator}. */
+    private static final class Parser {
+        private final String expression;
+        private final List<String> slots;
+        private final boolean free;
+        private int pos;
+        private int ch;
+
+        private Parser(String expression, List<String> variables, boolean free) {
+            this.expression = expression;
+            this.slots = new ArrayList<>(variables);
+            this.free = free;
+        }
+
+        private List<String> slotNames() {
+            return Collections.unmodifiableList(new ArrayList<>(slots));
+        }
+
+        private Node parse() {
+            if (expression == null) {
+                throw new IllegalArgumentException("Expression is null");
+            }
+            pos = -1;
+            advance();
+            Node result = parseExpression();
+            if (pos < expression.length()) {
+                throw new IllegalArgumentException("Unexpected character: " + (char) ch);
+            }
+            return result;
+        }
+
+        private void advance() {
+            ch = (++pos < expression.length()) ? expression.charAt(pos) : -1;
+        }
+
+        private boolean consume(int expected) {
+            skipWhitespace();
+            if (ch == expected) {
+                advance();
+                return true;
+            }
+            return false;
+        }
+
+        private void skipWhitespace() {
+            while (ch == ' ' || ch == '\t' || ch == '\r' || ch == '\n') {
+                advance();
+            }
+        }
+
+        private Node parseExpression() {
+            Node x = parseTerm();
+            for (;;) {
+                skipWhitespace();
+                if (consume('+')) {
+                    x = binary(ADD, x, parseTerm());
+                } else if (consume('-')) {
+                    x = binary(SUBTRACT, x, parseTerm());
+                } else {
+                    return x;
+                }
+            }
+        }
+
+        private Node parseTerm() {
+            Node x = parsePower();
+            for (;;) {
+                skipWhitespace();
+                if (consume('*')) {
+                    x = binary(MULTIPLY, x, parsePower());
+                } else if (consume('/')) {
+                    x = binary(DIVIDE, x, parsePower());
+                } else if (consume('%')) {
+                    x = binary(REMAINDER, x, parsePower());
+                } else {
+                    return x;
+                }
+            }
+        }
+
+        private Node parsePower() {
+            Node x = parseUnary();
+            skipWhitespace();
+            if (consume('^')) {
+                x = binary(POWER, x, parsePower());
+            }
+            return x;
+        }
+
+        private Node parseUnary() {
+            skipWhitespace();
+            if (consume('+')) return parseUnary();
+            if (consume('-')) return unary(a -> -a, parseUnary());
+            return parseAtom();
+        }
+
+        private Node parseAtom() {
+            skipWhitespace();
+            if (consume('(')) {
+                Node x = parseExpression();
+                consume(')');
+                return x;
+            }
+            if ((ch >= '0' && ch <= '9') || ch == '.') {
+                return parseNumber();
+            }
+            if (isIdentStart(ch)) {
+                return parseIdentifier();
+            }
+            throw new IllegalArgumentException("Unexpected character: " + (char) ch + " at position " + pos);
+        }
+
+        private Node parseNumber() {
+            int start = pos;
+            while ((ch >= '0' && ch <= '9') || ch == '.') advance();
+            if (ch == 'e' || ch == 'E') {
+                advance();
+                if (ch == '+' || ch == '-') advance();
+                while (ch >= '0' && ch <= '9') advance();
+            }
+            try {
+                return new Constant(Double.parseDouble(expression.substring(start, pos)));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Malformed number at position " + start, e);
+            }
+        }
+
+        private Node parseIdentifier() {
+            int start = pos;
+            while (isIdentPart(ch)) advance();
+            String name = expression.substring(start, pos);
+            skipWhitespace();
+
+            if (ch == '(') {
+                advance();
+                Node arg1 = parseExpression();
+                if (consume(',')) {
+                    Node arg2 = parseExpression();
+                    consume(')');
+                    return binary(function2(name), arg1, arg2);
+                }
+                consume(')');
+                return unary(function1(name), arg1);
+            }
+
+            int slot = slots.indexOf(name);
+            if (slot >= 0) {
+                return new Variable(slot);
+            }
+            if (name.equals("PI")) {
+                return new Constant(Math.PI);
+            }
+            if (name.equals("E")) {
+                return new Constant(Math.E);
+            }
+            if (free) {
+                slots.add(name);
+                return new Variable(slots.size() - 1);
+            }
+            throw new IllegalArgumentException("Unknown variable: " + name);
+        }
+
+        private static UnaryOp function1(String name) {
+            return switch (name) {
+                case "sin" -> Math::sin;
+                case "cos" -> Math::cos;
+                case "tan" -> Math::tan;
+                case "asin" -> Math::asin;
+                case "acos" -> Math::acos;
+                case "atan" -> Math::atan;
+                case "sqrt" -> Math::sqrt;
+                case "abs" -> Math::abs;
+                case "floor" -> Math::floor;
+                case "ceil" -> Math::ceil;
+                case "round" -> a -> Math.round(a);
+                case "log" -> Math::log;
+                case "log10" -> Math::log10;
+                case "exp" -> Math::exp;
+                case "sign", "signum" -> Math::signum;
+                case "toRadians", "radians", "rad" -> Math::toRadians;
+                case "toDegrees", "degrees", "deg" -> Math::toDegrees;
+                default -> throw new IllegalArgumentException("Unknown function: " + name);
+            };
+        }
+
+        private static BinaryOp function2(String name) {
+            return switch (name) {
+                case "pow" -> Math::pow;
+                case "min" -> Math::min;
+                case "max" -> Math::max;
+                case "atan2" -> Math::atan2;
+                default -> throw new IllegalArgumentException("Unknown function: " + name);
+            };
+        }
+
+        private static Node unary(UnaryOp op, Node arg) {
+            if (arg instanceof Constant c) {
+                return new Constant(op.apply(c.value()));
+            }
+            return slots -> op.apply(arg.eval(slots));
+        }
+
+        private static Node binary(BinaryOp op, Node left, Node right) {
+            if (left instanceof Constant l && right instanceof Constant r) {
+                return new Constant(op.apply(l.value(), r.value()));
+            }
+            if (right instanceof Constant r) {
+                double b = r.value();
+                return slots -> op.apply(left.eval(slots), b);
+            }
+            if (left instanceof Constant l) {
+                double a = l.value();
+                return slots -> op.apply(a, right.eval(slots));
+            }
+            return slots -> op.apply(left.eval(slots), right.eval(slots));
+        }
+
+        private static boolean isIdentStart(int c) {
+            return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_';
+        }
+
+        private static boolean isIdentPart(int c) {
+            return isIdentStart(c) || (c >= '0' && c <= '9');
+        }
+    }
+}
@@ -2,8 +2,8 @@
 // Copyright (C) 2025 Reiasu
 package com.reiasu.reiparticlesapi.utils.math;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * Lightweight mathematical expression evaluator.
@@ -18,6 +18,10 @@ import java.util.Map;
  *   <li>Functions: {@code sin cos tan asin acos atan sqrt abs floor ceil log exp pow min max}</li>
  * </ul>
  * <p>
+ * The expression is compiled once through {@link CompiledExpression} and shared with every
+ * evaluator of the same source. Code that evaluates an expression many times should use
+ * {@link CompiledExpression} directly and pass the variables as slots.
+ * <p>
  * Thread-safety: instances are <b>not</b> thread-safe. Create one per thread
  * or synchronise externally.
  * <p>
@@ -31,18 +35,30 @@ import java.util.Map;
 public final class ExpressionEvaluator {
 
     private final String expression;
-    private final Map<String, Double> variables = new HashMap<>();
-    private int pos;
-    private int ch;
+    private String[] names = new String[4];
+    private double[] values = new double[4];
+    private int size;
+    private CompiledExpression compiled;
+    private double[] slots;
 
     public ExpressionEvaluator(String expression) {
         this.expression = expression;
-        variables.put("PI", Math.PI);
-        variables.put("E", Math.E);
     }
 
     public ExpressionEvaluator with(String name, double value) {
-        variables.put(name, value);
+        for (int i = 0; i < size; i++) {
+            if (names[i].equals(name)) {
+                values[i] = value;
+                return this;
+            }
+        }
+        if (size == names.length) {
+            names = Arrays.copyOf(names, size * 2);
+            values = Arrays.copyOf(values, size * 2);
+        }
+        names[size] = name;
+        values[size] = value;
+        size++;
         return this;
     }
 
@@ -51,185 +67,23 @@ public final class ExpressionEvaluator {
     }
 
     public double evaluate() {
-        pos = -1;
-        advance();
-        double result = parseExpression();
-        if (pos < expression.length()) {
-            throw new RuntimeException("Unexpected character: " + (char) ch);
-        }
-        return result;
-    }
-
-    private void advance() {
-        ch = (++pos < expression.length()) ? expression.charAt(pos) : -1;
-    }
-
-    private boolean consume(int expected) {
-        skipWhitespace();
-        if (ch == expected) {
-            advance();
-            return true;
-        }
-        return false;
-    }
-
-    private void skipWhitespace() {
-        while (ch == ' ' || ch == '\t' || ch == '\r' || ch == '\n') {
-            advance();
-        }
-    }
-
-    // Grammar: expression = term (('+' | '-') term)*
-    private double parseExpression() {
-        double x = parseTerm();
-        for (;;) {
-            skipWhitespace();
-            if (consume('+')) {
-                x += parseTerm();
-            } else if (consume('-')) {
-                x -= parseTerm();
-            } else {
-                return x;
-            }
-        }
-    }
-
-    // term = power (('*' | '/' | '%') power)*
-    private double parseTerm() {
-        double x = parsePower();
-        for (;;) {
-            skipWhitespace();
-            if (consume('*')) {
-                x *= parsePower();
-            } else if (consume('/')) {
-                double d = parsePower();
-                x = (d == 0) ? 0 : x / d;
-            } else if (consume('%')) {
-                double d = parsePower();
-                x = (d == 0) ? 0 : x % d;
-            } else {
-                return x;
-            }
-        }
-    }
-
-    // power = unary ('^' unary)*   (right-associative)
-    private double parsePower() {
-        double x = parseUnary();
-        skipWhitespace();
-        if (consume('^')) {
-            x = Math.pow(x, parsePower());
+        if (compiled == null) {
+            compiled = CompiledExpression.compileFree(expression);
+            slots = new double[compiled.getVariables().size()];
         }
-        return x;
-    }
-
-    // unary = ('+' | '-')? atom
-    private double parseUnary() {
-        skipWhitespace();
-        if (consume('+')) return parseUnary();
-        if (consume('-')) return -parseUnary();
-        return parseAtom();
-    }
-
-    // atom = number | '(' expression ')' | function '(' args ')' | variable
-    private double parseAtom() {
-        skipWhitespace();
-        // Parenthesised expression
-        if (consume('(')) {
-            double x = parseExpression();
-            consume(')');
-            return x;
-        }
-
-        // Number literal
-        if ((ch >= '0' && ch <= '9') || ch == '.') {
-            return parseNumber();
-        }
-
-        // Identifier: function or variable
-        if (isIdentStart(ch)) {
-            return parseIdentifier();
-        }
-
-        throw new RuntimeException("Unexpected character: " + (char) ch + " at position " + pos);
-    }
-
-    private double parseNumber() {
-        int start = pos;
-        while ((ch >= '0' && ch <= '9') || ch == '.') advance();
-        // Handle scientific notation (e.g. 1e-3, 2.5E+10)
-        if (ch == 'e' || ch == 'E') {
-            advance();
-            if (ch == '+' || ch == '-') advance();
-            while (ch >= '0' && ch <= '9') advance();
+        List<String> variables = compiled.getVariables();
+        for (int slot = 0; slot < slots.length; slot++) {
+            slots[slot] = valueOf(variables.get(slot));
         }
-        return Double.parseDouble(expression.substring(start, pos));
+        return compiled.evaluate(slots);
     }
 
-    private double parseIdentifier() {
-        int start = pos;
-        while (isIdentPart(ch)) advance();
-        String name = expression.substring(start, pos);
-        skipWhitespace();
-
-        // Function call
-        if (ch == '(') {
-            advance(); // consume '('
-            double arg1 = parseExpression();
-            if (consume(',')) {
-                double arg2 = parseExpression();
-                consume(')');
-                return evalFunction2(name, arg1, arg2);
+    private double valueOf(String name) {
+        for (int i = 0; i < size; i++) {
+            if (names[i].equals(name)) {
+                return values[i];
             }
-            consume(')');
-            return evalFunction1(name, arg1);
         }
-
-        // Variable / constant
-        Double val = variables.get(name);
-        if (val != null) return val;
-
         throw new RuntimeException("Unknown variable: " + name);
     }
-
-    private static double evalFunction1(String name, double arg) {
-        return switch (name) {
-            case "sin" -> Math.sin(arg);
-            case "cos" -> Math.cos(arg);
-            case "tan" -> Math.tan(arg);
-            case "asin" -> Math.asin(arg);
-            case "acos" -> Math.acos(arg);
-            case "atan" -> Math.atan(arg);
-            case "sqrt" -> Math.sqrt(arg);
-            case "abs" -> Math.abs(arg);
-            case "floor" -> Math.floor(arg);
-            case "ceil" -> Math.ceil(arg);
-            case "round" -> Math.round(arg);
-            case "log" -> Math.log(arg);
-            case "log10" -> Math.log10(arg);
-            case "exp" -> Math.exp(arg);
-            case "sign", "signum" -> Math.signum(arg);
-            case "toRadians", "radians", "rad" -> Math.toRadians(arg);
-            case "toDegrees", "degrees", "deg" -> Math.toDegrees(arg);
-            default -> throw new RuntimeException("Unknown function: " + name);
-        };
-    }
-
-    private static double evalFunction2(String name, double a, double b) {
-        return switch (name) {
-            case "pow" -> Math.pow(a, b);
-            case "min" -> Math.min(a, b);
-            case "max" -> Math.max(a, b);
-            case "atan2" -> Math.atan2(a, b);
-            default -> throw new RuntimeException("Unknown function: " + name);
-        };
-    }
-
-    private static boolean isIdentStart(int c) {
-        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_';
-    }
-
-    private static boolean isIdentPart(int c) {
-        return isIdentStart(c) || (c >= '0' && c <= '9');
-    }
 }
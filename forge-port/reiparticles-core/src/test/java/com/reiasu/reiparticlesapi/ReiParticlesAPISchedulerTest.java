@@ -18,13 +18,21 @@
 // SPDX-License-Identifier: LGPL-3.0-only
 package com.reiasu.reiparticlesapi;
 
+import com.reiasu.reiparticlesapi.config.APIConfig;
 import com.reiasu.reiparticlesapi.scheduler.ReiScheduler;
+import com.reiasu.reiparticlesapi.scheduler.TickPriority;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -75,4 +83,342 @@ class ReiParticlesAPISchedulerTest {
         ReiScheduler.INSTANCE.doServerTick();
         assertTrue(executed.get());
     }
+
+    @Test
+    void lowPriorityTasksRotateWhenServerTickIsOverBudget() {
+        long budget = APIConfig.INSTANCE.getServerTickBudgetNanos();
+        try {
+            APIConfig.INSTANCE.setServerTickBudgetNanos(1L);
+            AtomicInteger normalRuns = new AtomicInteger();
+            List<String> lowRuns = new ArrayList<>();
+            ReiScheduler.INSTANCE.runTaskTimer(1, () -> {
+                normalRuns.incrementAndGet();
+                spin(200_000L);
+            });
+            for (String name : List.of("a", "b", "c")) {
+                ReiScheduler.INSTANCE.runTaskTimer(1, () -> lowRuns.add(name)).setPriority(TickPriority.LOW);
+            }
+
+            for (int tick = 0; tick < 6; tick++) {
+                ReiScheduler.INSTANCE.doServerTick();
+            }
+            assertEquals(6, normalRuns.get());
+            assertEquals(List.of("a", "b", "c", "a", "b", "c"), lowRuns);
+            assertEquals(2, ReiScheduler.INSTANCE.getLastServerDeferredCount());
+
+            APIConfig.INSTANCE.setServerTickBudgetNanos(0L);
+            lowRuns.clear();
+            ReiScheduler.INSTANCE.doServerTick();
+            assertEquals(3, lowRuns.size());
+            assertEquals(0, ReiScheduler.INSTANCE.getLastServerDeferredCount());
+        } finally {
+            APIConfig.INSTANCE.setServerTickBudgetNanos(budget);
+        }
+    }
+
+    @Test
+    void deferredOneShotTaskStillRunsLater() {
+        long budget = APIConfig.INSTANCE.getServerTickBudgetNanos();
+        try {
+            APIConfig.INSTANCE.setServerTickBudgetNanos(1L);
+            AtomicInteger runs = new AtomicInteger();
+            ReiScheduler.INSTANCE.runTaskTimer(1, () -> spin(200_000L));
+            ReiScheduler.INSTANCE.runTask(1, runs::incrementAndGet).setPriority(TickPriority.LOW);
+            ReiScheduler.INSTANCE.runTask(1, runs::incrementAndGet).setPriority(TickPriority.LOW);
+
+            ReiScheduler.INSTANCE.doServerTick();
+            assertEquals(1, runs.get());
+            ReiScheduler.INSTANCE.doServerTick();
+            assertEquals(2, runs.get());
+            assertEquals(0, ReiScheduler.INSTANCE.getLastServerDeferredCount());
+        } finally {
+            APIConfig.INSTANCE.setServerTickBudgetNanos(budget);
+        }
+    }
+
+    @Test
+    void wheelMatchesCountdownSchedulerOnRandomWorkloads() {
+        for (long seed = 1; seed <= 40; seed++) {
+            ReiScheduler.INSTANCE.clear();
+            assertEquals(runReference(seed), runWheel(seed), "seed " + seed);
+        }
+    }
+
+    @Test
+    void longDelaysWrapTheWheel() {
+        List<Integer> fired = new ArrayList<>();
+        int[] tick = {0};
+        ReiScheduler.INSTANCE.runTask(513, () -> fired.add(tick[0]));
+        ReiScheduler.INSTANCE.runTask(1500, () -> fired.add(tick[0]));
+        ReiScheduler.INSTANCE.runTaskTimerMaxTick(600, 2, () -> fired.add(tick[0]));
+
+        for (tick[0] = 1; tick[0] <= 1600; tick[0]++) {
+            ReiScheduler.INSTANCE.doServerTick();
+        }
+        assertEquals(List.of(513, 601, 602, 1500), fired);
+        assertEquals(0, ReiScheduler.INSTANCE.getServerTaskCount());
+    }
+
+    @Test
+    void cancelledTasksLeaveTheWheelAndRunTheirFinishCallback() {
+        AtomicInteger runs = new AtomicInteger();
+        AtomicInteger finished = new AtomicInteger();
+        List<ReiScheduler.TickRunnable> tasks = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            ReiScheduler.TickRunnable task = ReiScheduler.INSTANCE.runTaskTimer(5, runs::incrementAndGet);
+            task.setFinishCallback(finished::incrementAndGet);
+            tasks.add(task);
+        }
+        ReiScheduler.INSTANCE.doServerTick();
+        assertEquals(100, ReiScheduler.INSTANCE.getServerTaskCount());
+
+        tasks.forEach(ReiScheduler.TickRunnable::cancel);
+        tasks.forEach(ReiScheduler.TickRunnable::cancel);
+        assertEquals(100, finished.get());
+        for (int tick = 0; tick < 10; tick++) {
+            ReiScheduler.INSTANCE.doServerTick();
+        }
+        assertEquals(0, runs.get());
+        assertEquals(0, ReiScheduler.INSTANCE.getServerTaskCount());
+    }
+
+    /** Schedules the same random workload on {@link ReiScheduler} and returns what happened per tick. */
+    private static List<String> runWheel(long seed) {
+        List<String> log = new ArrayList<>();
+        int[] tick = {0};
+        Workload workload = new Workload(seed, new Scheduling() {
+            @Override
+            public Handle schedule(int kind, int delay, int maxTick, int preDelay, Runnable action) {
+                ReiScheduler.TickRunnable task = switch (kind) {
+                    case 0 -> ReiScheduler.INSTANCE.runTask(delay, action);
+                    case 1 -> ReiScheduler.INSTANCE.runTaskTimer(delay, action);
+                    case 2 -> ReiScheduler.INSTANCE.runTaskTimerMaxTick(maxTick, action);
+                    default -> ReiScheduler.INSTANCE.runTaskTimerMaxTick(preDelay, maxTick, action);
+                };
+                return new Handle() {
+                    @Override
+                    public void cancel() {
+                        task.cancel();
+                    }
+
+                    @Override
+                    public void cancelWhen(BooleanSupplier condition) {
+                        task.setCancelPredicate(ignored -> condition.getAsBoolean());
+                    }
+
+                    @Override
+                    public void onFinish(Runnable callback) {
+                        task.setFinishCallback(callback);
+                    }
+
+                    @Override
+                    public int loops() {
+                        return task.getLoopCount();
+                    }
+                };
+            }
+        }, log, tick);
+        for (tick[0] = 1; tick[0] <= Workload.TICKS; tick[0]++) {
+            workload.beforeTick();
+            ReiScheduler.INSTANCE.doServerTick();
+        }
+        return log;
+    }
+
+    /** Runs the workload on {@link CountdownScheduler}, the per-task countdown the wheel replaced. */
+    private static List<String> runReference(long seed) {
+        List<String> log = new ArrayList<>();
+        int[] tick = {0};
+        CountdownScheduler scheduler = new CountdownScheduler();
+        Workload workload = new Workload(seed, scheduler, log, tick);
+        for (tick[0] = 1; tick[0] <= Workload.TICKS; tick[0]++) {
+            workload.beforeTick();
+            scheduler.tick();
+        }
+        return log;
+    }
+
+    private interface Scheduling {
+        /** {@code kind}: 0 runTask, 1 runTaskTimer, 2 runTaskTimerMaxTick, 3 the same with a pre-delay. */
+        Handle schedule(int kind, int delay, int maxTick, int preDelay, Runnable action);
+    }
+
+    private interface Handle {
+        void cancel();
+
+        void cancelWhen(BooleanSupplier condition);
+
+        void onFinish(Runnable callback);
+
+        int loops();
+    }
+
+    /**
+     * A seeded mix of one-shot, timer and max-tick tasks with pre-delays, finish callbacks,
+     * cancel predicates, external cancels and tasks that schedule more tasks. Every random
+     * draw happens outside task actions, so both schedulers see the same workload.
+     */
+    private static final class Workload {
+        static final int TICKS = 700;
+
+        private final Random random;
+        private final Scheduling scheduling;
+        private final List<String> log;
+        private final int[] tick;
+        private final List<Handle> handles = new ArrayList<>();
+        private int nextId;
+
+        Workload(long seed, Scheduling scheduling, List<String> log, int[] tick) {
+            this.random = new Random(seed);
+            this.scheduling = scheduling;
+            this.log = log;
+            this.tick = tick;
+        }
+
+        void beforeTick() {
+            int spawns = tick[0] == 1 ? 60 : random.nextInt(3);
+            for (int i = 0; i < spawns; i++) {
+                spawn();
+            }
+            if (!handles.isEmpty() && random.nextInt(4) == 0) {
+                handles.get(random.nextInt(handles.size())).cancel();
+            }
+        }
+
+        private void spawn() {
+            int id = nextId++;
+            int kind = random.nextInt(4);
+            int delay = random.nextInt(10) == 0 ? 500 + random.nextInt(200) : random.nextInt(12);
+            int maxTick = random.nextInt(8) - 1;
+            int preDelay = random.nextInt(6);
+            int childDelay = random.nextBoolean() ? -1 : random.nextInt(5);
+            int stopAfter = random.nextInt(3) == 0 ? 1 + random.nextInt(5) : -1;
+            boolean callback = random.nextBoolean();
+
+            Handle[] self = new Handle[1];
+            self[0] = scheduling.schedule(kind, delay, maxTick, preDelay, () -> {
+                log.add(tick[0] + " run " + id + " loop " + self[0].loops());
+                if (childDelay >= 0 && self[0].loops() == 0) {
+                    int child = id + 100_000;
+                    scheduling.schedule(0, childDelay, 0, 0, () -> log.add(tick[0] + " child " + child));
+                }
+            });
+            if (callback) {
+                self[0].onFinish(() -> log.add(tick[0] + " finish " + id));
+            }
+            if (stopAfter > 0) {
+                self[0].cancelWhen(() -> self[0].loops() >= stopAfter);
+            }
+            handles.add(self[0]);
+        }
+    }
+
+    /** Reference model: every task counts down on every tick, in scheduling order. */
+    private static final class CountdownScheduler implements Scheduling {
+        private final List<Task> queued = new ArrayList<>();
+        private final List<Task> active = new ArrayList<>();
+
+        @Override
+        public Handle schedule(int kind, int delay, int maxTick, int preDelay, Runnable action) {
+            Task task = switch (kind) {
+                case 0 -> new Task(delay, action, false, 0, 0);
+                case 1 -> new Task(delay, action, true, -1, 0);
+                case 2 -> new Task(1, action, true, maxTick, 0);
+                default -> new Task(1, action, true, maxTick, Math.max(preDelay, 0));
+            };
+            queued.add(task);
+            return task;
+        }
+
+        void tick() {
+            active.addAll(queued);
+            queued.clear();
+            for (Task task : new ArrayList<>(active)) {
+                task.tick();
+            }
+            active.removeIf(task -> task.cancelled);
+        }
+
+        private static final class Task implements Handle {
+            private final int delay;
+            private final Runnable action;
+            private final boolean repeating;
+            private final int maxTick;
+            private int preDelay;
+            private int currentTick;
+            private int loopCount;
+            private boolean cancelled;
+            private BooleanSupplier cancelCondition;
+            private Runnable finishCallback;
+
+            Task(int delay, Runnable action, boolean repeating, int maxTick, int preDelay) {
+                this.delay = Math.max(delay, 1);
+                this.action = action;
+                this.repeating = repeating;
+                this.maxTick = maxTick;
+                this.preDelay = preDelay;
+            }
+
+            void tick() {
+                if (cancelled) {
+                    return;
+                }
+                if (preDelay > 0) {
+                    preDelay--;
+                    return;
+                }
+                currentTick++;
+                if (cancelCondition != null && cancelCondition.getAsBoolean()) {
+                    cancel();
+                    return;
+                }
+                if (currentTick < delay) {
+                    return;
+                }
+                action.run();
+                if (!repeating) {
+                    cancel();
+                    return;
+                }
+                currentTick = 0;
+                loopCount++;
+                if (maxTick > 0 && loopCount >= maxTick) {
+                    cancel();
+                }
+            }
+
+            @Override
+            public void cancel() {
+                if (cancelled) {
+                    return;
+                }
+                cancelled = true;
+                if (finishCallback != null) {
+                    finishCallback.run();
+                }
+            }
+
+            @Override
+            public void cancelWhen(BooleanSupplier condition) {
+                cancelCondition = condition;
+            }
+
+            @Override
+            public void onFinish(Runnable callback) {
+                finishCallback = callback;
+            }
+
+            @Override
+            public int loops() {
+                return loopCount;
+            }
+        }
+    }
+
+    private static void spin(long nanos) {
+        long end = System.nanoTime() + nanos;
+        while (System.nanoTime() < end) {
+            Thread.onSpinWait();
+        }
+    }
 }
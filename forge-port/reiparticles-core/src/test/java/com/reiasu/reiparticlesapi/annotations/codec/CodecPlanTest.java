@@ -0,0 +1,100 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.annotations.codec;
+
+import com.reiasu.reiparticlesapi.annotations.CodecField;
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.FriendlyByteBuf;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+final class CodecPlanTest {
+    @Test
+    void planIsCachedPerClassAndSkipsFinalAndPlainFields() {
+        CodecPlan plan = CodecPlan.of(Sample.class);
+
+        assertSame(plan, CodecPlan.of(Sample.class));
+        assertEquals(3, plan.getFieldCount());
+    }
+
+    @Test
+    void encodesInIndexThenNameOrderAndDecodesBack() {
+        Sample sample = new Sample();
+        sample.beta = 7;
+        sample.alpha = 3;
+        sample.name = "ring";
+        sample.untracked = 99;
+
+        FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+        CodecHelper.INSTANCE.encodeAnnotatedFields(buf, sample);
+        // index 0: alpha, beta by name; index 1: name
+        assertEquals(3, buf.readInt());
+        assertEquals(7, buf.readInt());
+        assertEquals("ring", buf.readUtf());
+
+        buf = new FriendlyByteBuf(Unpooled.buffer());
+        CodecHelper.INSTANCE.encodeAnnotatedFields(buf, sample);
+        Sample decoded = new Sample();
+        CodecHelper.INSTANCE.decodeAnnotatedFields(buf, decoded);
+        assertEquals(3, decoded.alpha);
+        assertEquals(7, decoded.beta);
+        assertEquals("ring", decoded.name);
+        assertEquals(0, decoded.untracked);
+    }
+
+    @Test
+    void updateFieldsCopiesOnlyCodecFields() {
+        Sample from = new Sample();
+        from.alpha = 1;
+        from.name = "from";
+        from.untracked = 5;
+        Sample to = new Sample();
+
+        CodecHelper.INSTANCE.updateFields(to, from);
+
+        assertEquals(1, to.alpha);
+        assertEquals("from", to.name);
+        assertEquals(0, to.untracked);
+    }
+
+    @Test
+    void reRegisteredCodecsAreUsedAndMissingOnesFail() {
+        Tagged tagged = new Tagged();
+        tagged.tag = new Tag(4);
+        assertThrows(IllegalStateException.class,
+                () -> CodecHelper.INSTANCE.encodeAnnotatedFields(new FriendlyByteBuf(Unpooled.buffer()), tagged));
+
+        CodecHelper.INSTANCE.register(Tag.class, BufferCodec.of((buf, t) -> buf.writeInt(t.value()), buf -> new Tag(buf.readInt())));
+        FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+        CodecHelper.INSTANCE.encodeAnnotatedFields(buf, tagged);
+        assertEquals(4, buf.readInt());
+
+        CodecHelper.INSTANCE.register(Tag.class, BufferCodec.of((b, t) -> b.writeInt(-t.value()), b -> new Tag(-b.readInt())));
+        buf = new FriendlyByteBuf(Unpooled.buffer());
+        CodecHelper.INSTANCE.encodeAnnotatedFields(buf, tagged);
+        assertEquals(-4, buf.readInt());
+    }
+
+    static final class Sample {
+        @CodecField
+        private int beta;
+        @CodecField
+        private int alpha;
+        @CodecField(index = 1)
+        private String name;
+        @CodecField
+        private final int fixed = 1;
+        private int untracked;
+    }
+
+    record Tag(int value) {
+    }
+
+    static final class Tagged {
+        @CodecField
+        private Tag tag;
+    }
+}
@@ -18,6 +18,12 @@ final class PackageDependencyRulesTest {
     private static final Path CORE_MAIN = Path.of("src/main/java/com/reiasu/reiparticlesapi");
     private static final Path SKILL_MAIN = Path.of("../reiparticles-skill/src/main/java/com/reiasu/reiparticleskill");
     private static final Path TESTKIT_MAIN = Path.of("../reiparticles-testkit/src/main/java");
+    /** Modules packed into the mod jar; each compiles classes under the scanned package roots. */
+    private static final List<Path> SHIPPED_BUILD_FILES = List.of(
+            Path.of("build.gradle"),
+            Path.of("../reiparticles-skill/build.gradle"),
+            Path.of("../reiparticles-forge-runtime/build.gradle"));
+    private static final String INDEX_PROCESSOR = "annotationProcessor project(':reiparticles-processor')";
     private static final String CATCH_THROWABLE = "catch (" + "Throwable";
     private static final String CATCH_THROWABLE_NO_SPACE = "catch(" + "Throwable";
 
@@ -71,6 +77,20 @@ final class PackageDependencyRulesTest {
         assertTrue(violations.isEmpty(), String.join(System.lineSeparator(), violations));
     }
 
+    @Test
+    void shippedModulesWriteAnnotationIndexes() throws IOException {
+        // An index claims its whole package root, so a module compiling into that root
+        // without one would hide its annotated classes from ReiAPIScanner.
+        List<String> violations = new ArrayList<>();
+        for (Path buildFile : SHIPPED_BUILD_FILES) {
+            assertTrue(Files.exists(buildFile), "Missing build file: " + buildFile.toAbsolutePath());
+            if (!Files.readString(buildFile, StandardCharsets.UTF_8).contains(INDEX_PROCESSOR)) {
+                violations.add(buildFile + " -> missing " + INDEX_PROCESSOR);
+            }
+        }
+        assertTrue(violations.isEmpty(), String.join(System.lineSeparator(), violations));
+    }
+
     private static List<String> findImportViolations(Path root, String forbiddenImport) throws IOException {
         return findTextViolations(root, forbiddenImport);
     }
@@ -0,0 +1,134 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.barrages;
+
+import com.reiasu.reiparticlesapi.network.particle.ServerController;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class AbstractBarrageTest {
+    @Test
+    void blockAndEntityChecksCoverTheWholeSweep() {
+        ProbeBarrage barrage = new ProbeBarrage(new Vec3(0.5, 0.5, 0.5), new Vec3(6.0, 0.0, 0.0));
+        barrage.getOptions().setAcrossBlock(false);
+
+        barrage.tick();
+
+        Set<BlockPos> expected = new HashSet<>();
+        for (int x = 0; x <= 6; x++) {
+            expected.add(new BlockPos(x, 0, 0));
+        }
+        // The end-of-tick box alone would only see x = 6.
+        assertEquals(expected, barrage.blocksRead);
+        AABB startBox = HitBox.of(0.5, 0.5, 0.5).ofBox(new Vec3(0.5, 0.5, 0.5));
+        assertEquals(List.of(startBox.expandTowards(6.0, 0.0, 0.0)), barrage.entityAreas);
+        assertEquals(new Vec3(6.5, 0.5, 0.5), barrage.getLoc());
+    }
+
+    @Test
+    void blockCheckSkipsCellsTheDiagonalSweepNeverCrosses() {
+        ProbeBarrage barrage = new ProbeBarrage(new Vec3(0.5, 0.5, 0.5), new Vec3(4.0, 4.0, 0.0));
+        barrage.getOptions().setAcrossBlock(false);
+
+        barrage.tick();
+
+        assertTrue(barrage.blocksRead.contains(new BlockPos(2, 2, 0)));
+        assertFalse(barrage.blocksRead.contains(new BlockPos(4, 0, 0)));
+        assertFalse(barrage.blocksRead.contains(new BlockPos(0, 4, 0)));
+    }
+
+    @Test
+    void barrageTunnellingThroughAnotherInOneTickStillHitsIt() {
+        ProbeBarrage left = new ProbeBarrage(new Vec3(0.0, 0.0, 0.0), new Vec3(12.0, 0.0, 0.0));
+        ProbeBarrage right = new ProbeBarrage(new Vec3(10.0, 0.0, 0.0), new Vec3(-1.0, 0.0, 0.0));
+        BarrageBroadphase broadphase = new BarrageBroadphase();
+        left.setBroadphase(broadphase);
+        right.setBroadphase(broadphase);
+        broadphase.rebuild(List.of(left, right));
+
+        left.tick();
+
+        assertEquals(List.of(right), left.barragesHit);
+        assertFalse(left.getValid());
+        assertTrue(right.getValid());
+    }
+
+    @Test
+    void unloadedChunksAreNotTicked() {
+        ProbeBarrage barrage = new ProbeBarrage(Vec3.ZERO, new Vec3(1.0, 0.0, 0.0));
+        barrage.chunkLoaded = false;
+
+        barrage.tick();
+
+        assertEquals(Vec3.ZERO, barrage.getLoc());
+        assertTrue(barrage.entityAreas.isEmpty());
+    }
+
+    /** Runs the real {@link AbstractBarrage#tick()} against an empty level and records what it reads. */
+    private static final class ProbeBarrage extends AbstractBarrage {
+        private final Set<BlockPos> blocksRead = new HashSet<>();
+        private final List<AABB> entityAreas = new ArrayList<>();
+        private final List<Barrage> barragesHit = new ArrayList<>();
+        private boolean chunkLoaded = true;
+
+        private ProbeBarrage(Vec3 loc, Vec3 direction) {
+            super(loc, null, HitBox.of(0.5, 0.5, 0.5), new ServerController<Object>() {
+            }, collidableOptions());
+            setDirection(direction);
+            setLaunch(true);
+        }
+
+        private static BarrageOption collidableOptions() {
+            BarrageOption options = new BarrageOption();
+            options.setAcrossBlock(true);
+            options.setNoneHitBoxTick(0);
+            return options;
+        }
+
+        @Override
+        public boolean filterHitEntity(LivingEntity entity) {
+            return true;
+        }
+
+        @Override
+        public boolean filterHitBarrage(Barrage barrage) {
+            return barrage != this;
+        }
+
+        @Override
+        public void onHit(BarrageHitResult result) {
+            barragesHit.addAll(result.getBarrages());
+        }
+
+        @Override
+        protected boolean isChunkLoaded(Vec3 pos) {
+            return chunkLoaded;
+        }
+
+        @Override
+        protected BlockState getLoadedBlockState(BlockPos pos) {
+            blocksRead.add(pos.immutable());
+            return null;
+        }
+
+        @Override
+        protected List<LivingEntity> getEntities(AABB area, Predicate<? super LivingEntity> filter) {
+            entityAreas.add(area);
+            return List.of();
+        }
+    }
+}
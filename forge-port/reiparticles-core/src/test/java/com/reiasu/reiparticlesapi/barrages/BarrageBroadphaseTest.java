@@ -0,0 +1,272 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.barrages;
+
+import com.reiasu.reiparticlesapi.network.particle.ServerController;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class BarrageBroadphaseTest {
+    private static final double EPSILON = 1.0e-9;
+
+    @Test
+    void sweptBoxHitsThinWallItWouldOtherwiseSkip() {
+        AABB box = HitBox.of(0.5, 0.5, 0.5).ofBox(new Vec3(0.5, 0.5, 0.5));
+        AABB wall = new AABB(3.0, 0.0, 0.0, 3.2, 1.0, 1.0);
+        Vec3 motion = new Vec3(6.0, 0.0, 0.0);
+
+        assertFalse(box.move(motion).intersects(wall), "end-of-tick box is already past the wall");
+        assertEquals((3.0 - 0.75) / 6.0, SweptAabb.timeOfImpact(box, motion, wall), EPSILON);
+    }
+
+    @Test
+    void sweptTestHandlesMissesTouchingAndStartingOverlap() {
+        AABB box = new AABB(0.0, 0.0, 0.0, 1.0, 1.0, 1.0);
+
+        assertEquals(SweptAabb.MISS, SweptAabb.timeOfImpact(box, new Vec3(5.0, 0.0, 0.0),
+                new AABB(3.0, 2.0, 0.0, 4.0, 3.0, 1.0)));
+        assertEquals(SweptAabb.MISS, SweptAabb.timeOfImpact(box, new Vec3(1.0, 0.0, 0.0),
+                new AABB(2.0, 0.0, 0.0, 3.0, 1.0, 1.0)));
+        assertEquals(SweptAabb.MISS, SweptAabb.timeOfImpact(box, Vec3.ZERO,
+                new AABB(1.0, 0.0, 0.0, 2.0, 1.0, 1.0)));
+        assertEquals(0.0, SweptAabb.timeOfImpact(box, new Vec3(-3.0, 0.0, 0.0),
+                new AABB(0.5, 0.5, 0.5, 2.0, 2.0, 2.0)), EPSILON);
+        assertEquals(0.25, SweptAabb.timeOfImpact(box, new Vec3(-4.0, 4.0, 0.0),
+                new AABB(-2.0, 2.0, 0.0, -1.0, 3.0, 1.0)), EPSILON);
+    }
+
+    @Test
+    void fastBarrageDoesNotSkipOverSmallTarget() {
+        TestBarrage left = new TestBarrage(new Vec3(0.0, 0.0, 0.0), 0.5);
+        TestBarrage right = new TestBarrage(new Vec3(10.0, 0.0, 0.0), 0.5);
+        BarrageBroadphase broadphase = new BarrageBroadphase();
+        broadphase.rebuild(List.of(left, right));
+
+        List<Barrage> hits = new ArrayList<>();
+        AABB leftBox = left.getHitBox().ofBox(left.getLoc());
+        int found = broadphase.collectSwept(null, leftBox, new Vec3(12.0, 0.0, 0.0), b -> b != left, hits);
+
+        assertEquals(1, found);
+        assertEquals(List.of(right), hits);
+    }
+
+    @Test
+    void relativeMotionIsUsedForMovingCandidates() {
+        BarrageBroadphase broadphase = new BarrageBroadphase();
+        MovingBarrage target = new MovingBarrage(new Vec3(4.0, 0.0, 0.0), new Vec3(4.0, 0.0, 0.0));
+        broadphase.rebuild(List.of(target));
+        AABB box = HitBox.of(1.0, 1.0, 1.0).ofBox(Vec3.ZERO);
+
+        // Chasing at the same speed never closes the gap.
+        assertEquals(0, broadphase.collectSwept(null, box, new Vec3(4.0, 0.0, 0.0), b -> true, new ArrayList<>()));
+        assertEquals(1, broadphase.collectSwept(null, box, new Vec3(9.0, 0.0, 0.0), b -> true, new ArrayList<>()));
+    }
+
+    @Test
+    void motionOfPlainBarragesIsReadThroughTheInterface() {
+        BarrageBroadphase broadphase = new BarrageBroadphase();
+        TestBarrage incoming = new TestBarrage(new Vec3(4.0, 0.0, 0.0), 1.0);
+        incoming.direction = new Vec3(-8.0, 0.0, 0.0);
+        TestBarrage leaving = new TestBarrage(new Vec3(0.0, 0.0, 4.0), 1.0);
+        leaving.direction = new Vec3(0.0, 0.0, 8.0);
+        broadphase.rebuild(List.of(incoming, leaving));
+        AABB box = HitBox.of(1.0, 1.0, 1.0).ofBox(Vec3.ZERO);
+
+        // Neither overlaps the box at the start of the tick; only the one flying into it is hit.
+        List<Barrage> hits = new ArrayList<>();
+        assertEquals(1, broadphase.collectSwept(null, box, Vec3.ZERO, b -> true, hits));
+        assertEquals(List.of(incoming), hits);
+    }
+
+    @Test
+    void skipsInvalidAndNoclipBarrages() {
+        TestBarrage invalid = new TestBarrage(Vec3.ZERO, 1.0);
+        TestBarrage noclip = new TestBarrage(Vec3.ZERO, 1.0);
+        TestBarrage live = new TestBarrage(Vec3.ZERO, 1.0);
+        BarrageBroadphase broadphase = new BarrageBroadphase();
+        broadphase.rebuild(List.of(invalid, noclip, live));
+        invalid.valid = false;
+        noclip.noclip = true;
+
+        assertEquals(List.of(live), broadphase.collect(null, new AABB(-1.0, -1.0, -1.0, 1.0, 1.0, 1.0)));
+    }
+
+    @Test
+    void gridQueriesMatchLinearScan() {
+        Random random = new Random(7);
+        List<TestBarrage> barrages = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            Vec3 loc = new Vec3(random.nextDouble() * 200 - 100, random.nextDouble() * 40, random.nextDouble() * 200 - 100);
+            barrages.add(new TestBarrage(loc, 0.5 + random.nextDouble() * 4.0));
+        }
+        // One box spanning far more cells than a regular entry.
+        barrages.add(new TestBarrage(Vec3.ZERO, 120.0));
+        BarrageBroadphase broadphase = new BarrageBroadphase();
+        broadphase.rebuild(barrages);
+        // Rebuilding reuses pooled entries and must not keep stale ones.
+        broadphase.rebuild(barrages);
+        assertEquals(barrages.size(), broadphase.size());
+
+        for (int q = 0; q < 200; q++) {
+            Vec3 center = new Vec3(random.nextDouble() * 220 - 110, random.nextDouble() * 40, random.nextDouble() * 220 - 110);
+            AABB query = HitBox.of(1.0 + random.nextDouble() * 10.0, 2.0, 1.0 + random.nextDouble() * 10.0).ofBox(center);
+            Vec3 motion = new Vec3(random.nextGaussian() * 6.0, random.nextGaussian(), random.nextGaussian() * 6.0);
+
+            List<Barrage> expected = new ArrayList<>();
+            for (TestBarrage barrage : barrages) {
+                if (SweptAabb.hits(query, motion, barrage.getHitBox().ofBox(barrage.getLoc()))) {
+                    expected.add(barrage);
+                }
+            }
+            List<Barrage> actual = new ArrayList<>();
+            broadphase.collectSwept(null, query, motion, b -> true, actual);
+
+            expected.sort(Comparator.comparing(Barrage::getUuid));
+            actual.sort(Comparator.comparing(Barrage::getUuid));
+            assertEquals(expected, actual, "query " + q);
+        }
+        assertTrue(broadphase.collect(null, new AABB(500.0, 0.0, 500.0, 501.0, 1.0, 501.0)).isEmpty());
+    }
+
+    /** A barrage with a cubic hit box, static unless given a direction. */
+    private static final class TestBarrage implements Barrage {
+        private final UUID uuid = UUID.randomUUID();
+        private final BarrageOption options = new BarrageOption();
+        private Vec3 loc;
+        private HitBox hitBox;
+        private Vec3 direction = Vec3.ZERO;
+        private boolean valid = true;
+        private boolean noclip;
+
+        private TestBarrage(Vec3 loc, double size) {
+            this.loc = loc;
+            this.hitBox = HitBox.of(size, size, size);
+        }
+
+        @Override
+        public Vec3 getLoc() {
+            return loc;
+        }
+
+        @Override
+        public void setLoc(Vec3 loc) {
+            this.loc = loc;
+        }
+
+        @Override
+        public ServerLevel getWorld() {
+            return null;
+        }
+
+        @Override
+        public HitBox getHitBox() {
+            return hitBox;
+        }
+
+        @Override
+        public void setHitBox(HitBox hitBox) {
+            this.hitBox = hitBox;
+        }
+
+        @Override
+        public LivingEntity getShooter() {
+            return null;
+        }
+
+        @Override
+        public void setShooter(LivingEntity shooter) {
+        }
+
+        @Override
+        public Vec3 getDirection() {
+            return direction;
+        }
+
+        @Override
+        public void setDirection(Vec3 direction) {
+            this.direction = direction;
+        }
+
+        @Override
+        public boolean getLaunch() {
+            return true;
+        }
+
+        @Override
+        public void setLaunch(boolean launch) {
+        }
+
+        @Override
+        public boolean getValid() {
+            return valid;
+        }
+
+        @Override
+        public BarrageOption getOptions() {
+            return options;
+        }
+
+        @Override
+        public UUID getUuid() {
+            return uuid;
+        }
+
+        @Override
+        public ServerController<?> getBindControl() {
+            return null;
+        }
+
+        @Override
+        public void hit(BarrageHitResult result) {
+        }
+
+        @Override
+        public void onHit(BarrageHitResult result) {
+        }
+
+        @Override
+        public boolean noclip() {
+            return noclip;
+        }
+
+        @Override
+        public void tick() {
+        }
+    }
+
+    /** An {@link AbstractBarrage} whose motion the broadphase predicts from its options. */
+    private static final class MovingBarrage extends AbstractBarrage {
+        private MovingBarrage(Vec3 loc, Vec3 direction) {
+            super(loc, null, HitBox.of(1.0, 1.0, 1.0), null, collidableOptions());
+            setDirection(direction);
+        }
+
+        private static BarrageOption collidableOptions() {
+            BarrageOption options = new BarrageOption();
+            options.setNoneHitBoxTick(0);
+            return options;
+        }
+
+        @Override
+        public boolean filterHitEntity(LivingEntity entity) {
+            return false;
+        }
+
+        @Override
+        public void onHit(BarrageHitResult result) {
+        }
+    }
+}
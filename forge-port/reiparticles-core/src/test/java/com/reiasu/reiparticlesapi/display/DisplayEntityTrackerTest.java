@@ -0,0 +1,176 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.display;
+
+import com.reiasu.reiparticlesapi.config.APIConfig;
+import com.reiasu.reiparticlesapi.network.packet.PacketDisplayEntityS2C;
+import com.reiasu.reiparticlesapi.network.packet.PacketDisplayEntityS2C.Method;
+import net.minecraft.world.phys.Vec3;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class DisplayEntityTrackerTest {
+    private final DisplayEntityTracker tracker = new DisplayEntityTracker();
+    private final List<Sent> sent = new ArrayList<>();
+    private final DisplayEntityTracker.PacketSink sink = (player, packet) -> sent.add(new Sent(player, packet.method()));
+    private final int defaultResync = APIConfig.INSTANCE.getDisplayResyncTicks();
+
+    @AfterEach
+    void restoreConfig() {
+        APIConfig.INSTANCE.setDisplayResyncTicks(defaultResync);
+    }
+
+    @Test
+    void sendsCreateOnceThenOnlyChanges() {
+        APIConfig.INSTANCE.setDisplayResyncTicks(1_000);
+        UUID player = UUID.randomUUID();
+        MovingDisplay display = new MovingDisplay();
+
+        tracker.update(display, List.of(player), 0, sink);
+        assertEquals(List.of(new Sent(player, Method.CREATE)), sent);
+
+        sent.clear();
+        for (long tick = 1; tick < 10; tick++) {
+            display.tick();
+            tracker.update(display, List.of(player), tick, sink);
+        }
+        assertTrue(sent.isEmpty(), "extrapolated display was re-sent: " + sent);
+
+        display.setVelocity(2.0);
+        tracker.update(display, List.of(player), 10, sink);
+        assertEquals(List.of(new Sent(player, Method.UPDATE)), sent);
+    }
+
+    @Test
+    void playersOutOfRangeGetNothingAndLeavingViewersGetRemove() {
+        UUID near = UUID.randomUUID();
+        UUID far = UUID.randomUUID();
+        MovingDisplay display = new MovingDisplay();
+
+        tracker.update(display, List.of(near), 0, sink);
+        tracker.update(display, List.of(), 1, sink);
+
+        assertEquals(List.of(new Sent(near, Method.CREATE), new Sent(near, Method.REMOVE)), sent);
+        assertTrue(sent.stream().noneMatch(s -> s.player().equals(far)));
+        assertEquals(Set.of(), tracker.viewersOf(display.getControlUUID()));
+    }
+
+    @Test
+    void newViewerGetsCreateWhileExistingViewersStayQuiet() {
+        APIConfig.INSTANCE.setDisplayResyncTicks(1_000);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        MovingDisplay display = new MovingDisplay();
+
+        tracker.update(display, List.of(first), 0, sink);
+        sent.clear();
+        tracker.update(display, List.of(first, second), 1, sink);
+
+        assertEquals(List.of(new Sent(second, Method.CREATE)), sent);
+        tracker.beginTick();
+        assertArrayEquals(new int[]{2, 0, 1, 0}, tracker.getLastTickStats());
+    }
+
+    @Test
+    void reportsTheStateSentOnlyOnceEveryViewerHasIt() {
+        APIConfig.INSTANCE.setDisplayResyncTicks(1_000);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        MovingDisplay display = new MovingDisplay();
+
+        tracker.update(display, List.of(first), 0, sink);
+        assertEquals(1, display.statesSent);
+
+        // Only the new viewer is sent anything; the first one still has an older state.
+        display.tick();
+        tracker.update(display, List.of(first, second), 1, sink);
+        assertEquals(1, display.statesSent);
+
+        display.setVelocity(2.0);
+        tracker.update(display, List.of(first, second), 2, sink);
+        assertEquals(2, display.statesSent);
+    }
+
+    @Test
+    void resyncsUnchangedDisplaysAfterInterval() {
+        APIConfig.INSTANCE.setDisplayResyncTicks(5);
+        UUID player = UUID.randomUUID();
+        MovingDisplay display = new MovingDisplay();
+
+        for (long tick = 0; tick <= 10; tick++) {
+            tracker.update(display, List.of(player), tick, sink);
+        }
+
+        assertEquals(List.of(
+                new Sent(player, Method.CREATE),
+                new Sent(player, Method.UPDATE),
+                new Sent(player, Method.UPDATE)), sent);
+    }
+
+    @Test
+    void removeAllOnlyNotifiesViewers() {
+        UUID viewer = UUID.randomUUID();
+        MovingDisplay display = new MovingDisplay();
+        tracker.update(display, List.of(viewer), 0, sink);
+        sent.clear();
+
+        tracker.removeAll(display, sink);
+        tracker.removeAll(display, sink);
+
+        assertEquals(List.of(new Sent(viewer, Method.REMOVE)), sent);
+    }
+
+    @Test
+    void removePacketsDoNotCarryState() {
+        PacketDisplayEntityS2C remove = PacketDisplayEntityS2C.ofRemove(new MovingDisplay());
+
+        assertEquals(0, remove.data().length);
+    }
+
+    private record Sent(UUID player, Method method) {
+    }
+
+    /** Moves every tick; only its velocity is part of the sync key, as for extrapolated displays. */
+    private static final class MovingDisplay extends DisplayEntity {
+        private double velocity = 1.0;
+        private int statesSent;
+
+        private void setVelocity(double velocity) {
+            this.velocity = velocity;
+        }
+
+        @Override
+        public String typeId() {
+            return "test:moving";
+        }
+
+        @Override
+        public byte[] encodeToBytes() {
+            return new byte[]{(byte) getPos().x};
+        }
+
+        @Override
+        public byte[] encodeSyncKey() {
+            return new byte[]{(byte) velocity};
+        }
+
+        @Override
+        public void tick() {
+            setPos(getPos().add(new Vec3(velocity, 0.0, 0.0)));
+        }
+
+        @Override
+        public void onStateSent() {
+            statesSent++;
+        }
+    }
+}
@@ -90,6 +90,44 @@ class ReiEventBusTest {
         assertEquals(1, LateScanListener.CALLS.get());
     }
 
+    @Test
+    void shouldSeeHandlersRegisteredAfterTheEventWasFired() {
+        StringBuilder order = new StringBuilder();
+        ReiEventBus.call(new ChildEvent());
+
+        ReiEventBus.INSTANCE.registerListenerInstance("test", new HierarchyListener(order));
+        ReiEventBus.call(new ChildEvent());
+
+        assertEquals("child,parent", order.toString());
+    }
+
+    @Test
+    void shouldStopDispatchingToUnregisteredListener() {
+        StringBuilder order = new StringBuilder();
+        HierarchyListener listener = new HierarchyListener(order);
+        ReiEventBus.INSTANCE.registerListenerInstance("test", listener);
+        ReiEventBus.call(new ChildEvent());
+
+        assertEquals(2, ReiEventBus.INSTANCE.unregisterListenerInstance(listener));
+        ReiEventBus.call(new ChildEvent());
+
+        assertEquals("child,parent", order.toString());
+        assertEquals(0, ReiEventBus.INSTANCE.handlerCount(ChildEvent.class));
+    }
+
+    @Test
+    void shouldDispatchToStaticAndCheckedExceptionHandlers() {
+        AtomicInteger calls = new AtomicInteger();
+        StaticListener.CALLS.set(0);
+        ReiEventBus.INSTANCE.registerListenerInstance("test", new StaticListener());
+        ReiEventBus.INSTANCE.registerListenerInstance("test", new CheckedFailingListener(calls));
+
+        ReiEventBus.call(new BaseEvent());
+
+        assertEquals(1, StaticListener.CALLS.get());
+        assertEquals(2, calls.get());
+    }
+
     private static class BaseEvent extends ReiEvent {
     }
 
@@ -200,4 +238,32 @@ class ReiEventBusTest {
             order.append(value);
         }
     }
+
+    private static final class StaticListener {
+        private static final AtomicInteger CALLS = new AtomicInteger();
+
+        @EventHandler
+        private static void onBase(BaseEvent event) {
+            CALLS.incrementAndGet();
+        }
+    }
+
+    private static final class CheckedFailingListener {
+        private final AtomicInteger calls;
+
+        private CheckedFailingListener(AtomicInteger calls) {
+            this.calls = calls;
+        }
+
+        @EventHandler(priority = EventPriority.HIGHEST)
+        public void fail(BaseEvent event) throws Exception {
+            calls.incrementAndGet();
+            throw new Exception("checked");
+        }
+
+        @EventHandler(priority = EventPriority.LOWEST)
+        public void after(BaseEvent event) {
+            calls.incrementAndGet();
+        }
+    }
 }
@@ -0,0 +1,151 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.network;
+
+import com.reiasu.reiparticlesapi.network.packet.PacketBundleS2C;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class OutboundPacketQueueTest {
+    private final OutboundPacketQueue<String> queue = new OutboundPacketQueue<>();
+    private final CountingCodec codec = new CountingCodec();
+    private final Map<String, List<Object>> received = new HashMap<>();
+    private final OutboundPacketQueue.Sink<String> sink =
+            (player, packet) -> received.computeIfAbsent(player, ignored -> new ArrayList<>()).add(packet);
+
+    @Test
+    void bundlesEachPlayersPacketsInOrderAndEncodesSharedPacketsOnce() {
+        TestPacket shared = new TestPacket(1, 100);
+        TestPacket aliceOnly = new TestPacket(2, 10);
+        TestPacket bobOnly = new TestPacket(3, 20);
+        queue.add("alice", shared);
+        queue.add("alice", aliceOnly);
+        queue.add("bob", bobOnly);
+        queue.add("bob", shared);
+
+        ReiParticlesNetwork.FlushStats stats = queue.flush(codec, sink);
+
+        assertEquals(new ReiParticlesNetwork.FlushStats(2, 4, 2, 3, 130L), stats);
+        assertEquals(1, (int) codec.encodes.get(shared));
+        assertEquals(List.of(1, 2), ids(received.get("alice")));
+        assertEquals(List.of(3, 1), ids(received.get("bob")));
+        assertEquals(0, queue.pendingCount());
+    }
+
+    @Test
+    void singlePacketsAndUnbundleablePacketsAreSentAsIs() {
+        TestPacket only = new TestPacket(1, 8);
+        Object raw = "not registered";
+        queue.add("alice", only);
+        queue.add("bob", new TestPacket(1, 8));
+        queue.add("bob", new TestPacket(2, 8));
+        queue.add("bob", raw);
+        queue.add("bob", new TestPacket(3, 8));
+
+        queue.flush(codec, sink);
+
+        assertEquals(List.of(only), received.get("alice"));
+        List<Object> bob = received.get("bob");
+        assertEquals(3, bob.size());
+        assertEquals(List.of(1, 2), ids(List.of(bob.get(0))));
+        assertSame(raw, bob.get(1));
+        assertInstanceOf(TestPacket.class, bob.get(2));
+    }
+
+    @Test
+    void splitsBundlesAtTheSizeLimit() {
+        int body = OutboundPacketQueue.MAX_BUNDLE_BYTES / 3;
+        for (int i = 0; i < 7; i++) {
+            queue.add("alice", new TestPacket(i, body));
+        }
+
+        queue.flush(codec, sink);
+
+        List<Object> messages = received.get("alice");
+        assertEquals(4, messages.size());
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6), ids(messages));
+        for (Object message : messages) {
+            if (message instanceof PacketBundleS2C bundle) {
+                int bytes = bundle.entries().stream().mapToInt(entry -> entry.payload().length).sum();
+                assertTrue(bytes <= OutboundPacketQueue.MAX_BUNDLE_BYTES);
+            }
+        }
+    }
+
+    @Test
+    void collapsesEachPlayersRespawnLikeTickIntoOneMessage() {
+        // Shape of one busy dragon-respawn tick: shared style, emitter and display traffic
+        // plus a few per-player group packets, seen by four players.
+        List<Object> sharedTraffic = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            sharedTraffic.add(new TestPacket(i % 6, 64 + i));
+        }
+        String[] players = {"p0", "p1", "p2", "p3"};
+        for (String player : players) {
+            for (Object packet : sharedTraffic) {
+                queue.add(player, packet);
+            }
+            for (int i = 0; i < 4; i++) {
+                queue.add(player, new TestPacket(7, 32));
+            }
+        }
+
+        ReiParticlesNetwork.FlushStats stats = queue.flush(codec, sink);
+
+        for (String player : players) {
+            // 44 packets queued for each player leave as a single bundle carrying all of them.
+            List<Object> messages = received.get(player);
+            assertEquals(1, messages.size(), player);
+            assertEquals(44, ids(messages).size(), player);
+        }
+        assertEquals(44.0, stats.packetsPerPlayer());
+        assertEquals(1.0, stats.messagesPerPlayer());
+        assertEquals(40 + 4 * players.length, stats.encodes());
+    }
+
+    private static List<Integer> ids(List<Object> messages) {
+        List<Integer> ids = new ArrayList<>();
+        for (Object message : messages) {
+            if (message instanceof PacketBundleS2C bundle) {
+                for (PacketBundleS2C.Entry entry : bundle.entries()) {
+                    ids.add((int) entry.payload()[0]);
+                }
+            } else if (message instanceof TestPacket packet) {
+                ids.add(packet.tag());
+            }
+        }
+        return ids;
+    }
+
+    private record TestPacket(int tag, int size) {
+    }
+
+    /** Bundles {@link TestPacket}s as {@code size} bytes starting with the tag. */
+    private static final class CountingCodec implements ReiParticlesNetwork.BundleCodec {
+        private final Map<Object, Integer> encodes = new IdentityHashMap<>();
+
+        @Override
+        public int bundleId(Object packet) {
+            return packet instanceof TestPacket ? 0 : -1;
+        }
+
+        @Override
+        public byte[] encode(Object packet) {
+            encodes.merge(packet, 1, Integer::sum);
+            TestPacket test = (TestPacket) packet;
+            byte[] bytes = new byte[test.size()];
+            bytes[0] = (byte) test.tag();
+            return bytes;
+        }
+    }
+}
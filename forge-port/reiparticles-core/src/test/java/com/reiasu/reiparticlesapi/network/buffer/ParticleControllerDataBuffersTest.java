@@ -18,14 +18,21 @@
 // SPDX-License-Identifier: LGPL-3.0-only
 package com.reiasu.reiparticlesapi.network.buffer;
 
+import com.reiasu.reiparticlesapi.utils.RelativeLocation;
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.world.phys.Vec3;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ParticleControllerDataBuffersTest {
     @Test
@@ -70,5 +77,68 @@ class ParticleControllerDataBuffersTest {
         assertNotNull(decoded);
         assertArrayEquals(input, (int[]) decoded.getLoadedValue());
     }
-}
 
+    @Test
+    void shouldRoundTripArgumentsThroughCompactWireFormat() {
+        ParticleControllerDataBuffers buffers = ParticleControllerDataBuffers.INSTANCE;
+        UUID uuid = new UUID(0x1234L, 0x5678L);
+        List<ParticleControllerDataBuffer<?>> args = List.of(
+                buffers.intValue(7),
+                buffers.doubleValue(2.5),
+                buffers.bool(true),
+                buffers.vec3d(new Vec3(1.0, -2.0, 3.5)),
+                buffers.uuid(uuid),
+                buffers.longArray(new long[]{1L, -1L}),
+                buffers.string("forge"),
+                buffers.relative(new RelativeLocation(0.5, 1.5, -2.5))
+        );
+
+        FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+        int legacyBytes = 0;
+        for (ParticleControllerDataBuffer<?> arg : args) {
+            // Previous framing: int length prefix + class-name envelope.
+            legacyBytes += 4 + buffers.encode(arg).length;
+            buffers.write(buf, arg);
+        }
+        int compactBytes = buf.readableBytes();
+
+        assertEquals(738, legacyBytes);
+        assertEquals(105, compactBytes);
+
+        List<ParticleControllerDataBuffer<?>> decoded = new ArrayList<>();
+        for (int i = 0; i < args.size(); i++) {
+            decoded.add(buffers.read(buf));
+        }
+        assertEquals(0, buf.readableBytes());
+        assertEquals(7, decoded.get(0).getLoadedValue());
+        assertEquals(2.5, decoded.get(1).getLoadedValue());
+        assertEquals(true, decoded.get(2).getLoadedValue());
+        assertEquals(new Vec3(1.0, -2.0, 3.5), decoded.get(3).getLoadedValue());
+        assertEquals(uuid, decoded.get(4).getLoadedValue());
+        assertArrayEquals(new long[]{1L, -1L}, (long[]) decoded.get(5).getLoadedValue());
+        assertEquals("forge", decoded.get(6).getLoadedValue());
+        RelativeLocation relative = (RelativeLocation) decoded.get(7).getLoadedValue();
+        assertEquals(0.5, relative.getX());
+        assertEquals(1.5, relative.getY());
+        assertEquals(-2.5, relative.getZ());
+        for (int i = 0; i < args.size(); i++) {
+            assertInstanceOf(args.get(i).getClass(), decoded.get(i));
+        }
+    }
+
+    @Test
+    void shouldFallBackToLegacyEnvelopeForUnregisteredBuffers() {
+        CharControllerBuffer source = new CharControllerBuffer();
+        source.setLoadedValue('r');
+        assertEquals(-1, ParticleControllerDataBuffers.INSTANCE.getNetworkId(source.getBufferID()));
+        assertTrue(ParticleControllerDataBuffers.INSTANCE.getNetworkId(IntControllerBuffer.ID) > 0);
+
+        FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+        ParticleControllerDataBuffers.INSTANCE.write(buf, source);
+        ParticleControllerDataBuffer<?> decoded = ParticleControllerDataBuffers.INSTANCE.read(buf);
+
+        assertInstanceOf(CharControllerBuffer.class, decoded);
+        assertEquals('r', decoded.getLoadedValue());
+        assertEquals(0, buf.readableBytes());
+    }
+}
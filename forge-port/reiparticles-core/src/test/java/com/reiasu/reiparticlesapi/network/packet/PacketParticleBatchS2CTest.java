@@ -0,0 +1,97 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.network.packet;
+
+import net.minecraft.core.particles.ParticleOptions;
+import net.minecraft.core.particles.ParticleType;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.world.phys.Vec3;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class PacketParticleBatchS2CTest {
+    private static final double QUANTUM = 1.0 / PacketParticleBatchS2C.OFFSET_SCALE;
+
+    @Test
+    void expandsSpawnsWithQuantizedPositionsAndSharedPalette() {
+        ParticleOptions dust = new FakeOptions();
+        ParticleOptions flash = new FakeOptions();
+        PacketParticleBatchS2C.Builder builder = new PacketParticleBatchS2C.Builder(new Vec3(100.0, 64.0, -30.0));
+        for (int i = 0; i < 1000; i++) {
+            builder.add(dust, false, 100.0 + i * 0.013, 64.0 + i * 0.1, -30.0 - i * 0.07, 1, 0.0, 0.0, 0.0, 0.0);
+        }
+        builder.add(flash, true, 101.0, 65.0, -29.0, 0, 0.0, 0.5, 0.0, 1.0);
+        builder.add(dust, false, 99.0, 63.0, -31.0, 3, 0.15, 0.4, 0.15, 0.01);
+
+        PacketParticleBatchS2C packet = builder.build();
+        assertEquals(2, packet.palette().size());
+        assertEquals(1002, packet.size());
+        // Palette index, flags and three quantized shorts.
+        assertTrue(packet.entries().length < 1000 * 8 + 64, "entries: " + packet.entries().length);
+
+        List<Object[]> spawns = new ArrayList<>();
+        packet.forEach((options, force, x, y, z, count, xDist, yDist, zDist, speed) ->
+                spawns.add(new Object[]{options, force, x, y, z, count, xDist, yDist, zDist, speed}));
+
+        assertEquals(1002, spawns.size());
+        for (int i = 0; i < 1000; i++) {
+            Object[] spawn = spawns.get(i);
+            assertSame(dust, spawn[0]);
+            assertEquals(false, spawn[1]);
+            assertEquals(100.0 + i * 0.013, (double) spawn[2], QUANTUM);
+            assertEquals(64.0 + i * 0.1, (double) spawn[3], QUANTUM);
+            assertEquals(-30.0 - i * 0.07, (double) spawn[4], QUANTUM);
+            assertEquals(1, spawn[5]);
+            assertEquals(0.0, (double) spawn[9]);
+        }
+        Object[] flashSpawn = spawns.get(1000);
+        assertSame(flash, flashSpawn[0]);
+        assertEquals(true, flashSpawn[1]);
+        assertEquals(0, flashSpawn[5]);
+        assertEquals(0.5, (double) flashSpawn[7], 1.0E-6);
+        assertEquals(1.0, (double) flashSpawn[9], 1.0E-6);
+        Object[] spread = spawns.get(1001);
+        assertEquals(3, spread[5]);
+        assertEquals(0.15, (double) spread[6], 1.0E-6);
+        assertEquals(0.4, (double) spread[7], 1.0E-6);
+        assertEquals(0.01, (double) spread[9], 1.0E-6);
+    }
+
+    @Test
+    void rejectsSpawnsOutsideTheOffsetRange() {
+        PacketParticleBatchS2C.Builder builder = new PacketParticleBatchS2C.Builder(Vec3.ZERO);
+        double edge = PacketParticleBatchS2C.MAX_OFFSET;
+
+        assertTrue(builder.accepts(edge - 1.0, -(edge - 1.0), 0.0));
+        assertFalse(builder.accepts(edge + 1.0, 0.0, 0.0));
+        assertFalse(builder.accepts(0.0, 0.0, -(edge + 1.0)));
+        assertThrows(IllegalArgumentException.class,
+                () -> builder.add(new FakeOptions(), false, 0.0, edge + 1.0, 0.0, 1, 0.0, 0.0, 0.0, 0.0));
+        assertTrue(builder.isEmpty());
+    }
+
+    private static final class FakeOptions implements ParticleOptions {
+        @Override
+        public ParticleType<?> getType() {
+            return null;
+        }
+
+        @Override
+        public void writeToNetwork(FriendlyByteBuf buf) {
+            // No payload.
+        }
+
+        @Override
+        public String writeToString() {
+            return "fake";
+        }
+    }
+}
@@ -0,0 +1,67 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.network.particle.emitters;
+
+import com.reiasu.reiparticlesapi.network.packet.PacketParticleEmittersS2C;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.resources.ResourceLocation;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+final class ParticleEmitterSnapshotCacheTest {
+    private static final ResourceLocation KEY = new ResourceLocation("reiparticlesapi", "snapshot_test");
+
+    @Test
+    void encodesOncePerTickForEveryViewer() {
+        ParticleEmitterSnapshotCache cache = new ParticleEmitterSnapshotCache();
+        PayloadEmitter emitter = new PayloadEmitter();
+        cache.beginTick(0L);
+
+        PacketParticleEmittersS2C first = cache.packet(emitter, KEY, PacketParticleEmittersS2C.PacketType.CHANGE_OR_CREATE);
+        for (int viewer = 1; viewer < 40; viewer++) {
+            assertSame(first, cache.packet(emitter, KEY, PacketParticleEmittersS2C.PacketType.CHANGE_OR_CREATE));
+        }
+        PacketParticleEmittersS2C remove = cache.packet(emitter, KEY, PacketParticleEmittersS2C.PacketType.REMOVE);
+
+        assertEquals(1, emitter.payloadWrites);
+        assertSame(first.emitterData(), remove.emitterData());
+        assertArrayEquals(emitter.encodeToBytes(), first.emitterData());
+
+        cache.beginTick(1L);
+        assertArrayEquals(new int[]{1, 40}, cache.getLastTickStats());
+    }
+
+    @Test
+    void reencodesAfterTickAdvanceOrInvalidation() {
+        ParticleEmitterSnapshotCache cache = new ParticleEmitterSnapshotCache();
+        PayloadEmitter emitter = new PayloadEmitter();
+        cache.beginTick(0L);
+        PacketParticleEmittersS2C tick0 = cache.packet(emitter, KEY, PacketParticleEmittersS2C.PacketType.CHANGE_OR_CREATE);
+
+        emitter.setTick(1);
+        cache.beginTick(1L);
+        PacketParticleEmittersS2C tick1 = cache.packet(emitter, KEY, PacketParticleEmittersS2C.PacketType.CHANGE_OR_CREATE);
+        assertNotSame(tick0, tick1);
+        assertArrayEquals(emitter.encodeToBytes(), tick1.emitterData());
+
+        emitter.cancel();
+        cache.invalidate(emitter);
+        PacketParticleEmittersS2C canceled = cache.packet(emitter, KEY, PacketParticleEmittersS2C.PacketType.REMOVE);
+        assertArrayEquals(emitter.encodeToBytes(), canceled.emitterData());
+    }
+
+    private static final class PayloadEmitter extends ParticleEmitters {
+        private int payloadWrites;
+
+        @Override
+        protected void writePayload(FriendlyByteBuf buf) {
+            payloadWrites++;
+            buf.writeDouble(1.5);
+            buf.writeUtf("payload");
+        }
+    }
+}
@@ -18,14 +18,28 @@
 // SPDX-License-Identifier: LGPL-3.0-only
 package com.reiasu.reiparticlesapi.network.particle.emitters;
 
+import com.reiasu.reiparticlesapi.config.APIConfig;
+import com.reiasu.reiparticlesapi.network.particle.data.SerializableData;
+import com.reiasu.reiparticlesapi.network.particle.emitters.impl.ExampleClassParticleEmitters;
+import com.reiasu.reiparticlesapi.scheduler.TickPriority;
 import com.reiasu.reiparticlesapi.testutil.UnsafeAllocator;
+import com.reiasu.reiparticlesapi.utils.RelativeLocation;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.phys.Vec3;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ParticleEmittersManagerTest {
     @AfterEach
@@ -69,6 +83,182 @@ class ParticleEmittersManagerTest {
         assertEquals(pos, emitter.position());
     }
 
+    @Test
+    void parallelComputePhaseMatchesSerialOutput() {
+        boolean async = APIConfig.INSTANCE.isEnabledParticleAsync();
+        int threads = APIConfig.INSTANCE.getCalculateThreadCount();
+        try {
+            APIConfig.INSTANCE.setEnabledParticleAsync(false);
+            List<String> serial = runComputeEmitters(ConcurrentHashMap.newKeySet());
+
+            APIConfig.INSTANCE.setEnabledParticleAsync(true);
+            APIConfig.INSTANCE.setCalculateThreadCount(4);
+            Set<String> computeThreads = ConcurrentHashMap.newKeySet();
+            List<String> parallel = runComputeEmitters(computeThreads);
+
+            assertEquals(serial, parallel);
+            assertFalse(computeThreads.contains(Thread.currentThread().getName()));
+        } finally {
+            APIConfig.INSTANCE.setEnabledParticleAsync(async);
+            APIConfig.INSTANCE.setCalculateThreadCount(threads);
+        }
+    }
+
+    @Test
+    void classParticleEmittersGenerateTheirParticlesInTheComputePhase() {
+        boolean async = APIConfig.INSTANCE.isEnabledParticleAsync();
+        int threads = APIConfig.INSTANCE.getCalculateThreadCount();
+        try {
+            APIConfig.INSTANCE.setEnabledParticleAsync(false);
+            List<String> serial = runClassEmitters();
+
+            APIConfig.INSTANCE.setEnabledParticleAsync(true);
+            APIConfig.INSTANCE.setCalculateThreadCount(4);
+            List<String> parallel = runClassEmitters();
+
+            assertEquals(serial, parallel);
+            // Delayed emitters generate nothing until their delay has passed.
+            assertTrue(serial.contains("2:0:0"));
+            assertTrue(serial.contains("2:2:20"));
+        } finally {
+            APIConfig.INSTANCE.setEnabledParticleAsync(async);
+            APIConfig.INSTANCE.setCalculateThreadCount(threads);
+        }
+    }
+
+    @Test
+    void lowPriorityEmittersRotateAndKeepTheirLifetimeWhenOverBudget() {
+        boolean async = APIConfig.INSTANCE.isEnabledParticleAsync();
+        long budget = APIConfig.INSTANCE.getServerTickBudgetNanos();
+        try {
+            APIConfig.INSTANCE.setServerTickBudgetNanos(1L);
+            for (boolean parallel : new boolean[] {false, true}) {
+                APIConfig.INSTANCE.setEnabledParticleAsync(parallel);
+                SlowEmitter slow = new SlowEmitter();
+                slow.setMaxTick(0);
+                ParticleEmittersManager.spawnEmitters(slow);
+                List<CountingEmitter> low = new ArrayList<>();
+                for (int i = 0; i < 3; i++) {
+                    CountingEmitter emitter = new CountingEmitter();
+                    emitter.setMaxTick(6);
+                    emitter.setTickPriority(TickPriority.LOW);
+                    low.add(emitter);
+                    ParticleEmittersManager.spawnEmitters(emitter);
+                }
+
+                for (int tick = 0; tick < 6; tick++) {
+                    ParticleEmittersManager.tickAll();
+                }
+
+                assertEquals(6, slow.emittedTicks);
+                for (CountingEmitter emitter : low) {
+                    // One emission in three ticks, but still gone after its six ticks.
+                    assertEquals(2, emitter.emittedTicks);
+                    assertTrue(emitter.getCanceled());
+                }
+                assertEquals(1, ParticleEmittersManager.activeCount());
+                assertTrue(ParticleEmittersManager.getDebugInfo().contains("deferredEmitters=2"));
+                ParticleEmittersManager.clear();
+            }
+        } finally {
+            APIConfig.INSTANCE.setEnabledParticleAsync(async);
+            APIConfig.INSTANCE.setServerTickBudgetNanos(budget);
+        }
+    }
+
+    private static List<String> runComputeEmitters(Set<String> computeThreads) {
+        List<String> output = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            ComputeEmitter emitter = new ComputeEmitter(i, output, computeThreads);
+            emitter.setMaxTick(5 + i % 7);
+            ParticleEmittersManager.spawnEmitters(emitter);
+            if (i % 8 == 0) {
+                ParticleEmittersManager.spawnEmitters(new CountingEmitter());
+            }
+        }
+        for (int tick = 0; tick < 12; tick++) {
+            ParticleEmittersManager.tickAll();
+        }
+        assertEquals(0, ParticleEmittersManager.activeCount());
+        ParticleEmittersManager.clear();
+        return output;
+    }
+
+    private static List<String> runClassEmitters() {
+        List<String> output = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            ExampleClassParticleEmitters emitter = new ExampleClassParticleEmitters(Vec3.ZERO, null);
+            assertTrue(ParticleEmitterTickExecutor.hasComputePhase(emitter));
+            emitter.setMaxTick(4);
+            emitter.setDelay(i % 3);
+            emitter.start();
+            int id = i;
+            // Tick handlers run after emitTick, with the tick counter not yet advanced.
+            emitter.addTickHandler(() -> output.add(id + ":" + emitter.getTick() + ":"
+                    + countWithinBall(emitter.getPreparedParticles(), 2.0)));
+            ParticleEmittersManager.spawnEmitters(emitter);
+        }
+        for (int tick = 0; tick < 4; tick++) {
+            ParticleEmittersManager.tickAll();
+        }
+        assertEquals(0, ParticleEmittersManager.activeCount());
+        ParticleEmittersManager.clear();
+        return output;
+    }
+
+    private static int countWithinBall(List<Map.Entry<SerializableData, RelativeLocation>> particles, double radius) {
+        int count = 0;
+        for (Map.Entry<SerializableData, RelativeLocation> particle : particles) {
+            if (particle.getValue().toVector().length() <= radius) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static final class ComputeEmitter extends ParticleEmitters {
+        private final int id;
+        private final List<String> output;
+        private final Set<String> computeThreads;
+        private final Random random;
+        private double pending;
+
+        private ComputeEmitter(int id, List<String> output, Set<String> computeThreads) {
+            this.id = id;
+            this.output = output;
+            this.computeThreads = computeThreads;
+            this.random = new Random(id * 31L);
+        }
+
+        @Override
+        protected void prepareTick() {
+            computeThreads.add(Thread.currentThread().getName());
+            double sum = 0.0;
+            for (int i = 0; i < 256; i++) {
+                sum += Math.sin(random.nextDouble() * Math.PI * getTick());
+            }
+            pending = sum;
+        }
+
+        @Override
+        protected void emitTick() {
+            output.add(id + ":" + getTick() + ":" + pending);
+        }
+    }
+
+    private static final class SlowEmitter extends ParticleEmitters {
+        private int emittedTicks;
+
+        @Override
+        protected void emitTick() {
+            emittedTicks++;
+            long end = System.nanoTime() + 200_000L;
+            while (System.nanoTime() < end) {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
     private static final class CountingEmitter extends ParticleEmitters {
         private int emittedTicks;
 
@@ -0,0 +1,208 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.network.particle.style;
+
+import com.reiasu.reiparticlesapi.config.APIConfig;
+import com.reiasu.reiparticlesapi.network.particle.style.ParticleGroupStyle.StyleData;
+import com.reiasu.reiparticlesapi.particles.ClientParticleBudget;
+import com.reiasu.reiparticlesapi.particles.Controllable;
+import com.reiasu.reiparticlesapi.particles.ParticleDisplayer;
+import com.reiasu.reiparticlesapi.utils.LocalIds;
+import com.reiasu.reiparticlesapi.utils.RelativeLocation;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.world.phys.Vec3;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class ParticleGroupStyleDisplayTest {
+    private static final int POINTS = 10_000;
+
+    @Test
+    void styleDataIdsAreLocalAndSequential() {
+        StyleData first = new StyleData(uuid -> null);
+        StyleData second = new StyleData(uuid -> null);
+
+        assertEquals(first.getId() + 1, second.getId());
+        assertTrue(LocalIds.isLocal(first.getUuid()));
+        assertEquals(first.getUuid(), LocalIds.asUuid(first.getId()));
+        assertNotEquals(first.getUuid(), second.getUuid());
+        assertFalse(LocalIds.isLocal(UUID.randomUUID()));
+    }
+
+    @Test
+    void displaysTenThousandPointStyleKeyedByLocalIds() {
+        RingStyle style = new RingStyle(POINTS);
+        style.setScale(2.0);
+
+        style.displayParticles();
+
+        assertEquals(POINTS, style.getParticlesById().size());
+        assertEquals(POINTS, style.getParticleLocationsById().size());
+        assertEquals(POINTS, style.getParticleDefaultLengthById().size());
+
+        StyleData sample = style.frames.keySet().iterator().next();
+        StubParticle particle = (StubParticle) style.getParticlesById().get(sample.getId());
+        assertEquals(sample.getUuid(), particle.controlUUID());
+        // Locals keep radius 8; the group transform places them at radius 16.
+        assertEquals(8.0, style.getParticleLocationsById().get(sample.getId()).length(), 1.0e-9);
+        assertEquals(8.0, style.getParticleDefaultLengthById().getOrDefault(sample.getId(), Double.NaN), 1.0e-9);
+        assertEquals(16.0, particle.pos.length(), 1.0e-9);
+        // The UUID-keyed accessors are copies keyed by StyleData#getUuid().
+        assertSame(particle, style.getParticles().get(sample.getUuid()));
+        assertEquals(8.0, style.getParticleDefaultLength().get(sample.getUuid()), 1.0e-9);
+
+        style.teleportTo(new Vec3(10.0, 0.0, 0.0));
+        assertEquals(16.0, particle.pos.subtract(10.0, 0.0, 0.0).length(), 1.0e-9);
+
+        style.clear(true);
+        assertTrue(particle.removed);
+        assertTrue(style.getParticlesById().isEmpty());
+    }
+
+    @Test
+    void groupTransformsLeaveLocalOffsetsUntouched() {
+        RingStyle style = new RingStyle(4);
+        style.displayParticles();
+        style.setDisplayed(true);
+        StyleData sample = style.frames.keySet().iterator().next();
+        RelativeLocation local = style.getParticleLocationsById().get(sample.getId());
+        RelativeLocation before = local.copy();
+        StubParticle particle = (StubParticle) style.getParticlesById().get(sample.getId());
+
+        style.rotateAsAxis(Math.PI / 2.0);
+        style.scale(0.5);
+        style.setGroupAlpha(0.25f);
+
+        assertEquals(before.getX(), local.getX(), 1.0e-12);
+        assertEquals(before.getZ(), local.getZ(), 1.0e-12);
+        assertEquals(0.25f, style.getGroupAlpha());
+        // Particles without a controller are still teleported to the transformed position.
+        Vec3 expected = style.getGroupTransform().toWorld(local.getX(), local.getY(), local.getZ());
+        assertEquals(0.0, particle.pos.distanceTo(expected), 1.0e-9);
+        assertEquals(4.0, particle.pos.length(), 1.0e-9);
+    }
+
+    @Test
+    void spawnsTurnedDownByTheBudgetAreRetriedOnLaterTicks() {
+        APIConfig config = APIConfig.INSTANCE;
+        int defaultSpawns = config.getClientSpawnsPerTick();
+        ClientParticleBudget budget = ClientParticleBudget.INSTANCE;
+        try {
+            config.setClientSpawnsPerTick(3);
+            budget.beginTick(0);
+            RingStyle style = new RingStyle(8);
+            style.displayParticles();
+            assertEquals(3, style.getParticlesById().size());
+            assertEquals(5, style.getDeferredSpawnCount());
+
+            budget.beginTick(0);
+            style.tick();
+            assertEquals(6, style.getParticlesById().size());
+
+            // A point removed while it waits is not brought back.
+            StyleData waiting = null;
+            for (StyleData data : style.frames.keySet()) {
+                if (!style.getParticlesById().containsKey(data.getId())) {
+                    waiting = data;
+                    break;
+                }
+            }
+            style.removeParticle(waiting.getId());
+            budget.beginTick(0);
+            style.tick();
+            assertEquals(7, style.getParticlesById().size());
+            assertEquals(0, style.getDeferredSpawnCount());
+            assertFalse(style.getParticlesById().containsKey(waiting.getId()));
+        } finally {
+            // Leave the shared budget uncapped for the other tests.
+            config.setClientSpawnsPerTick(0);
+            budget.beginTick(0);
+            config.setClientSpawnsPerTick(defaultSpawns);
+        }
+    }
+
+    private static final class RingStyle extends ParticleGroupStyle {
+        private final Map<StyleData, RelativeLocation> frames = new LinkedHashMap<>();
+
+        private RingStyle(int points) {
+            for (int i = 0; i < points; i++) {
+                double angle = Math.PI * 2.0 * i / points;
+                frames.put(new StyleData(StubDisplayer::new),
+                        new RelativeLocation(Math.cos(angle) * 8.0, 0.0, Math.sin(angle) * 8.0));
+            }
+        }
+
+        @Override
+        public Map<StyleData, RelativeLocation> getCurrentFrames() {
+            return frames;
+        }
+
+        @Override
+        public void onDisplay() {
+        }
+    }
+
+    private record StubDisplayer(UUID uuid) implements ParticleDisplayer {
+        @Override
+        public Controllable<?> display(Vec3 loc, ClientLevel world) {
+            return new StubParticle(uuid, loc);
+        }
+    }
+
+    private static final class StubParticle implements Controllable<StubParticle> {
+        private final UUID uuid;
+        private Vec3 pos;
+        private boolean removed;
+
+        private StubParticle(UUID uuid, Vec3 pos) {
+            this.uuid = uuid;
+            this.pos = pos;
+        }
+
+        @Override
+        public UUID controlUUID() {
+            return uuid;
+        }
+
+        @Override
+        public void rotateToPoint(RelativeLocation to) {
+        }
+
+        @Override
+        public void rotateToWithAngle(RelativeLocation to, double radian) {
+        }
+
+        @Override
+        public void rotateAsAxis(double radian) {
+        }
+
+        @Override
+        public void teleportTo(Vec3 pos) {
+            this.pos = pos;
+        }
+
+        @Override
+        public void teleportTo(double x, double y, double z) {
+            this.pos = new Vec3(x, y, z);
+        }
+
+        @Override
+        public void remove() {
+            removed = true;
+        }
+
+        @Override
+        public StubParticle getControlObject() {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.network.particle.style;
+
+import com.reiasu.reiparticlesapi.network.buffer.ParticleControllerDataBuffer;
+import com.reiasu.reiparticlesapi.network.buffer.ParticleControllerDataBuffers;
+import com.reiasu.reiparticlesapi.network.packet.PacketParticleStyleS2C;
+import com.reiasu.reiparticlesapi.particles.control.ControlType;
+import com.reiasu.reiparticlesapi.utils.RelativeLocation;
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.FriendlyByteBuf;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+final class ParticleStyleDeltaTrackerTest {
+    @Test
+    void sendsOnlyChangedKeysAndPeriodicClockKeyframes() {
+        // Mirrors an EnderRespawn*Style: one "status" arg on top of the common fields.
+        StatusStyle style = new StatusStyle();
+        style.status = 1;
+        ParticleStyleDeltaTracker tracker = new ParticleStyleDeltaTracker();
+        tracker.reset(ParticleStyleManager.buildSyncArgs(style), 0L);
+
+        int fullPackets = 0;
+        int fullBytes = 0;
+        int deltaPackets = 0;
+        int deltaBytes = 0;
+        for (long tick = 1; tick <= 200; tick++) {
+            style.tick();
+            style.setLastUpdatedGameTime(tick);
+            if (tick == 150) {
+                style.status = 2;
+            }
+            Map<String, ParticleControllerDataBuffer<?>> full = ParticleStyleManager.buildSyncArgs(style);
+            fullPackets++;
+            fullBytes += encodedSize(style, full);
+
+            Map<String, ParticleControllerDataBuffer<?>> delta = tracker.delta(full, tick);
+            if (tick == 100) {
+                assertNotNull(delta);
+                assertEquals(ParticleStyleDeltaTracker.CLOCK_KEYS, delta.keySet());
+            } else if (tick == 150) {
+                assertNotNull(delta);
+                assertEquals(2, delta.get("status").getLoadedValue());
+                assertEquals(3, delta.size());
+            } else {
+                assertNull(delta, "tick " + tick);
+            }
+            if (delta != null) {
+                deltaPackets++;
+                deltaBytes += encodedSize(style, delta);
+            }
+        }
+
+        // One full CHANGE packet per tick before; a keyframe and the status change after.
+        assertEquals(200, fullPackets);
+        assertEquals(178 * 200, fullBytes);
+        assertEquals(2, deltaPackets);
+        assertEquals(73 + 82, deltaBytes);
+    }
+
+    @Test
+    void comparesArraysAndLocationsByValue() {
+        ParticleControllerDataBuffers buffers = ParticleControllerDataBuffers.INSTANCE;
+        ParticleStyleDeltaTracker tracker = new ParticleStyleDeltaTracker();
+        long[] status = {1L, 2L};
+        RelativeLocation offset = new RelativeLocation(1.0, 2.0, 3.0);
+        Map<String, ParticleControllerDataBuffer<?>> args = new HashMap<>();
+        args.put("seq_displayed_status", buffers.longArray(status));
+        args.put("offset", buffers.relative(offset));
+        tracker.reset(args, 0L);
+
+        args.put("seq_displayed_status", buffers.longArray(status.clone()));
+        args.put("offset", buffers.relative(new RelativeLocation(1.0, 2.0, 3.0)));
+        assertNull(tracker.delta(args, 1L));
+
+        // Mutating the array the baseline was taken from must still be detected.
+        status[1] = 3L;
+        args.put("seq_displayed_status", buffers.longArray(status));
+        Map<String, ParticleControllerDataBuffer<?>> delta = tracker.delta(args, 2L);
+        assertNotNull(delta);
+        assertEquals(1, delta.size());
+        assertNull(tracker.delta(args, 3L));
+    }
+
+    private static int encodedSize(StatusStyle style, Map<String, ParticleControllerDataBuffer<?>> args) {
+        FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+        PacketParticleStyleS2C.encode(new PacketParticleStyleS2C(style.getUuid(), ControlType.CHANGE, args), buf);
+        return buf.readableBytes();
+    }
+
+    private static final class StatusStyle extends ParticleGroupStyle {
+        private int status;
+
+        @Override
+        public Map<StyleData, RelativeLocation> getCurrentFrames() {
+            return Map.of();
+        }
+
+        @Override
+        public void onDisplay() {
+        }
+
+        @Override
+        public Map<String, ParticleControllerDataBuffer<?>> writePacketArgs() {
+            Map<String, ParticleControllerDataBuffer<?>> args = new HashMap<>();
+            args.put("status", ParticleControllerDataBuffers.INSTANCE.intValue(status));
+            return args;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.network.particle.util;
+
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.FriendlyByteBuf;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class SequencedStatusRangesTest {
+    @Test
+    void sequentialRevealIsOneRunWhateverItsSize() {
+        long[] bits = new long[(20_000 + 63) / 64];
+        for (int i = 0; i < 12_345; i++) {
+            bits[i >>> 6] |= 1L << i;
+        }
+
+        assertArrayEquals(new int[]{0, 12_345}, SequencedStatusRanges.encode(bits, 20_000));
+
+        FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+        SequencedStatusRanges.write(buf, bits, 20_000);
+        assertTrue(buf.readableBytes() <= 4, "wrote " + buf.readableBytes() + " bytes");
+        assertArrayEquals(bits, SequencedStatusRanges.read(buf, bits.length));
+    }
+
+    @Test
+    void randomStatusesRoundTrip() {
+        Random random = new Random(7L);
+        for (int round = 0; round < 200; round++) {
+            int count = 1 + random.nextInt(700);
+            long[] bits = new long[(count + 63) / 64];
+            boolean on = false;
+            for (int i = 0; i < count; i++) {
+                if (random.nextInt(10) == 0) {
+                    on = !on;
+                }
+                if (on) {
+                    bits[i >>> 6] |= 1L << i;
+                }
+            }
+
+            int[] ranges = SequencedStatusRanges.encode(bits, count);
+            assertArrayEquals(bits, SequencedStatusRanges.decode(ranges, bits.length), "round " + round);
+
+            FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+            SequencedStatusRanges.write(buf, bits, count);
+            assertArrayEquals(bits, SequencedStatusRanges.read(buf, bits.length), "round " + round);
+        }
+    }
+
+    @Test
+    void bitsAtOrPastCountAreIgnored() {
+        long[] bits = {-1L};
+
+        assertArrayEquals(new int[]{0, 10}, SequencedStatusRanges.encode(bits, 10));
+        assertArrayEquals(new long[]{0x3FFL, 0xFF00_0000_0000_0000L},
+                SequencedStatusRanges.decode(new int[]{0, 10, 120, 200}, 2));
+        assertEquals(0, SequencedStatusRanges.encode(new long[0], 10).length);
+    }
+
+    @Test
+    void spawnQueueDrainsLowestFirstWithinBudget() {
+        SequencedSpawnQueue queue = new SequencedSpawnQueue();
+        long[] bits = new long[4];
+        for (int i = 0; i < 200; i++) {
+            bits[i >>> 6] |= 1L << i;
+        }
+        queue.addAll(bits, 150);
+        assertEquals(150, queue.size());
+
+        assertTrue(queue.remove(3));
+        List<Integer> spawned = new ArrayList<>();
+        assertEquals(64, queue.drain(64, spawned::add));
+        assertEquals(0, (int) spawned.get(0));
+        assertEquals(4, (int) spawned.get(3));
+        assertEquals(64, (int) spawned.get(63));
+
+        queue.add(1);
+        spawned.clear();
+        assertEquals(86, queue.drain(0, spawned::add));
+        assertEquals(1, (int) spawned.get(0));
+        assertEquals(149, (int) spawned.get(spawned.size() - 1));
+        assertTrue(queue.isEmpty());
+    }
+}
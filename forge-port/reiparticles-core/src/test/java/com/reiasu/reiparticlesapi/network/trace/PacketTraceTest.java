@@ -0,0 +1,119 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.network.trace;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class PacketTraceTest {
+    private static final UUID ALEX = new UUID(1L, 1L);
+    private static final UUID STEVE = new UUID(2L, 2L);
+
+    @Test
+    void roundTripsPacketsWithTickRecipientAndType() throws IOException {
+        StyleLike style = new StyleLike();
+        EmitterLike emitter = new EmitterLike();
+        byte[] trace = write(writer -> {
+            writer.packet(0, ALEX, style, new byte[]{1, 2, 3});
+            writer.packet(3, STEVE, emitter, new byte[]{4});
+            writer.close(5);
+        });
+
+        PacketTrace read = PacketTrace.read(new ByteArrayInputStream(trace));
+
+        assertEquals(5, read.ticks());
+        List<PacketTrace.Packet> packets = read.packets();
+        assertEquals(2, packets.size());
+        assertEquals(0, packets.get(0).tick());
+        assertEquals(ALEX, packets.get(0).recipient());
+        assertEquals("StyleLike", packets.get(0).type());
+        assertArrayEquals(new byte[]{1, 2, 3}, packets.get(0).payload());
+        assertEquals(3, packets.get(1).tick());
+        assertEquals(STEVE, packets.get(1).recipient());
+        assertEquals("EmitterLike", packets.get(1).type());
+    }
+
+    @Test
+    void storesAPacketSentToSeveralPlayersOncePerTick() throws IOException {
+        StyleLike shared = new StyleLike();
+        byte[] payload = new byte[256];
+        Arrays.fill(payload, (byte) 7);
+        byte[] once = write(writer -> {
+            writer.packet(1, ALEX, shared, payload);
+            writer.close(2);
+        });
+        byte[] twice = write(writer -> {
+            writer.packet(1, ALEX, shared, payload);
+            writer.packet(1, STEVE, shared, payload);
+            writer.close(2);
+        });
+
+        assertTrue(twice.length - once.length < 32, "repeat cost " + (twice.length - once.length) + " bytes");
+        List<PacketTrace.Packet> packets = PacketTrace.read(new ByteArrayInputStream(twice)).packets();
+        assertEquals(2, packets.size());
+        assertEquals(STEVE, packets.get(1).recipient());
+        assertEquals("StyleLike", packets.get(1).type());
+        assertSame(packets.get(0).payload(), packets.get(1).payload());
+    }
+
+    @Test
+    void repeatsOnlyReferToRecordsOfTheSameTick() throws IOException {
+        StyleLike shared = new StyleLike();
+        byte[] trace = write(writer -> {
+            writer.packet(0, ALEX, new EmitterLike(), new byte[]{9});
+            writer.packet(0, ALEX, shared, new byte[]{1});
+            writer.packet(1, ALEX, new EmitterLike(), new byte[]{8});
+            writer.packet(1, ALEX, shared, new byte[]{2});
+            writer.packet(1, STEVE, shared, new byte[]{2});
+            writer.close(2);
+        });
+
+        List<PacketTrace.Packet> packets = PacketTrace.read(new ByteArrayInputStream(trace)).packets();
+
+        assertEquals(5, packets.size());
+        assertArrayEquals(new byte[]{2}, packets.get(3).payload());
+        assertArrayEquals(new byte[]{2}, packets.get(4).payload());
+        assertEquals(1, packets.get(4).tick());
+    }
+
+    @Test
+    void rejectsForeignAndTruncatedFiles() throws IOException {
+        assertThrows(IOException.class, () -> PacketTrace.read(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5})));
+
+        byte[] trace = write(writer -> {
+            writer.packet(0, ALEX, new StyleLike(), new byte[64]);
+            writer.close(1);
+        });
+        byte[] truncated = Arrays.copyOf(trace, trace.length - 40);
+        assertThrows(IOException.class, () -> PacketTrace.read(new ByteArrayInputStream(truncated)));
+    }
+
+    private static byte[] write(TraceBody body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PacketTraceWriter writer = new PacketTraceWriter(out);
+        body.write(writer);
+        return out.toByteArray();
+    }
+
+    private interface TraceBody {
+        void write(PacketTraceWriter writer) throws IOException;
+    }
+
+    private static final class StyleLike {
+    }
+
+    private static final class EmitterLike {
+    }
+}
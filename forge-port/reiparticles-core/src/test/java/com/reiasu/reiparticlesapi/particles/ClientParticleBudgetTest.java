@@ -0,0 +1,171 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.particles;
+
+import com.reiasu.reiparticlesapi.config.APIConfig;
+import com.reiasu.reiparticlesapi.scheduler.TickPriority;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class ClientParticleBudgetTest {
+    private static final long FRAME_60_FPS = 16_666_667L;
+
+    private final APIConfig config = APIConfig.INSTANCE;
+    private final int defaultFps = config.getClientTargetFps();
+    private final int defaultSoftCap = config.getClientParticleSoftCap();
+    private final int defaultSpawns = config.getClientSpawnsPerTick();
+    private final int defaultMinDensity = config.getClientMinDensityPercent();
+
+    @BeforeEach
+    void setUp() {
+        config.setClientTargetFps(60);
+        config.setClientParticleSoftCap(10_000);
+        config.setClientSpawnsPerTick(0);
+        config.setClientMinDensityPercent(10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        config.setClientTargetFps(defaultFps);
+        config.setClientParticleSoftCap(defaultSoftCap);
+        config.setClientSpawnsPerTick(defaultSpawns);
+        config.setClientMinDensityPercent(defaultMinDensity);
+    }
+
+    @Test
+    void withinBudgetNothingIsThinned() {
+        ClientParticleBudget budget = new ClientParticleBudget(1L);
+        budget.recordFrame(FRAME_60_FPS);
+        budget.beginTick(500);
+
+        assertEquals(1.0, budget.getDensity());
+        assertTrue(budget.isRecovered());
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(budget.tryAcquire(ClientParticleBudget.Tier.LOW));
+        }
+        assertEquals(10_000, budget.getSpawnedThisTick());
+    }
+
+    @Test
+    void slowFramesLowerDensityGraduallyAndThinLowTierHarder() {
+        ClientParticleBudget budget = new ClientParticleBudget(2L);
+        for (int i = 0; i < 100; i++) {
+            // 2.2x the target frame time; with the headroom that asks for half density.
+            budget.recordFrame((long) (FRAME_60_FPS * 2.2));
+        }
+
+        budget.beginTick(0);
+        double first = budget.getDensity();
+        assertTrue(first < 1.0 && first > 0.5, "density after one slow tick: " + first);
+        for (int i = 0; i < 40; i++) {
+            budget.beginTick(0);
+        }
+        assertEquals(0.5, budget.getDensity(), 0.01);
+
+        int normal = 0;
+        int low = 0;
+        for (int i = 0; i < 20_000; i++) {
+            normal += budget.tryAcquire(ClientParticleBudget.Tier.NORMAL) ? 1 : 0;
+            low += budget.tryAcquire(ClientParticleBudget.Tier.LOW) ? 1 : 0;
+        }
+        assertEquals(10_000, normal, 500);
+        assertEquals(5_000, low, 500);
+    }
+
+    @Test
+    void densityRecoversSlowerThanItDrops() {
+        ClientParticleBudget budget = new ClientParticleBudget(3L);
+        budget.beginTick(40_000);
+        double dropped = 1.0 - budget.getDensity();
+        for (int i = 0; i < 60; i++) {
+            budget.beginTick(40_000);
+        }
+        double low = budget.getDensity();
+        assertFalse(budget.isRecovered());
+
+        budget.beginTick(0);
+        double recovered = budget.getDensity() - low;
+
+        assertTrue(recovered > 0.0);
+        assertTrue(recovered < dropped, "recovered " + recovered + " vs dropped " + dropped);
+    }
+
+    @Test
+    void densityNeverFallsBelowTheConfiguredMinimum() {
+        config.setClientMinDensityPercent(25);
+        ClientParticleBudget budget = new ClientParticleBudget(4L);
+        for (int i = 0; i < 200; i++) {
+            budget.recordFrame(1_000_000_000L);
+            budget.beginTick(1_000_000);
+        }
+        assertEquals(0.25, budget.getDensity(), 1.0E-6);
+    }
+
+    @Test
+    void tickCapIsSharedEvenlyBetweenEmitters() {
+        config.setClientSpawnsPerTick(90);
+        ClientParticleBudget budget = new ClientParticleBudget(5L);
+        budget.beginTick(0);
+
+        int[] spawned = new int[3];
+        for (int e = 0; e < 3; e++) {
+            budget.enterEmitter(TickPriority.NORMAL, 3 - e);
+            while (budget.tryAcquire()) {
+                spawned[e]++;
+            }
+            budget.exitEmitter();
+        }
+
+        assertEquals(30, spawned[0]);
+        assertEquals(30, spawned[1]);
+        assertEquals(30, spawned[2]);
+        assertFalse(budget.tryAcquire());
+    }
+
+    @Test
+    void unusedEmitterQuotaFlowsToLaterEmitters() {
+        config.setClientSpawnsPerTick(100);
+        ClientParticleBudget budget = new ClientParticleBudget(6L);
+        budget.beginTick(0);
+
+        budget.enterEmitter(TickPriority.NORMAL, 2);
+        for (int i = 0; i < 10; i++) {
+            assertTrue(budget.tryAcquire());
+        }
+        budget.exitEmitter();
+
+        budget.enterEmitter(TickPriority.LOW, 1);
+        int spawned = 0;
+        while (budget.tryAcquire()) {
+            spawned++;
+        }
+        budget.exitEmitter();
+
+        assertEquals(90, spawned);
+    }
+
+    @Test
+    void essentialSpawnsIgnoreThinningAndTheCap() {
+        config.setClientSpawnsPerTick(5);
+        ClientParticleBudget budget = new ClientParticleBudget(7L);
+        for (int i = 0; i < 60; i++) {
+            budget.beginTick(1_000_000);
+        }
+        for (int i = 0; i < 50; i++) {
+            assertTrue(budget.tryAcquire(ClientParticleBudget.Tier.ESSENTIAL));
+        }
+        assertFalse(budget.tryAcquire(ClientParticleBudget.Tier.NORMAL));
+    }
+
+    @Test
+    void lowTickPriorityMapsToLowTier() {
+        assertEquals(ClientParticleBudget.Tier.LOW, ClientParticleBudget.Tier.of(TickPriority.LOW));
+        assertEquals(ClientParticleBudget.Tier.NORMAL, ClientParticleBudget.Tier.of(TickPriority.NORMAL));
+        assertEquals(ClientParticleBudget.Tier.NORMAL, ClientParticleBudget.Tier.of(null));
+    }
+}
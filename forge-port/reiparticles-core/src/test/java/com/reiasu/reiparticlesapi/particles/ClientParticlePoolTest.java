@@ -0,0 +1,137 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.particles;
+
+import net.minecraft.world.phys.Vec3;
+import org.joml.Quaternionf;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+final class ClientParticlePoolTest {
+    private static final UUID OWNER = UUID.randomUUID();
+    private static final PooledParticleTemplate DOT = new PooledParticleTemplate();
+
+    @Test
+    void appliesTeleportsOnTickAndInterpolatesFromPreviousPosition() {
+        ClientParticlePool pool = new ClientParticlePool();
+        PooledParticle particle = spawn(pool, 1.0, 2.0, 3.0);
+
+        particle.teleportTo(5.0, 2.0, 3.0);
+        assertEquals(new Vec3(1.0, 2.0, 3.0), particle.getPos());
+        pool.tick();
+        assertEquals(new Vec3(5.0, 2.0, 3.0), particle.getPos());
+
+        // Halfway between the previous (1, 2, 3) and current (5, 2, 3) positions, relative to the camera.
+        CountingVertexConsumer consumer = new CountingVertexConsumer();
+        pool.render(consumer, new Quaternionf(), new Vec3(3.0, 2.0, 3.0), 0.5f);
+        assertEquals(4, consumer.vertices);
+        assertEquals(0.0, consumer.checksum - expectedCentredChecksum(), 1.0e-4);
+    }
+
+    @Test
+    void releasesExpiredAndRemovedParticlesAndReusesTheirSlots() {
+        ClientParticlePool pool = new ClientParticlePool();
+        PooledParticle shortLived = pool.allocate(OWNER, new PooledParticleTemplate().withLifetime(2),
+                0.0, 0.0, 0.0, 0.0f, 1.0f, 0.0f, 1.0f);
+        PooledParticle removed = spawn(pool, 0.0, 0.0, 0.0);
+        PooledParticle kept = spawn(pool, 0.0, 0.0, 0.0);
+        assertEquals(3, pool.size());
+
+        removed.remove();
+        pool.tick();
+        pool.tick();
+        assertFalse(shortLived.isAlive());
+        assertFalse(removed.isAlive());
+        assertTrue(kept.isAlive());
+        assertEquals(1, pool.size());
+
+        // Stale handles must not touch whoever takes their slot next.
+        PooledParticle reused = spawn(pool, 7.0, 7.0, 7.0);
+        removed.teleportTo(100.0, 100.0, 100.0);
+        shortLived.teleportTo(100.0, 100.0, 100.0);
+        removed.remove();
+        pool.tick();
+        assertTrue(reused.isAlive());
+        assertEquals(new Vec3(7.0, 7.0, 7.0), reused.getPos());
+        assertEquals(2, pool.size());
+    }
+
+    @Test
+    void rendersBackFacesOnlyForWorldAlignedParticles() {
+        ClientParticlePool pool = new ClientParticlePool();
+        spawn(pool, 0.0, 0.0, 0.0);
+        pool.allocate(OWNER, new PooledParticleTemplate().withFaceToCamera(false),
+                0.0, 0.0, 0.0, 0.0f, 1.0f, 0.0f, 1.0f);
+
+        CountingVertexConsumer consumer = new CountingVertexConsumer();
+        pool.render(consumer, new Quaternionf(), Vec3.ZERO, 1.0f);
+
+        assertEquals(4 + 8, consumer.vertices);
+    }
+
+    @Test
+    void spawningTicksAndRenderingStayCheapPerParticle() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+
+        // A LargeMagicCircleStyle-sized ring, shown repeatedly so the arrays are already grown.
+        int dots = 4096;
+        ClientParticlePool pool = new ClientParticlePool();
+        CountingVertexConsumer consumer = new CountingVertexConsumer();
+        Quaternionf cameraRotation = new Quaternionf().rotateY(0.3f);
+        for (int round = 0; round < 5; round++) {
+            showRing(pool, consumer, cameraRotation, dots).forEach(PooledParticle::remove);
+        }
+
+        long before = threads.getCurrentThreadAllocatedBytes();
+        List<PooledParticle> ring = showRing(pool, consumer, cameraRotation, dots);
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        assertEquals(dots, ring.size());
+        // One small handle per dot, plus the list holding them; no per-dot particle, controller or state.
+        assertTrue(allocated / dots < 64, "allocated " + allocated + " bytes for " + dots + " dots");
+    }
+
+    private static List<PooledParticle> showRing(ClientParticlePool pool,
+                                                 CountingVertexConsumer consumer,
+                                                 Quaternionf cameraRotation,
+                                                 int dots) {
+        List<PooledParticle> ring = new ArrayList<>(dots);
+        for (int i = 0; i < dots; i++) {
+            double angle = Math.PI * 2.0 * i / dots;
+            ring.add(spawn(pool, Math.cos(angle) * 6.0, 64.0, Math.sin(angle) * 6.0));
+        }
+        for (int tick = 0; tick < 20; tick++) {
+            for (int i = 0; i < dots; i++) {
+                double angle = Math.PI * 2.0 * i / dots + tick * 0.05;
+                ring.get(i).teleportTo(Math.cos(angle) * 6.0, 64.0, Math.sin(angle) * 6.0);
+            }
+            pool.tick();
+            pool.render(consumer, cameraRotation, Vec3.ZERO, 0.5f);
+        }
+        return ring;
+    }
+
+    private static PooledParticle spawn(ClientParticlePool pool, double x, double y, double z) {
+        return pool.allocate(OWNER, DOT, x, y, z, 0.0f, 1.0f, 0.0f, 1.0f);
+    }
+
+    /** Checksum of one camera-facing default dot centred on the camera. */
+    private static double expectedCentredChecksum() {
+        CountingVertexConsumer consumer = new CountingVertexConsumer();
+        ClientParticlePool pool = new ClientParticlePool();
+        spawn(pool, 0.0, 0.0, 0.0);
+        pool.render(consumer, new Quaternionf(), Vec3.ZERO, 0.5f);
+        return consumer.checksum;
+    }
+}
@@ -0,0 +1,54 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.particles;
+
+import com.reiasu.reiparticlesapi.particles.control.ControlParticleManager;
+import com.reiasu.reiparticlesapi.testutil.UnsafeAllocator;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.world.phys.Vec3;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+final class ControllableParticleGroupTest {
+    private final UUID controlUUID = UUID.randomUUID();
+
+    @AfterEach
+    void tearDown() {
+        ControlParticleManager.INSTANCE.removeControl(controlUUID);
+    }
+
+    // The level is an empty shell: any world collision would fail on it.
+
+    @Test
+    void attachedParticlesSkipTheVanillaTickEvenWithMinecraftTickOn() {
+        ControllableParticle particle = spawn(new Vec3(0.5, 0.0, 0.0));
+        particle.setMinecraftTick(true);
+        particle.attachToGroup(new GroupTransform(), 1.0, 2.0, 3.0);
+
+        particle.tick();
+
+        assertEquals(new Vec3(1.0, 2.0, 3.0), particle.getLoc());
+        assertEquals(0, particle.getCurrentAge());
+    }
+
+    @Test
+    void attachedParticlesMoveWithoutColliding() {
+        ControllableParticle particle = spawn(Vec3.ZERO);
+        particle.attachToGroup(new GroupTransform(), 1.0, 2.0, 3.0);
+
+        particle.moveToWithPhysics(new Vec3(4.0, 2.0, 3.0));
+        particle.tick();
+
+        assertEquals(new Vec3(4.0, 2.0, 3.0), particle.getLoc());
+    }
+
+    private ControllableParticle spawn(Vec3 velocity) {
+        ControlParticleManager.INSTANCE.createControl(controlUUID);
+        return new ControllableParticle(UnsafeAllocator.allocate(ClientLevel.class), Vec3.ZERO, velocity, controlUUID) {
+        };
+    }
+}
@@ -23,7 +23,12 @@ import org.joml.Quaternionf;
 import org.joml.Vector3f;
 import org.junit.jupiter.api.Test;
 
+import java.lang.management.ManagementFactory;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 class ControllableParticleRenderHelperTest {
     @Test
@@ -80,6 +85,76 @@ class ControllableParticleRenderHelperTest {
         assertVectorEquals(new Vector3f(1.0f, 0.0f, 0.0f).rotate(expected), new Vector3f(1.0f, 0.0f, 0.0f).rotate(actual));
     }
 
+    @Test
+    void shouldMatchLinearInterpolatorOnPrimitivePath() {
+        Vec3 previousPos = new Vec3(2.0, 4.0, 6.0);
+        Vec3 currentPos = new Vec3(10.0, 8.0, -2.0);
+        Vec3 cameraPos = new Vec3(1.0, 3.0, 5.0);
+
+        Vector3f expected = ControllableParticleRenderHelper.resolveRenderPos(
+                ControllableParticle.LINEAR_INTERPOLATOR, previousPos, currentPos, cameraPos, 0.25f);
+        Vector3f actual = ControllableParticleRenderHelper.resolveRenderPos(
+                new Vector3f(), 2.0, 4.0, 6.0, 10.0, 8.0, -2.0, cameraPos, 0.25f);
+
+        assertVectorEquals(expected, actual);
+    }
+
+    @Test
+    void shouldReuseDestinationQuaternion() {
+        Quaternionf dest = new Quaternionf().rotateX(1.0f);
+
+        Quaternionf actual = ControllableParticleRenderHelper.resolveQuaternion(
+                dest, false, new Quaternionf(), 0.5f, 0.2f, 0.6f, -0.4f, 0.2f, 0.1f, 0.5f);
+        Quaternionf expected = new Quaternionf().rotateXYZ(0.4f, -0.1f, 0.3f);
+
+        assertSame(dest, actual);
+        assertVectorEquals(new Vector3f(0.0f, 0.0f, 1.0f).rotate(expected), new Vector3f(0.0f, 0.0f, 1.0f).rotate(actual));
+    }
+
+    @Test
+    void shouldNotAllocatePerParticleOnRenderPath() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+
+        CountingVertexConsumer consumer = new CountingVertexConsumer();
+        Quaternionf cameraRotation = new Quaternionf().rotateY(0.45f);
+        Vec3 cameraPos = new Vec3(1.0, 3.0, 5.0);
+        Quaternionf rotation = new Quaternionf();
+        Vector3f renderPos = new Vector3f();
+        Vector3f vertex = new Vector3f();
+        int particles = 200_000;
+
+        renderParticles(consumer, cameraRotation, cameraPos, rotation, renderPos, vertex, particles);
+        long before = threads.getCurrentThreadAllocatedBytes();
+        renderParticles(consumer, cameraRotation, cameraPos, rotation, renderPos, vertex, particles);
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        // Each particle used to allocate a Quaternionf, four Vec3s and a Vector3f per vertex.
+        assertEquals(12L * particles, consumer.vertices);
+        assertTrue(allocated < particles, "allocated " + allocated + " bytes for " + particles + " particles");
+    }
+
+    private static void renderParticles(CountingVertexConsumer consumer,
+                                        Quaternionf cameraRotation,
+                                        Vec3 cameraPos,
+                                        Quaternionf rotation,
+                                        Vector3f renderPos,
+                                        Vector3f vertex,
+                                        int particles) {
+        for (int i = 0; i < particles; i++) {
+            boolean faceToCamera = (i & 1) == 0;
+            float tickDelta = (i % 20) / 20.0f;
+            ControllableParticleRenderHelper.resolveQuaternion(
+                    rotation, faceToCamera, cameraRotation, tickDelta, 0.1f, 0.2f, 0.3f, 0.4f, 0.5f, 0.6f);
+            ControllableParticleRenderHelper.resolveRenderPos(
+                    renderPos, i, 4.0, 6.0, i + 1.0, 8.0, -2.0, cameraPos, tickDelta);
+            ControllableParticleRenderHelper.emitQuad(
+                    consumer, rotation, vertex, renderPos, 0.2f,
+                    0.0f, 1.0f, 0.0f, 1.0f, 1.0f, 0.5f, 0.25f, 1.0f, 0xF000F0, !faceToCamera);
+        }
+    }
+
     private static void assertVectorEquals(Vector3f expected, Vector3f actual) {
         assertEquals(expected.x, actual.x, 1.0e-6f);
         assertEquals(expected.y, actual.y, 1.0e-6f);
@@ -0,0 +1,61 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.particles;
+
+import com.mojang.blaze3d.vertex.VertexConsumer;
+
+/**
+ * Vertex sink for render tests: counts vertices and folds every value into a
+ * checksum so the JIT cannot drop the work being measured.
+ */
+final class CountingVertexConsumer implements VertexConsumer {
+    long vertices;
+    double checksum;
+
+    @Override
+    public VertexConsumer vertex(double x, double y, double z) {
+        checksum += x + y + z;
+        return this;
+    }
+
+    @Override
+    public VertexConsumer color(int red, int green, int blue, int alpha) {
+        checksum += red + green + blue + alpha;
+        return this;
+    }
+
+    @Override
+    public VertexConsumer uv(float u, float v) {
+        checksum += u + v;
+        return this;
+    }
+
+    @Override
+    public VertexConsumer overlayCoords(int u, int v) {
+        return this;
+    }
+
+    @Override
+    public VertexConsumer uv2(int u, int v) {
+        checksum += u + v;
+        return this;
+    }
+
+    @Override
+    public VertexConsumer normal(float x, float y, float z) {
+        return this;
+    }
+
+    @Override
+    public void endVertex() {
+        vertices++;
+    }
+
+    @Override
+    public void defaultColor(int red, int green, int blue, int alpha) {
+    }
+
+    @Override
+    public void unsetDefaultColor() {
+    }
+}
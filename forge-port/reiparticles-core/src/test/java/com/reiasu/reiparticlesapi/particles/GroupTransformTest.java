@@ -0,0 +1,98 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.particles;
+
+import com.reiasu.reiparticlesapi.utils.Math3DUtil;
+import com.reiasu.reiparticlesapi.utils.RelativeLocation;
+import net.minecraft.world.phys.Vec3;
+import org.joml.Vector3f;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+final class GroupTransformTest {
+    private static final double EPSILON = 1.0e-9;
+
+    @Test
+    void rotationsMatchMath3DUtilOnPoints() {
+        List<RelativeLocation> points = new ArrayList<>(List.of(
+                new RelativeLocation(1.0, 0.0, 0.0),
+                new RelativeLocation(0.0, 2.0, 1.0),
+                new RelativeLocation(-3.0, 0.5, 4.0)));
+        List<RelativeLocation> locals = new ArrayList<>();
+        for (RelativeLocation point : points) {
+            locals.add(point.copy());
+        }
+        RelativeLocation axis = new RelativeLocation(0.0, 1.0, 0.0);
+        RelativeLocation to = new RelativeLocation(1.0, 1.0, -2.0);
+        GroupTransform transform = new GroupTransform().reset(5.0, 6.0, 7.0);
+
+        Math3DUtil.rotateAsAxis(points, axis, 0.7);
+        transform.rotateAsAxis(axis, 0.7);
+        Math3DUtil.rotatePointsToPoint(points, to, axis);
+        transform.rotateToPoint(axis, to);
+
+        for (int i = 0; i < points.size(); i++) {
+            RelativeLocation local = locals.get(i);
+            Vec3 world = transform.toWorld(local.getX(), local.getY(), local.getZ());
+            RelativeLocation expected = points.get(i);
+            assertEquals(5.0 + expected.getX(), world.x, EPSILON);
+            assertEquals(6.0 + expected.getY(), world.y, EPSILON);
+            assertEquals(7.0 + expected.getZ(), world.z, EPSILON);
+        }
+    }
+
+    @Test
+    void antiparallelRotationMatchesMath3DUtil() {
+        List<RelativeLocation> points = new ArrayList<>(List.of(new RelativeLocation(0.0, 1.0, 2.0)));
+        RelativeLocation from = new RelativeLocation(0.0, 1.0, 0.0);
+        RelativeLocation to = new RelativeLocation(0.0, -1.0, 0.0);
+        GroupTransform transform = new GroupTransform().reset(0.0, 0.0, 0.0);
+
+        Math3DUtil.rotatePointsToPoint(points, to, from);
+        transform.rotateToPoint(from, to);
+
+        Vec3 world = transform.toWorld(0.0, 1.0, 2.0);
+        assertEquals(points.get(0).getX(), world.x, EPSILON);
+        assertEquals(points.get(0).getY(), world.y, EPSILON);
+        assertEquals(points.get(0).getZ(), world.z, EPSILON);
+    }
+
+    @Test
+    void renderPositionInterpolatesOriginScaleAndRotation() {
+        GroupTransform transform = new GroupTransform().reset(0.0, 0.0, 0.0);
+        transform.beginTick();
+        transform.setOrigin(10.0, 0.0, 0.0);
+        transform.setScale(3.0);
+        transform.rotateAsAxis(new RelativeLocation(0.0, 1.0, 0.0), Math.PI / 2.0);
+
+        Vector3f dest = new Vector3f();
+        Vec3 camera = new Vec3(1.0, 0.0, 0.0);
+        transform.toRenderPos(dest, 1.0, 0.0, 0.0, camera, 0.0f);
+        assertEquals(0.0f, dest.x, 1.0e-5f);
+
+        Vec3 end = transform.toWorld(1.0, 0.0, 0.0);
+        transform.toRenderPos(dest, 1.0, 0.0, 0.0, camera, 1.0f);
+        assertEquals((float) (end.x - 1.0), dest.x, 1.0e-5f);
+        assertEquals((float) end.y, dest.y, 1.0e-5f);
+        assertEquals((float) end.z, dest.z, 1.0e-5f);
+
+        // Halfway: origin 5, scale 2, rotated by a quarter of a half turn.
+        transform.toRenderPos(dest, 1.0, 0.0, 0.0, Vec3.ZERO, 0.5f);
+        Vector3f direction = new Vector3f(dest).sub(5.0f, 0.0f, 0.0f);
+        assertEquals(2.0f, direction.length(), 1.0e-5f);
+        assertEquals(Math.PI / 4.0, Math.acos(direction.x / 2.0f), 1.0e-5);
+    }
+
+    @Test
+    void alphaIsClamped() {
+        GroupTransform transform = new GroupTransform();
+        transform.setAlpha(1.5f);
+        assertEquals(1.0f, transform.getAlpha());
+        transform.setAlpha(-0.5f);
+        assertEquals(0.0f, transform.getAlpha());
+    }
+}
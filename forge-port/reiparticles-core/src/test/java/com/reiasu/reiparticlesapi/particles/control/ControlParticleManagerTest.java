@@ -0,0 +1,41 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.particles.control;
+
+import com.reiasu.reiparticlesapi.utils.LocalIds;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+final class ControlParticleManagerTest {
+    private final ControlParticleManager manager = ControlParticleManager.INSTANCE;
+
+    @Test
+    void localControllersAreFoundByIdAndByTheirUuid() {
+        long id = LocalIds.next();
+        ParticleController controller = manager.createControl(id);
+
+        assertSame(controller, manager.getControl(id));
+        // The particle only knows the wrapped UUID.
+        assertSame(controller, manager.getControl(LocalIds.asUuid(id)));
+
+        manager.removeControl(LocalIds.asUuid(id));
+        assertNull(manager.getControl(id));
+    }
+
+    @Test
+    void randomUuidsAreKeptApartFromLocalIds() {
+        UUID uuid = new UUID(1L, 7L);
+        ParticleController controller = manager.createControl(uuid);
+        try {
+            assertSame(controller, manager.getControl(uuid));
+            assertNull(manager.getControl(7L));
+        } finally {
+            manager.removeControl(uuid);
+        }
+        assertNull(manager.getControl(uuid));
+    }
+}
@@ -0,0 +1,119 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.profiler;
+
+import com.reiasu.reiparticlesapi.config.APIConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class TickProfilerTest {
+    private final TickProfiler profiler = new TickProfiler("test");
+
+    @AfterEach
+    void restoreWindow() {
+        APIConfig.INSTANCE.setProfilerWindowTicks(200);
+    }
+
+    @Test
+    void percentilesUseNearestRank() {
+        long[] sorted = new long[100];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = i + 1;
+        }
+
+        assertEquals(50L, RollingWindow.percentile(sorted, 50));
+        assertEquals(95L, RollingWindow.percentile(sorted, 95));
+        assertEquals(99L, RollingWindow.percentile(sorted, 99));
+        assertEquals(7L, RollingWindow.percentile(new long[]{7L}, 99));
+    }
+
+    @Test
+    void windowKeepsOnlyTheLastTicks() {
+        APIConfig.INSTANCE.setProfilerWindowTicks(20);
+        for (int tick = 1; tick <= 120; tick++) {
+            profiler.record("emitters", tick * 1_000L);
+            profiler.record("styles", 500L);
+            profiler.endTick();
+        }
+
+        TickProfiler.Snapshot snapshot = profiler.snapshot();
+        TickProfiler.Stats emitters = snapshot.sections().get("emitters");
+
+        assertEquals(120L, snapshot.ticks());
+        assertEquals(20, emitters.samples());
+        assertEquals(120_000L, emitters.last());
+        assertEquals(110_000L, emitters.p50());
+        assertEquals(120_000L, emitters.p99());
+        assertEquals(120_500L, snapshot.total().max());
+        assertEquals(List.of("emitters", "styles"), List.copyOf(snapshot.sections().keySet()));
+    }
+
+    @Test
+    void countersAreTotalledPerTick() {
+        for (int tick = 0; tick < 10; tick++) {
+            for (int packet = 0; packet <= tick; packet++) {
+                profiler.count("network.packets", 1L);
+            }
+            profiler.endTick();
+        }
+        profiler.gauge("emitters", () -> 42L);
+
+        TickProfiler.Snapshot snapshot = profiler.snapshot();
+        TickProfiler.Stats packets = snapshot.counters().get("network.packets");
+
+        assertEquals(10, packets.samples());
+        assertEquals(5L, packets.p50());
+        assertEquals(10L, packets.max());
+        assertEquals(42L, (long) snapshot.gauges().get("emitters"));
+    }
+
+    @Test
+    void timeRecordsSectionsThatThrow() {
+        assertThrows(IllegalStateException.class, () -> profiler.time("broken", () -> {
+            throw new IllegalStateException("boom");
+        }));
+        profiler.endTick();
+
+        assertEquals(1, profiler.snapshot().sections().get("broken").samples());
+    }
+
+    @Test
+    void resetDropsSamplesButKeepsGauges() {
+        profiler.gauge("displays", () -> 3L);
+        profiler.record("displays", 1_000L);
+        profiler.count("particles.spawned", 4L);
+        profiler.endTick();
+
+        profiler.reset();
+        TickProfiler.Snapshot snapshot = profiler.snapshot();
+
+        assertEquals(0L, snapshot.ticks());
+        assertTrue(snapshot.sections().isEmpty());
+        assertTrue(snapshot.counters().isEmpty());
+        assertEquals(3L, (long) snapshot.gauges().get("displays"));
+        assertEquals(List.of("[test] no ticks recorded"), ProfileReport.lines(snapshot, 8));
+    }
+
+    @Test
+    void reportListsSlowestSectionsFirst() {
+        profiler.record("fast", 100_000L);
+        profiler.record("slow", 3_000_000L);
+        profiler.record("medium", 1_000_000L);
+        profiler.count("network.packets", 12L);
+        profiler.endTick();
+
+        List<String> lines = ProfileReport.lines(profiler.snapshot(), 2);
+
+        assertEquals("[test] last 1 of 1 ticks, total p50=4.10ms p95=4.10ms p99=4.10ms max=4.10ms", lines.get(0));
+        assertTrue(lines.get(1).startsWith("  slow p50=3.00ms"));
+        assertTrue(lines.get(2).startsWith("  medium "));
+        assertEquals("  ... 1 more", lines.get(3));
+        assertEquals("  network.packets/tick p50=12 p95=12 p99=12 max=12", lines.get(4));
+    }
+}
@@ -0,0 +1,94 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.reflect;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class AnnotationIndexTest {
+    private static final String INDEX = """
+            package demo.mod
+            package demo.mod.emitters
+            FooEmitter com.reiasu.reiparticlesapi.annotations.ReiAutoRegister
+            FooEmitter$Inner java.lang.Deprecated
+            package demo.mod.emittersextra
+            Bar com.reiasu.reiparticlesapi.annotations.ReiAutoRegister
+            """;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void collectsAPackageAndItsSubpackagesOnly() throws IOException {
+        AnnotationIndex index = AnnotationIndex.read("demo.mod", stream(INDEX));
+        List<SimpleClassInfo> out = new ArrayList<>();
+
+        assertEquals(2, index.collect("demo.mod.emitters", out));
+
+        assertEquals("demo.mod.emitters.FooEmitter", out.get(0).getType());
+        assertTrue(out.get(0).getAnnotations().contains("com.reiasu.reiparticlesapi.annotations.ReiAutoRegister"));
+        assertEquals("demo.mod.emitters.FooEmitter$Inner", out.get(1).getType());
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void locatesIndexesNamedAfterThePackageOrAParent() throws IOException {
+        writeIndex("demo.mod");
+        Map<String, AnnotationIndex> cache = new HashMap<>();
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{dir.toUri().toURL()}, null)) {
+            List<AnnotationIndex> covering = AnnotationIndex.locate(loader, "demo.mod.emitters", cache);
+            assertEquals(1, covering.size());
+            assertEquals("demo.mod", covering.get(0).getRoot());
+
+            assertEquals(covering, AnnotationIndex.locate(loader, "demo.mod", cache));
+            assertEquals(1, cache.size());
+            assertTrue(AnnotationIndex.locate(loader, "demo", cache).isEmpty());
+        }
+    }
+
+    @Test
+    void leavesPackagesTheIndexDoesNotListToTheScan() throws IOException {
+        // Another jar, like an addon, may put classes under the same root.
+        writeIndex("demo.mod");
+        Map<String, AnnotationIndex> cache = new HashMap<>();
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{dir.toUri().toURL()}, null)) {
+            assertTrue(AnnotationIndex.locate(loader, "demo.mod.addon", cache).isEmpty());
+            assertTrue(AnnotationIndex.locate(loader, "demo.mod.emitter", cache).isEmpty());
+            assertEquals(1, AnnotationIndex.locate(loader, "demo.mod.emittersextra", cache).size());
+        }
+    }
+
+    @Test
+    void rejectsClassesOutsideAPackageBlock() {
+        assertThrows(IOException.class,
+                () -> AnnotationIndex.read("demo", stream("Foo com.example.Marker\n")));
+    }
+
+    private void writeIndex(String root) throws IOException {
+        Path file = dir.resolve(AnnotationIndex.DIRECTORY + root + AnnotationIndex.SUFFIX);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, INDEX, StandardCharsets.UTF_8);
+    }
+
+    private static ByteArrayInputStream stream(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
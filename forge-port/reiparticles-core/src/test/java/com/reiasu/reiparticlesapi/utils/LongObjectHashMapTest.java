@@ -0,0 +1,77 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class LongObjectHashMapTest {
+    @Test
+    void matchesHashMapUnderRandomPutsAndRemoves() {
+        Random random = new Random(7L);
+        LongObjectHashMap<String> map = new LongObjectHashMap<>();
+        LongDoubleHashMap doubles = new LongDoubleHashMap();
+        Map<Long, String> expected = new HashMap<>();
+        for (int i = 0; i < 50_000; i++) {
+            // A small key range forces long probe chains and removals inside them.
+            long key = 1L + random.nextInt(2048);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), map.remove(key));
+                assertEquals(expected.containsKey(key), doubles.remove(key));
+            } else {
+                String value = "v" + i;
+                assertEquals(expected.put(key, value), map.put(key, value));
+                doubles.put(key, i);
+            }
+            assertEquals(expected.size(), map.size());
+            assertEquals(expected.size(), doubles.size());
+        }
+        for (long key = 1L; key <= 2048L; key++) {
+            assertEquals(expected.get(key), map.get(key));
+            assertEquals(expected.containsKey(key), doubles.containsKey(key));
+            if (expected.containsKey(key)) {
+                assertEquals(expected.get(key), "v" + (int) doubles.getOrDefault(key, -1.0));
+            }
+        }
+
+        Map<Long, String> visited = new HashMap<>();
+        map.forEach(visited::put);
+        assertEquals(expected, visited);
+        assertEquals(expected.size(), map.values().size());
+    }
+
+    @Test
+    void growsPastInitialCapacityWithSequentialIds() {
+        LongObjectHashMap<Long> map = new LongObjectHashMap<>();
+        for (long id = 1L; id <= 10_000L; id++) {
+            map.put(id, id);
+        }
+        assertEquals(10_000, map.size());
+        for (long id = 1L; id <= 10_000L; id++) {
+            assertEquals(id, map.get(id));
+        }
+        assertNull(map.get(10_001L));
+
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertFalse(map.containsKey(1L));
+    }
+
+    @Test
+    void rejectsReservedKeyAndNullValues() {
+        LongObjectHashMap<String> map = new LongObjectHashMap<>();
+        assertThrows(IllegalArgumentException.class, () -> map.put(0L, "zero"));
+        assertThrows(IllegalArgumentException.class, () -> map.put(1L, null));
+        assertNull(map.get(0L));
+        assertThrows(IllegalArgumentException.class, () -> new LongDoubleHashMap().put(0L, 1.0));
+    }
+}
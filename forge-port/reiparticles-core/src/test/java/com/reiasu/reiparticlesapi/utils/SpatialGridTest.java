@@ -0,0 +1,70 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class SpatialGridTest {
+    @Test
+    void rangeQueryMatchesBruteForce() {
+        Random random = new Random(42L);
+        SpatialGrid<Integer> grid = new SpatialGrid<>(16.0);
+        List<double[]> points = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            double[] point = {
+                    random.nextDouble() * 2000.0 - 1000.0,
+                    random.nextDouble() * 256.0,
+                    random.nextDouble() * 2000.0 - 1000.0
+            };
+            points.add(point);
+            grid.add(i, point[0], point[1], point[2]);
+        }
+
+        double[] ranges = {0.0, 8.0, 48.0, 256.0, 4096.0, Double.MAX_VALUE};
+        for (int q = 0; q < 50; q++) {
+            double x = random.nextDouble() * 2000.0 - 1000.0;
+            double y = random.nextDouble() * 256.0;
+            double z = random.nextDouble() * 2000.0 - 1000.0;
+            for (double range : ranges) {
+                Set<Integer> expected = new HashSet<>();
+                double nearest = Double.MAX_VALUE;
+                for (int i = 0; i < points.size(); i++) {
+                    double[] p = points.get(i);
+                    double distanceSqr = (p[0] - x) * (p[0] - x) + (p[1] - y) * (p[1] - y) + (p[2] - z) * (p[2] - z);
+                    if (distanceSqr <= range * range) {
+                        expected.add(i);
+                        nearest = Math.min(nearest, distanceSqr);
+                    }
+                }
+                assertEquals(expected, new HashSet<>(grid.within(x, y, z, range)));
+                assertEquals(nearest, grid.nearestDistanceSqr(x, y, z, range));
+            }
+        }
+    }
+
+    @Test
+    void visitorReceivesOrderAndSquaredDistance() {
+        SpatialGrid<String> grid = new SpatialGrid<>(16.0);
+        grid.add("near", 7, 1.0, 0.0, 0.0);
+        grid.add("far", 3, 100.0, 0.0, 0.0);
+
+        List<String> seen = new ArrayList<>();
+        grid.forEachWithin(0.0, 0.0, 0.0, 10.0, (value, order, distanceSqr) -> {
+            seen.add(value + "@" + order + "=" + distanceSqr);
+        });
+
+        assertEquals(List.of("near@7=1.0"), seen);
+        grid.clear();
+        assertEquals(0, grid.size());
+        assertTrue(grid.within(0.0, 0.0, 0.0, 1000.0).isEmpty());
+    }
+}
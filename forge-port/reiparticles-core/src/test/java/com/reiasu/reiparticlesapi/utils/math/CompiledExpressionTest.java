@@ -0,0 +1,81 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.utils.math;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class CompiledExpressionTest {
+    private static final double EPSILON = 1.0e-12;
+
+    @Test
+    void bindsVariablesToSlotsInDeclarationOrder() {
+        CompiledExpression expr = CompiledExpression.compile("sin(t * PI / 180) * c + i", "t", "c", "i");
+
+        assertEquals(List.of("t", "c", "i"), expr.getVariables());
+        assertEquals(2.0 + 5.0, expr.evaluate(new double[]{90.0, 2.0, 5.0}), EPSILON);
+        assertEquals(-3.0, expr.evaluate(new double[]{270.0, 3.0, 0.0}), EPSILON);
+    }
+
+    @Test
+    void keepsEvaluatorSemantics() {
+        assertEquals(7.0, CompiledExpression.compile("1 + 2 * 3").evaluate(), EPSILON);
+        assertEquals(512.0, CompiledExpression.compile("2 ^ 3 ^ 2").evaluate(), EPSILON);
+        assertEquals(4.0, CompiledExpression.compile("-2 ^ 2").evaluate(), EPSILON);
+        assertEquals(0.0, CompiledExpression.compile("x / 0", "x").evaluate(5.0), EPSILON);
+        assertEquals(0.0, CompiledExpression.compile("x % 0", "x").evaluate(5.0), EPSILON);
+        assertEquals(3.0, CompiledExpression.compile("max(x, 3)", "x").evaluate(-1.0), EPSILON);
+        assertEquals(1.0e-3, CompiledExpression.compile("1e-3").evaluate(), EPSILON);
+        assertEquals(2.0, CompiledExpression.compile("round(1.6)").evaluate(), EPSILON);
+    }
+
+    @Test
+    void foldsConstantSubExpressions() {
+        assertTrue(CompiledExpression.compile("sin(PI / 2) * 4 + pow(2, 3)").isConstant());
+        assertEquals(12.0, CompiledExpression.compile("sin(PI / 2) * 4 + pow(2, 3)").evaluate(), EPSILON);
+        assertFalse(CompiledExpression.compile("t * 2", "t").isConstant());
+    }
+
+    @Test
+    void cachesBySourceAndVariables() {
+        CompiledExpression first = CompiledExpression.compile("t * 2 + c", "t", "c");
+
+        assertSame(first, CompiledExpression.compile("t * 2 + c", "t", "c"));
+        CompiledExpression swapped = CompiledExpression.compile("t * 2 + c", "c", "t");
+        assertEquals(2.0 * 4.0 + 1.0, swapped.evaluate(new double[]{1.0, 4.0}), EPSILON);
+        assertTrue(CompiledExpression.cacheSize() <= 1024);
+    }
+
+    @Test
+    void rejectsInvalidExpressionsAtCompileTime() {
+        assertThrows(IllegalArgumentException.class, () -> CompiledExpression.compile("t * 2"));
+        assertThrows(IllegalArgumentException.class, () -> CompiledExpression.compile("foo(1)"));
+        assertThrows(IllegalArgumentException.class, () -> CompiledExpression.compile("1 +* 2"));
+        assertEquals(1.0, CompiledExpression.compileOr("t * 2", 1.0).evaluate(), EPSILON);
+        assertEquals(1.0, CompiledExpression.compileOr(null, 1.0, "l").evaluate(3.0), EPSILON);
+    }
+
+    @Test
+    void freeCompilationCollectsVariablesInOrderOfAppearance() {
+        CompiledExpression expr = CompiledExpression.compileFree("b * 2 + a - b + PI");
+
+        assertEquals(List.of("b", "a"), expr.getVariables());
+        assertEquals(3.0 * 2 + 1.0 - 3.0 + Math.PI, expr.evaluate(new double[]{3.0, 1.0}), EPSILON);
+    }
+
+    @Test
+    void expressionEvaluatorUsesCompiledForm() {
+        ExpressionEvaluator evaluator = new ExpressionEvaluator("sin(t * PI / 180) * c").with("t", 90).with("c", 2);
+
+        assertEquals(2.0, evaluator.evaluate(), EPSILON);
+        assertEquals(-2.0, evaluator.with("t", 270).evaluate(), EPSILON);
+        assertThrows(RuntimeException.class, () -> new ExpressionEvaluator("t + q").with("t", 1).evaluate());
+    }
+}
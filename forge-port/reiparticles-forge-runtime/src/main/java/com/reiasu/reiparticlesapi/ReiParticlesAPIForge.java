@@ -4,6 +4,7 @@ package com.reiasu.reiparticlesapi;
 
 import com.mojang.logging.LogUtils;
 import com.reiasu.reiparticlesapi.animation.AnimateManager;
+import com.reiasu.reiparticlesapi.client.ClientParticleBudgetDriver;
 import com.reiasu.reiparticlesapi.client.ClientTickEventForwarder;
 import com.reiasu.reiparticlesapi.commands.APICommand;
 import com.reiasu.reiparticlesapi.config.APIConfigSpec;
@@ -13,12 +14,18 @@ import com.reiasu.reiparticlesapi.event.ReiEventBus;
 import com.reiasu.reiparticlesapi.event.events.server.ServerPostTickEvent;
 import com.reiasu.reiparticlesapi.event.events.server.ServerPreTickEvent;
 import com.reiasu.reiparticlesapi.network.ForgeReiParticlesNetwork;
+import com.reiasu.reiparticlesapi.network.ReiParticlesNetwork;
 import com.reiasu.reiparticlesapi.network.animation.PathMotionManager;
+import com.reiasu.reiparticlesapi.network.particle.PlayerSpatialIndex;
 import com.reiasu.reiparticlesapi.network.particle.composition.manager.ParticleCompositionManager;
 import com.reiasu.reiparticlesapi.network.particle.emitters.ParticleEmittersManager;
 import com.reiasu.reiparticlesapi.network.particle.emitters.environment.wind.WindDirections;
 import com.reiasu.reiparticlesapi.network.particle.emitters.type.EmittersShootTypes;
 import com.reiasu.reiparticlesapi.network.particle.style.ParticleStyleManager;
+import com.reiasu.reiparticlesapi.network.particle.util.ServerParticleUtil;
+import com.reiasu.reiparticlesapi.network.trace.PacketTraceRecorder;
+import com.reiasu.reiparticlesapi.particles.ClientParticleBudget;
+import com.reiasu.reiparticlesapi.particles.ClientParticlePool;
 import com.reiasu.reiparticlesapi.particles.ControllableParticleEffectManager;
 import com.reiasu.reiparticlesapi.particles.ForgeReiModParticles;
 import com.reiasu.reiparticlesapi.particles.ReiModParticles;
@@ -30,6 +37,7 @@ import com.reiasu.reiparticlesapi.particles.impl.particles.ControllableFallingDu
 import com.reiasu.reiparticlesapi.particles.impl.particles.ControllableFireworkParticle;
 import com.reiasu.reiparticlesapi.particles.impl.particles.ControllableFlashParticle;
 import com.reiasu.reiparticlesapi.particles.impl.particles.ControllableSplashParticle;
+import com.reiasu.reiparticlesapi.profiler.TickProfiler;
 import com.reiasu.reiparticlesapi.renderer.client.ClientRenderEntityManager;
 import com.reiasu.reiparticlesapi.renderer.server.ServerRenderEntityManager;
 import com.reiasu.reiparticlesapi.scheduler.ReiScheduler;
@@ -40,6 +48,7 @@ import net.minecraftforge.client.event.RegisterParticleProvidersEvent;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.event.RegisterCommandsEvent;
 import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.server.ServerStoppingEvent;
 import net.minecraftforge.fml.DistExecutor;
 import net.minecraftforge.fml.ModLoadingContext;
 import net.minecraftforge.fml.common.Mod;
@@ -49,6 +58,7 @@ import net.minecraftforge.fml.event.lifecycle.FMLClientSetupEvent;
 import net.minecraftforge.fml.javafmlmod.FMLJavaModLoadingContext;
 import org.slf4j.Logger;
 
+import java.io.IOException;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -61,6 +71,7 @@ public final class ReiParticlesAPIForge {
         registerConfig();
         registerTickCallbacks();
         registerCommands();
+        registerServerLifecycle();
         initSystems();
 
         LOGGER.info("ReiParticlesAPI Forge runtime initialized");
@@ -96,6 +107,11 @@ public final class ReiParticlesAPIForge {
                 onClientEndTick();
             }
         });
+        MinecraftForge.EVENT_BUS.addListener((TickEvent.RenderTickEvent event) -> {
+            if (event.phase == TickEvent.Phase.START) {
+                DistExecutor.unsafeRunWhenOn(Dist.CLIENT, () -> ClientParticleBudgetDriver::onRenderStart);
+            }
+        });
         MinecraftForge.EVENT_BUS.addListener((TickEvent.ServerTickEvent event) -> {
             if (event.phase == TickEvent.Phase.START && event.getServer() != null) {
                 ReiEventBus.call(new ServerPreTickEvent(event.getServer()));
@@ -114,6 +130,29 @@ public final class ReiParticlesAPIForge {
         );
     }
 
+    private void registerServerLifecycle() {
+        MinecraftForge.EVENT_BUS.addListener((ServerStoppingEvent event) -> onServerStopping());
+    }
+
+    /**
+     * Finishes a packet trace left running, so the records still staged reach the file, and
+     * drops the player indexes and unsent packets so they do not keep the stopped server's
+     * levels and players.
+     */
+    private void onServerStopping() {
+        PlayerSpatialIndex.clear();
+        ReiParticlesNetwork.clearQueued();
+        try {
+            PacketTraceRecorder.Summary summary = PacketTraceRecorder.INSTANCE.stop();
+            if (summary != null) {
+                LOGGER.info("Finished packet trace {} ({} packets) as the server stopped",
+                        summary.file(), summary.packets());
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Packet trace not finished as the server stopped", e);
+        }
+    }
+
     private void initSystems() {
         ForgeReiParticlesNetwork.init();
         ParticleEmittersManager.registerBuiltinCodecs();
@@ -125,42 +164,62 @@ public final class ReiParticlesAPIForge {
         ForgeEventForwarder.init();
         ReiParticlesAPI.INSTANCE.loadScannerPackages();
         ReiParticlesAPI.INSTANCE.registerTest();
+        registerProfilerGauges();
+    }
+
+    private void registerProfilerGauges() {
+        TickProfiler profiler = TickProfiler.SERVER;
+        profiler.gauge("animations", () -> AnimateManager.INSTANCE.activeCount());
+        profiler.gauge("emitters", ParticleEmittersManager::activeCount);
+        profiler.gauge("displays", () -> DisplayEntityManager.INSTANCE.activeCount());
+        profiler.gauge("compositions", () -> ParticleCompositionManager.INSTANCE.activeCount());
+        profiler.gauge("styles", () -> ParticleStyleManager.getServerViewStyles().size());
+        profiler.gauge("scheduledTasks", () -> ReiScheduler.INSTANCE.getServerTaskCount());
+        profiler.gauge("pendingParticles", ServerParticleUtil::getCollectedCount);
     }
 
     private void onClientEndTick() {
-        safeTick("ClientTickEventForwarder", () ->
+        TickProfiler profiler = TickProfiler.CLIENT;
+        safeTick(profiler, "ClientParticleBudget", () ->
+                DistExecutor.unsafeRunWhenOn(Dist.CLIENT, () -> ClientParticleBudgetDriver::onClientTick));
+        safeTick(profiler, "ClientTickEventForwarder", () ->
                 DistExecutor.unsafeRunWhenOn(Dist.CLIENT, () -> ClientTickEventForwarder::onClientEndTick));
-        safeTick("AnimateManager.client", () -> AnimateManager.INSTANCE.tickClient());
-        safeTick("ParticleEmittersManager.client", ParticleEmittersManager::tickClient);
-        safeTick("DisplayEntityManager.client", () -> DisplayEntityManager.INSTANCE.tickClient());
-        safeTick("ParticleCompositionManager.client", () -> ParticleCompositionManager.INSTANCE.tickClient());
-        safeTick("ParticleStyleManager.client", ParticleStyleManager::doTickClient);
-        safeTick("ClientParticleGroupManager", () -> ClientParticleGroupManager.INSTANCE.doClientTick());
-        safeTick("ClientRenderEntityManager", () -> ClientRenderEntityManager.INSTANCE.doClientTick());
-        safeTick("PathMotionManager", () -> PathMotionManager.INSTANCE.tick());
-        safeTick("ReiScheduler.client", () -> ReiScheduler.INSTANCE.doClientTick());
-        safeTick("ClientCameraUtil", () -> ClientCameraUtil.INSTANCE.tick());
+        safeTick(profiler, "AnimateManager.client", () -> AnimateManager.INSTANCE.tickClient());
+        safeTick(profiler, "ParticleEmittersManager.client", ParticleEmittersManager::tickClient);
+        safeTick(profiler, "DisplayEntityManager.client", () -> DisplayEntityManager.INSTANCE.tickClient());
+        safeTick(profiler, "ParticleCompositionManager.client", () -> ParticleCompositionManager.INSTANCE.tickClient());
+        safeTick(profiler, "ParticleStyleManager.client", ParticleStyleManager::doTickClient);
+        safeTick(profiler, "ClientParticleGroupManager", () -> ClientParticleGroupManager.INSTANCE.doClientTick());
+        safeTick(profiler, "ClientRenderEntityManager", () -> ClientRenderEntityManager.INSTANCE.doClientTick());
+        safeTick(profiler, "PathMotionManager", () -> PathMotionManager.INSTANCE.tick());
+        safeTick(profiler, "ReiScheduler.client", () -> ReiScheduler.INSTANCE.doClientTick());
+        safeTick(profiler, "ClientCameraUtil", () -> ClientCameraUtil.INSTANCE.tick());
+        profiler.endTick();
     }
 
     private void onServerEndTick(net.minecraft.server.MinecraftServer server) {
-        safeTick("AnimateManager.server", () -> AnimateManager.INSTANCE.tickServer());
-        safeTick("ParticleEmittersManager.server", ParticleEmittersManager::tickAll);
-        safeTick("DisplayEntityManager.server", () -> DisplayEntityManager.INSTANCE.tickAll());
-        safeTick("ParticleCompositionManager.server", () -> ParticleCompositionManager.INSTANCE.tickAll());
-        safeTick("ParticleStyleManager.server", ParticleStyleManager::doTickServer);
-        safeTick("ServerRenderEntityManager.tick", () -> ServerRenderEntityManager.INSTANCE.tick());
-        safeTick("ServerRenderEntityManager.upgrade", () -> ServerRenderEntityManager.INSTANCE.upgrade(server));
-        safeTick("TestManager", () -> TestManager.INSTANCE.doTickServer());
-        safeTick("ReiScheduler.server", () -> ReiScheduler.INSTANCE.doServerTick());
-        safeTick("ServerPostTickEvent", () -> ReiEventBus.call(new ServerPostTickEvent(server)));
+        TickProfiler profiler = TickProfiler.SERVER;
+        safeTick(profiler, "AnimateManager.server", () -> AnimateManager.INSTANCE.tickServer());
+        safeTick(profiler, "ParticleEmittersManager.server", ParticleEmittersManager::tickAll);
+        safeTick(profiler, "DisplayEntityManager.server", () -> DisplayEntityManager.INSTANCE.tickAll());
+        safeTick(profiler, "ParticleCompositionManager.server", () -> ParticleCompositionManager.INSTANCE.tickAll());
+        safeTick(profiler, "ParticleStyleManager.server", ParticleStyleManager::doTickServer);
+        safeTick(profiler, "ServerRenderEntityManager.tick", () -> ServerRenderEntityManager.INSTANCE.tick());
+        safeTick(profiler, "ServerRenderEntityManager.upgrade", () -> ServerRenderEntityManager.INSTANCE.upgrade(server));
+        safeTick(profiler, "TestManager", () -> TestManager.INSTANCE.doTickServer());
+        safeTick(profiler, "ReiScheduler.server", () -> ReiScheduler.INSTANCE.doServerTick());
+        safeTick(profiler, "ServerPostTickEvent", () -> ReiEventBus.call(new ServerPostTickEvent(server)));
+        safeTick(profiler, "ServerParticleUtil.flush", ServerParticleUtil::flushCollected);
+        safeTick(profiler, "ReiParticlesNetwork.flush", ReiParticlesNetwork::flush);
+        profiler.endTick();
     }
 
     private static final Map<String, Long> LAST_ERROR_LOG = new ConcurrentHashMap<>();
     private static final long ERROR_LOG_INTERVAL_MS = 10_000L;
 
-    private static void safeTick(String name, Runnable tick) {
+    private static void safeTick(TickProfiler profiler, String name, Runnable tick) {
         try {
-            tick.run();
+            profiler.time(name, tick);
         } catch (Exception e) {
             long now = System.currentTimeMillis();
             Long last = LAST_ERROR_LOG.get(name);
@@ -173,6 +232,11 @@ public final class ReiParticlesAPIForge {
     }
 
     private void onClientSetup() {
+        TickProfiler.CLIENT.gauge("pooledParticles", () -> ClientParticlePool.INSTANCE.size());
+        TickProfiler.CLIENT.gauge("styles", () -> ParticleStyleManager.getClientViewStyles().size());
+        TickProfiler.CLIENT.gauge("liveParticles", () -> ClientParticleBudget.INSTANCE.getLiveParticles());
+        TickProfiler.CLIENT.gauge("particleDensityPercent",
+                () -> Math.round(ClientParticleBudget.INSTANCE.getDensity() * 100.0));
         LOGGER.info("ReiParticlesAPI client setup completed");
     }
 
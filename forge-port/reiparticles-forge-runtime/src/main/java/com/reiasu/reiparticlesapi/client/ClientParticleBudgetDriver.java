@@ -0,0 +1,39 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.client;
+
+import com.reiasu.reiparticlesapi.particles.ClientParticleBudget;
+import com.reiasu.reiparticlesapi.particles.ClientParticlePool;
+import net.minecraft.client.Minecraft;
+
+/**
+ * Feeds {@link ClientParticleBudget} the frame time of every rendered frame and the live
+ * particle count at the start of every client tick.
+ */
+public final class ClientParticleBudgetDriver {
+    private static long lastFrameStart;
+
+    private ClientParticleBudgetDriver() {
+    }
+
+    public static void onRenderStart() {
+        long now = System.nanoTime();
+        if (lastFrameStart != 0L) {
+            ClientParticleBudget.INSTANCE.recordFrame(now - lastFrameStart);
+        }
+        lastFrameStart = now;
+    }
+
+    public static void onClientTick() {
+        ClientParticleBudget.INSTANCE.beginTick(vanillaParticleCount() + ClientParticlePool.INSTANCE.size());
+    }
+
+    private static int vanillaParticleCount() {
+        // The engine only exposes its count as the F3 debug string.
+        try {
+            return Integer.parseInt(Minecraft.getInstance().particleEngine.countParticles());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
@@ -24,6 +24,17 @@ public final class APIConfigSpec {
     private final ForgeConfigSpec.IntValue calculateThreadCount;
     private final ForgeConfigSpec.IntValue packetsPerTickLimit;
     private final ForgeConfigSpec.IntValue maxEmitterVisibleRange;
+    private final ForgeConfigSpec.IntValue serverTickBudgetMicros;
+    private final ForgeConfigSpec.IntValue maxDisplayViewRange;
+    private final ForgeConfigSpec.IntValue displayResyncTicks;
+    private final ForgeConfigSpec.BooleanValue bundleOutboundPackets;
+    private final ForgeConfigSpec.IntValue profilerWindowTicks;
+    private final ForgeConfigSpec.BooleanValue profilerJfrEvents;
+    private final ForgeConfigSpec.IntValue sequencedSpawnBudget;
+    private final ForgeConfigSpec.IntValue clientTargetFps;
+    private final ForgeConfigSpec.IntValue clientParticleSoftCap;
+    private final ForgeConfigSpec.IntValue clientSpawnsPerTick;
+    private final ForgeConfigSpec.IntValue clientMinDensityPercent;
 
     private APIConfigSpec(ForgeConfigSpec.Builder builder) {
         builder.push("particles");
@@ -40,6 +51,32 @@ public final class APIConfigSpec {
                 .defineInRange("packetsPerTickLimit", 512, 16, 4096);
         maxEmitterVisibleRange = builder.comment("Maximum visible range (blocks) for emitter sync packets")
                 .defineInRange("maxEmitterVisibleRange", 256, 32, 1024);
+        serverTickBudgetMicros = builder.comment("Per-tick time budget (microseconds) for the scheduler and emitters;"
+                        + " low-priority work over budget is deferred. 0 disables the budget")
+                .defineInRange("serverTickBudgetMicros", 10_000, 0, 50_000);
+        maxDisplayViewRange = builder.comment("Maximum range (blocks) within which players receive display entity packets")
+                .defineInRange("maxDisplayViewRange", 128, 16, 1024);
+        displayResyncTicks = builder.comment("Ticks between full re-syncs of unchanged or client-extrapolated display entities")
+                .defineInRange("displayResyncTicks", 20, 1, 1200);
+        bundleOutboundPackets = builder.comment("Queue packets per player and send them once per tick as a single bundle")
+                .define("bundleOutboundPackets", true);
+        profilerWindowTicks = builder.comment("Ticks the tick profiler keeps for its p50/p95/p99 (/reiparticles profile)")
+                .defineInRange("profilerWindowTicks", 200, 20, 6000);
+        profilerJfrEvents = builder.comment("Emit a JFR event for every profiled subsystem tick")
+                .define("profilerJfrEvents", false);
+        sequencedSpawnBudget = builder.comment("Particles a sequenced style or composition spawns per client tick;"
+                        + " the rest of a large reveal follows on later ticks. 0 disables the budget")
+                .defineInRange("sequencedSpawnBudget", 512, 0, 65_536);
+        clientTargetFps = builder.comment("Frame rate the client particle budget aims for; slower frames thin"
+                        + " emitter, style and composition spawns. 0 ignores frame time")
+                .defineInRange("clientTargetFps", 60, 0, 360);
+        clientParticleSoftCap = builder.comment("Live client particles above which spawns are thinned. 0 ignores the count")
+                .defineInRange("clientParticleSoftCap", 16384, 0, 1_000_000);
+        clientSpawnsPerTick = builder.comment("Budgeted particles the client spawns per tick at most,"
+                        + " shared fairly between emitters. 0 disables the cap")
+                .defineInRange("clientSpawnsPerTick", 8192, 0, 1_000_000);
+        clientMinDensityPercent = builder.comment("Lowest density (percent) normal-priority spawns are thinned to")
+                .defineInRange("clientMinDensityPercent", 10, 0, 100);
 
         builder.pop();
     }
@@ -59,5 +96,16 @@ public final class APIConfigSpec {
         APIConfig.INSTANCE.setCalculateThreadCount(calculateThreadCount.get());
         APIConfig.INSTANCE.setPacketsPerTickLimit(packetsPerTickLimit.get());
         APIConfig.INSTANCE.setMaxEmitterVisibleRange(maxEmitterVisibleRange.get());
+        APIConfig.INSTANCE.setServerTickBudgetNanos(serverTickBudgetMicros.get() * 1_000L);
+        APIConfig.INSTANCE.setMaxDisplayViewRange(maxDisplayViewRange.get());
+        APIConfig.INSTANCE.setDisplayResyncTicks(displayResyncTicks.get());
+        APIConfig.INSTANCE.setBundleOutboundPackets(bundleOutboundPackets.get());
+        APIConfig.INSTANCE.setProfilerWindowTicks(profilerWindowTicks.get());
+        APIConfig.INSTANCE.setProfilerJfrEvents(profilerJfrEvents.get());
+        APIConfig.INSTANCE.setSequencedSpawnBudget(sequencedSpawnBudget.get());
+        APIConfig.INSTANCE.setClientTargetFps(clientTargetFps.get());
+        APIConfig.INSTANCE.setClientParticleSoftCap(clientParticleSoftCap.get());
+        APIConfig.INSTANCE.setClientSpawnsPerTick(clientSpawnsPerTick.get());
+        APIConfig.INSTANCE.setClientMinDensityPercent(clientMinDensityPercent.get());
     }
 }
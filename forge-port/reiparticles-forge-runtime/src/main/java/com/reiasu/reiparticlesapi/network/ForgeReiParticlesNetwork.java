@@ -6,9 +6,11 @@ import com.mojang.logging.LogUtils;
 import com.reiasu.reiparticlesapi.ReiParticlesConstants;
 import com.reiasu.reiparticlesapi.client.CameraShakeClientState;
 import com.reiasu.reiparticlesapi.network.packet.CameraShakeS2CPacket;
+import com.reiasu.reiparticlesapi.network.packet.PacketBundleS2C;
 import com.reiasu.reiparticlesapi.network.packet.PacketCameraShakeS2C;
 import com.reiasu.reiparticlesapi.network.packet.PacketDisplayEntityS2C;
 import com.reiasu.reiparticlesapi.network.packet.PacketKeyActionC2S;
+import com.reiasu.reiparticlesapi.network.packet.PacketParticleBatchS2C;
 import com.reiasu.reiparticlesapi.network.packet.PacketParticleCompositionS2C;
 import com.reiasu.reiparticlesapi.network.packet.PacketParticleEmittersS2C;
 import com.reiasu.reiparticlesapi.network.packet.PacketParticleGroupS2C;
@@ -17,6 +19,7 @@ import com.reiasu.reiparticlesapi.network.packet.PacketParticleStyleS2C;
 import com.reiasu.reiparticlesapi.network.packet.PacketRenderEntityS2C;
 import com.reiasu.reiparticlesapi.network.packet.client.listener.ClientCameraShakeHandler;
 import com.reiasu.reiparticlesapi.network.packet.client.listener.ClientDisplayEntityPacketHandler;
+import com.reiasu.reiparticlesapi.network.packet.client.listener.ClientParticleBatchPacketHandler;
 import com.reiasu.reiparticlesapi.network.packet.client.listener.ClientParticleCompositionHandler;
 import com.reiasu.reiparticlesapi.network.packet.client.listener.ClientParticleEmittersPacketHandler;
 import com.reiasu.reiparticlesapi.network.packet.client.listener.ClientParticleGroupPacketHandler;
@@ -24,6 +27,7 @@ import com.reiasu.reiparticlesapi.network.packet.client.listener.ClientParticleP
 import com.reiasu.reiparticlesapi.network.packet.client.listener.ClientParticleStylePacketHandler;
 import com.reiasu.reiparticlesapi.network.packet.client.listener.ClientRenderEntityPacketHandler;
 import com.reiasu.reiparticlesapi.network.packet.server.listener.ServerKeyActionHandler;
+import io.netty.buffer.Unpooled;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerPlayer;
@@ -35,14 +39,27 @@ import net.minecraftforge.network.PacketDistributor;
 import net.minecraftforge.network.simple.SimpleChannel;
 import org.slf4j.Logger;
 
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+/**
+ * Forge channel for ReiParticles packets.
+ * <p>
+ * Every client-bound message is also registered for bundling: {@link ReiParticlesNetwork}
+ * queues packets per player and flushes them as one {@link PacketBundleS2C} whose entries
+ * carry the index into {@link #CLIENT_MESSAGES}.
+ */
 public final class ForgeReiParticlesNetwork {
     private static final Logger LOGGER = LogUtils.getLogger();
-    private static final int PROTOCOL_VERSION = 1;
+    private static final int PROTOCOL_VERSION = 4;
+    private static final List<ClientMessage<?>> CLIENT_MESSAGES = new ArrayList<>();
+    private static final Map<Class<?>, ClientMessage<?>> CLIENT_MESSAGES_BY_TYPE = new IdentityHashMap<>();
     private static int packetId = 0;
     private static boolean initialized;
 
@@ -62,6 +79,7 @@ public final class ForgeReiParticlesNetwork {
         }
         initialized = true;
         ReiParticlesNetwork.bindSender(ForgeReiParticlesNetwork::sendTo);
+        ReiParticlesNetwork.bindBundleCodec(new ForgeBundleCodec());
 
         registerClientMessage(CameraShakeS2CPacket.class, CameraShakeS2CPacket::encode, CameraShakeS2CPacket::decode,
                 CameraShakeClientState::start);
@@ -81,8 +99,13 @@ public final class ForgeReiParticlesNetwork {
                 ClientParticleGroupPacketHandler::receive);
         registerClientMessage(PacketRenderEntityS2C.class, PacketRenderEntityS2C::encode, PacketRenderEntityS2C::decode,
                 ClientRenderEntityPacketHandler::receive);
+        registerClientMessage(PacketParticleBatchS2C.class, PacketParticleBatchS2C::encode, PacketParticleBatchS2C::decode,
+                ClientParticleBatchPacketHandler::receive);
         registerServerMessage(PacketKeyActionC2S.class, PacketKeyActionC2S::encode, PacketKeyActionC2S::decode,
                 ServerKeyActionHandler::receive);
+        // Registered last so the ids of the messages above stay unchanged.
+        CHANNEL.registerMessage(packetId++, PacketBundleS2C.class, PacketBundleS2C::encode, PacketBundleS2C::decode,
+                ForgeReiParticlesNetwork::handleBundle);
     }
 
     private static <T> void registerClientMessage(Class<T> type,
@@ -91,6 +114,9 @@ public final class ForgeReiParticlesNetwork {
                                                   Consumer<T> handler) {
         CHANNEL.registerMessage(packetId++, type, encoder, decoder,
                 (packet, contextSupplier) -> handleClient(packet, contextSupplier, handler));
+        ClientMessage<T> message = new ClientMessage<>(CLIENT_MESSAGES.size(), encoder, decoder, handler);
+        CLIENT_MESSAGES.add(message);
+        CLIENT_MESSAGES_BY_TYPE.put(type, message);
     }
 
     private static <T> void registerServerMessage(Class<T> type,
@@ -109,6 +135,36 @@ public final class ForgeReiParticlesNetwork {
         context.setPacketHandled(true);
     }
 
+    /**
+     * Decodes every entry on the network thread, then handles them in order on the main thread.
+     * An entry that fails to decode or apply is logged and skipped; the rest of the bundle still applies.
+     */
+    private static void handleBundle(PacketBundleS2C bundle, Supplier<NetworkEvent.Context> contextSupplier) {
+        NetworkEvent.Context context = contextSupplier.get();
+        List<Runnable> work = new ArrayList<>(bundle.entries().size());
+        for (PacketBundleS2C.Entry entry : bundle.entries()) {
+            if (entry.id() < 0 || entry.id() >= CLIENT_MESSAGES.size()) {
+                LOGGER.debug("Skipping bundled packet with unknown id {}", entry.id());
+                continue;
+            }
+            try {
+                work.add(CLIENT_MESSAGES.get(entry.id()).decodeToTask(entry.payload()));
+            } catch (RuntimeException e) {
+                LOGGER.warn("Failed to decode bundled packet with id {}", entry.id(), e);
+            }
+        }
+        context.enqueueWork(() -> DistExecutor.unsafeRunWhenOn(Dist.CLIENT, () -> () -> {
+            for (Runnable task : work) {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    LOGGER.warn("Failed to handle bundled packet", e);
+                }
+            }
+        }));
+        context.setPacketHandled(true);
+    }
+
     private static <T> void handleServer(T packet,
                                          Supplier<NetworkEvent.Context> contextSupplier,
                                          BiConsumer<T, ServerPlayer> handler) {
@@ -131,4 +187,44 @@ public final class ForgeReiParticlesNetwork {
                     packet.getClass().getSimpleName(), player.getName().getString(), e.getMessage());
         }
     }
+
+    private record ClientMessage<T>(int id,
+                                    BiConsumer<T, FriendlyByteBuf> encoder,
+                                    Function<FriendlyByteBuf, T> decoder,
+                                    Consumer<T> handler) {
+        @SuppressWarnings("unchecked")
+        private byte[] encode(Object packet) {
+            FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+            try {
+                encoder.accept((T) packet, buf);
+                byte[] bytes = new byte[buf.readableBytes()];
+                buf.readBytes(bytes);
+                return bytes;
+            } finally {
+                buf.release();
+            }
+        }
+
+        private Runnable decodeToTask(byte[] payload) {
+            T packet = decoder.apply(new FriendlyByteBuf(Unpooled.wrappedBuffer(payload)));
+            return () -> handler.accept(packet);
+        }
+    }
+
+    private static final class ForgeBundleCodec implements ReiParticlesNetwork.BundleCodec {
+        @Override
+        public int bundleId(Object packet) {
+            ClientMessage<?> message = CLIENT_MESSAGES_BY_TYPE.get(packet.getClass());
+            return message == null ? -1 : message.id();
+        }
+
+        @Override
+        public byte[] encode(Object packet) {
+            ClientMessage<?> message = CLIENT_MESSAGES_BY_TYPE.get(packet.getClass());
+            if (message == null) {
+                throw new IllegalArgumentException("Unregistered packet " + packet.getClass().getName());
+            }
+            return message.encode(packet);
+        }
+    }
 }
@@ -0,0 +1,37 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.network.packet.client.listener;
+
+import com.reiasu.reiparticlesapi.network.packet.PacketParticleBatchS2C;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.util.RandomSource;
+
+public final class ClientParticleBatchPacketHandler {
+    private ClientParticleBatchPacketHandler() {
+    }
+
+    /** Replays each spawn the way the vanilla level-particles packet handler does. */
+    public static void receive(PacketParticleBatchS2C packet) {
+        ClientLevel level = Minecraft.getInstance().level;
+        if (level == null) {
+            return;
+        }
+        RandomSource random = level.getRandom();
+        packet.forEach((options, force, x, y, z, count, xDist, yDist, zDist, speed) -> {
+            if (count == 0) {
+                level.addParticle(options, force, x, y, z, speed * xDist, speed * yDist, speed * zDist);
+                return;
+            }
+            for (int i = 0; i < count; i++) {
+                level.addParticle(options, force,
+                        x + random.nextGaussian() * xDist,
+                        y + random.nextGaussian() * yDist,
+                        z + random.nextGaussian() * zDist,
+                        random.nextGaussian() * speed,
+                        random.nextGaussian() * speed,
+                        random.nextGaussian() * speed);
+            }
+        });
+    }
+}
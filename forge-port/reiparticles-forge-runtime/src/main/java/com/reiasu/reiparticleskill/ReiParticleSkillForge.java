@@ -108,7 +108,8 @@ public final class ReiParticleSkillForge {
         try {
             RuntimePortAutoRegistrar.registerAll(LOGGER,
                     "com.reiasu.reiparticleskill.particles",
-                    "com.reiasu.reiparticleskill.end.respawn.runtime.emitter.client");
+                    "com.reiasu.reiparticleskill.end.respawn.runtime.emitter.client",
+                    "com.reiasu.reiparticleskill.display.group.impl.formation.effects");
         } catch (RuntimeException e) {
             LOGGER.warn("Failed to auto-register ReiParticleSkill runtime ports", e);
         }
@@ -0,0 +1,141 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Writes the annotation index {@code ReiAPIScanner} reads instead of scanning the classpath.
+ * <p>
+ * Every class compiled, nested ones included, is listed with the annotations it carries that
+ * survive compilation, which is what a ClassGraph scan of the same classes reports. The
+ * index is a single resource per compilation, named after the deepest package all compiled
+ * classes share:
+ * <pre>
+ * META-INF/reiparticles/annotation-index/com.example.mymod.idx
+ * </pre>
+ * so that modules packed into one jar keep separate files. It is UTF-8 text, one package
+ * per block:
+ * <pre>
+ * package com.example.mymod.emitters
+ * FooEmitter com.reiasu.reiparticlesapi.annotations.ReiAutoRegister
+ * FooEmitter$Inner java.lang.Deprecated
+ * </pre>
+ * Classes without annotations are left out, but their packages are still listed so the
+ * index covers everything under its root.
+ */
+@SupportedAnnotationTypes("*")
+public final class AnnotationIndexProcessor extends AbstractProcessor {
+    public static final String DIRECTORY = "META-INF/reiparticles/annotation-index/";
+    public static final String SUFFIX = ".idx";
+
+    /** Package name to binary simple class name to annotation names. */
+    private final Map<String, Map<String, List<String>>> packages = new TreeMap<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (!roundEnv.processingOver()) {
+            for (Element element : roundEnv.getRootElements()) {
+                if (element instanceof TypeElement type) {
+                    collect(type);
+                }
+            }
+            return false;
+        }
+        String root = commonRoot(packages.keySet());
+        if (root.isEmpty()) {
+            return false;
+        }
+        try {
+            write(root);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to write annotation index for " + root + ": " + e.getMessage());
+        }
+        return false;
+    }
+
+    private void collect(TypeElement type) {
+        Elements elements = processingEnv.getElementUtils();
+        String packageName = elements.getPackageOf(type).getQualifiedName().toString();
+        Map<String, List<String>> classes = packages.computeIfAbsent(packageName, ignored -> new TreeMap<>());
+        List<String> names = new ArrayList<>();
+        for (AnnotationMirror mirror : type.getAnnotationMirrors()) {
+            TypeElement annotation = (TypeElement) mirror.getAnnotationType().asElement();
+            Retention retention = annotation.getAnnotation(Retention.class);
+            if (retention == null || retention.value() != RetentionPolicy.SOURCE) {
+                names.add(elements.getBinaryName(annotation).toString());
+            }
+        }
+        if (!names.isEmpty()) {
+            String binaryName = elements.getBinaryName(type).toString();
+            String simpleName = packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1);
+            classes.put(simpleName, names);
+        }
+        for (Element enclosed : type.getEnclosedElements()) {
+            if (enclosed instanceof TypeElement nested) {
+                collect(nested);
+            }
+        }
+    }
+
+    private void write(String root) throws IOException {
+        FileObject file = processingEnv.getFiler()
+                .createResource(StandardLocation.CLASS_OUTPUT, "", DIRECTORY + root + SUFFIX);
+        try (Writer writer = new OutputStreamWriter(file.openOutputStream(), StandardCharsets.UTF_8)) {
+            for (Map.Entry<String, Map<String, List<String>>> pkg : packages.entrySet()) {
+                writer.write("package " + pkg.getKey() + "\n");
+                for (Map.Entry<String, List<String>> type : pkg.getValue().entrySet()) {
+                    writer.write(type.getKey());
+                    for (String annotation : type.getValue()) {
+                        writer.write(' ');
+                        writer.write(annotation);
+                    }
+                    writer.write('\n');
+                }
+            }
+        }
+    }
+
+    /** The longest dotted prefix shared by every package; empty if there is none. */
+    static String commonRoot(Set<String> packageNames) {
+        String root = null;
+        for (String name : packageNames) {
+            if (root == null) {
+                root = name;
+                continue;
+            }
+            while (!root.isEmpty() && !name.equals(root) && !name.startsWith(root + ".")) {
+                int dot = root.lastIndexOf('.');
+                root = dot < 0 ? "" : root.substring(0, dot);
+            }
+        }
+        return root == null ? "" : root;
+    }
+}
@@ -0,0 +1,92 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticlesapi.processor;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class AnnotationIndexProcessorTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    void indexesRetainedAnnotationsPerPackageUnderTheCommonRoot() throws IOException {
+        source("demo/mod/Marker.java", """
+                package demo.mod;
+                @java.lang.annotation.Retention(java.lang.annotation.RetentionPolicy.RUNTIME)
+                public @interface Marker {
+                }
+                """);
+        source("demo/mod/emitters/FooEmitter.java", """
+                package demo.mod.emitters;
+                @demo.mod.Marker
+                @SuppressWarnings("unused")
+                public class FooEmitter {
+                    @Deprecated
+                    static class Inner {
+                    }
+                }
+                """);
+        source("demo/mod/styles/Plain.java", """
+                package demo.mod.styles;
+                public class Plain {
+                }
+                """);
+
+        compile();
+
+        Path index = dir.resolve("out/" + AnnotationIndexProcessor.DIRECTORY + "demo.mod" + AnnotationIndexProcessor.SUFFIX);
+        assertTrue(Files.exists(index), "missing " + index);
+        assertEquals(List.of(
+                "package demo.mod",
+                "Marker java.lang.annotation.Retention",
+                "package demo.mod.emitters",
+                "FooEmitter demo.mod.Marker",
+                "FooEmitter$Inner java.lang.Deprecated",
+                "package demo.mod.styles"
+        ), Files.readAllLines(index, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void commonRootStopsAtPackageBoundaries() {
+        assertEquals("com.example", AnnotationIndexProcessor.commonRoot(Set.of("com.example.a", "com.example.ab.c")));
+        assertEquals("com.example.a", AnnotationIndexProcessor.commonRoot(Set.of("com.example.a", "com.example.a.b")));
+        assertEquals("", AnnotationIndexProcessor.commonRoot(Set.of("com.example", "org.example")));
+    }
+
+    private void source(String path, String content) throws IOException {
+        Path file = dir.resolve("src").resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+    }
+
+    private void compile() throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        Path out = Files.createDirectories(dir.resolve("out"));
+        List<Path> sources;
+        try (var files = Files.walk(dir.resolve("src"))) {
+            sources = files.filter(path -> path.toString().endsWith(".java")).toList();
+        }
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            Iterable<? extends JavaFileObject> units = fileManager.getJavaFileObjectsFromPaths(sources);
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null,
+                    List.of("-d", out.toString(), "-proc:only"), null, units);
+            task.setProcessors(List.of(new AnnotationIndexProcessor()));
+            assertTrue(task.call(), "compilation failed");
+        }
+    }
+}
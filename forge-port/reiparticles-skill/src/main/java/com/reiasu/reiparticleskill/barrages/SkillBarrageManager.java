@@ -3,7 +3,9 @@
 package com.reiasu.reiparticleskill.barrages;
 
 import com.mojang.logging.LogUtils;
+import com.reiasu.reiparticlesapi.barrages.AbstractBarrage;
 import com.reiasu.reiparticlesapi.barrages.Barrage;
+import com.reiasu.reiparticlesapi.barrages.BarrageBroadphase;
 import org.slf4j.Logger;
 
 import java.util.List;
@@ -15,18 +17,24 @@ public enum SkillBarrageManager {
     private static final Logger LOGGER = LogUtils.getLogger();
 
     private final CopyOnWriteArrayList<Barrage> activeBarrages = new CopyOnWriteArrayList<>();
+    private final BarrageBroadphase broadphase = new BarrageBroadphase();
 
     public void spawn(Barrage barrage) {
         if (barrage == null || !barrage.getValid()) {
             return;
         }
+        if (barrage instanceof AbstractBarrage abstractBarrage) {
+            abstractBarrage.setBroadphase(broadphase);
+        }
         activeBarrages.add(barrage);
     }
 
     public void tickAll() {
         if (activeBarrages.isEmpty()) {
+            broadphase.clear();
             return;
         }
+        broadphase.rebuild(activeBarrages);
         activeBarrages.removeIf(barrage -> {
             if (barrage == null || !barrage.getValid()) {
                 return true;
@@ -48,12 +56,18 @@ public enum SkillBarrageManager {
             }
         }
         activeBarrages.clear();
+        broadphase.clear();
     }
 
     public int activeCount() {
         return activeBarrages.size();
     }
 
+    /** Barrage-vs-barrage broadphase for the barrages spawned here, rebuilt by {@link #tickAll()}. */
+    public BarrageBroadphase getBroadphase() {
+        return broadphase;
+    }
+
     public List<Barrage> snapshot() {
         return List.copyOf(activeBarrages);
     }
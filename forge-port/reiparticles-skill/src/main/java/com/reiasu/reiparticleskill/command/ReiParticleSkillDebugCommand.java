@@ -7,6 +7,7 @@ import com.reiasu.reiparticleskill.command.layout.DisplayIndexPlan;
 import com.reiasu.reiparticleskill.command.layout.DisplayIndexRouting;
 import com.reiasu.reiparticleskill.command.layout.DisplaySpawnProfile;
 import com.reiasu.reiparticleskill.barrages.SkillBarrageManager;
+import com.reiasu.reiparticlesapi.network.ReiParticlesNetwork;
 import com.reiasu.reiparticlesapi.utils.RelativeLocation;
 import com.reiasu.reiparticleskill.display.group.layout.FormationLayerSpec;
 import com.reiasu.reiparticleskill.display.group.layout.SimpleSwordFormationLayout;
@@ -25,6 +26,7 @@ import net.minecraft.server.level.ServerLevel;
 import org.slf4j.Logger;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
 public final class ReiParticleSkillDebugCommand {
@@ -176,8 +178,11 @@ public final class ReiParticleSkillDebugCommand {
                 .orElse("none");
 
         String directorState = bridge.directorDebugState();
+        ReiParticlesNetwork.FlushStats net = ReiParticlesNetwork.getLastFlushStats();
+        String netState = String.format(Locale.ROOT, "players=%d packets/player=%.1f messages/player=%.1f encodes=%d",
+                net.players(), net.packetsPerPlayer(), net.messagesPerPlayer(), net.encodes());
         source.sendSuccess(() -> Component.literal("respawn status: bridge={" + bridgeState + "} probe={" + probeState
-                + "} director={" + directorState + "}"), false);
+                + "} director={" + directorState + "} net={" + netState + "}"), false);
         return 1;
     }
 }
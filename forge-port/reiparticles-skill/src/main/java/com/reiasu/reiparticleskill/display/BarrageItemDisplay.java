@@ -14,6 +14,14 @@ import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.phys.Vec3;
 
+/**
+ * Item display flying along {@link #getVelocity()} and turning towards its target angles.
+ * <p>
+ * The client runs the same {@link #tick()}, so the server only re-sends it when the motion
+ * inputs change or the display is moved, rotated or scaled directly. Updates carry the
+ * {@link ItemStack} only when it changed since the viewers last got the state; see
+ * {@link #onStateSent()}.
+ */
 public class BarrageItemDisplay extends DisplayEntity implements ServerMovableDisplay {
     public static final String TYPE_ID = "reiparticleskill:barrage_item_display";
 
@@ -39,6 +47,10 @@ public class BarrageItemDisplay extends DisplayEntity implements ServerMovableDi
     private int blendCount = 1;
     private int age;
     private int displayTick;
+    // Bumped by changes tick() would not reproduce on the client.
+    private int stateRevision;
+    private int itemRevision;
+    private int sentItemRevision;
 
     public BarrageItemDisplay(Vec3 pos) {
         this.pos = pos == null ? Vec3.ZERO : pos;
@@ -55,6 +67,60 @@ public class BarrageItemDisplay extends DisplayEntity implements ServerMovableDi
         FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
         DisplayEntity.encodeBase(this, buf);
         buf.writeItem(item);
+        writeState(buf);
+        return toBytes(buf);
+    }
+
+    /** Like {@link #encodeToBytes()}, with the item only if it changed since the state was last sent. */
+    @Override
+    public byte[] encodeUpdateToBytes() {
+        FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+        DisplayEntity.encodeBase(this, buf);
+        boolean itemChanged = itemRevision != sentItemRevision;
+        buf.writeBoolean(itemChanged);
+        if (itemChanged) {
+            buf.writeItem(item);
+        }
+        writeState(buf);
+        return toBytes(buf);
+    }
+
+    @Override
+    public void onStateSent() {
+        sentItemRevision = itemRevision;
+    }
+
+    @Override
+    public boolean readUpdate(FriendlyByteBuf buf) {
+        DisplayEntity.decodeBase(this, buf);
+        if (buf.readBoolean()) {
+            item = buf.readItem();
+        }
+        readState(this, buf);
+        return true;
+    }
+
+    /** Motion inputs only; position, angles, scale and age follow from them on the client. */
+    @Override
+    public byte[] encodeSyncKey() {
+        FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer(64));
+        buf.writeBoolean(getValid());
+        buf.writeInt(stateRevision);
+        buf.writeInt(itemRevision);
+        writeVec3(buf, velocity);
+        buf.writeFloat(targetScale);
+        buf.writeFloat(scaledSpeed);
+        buf.writeFloat(targetYaw);
+        buf.writeFloat(targetPitch);
+        buf.writeFloat(rotateSpeed);
+        buf.writeInt(blendCount);
+        buf.writeInt(displayTick);
+        buf.writeBoolean(block);
+        buf.writeInt(sign);
+        return toBytes(buf);
+    }
+
+    private void writeState(FriendlyByteBuf buf) {
         buf.writeBoolean(block);
         buf.writeInt(sign);
         writeVec3(buf, prevPos);
@@ -71,6 +137,9 @@ public class BarrageItemDisplay extends DisplayEntity implements ServerMovableDi
         buf.writeInt(blendCount);
         buf.writeInt(age);
         buf.writeInt(displayTick);
+    }
+
+    private static byte[] toBytes(FriendlyByteBuf buf) {
         byte[] bytes = new byte[buf.readableBytes()];
         buf.readBytes(bytes);
         return bytes;
@@ -79,7 +148,12 @@ public class BarrageItemDisplay extends DisplayEntity implements ServerMovableDi
     public static BarrageItemDisplay decode(FriendlyByteBuf buf) {
         BarrageItemDisplay display = new BarrageItemDisplay(Vec3.ZERO);
         DisplayEntity.decodeBase(display, buf);
-        display.setItem(buf.readItem());
+        display.item = buf.readItem();
+        readState(display, buf);
+        return display;
+    }
+
+    private static void readState(BarrageItemDisplay display, FriendlyByteBuf buf) {
         display.setBlock(buf.readBoolean());
         display.setSign(buf.readInt());
         display.setPrevPos(readVec3(buf));
@@ -96,7 +170,6 @@ public class BarrageItemDisplay extends DisplayEntity implements ServerMovableDi
         display.setBlendCount(buf.readInt());
         display.setAge(buf.readInt());
         display.setDisplayTick(buf.readInt());
-        return display;
     }
 
     public ItemStack getItem() {
@@ -105,6 +178,7 @@ public class BarrageItemDisplay extends DisplayEntity implements ServerMovableDi
 
     public void setItem(ItemStack item) {
         this.item = item == null ? ItemStack.EMPTY : item.copy();
+        itemRevision++;
     }
 
     public boolean isBlock() {
@@ -131,6 +205,7 @@ public class BarrageItemDisplay extends DisplayEntity implements ServerMovableDi
     @Override
     public void setPos(Vec3 pos) {
         this.pos = pos == null ? Vec3.ZERO : pos;
+        stateRevision++;
     }
 
     public Vec3 getPrevPos() {
@@ -157,6 +232,7 @@ public class BarrageItemDisplay extends DisplayEntity implements ServerMovableDi
     @Override
     public void setYaw(float yaw) {
         this.yaw = yaw;
+        stateRevision++;
     }
 
     public float getPrevYaw() {
@@ -175,6 +251,7 @@ public class BarrageItemDisplay extends DisplayEntity implements ServerMovableDi
     @Override
     public void setPitch(float pitch) {
         this.pitch = pitch;
+        stateRevision++;
     }
 
     public float getPrevPitch() {
@@ -193,6 +270,7 @@ public class BarrageItemDisplay extends DisplayEntity implements ServerMovableDi
     @Override
     public void setRoll(float roll) {
         this.roll = roll;
+        stateRevision++;
     }
 
     public float getPrevRoll() {
@@ -211,6 +289,7 @@ public class BarrageItemDisplay extends DisplayEntity implements ServerMovableDi
     @Override
     public void setScale(float scale) {
         this.scale = scale;
+        stateRevision++;
     }
 
     public float getPreScale() {
@@ -275,6 +354,7 @@ public class BarrageItemDisplay extends DisplayEntity implements ServerMovableDi
 
     public void setAge(int age) {
         this.age = Math.max(0, age);
+        stateRevision++;
     }
 
     public int getDisplayTick() {
@@ -362,6 +442,7 @@ public class BarrageItemDisplay extends DisplayEntity implements ServerMovableDi
         Vec3 safe = pos == null ? Vec3.ZERO : pos;
         this.prevPos = this.pos;
         this.pos = safe;
+        stateRevision++;
     }
 
     public void remove() {
@@ -374,7 +455,7 @@ public class BarrageItemDisplay extends DisplayEntity implements ServerMovableDi
         if (!(other instanceof BarrageItemDisplay d)) {
             return;
         }
-        this.item = d.item.copy();
+        setItem(d.item);
         this.block = d.block;
         this.sign = d.sign;
         this.pos = d.pos;
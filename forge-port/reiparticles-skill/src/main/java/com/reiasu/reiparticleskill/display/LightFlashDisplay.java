@@ -46,6 +46,20 @@ public class LightFlashDisplay extends DisplayEntity implements ServerMovableDis
         return bytes;
     }
 
+    /** Everything but the age, which the client advances in its own {@link #tick()}. */
+    @Override
+    public byte[] encodeSyncKey() {
+        FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+        DisplayEntity.encodeBase(this, buf);
+        buf.writeInt(bloomCount);
+        buf.writeInt(maxAge);
+        buf.writeFloat(lengthMax);
+        buf.writeFloat(thicknessMax);
+        byte[] bytes = new byte[buf.readableBytes()];
+        buf.readBytes(bytes);
+        return bytes;
+    }
+
     public static LightFlashDisplay decode(FriendlyByteBuf buf) {
         LightFlashDisplay display = new LightFlashDisplay(Vec3.ZERO);
         DisplayEntity.decodeBase(display, buf);
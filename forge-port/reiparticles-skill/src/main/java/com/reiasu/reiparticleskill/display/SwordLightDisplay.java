@@ -46,6 +46,20 @@ public class SwordLightDisplay extends DisplayEntity implements ServerMovableDis
         return bytes;
     }
 
+    /** Everything but the age, which the client advances in its own {@link #tick()}. */
+    @Override
+    public byte[] encodeSyncKey() {
+        FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+        DisplayEntity.encodeBase(this, buf);
+        writeVec3(buf, end);
+        buf.writeInt(maxAge);
+        buf.writeInt(bloomCount);
+        buf.writeFloat(thinness);
+        byte[] bytes = new byte[buf.readableBytes()];
+        buf.readBytes(bytes);
+        return bytes;
+    }
+
     public static SwordLightDisplay decode(FriendlyByteBuf buf) {
         SwordLightDisplay display = new SwordLightDisplay(Vec3.ZERO);
         DisplayEntity.decodeBase(display, buf);
@@ -0,0 +1,133 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticleskill.display.group.impl.formation.effects;
+
+import com.reiasu.reiparticlesapi.network.particle.emitters.AutoParticleEmitters;
+import com.reiasu.reiparticlesapi.network.particle.emitters.ParticleEmitters;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.Vec3;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Client-simulated body of a sword formation effect group.
+ * <p>
+ * The owning group keeps the lifecycle on the server and only moves, turns and fades this
+ * emitter; its snapshot carries the plane normal, a seed, the fade state and the effect's
+ * few shape parameters. Clients draw every point locally, reseeding per tick from
+ * {@code seed} so all viewers see the same pattern.
+ */
+abstract class FormationEffectEmitter extends AutoParticleEmitters {
+    private static final long TICK_SEED_STEP = 0x9E3779B97F4A7C15L;
+
+    private final RandomSource random = RandomSource.create();
+    private Vec3 direction = new Vec3(0.0, 1.0, 0.0);
+    private FormationParticleHelper.Basis basis;
+    private long seed = ThreadLocalRandom.current().nextLong();
+    private int fadeStart = -1;
+    private int fadeMaxTick = 20;
+
+    protected FormationEffectEmitter() {
+        super();
+        setMaxTick(-1);
+    }
+
+    public Vec3 getDirection() {
+        return direction;
+    }
+
+    public void setDirection(Vec3 direction) {
+        Vec3 next = FormationParticleHelper.safeDirection(direction);
+        if (!next.equals(this.direction)) {
+            this.direction = next;
+            // Rebuilt on the next client render; the server never needs it.
+            basis = null;
+        }
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public boolean isFading() {
+        return fadeStart >= 0;
+    }
+
+    /** Fades out over {@code fadeMaxTick} ticks from now, then ends the emitter. */
+    public void beginFade(int fadeMaxTick) {
+        if (isFading()) {
+            return;
+        }
+        this.fadeMaxTick = Math.max(1, fadeMaxTick);
+        fadeStart = getTick();
+        setMaxTick(fadeStart + this.fadeMaxTick);
+    }
+
+    @Override
+    protected void emitTick() {
+        Level level = level();
+        if (level == null || !level.isClientSide()) {
+            return;
+        }
+        int age = getTick() + 1;
+        double fade = 1.0;
+        if (isFading()) {
+            fade = Math.max(0.0, 1.0 - (age - fadeStart) / (double) fadeMaxTick);
+            if (fade <= 0.0) {
+                return;
+            }
+        }
+        if (basis == null) {
+            basis = FormationParticleHelper.basis(direction);
+        }
+        random.setSeed(seed + age * TICK_SEED_STEP);
+        render(level, position(), basis, age, fade, random);
+    }
+
+    /**
+     * Draws one client tick. {@code age} counts from 1 on the first tick and {@code fade}
+     * drops from 1 towards 0 once the group fades out.
+     */
+    abstract void render(Level level, Vec3 center, FormationParticleHelper.Basis basis, int age, double fade, RandomSource random);
+
+    abstract void writeParams(FriendlyByteBuf buf);
+
+    abstract void readParams(FriendlyByteBuf buf);
+
+    /** Copies the shape parameters of a freshly decoded snapshot of the same type. */
+    abstract void updateParams(FormationEffectEmitter other);
+
+    @Override
+    public void update(ParticleEmitters emitters) {
+        super.update(emitters);
+        if (emitters instanceof FormationEffectEmitter other && other.getClass() == getClass()) {
+            setDirection(other.direction);
+            seed = other.seed;
+            fadeStart = other.fadeStart;
+            fadeMaxTick = other.fadeMaxTick;
+            updateParams(other);
+        }
+    }
+
+    @Override
+    protected final void writePayload(FriendlyByteBuf buf) {
+        buf.writeFloat((float) direction.x);
+        buf.writeFloat((float) direction.y);
+        buf.writeFloat((float) direction.z);
+        buf.writeLong(seed);
+        buf.writeInt(fadeStart);
+        buf.writeVarInt(fadeMaxTick);
+        writeParams(buf);
+    }
+
+    @Override
+    protected final void readPayload(FriendlyByteBuf buf) {
+        setDirection(new Vec3(buf.readFloat(), buf.readFloat(), buf.readFloat()));
+        seed = buf.readLong();
+        fadeStart = buf.readInt();
+        fadeMaxTick = Math.max(1, buf.readVarInt());
+        readParams(buf);
+    }
+}
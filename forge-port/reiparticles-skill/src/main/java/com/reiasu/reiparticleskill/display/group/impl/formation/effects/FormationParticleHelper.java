@@ -2,14 +2,16 @@
 // Copyright (C) 2025 Reiasu
 package com.reiasu.reiparticleskill.display.group.impl.formation.effects;
 
+import com.reiasu.reiparticlesapi.network.particle.emitters.ParticleEmittersManager;
+import com.reiasu.reiparticleskill.util.ClientParticleHelper;
 import net.minecraft.core.particles.DustParticleOptions;
 import net.minecraft.core.particles.ParticleOptions;
 import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.Level;
 import net.minecraft.world.phys.Vec3;
 import org.joml.Vector3f;
 
-import java.util.concurrent.ThreadLocalRandom;
-
 final class FormationParticleHelper {
     private FormationParticleHelper() {
     }
@@ -34,23 +36,18 @@ final class FormationParticleHelper {
         return direction.normalize();
     }
 
-    static Vec3 onPlane(Vec3 center, Basis basis, double radius, double angle, double axialOffset) {
-        Vec3 radial = basis.u.scale(Math.cos(angle) * radius).add(basis.v.scale(Math.sin(angle) * radius));
-        return center.add(radial).add(basis.axis.scale(axialOffset));
-    }
-
-    static float randomFloat(float min, float max) {
+    static double randomDouble(RandomSource random, double min, double max) {
         if (max <= min) {
             return min;
         }
-        return (float) ThreadLocalRandom.current().nextDouble(min, max);
+        return min + random.nextDouble() * (max - min);
     }
 
-    static double randomDouble(double min, double max) {
+    static float randomFloat(RandomSource random, float min, float max) {
         if (max <= min) {
             return min;
         }
-        return ThreadLocalRandom.current().nextDouble(min, max);
+        return min + random.nextFloat() * (max - min);
     }
 
     static Vector3f lerpColor(Vector3f from, Vector3f to, float t) {
@@ -62,40 +59,39 @@ final class FormationParticleHelper {
         );
     }
 
-    static void spawnDust(ServerLevel level, Vec3 pos, Vector3f color, float size) {
-        if (level == null || pos == null || color == null) {
-            return;
-        }
-        level.sendParticles(new DustParticleOptions(color, Math.max(0.01F, size)),
-                pos.x, pos.y, pos.z, 1, 0.0, 0.0, 0.0, 0.0);
+    /** One options instance per color and size; callers build it once per ring or line, not per point. */
+    static DustParticleOptions dust(Vector3f color, double size) {
+        return new DustParticleOptions(color, Math.max(0.01F, (float) size));
     }
 
-    static void spawnMovingDust(ServerLevel level, Vec3 pos, Vec3 velocity, Vector3f color, float size) {
-        if (level == null || pos == null || velocity == null || color == null) {
-            return;
-        }
-        level.sendParticles(new DustParticleOptions(color, Math.max(0.01F, size)),
-                pos.x, pos.y, pos.z, 0, velocity.x, velocity.y, velocity.z, 1.0);
+    /** Spawns a still particle at plane coordinates {@code (x, z)}, lifted {@code axial} along the normal. */
+    static void onPlane(Level level, ParticleOptions options, Vec3 center, Basis basis, double x, double z, double axial) {
+        Vec3 u = basis.u;
+        Vec3 v = basis.v;
+        Vec3 n = basis.axis;
+        ClientParticleHelper.addForce(level, options,
+                center.x + u.x * x + v.x * z + n.x * axial,
+                center.y + u.y * x + v.y * z + n.y * axial,
+                center.z + u.z * x + v.z * z + n.z * axial,
+                0, 0.0, 0.0, 0.0, 0.0);
     }
 
-    static void spawn(ServerLevel level, ParticleOptions options, Vec3 pos, int count, double spread, double speed) {
-        if (level == null || pos == null || options == null) {
-            return;
-        }
-        level.sendParticles(options, pos.x, pos.y, pos.z, count, spread, spread, spread, speed);
+    /** Polar form of {@link #onPlane(Level, ParticleOptions, Vec3, Basis, double, double, double)}. */
+    static void onRing(Level level, ParticleOptions options, Vec3 center, Basis basis, double radius, double angle, double axial) {
+        onPlane(level, options, center, basis, Math.cos(angle) * radius, Math.sin(angle) * radius, axial);
+    }
+
+    static void moving(Level level, ParticleOptions options, double x, double y, double z, double vx, double vy, double vz) {
+        ClientParticleHelper.addForce(level, options, x, y, z, 0, vx, vy, vz, 0.0);
     }
 
-    static Vec3 randomUnit() {
-        while (true) {
-            double x = ThreadLocalRandom.current().nextDouble(-1.0, 1.0);
-            double y = ThreadLocalRandom.current().nextDouble(-1.0, 1.0);
-            double z = ThreadLocalRandom.current().nextDouble(-1.0, 1.0);
-            double l2 = x * x + y * y + z * z;
-            if (l2 < 1.0E-6 || l2 > 1.0) {
-                continue;
-            }
-            return new Vec3(x, y, z).normalize();
+    /** Starts {@code emitter} at {@code pos}; a group that is not in a server level shows nothing. */
+    static <T extends FormationEffectEmitter> T spawnEmitter(Level world, Vec3 pos, T emitter) {
+        if (!(world instanceof ServerLevel level)) {
+            return null;
         }
+        ParticleEmittersManager.spawnEmitters(emitter, level, pos.x, pos.y, pos.z);
+        return emitter;
     }
 
     record Basis(Vec3 axis, Vec3 u, Vec3 v) {
@@ -0,0 +1,117 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticleskill.display.group.impl.formation.effects;
+
+import com.reiasu.reiparticlesapi.annotations.ReiAutoRegister;
+import com.reiasu.reiparticleskill.util.ClientParticleHelper;
+import net.minecraft.core.particles.DustParticleOptions;
+import net.minecraft.core.particles.ParticleTypes;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.Vec3;
+import org.joml.Vector3f;
+
+/**
+ * Client-drawn burst of {@link SwordFormationExplosionEffectGroup}: a sphere of dust, a disk
+ * wave in the formation plane and a flash.
+ * <p>
+ * The burst is drawn once, on the first client tick. The emitter lingers for
+ * {@link #LINGER_TICKS} so that every viewer is sent a snapshot before it ends, and is
+ * seeded without the tick so late viewers draw the same burst.
+ */
+@ReiAutoRegister
+public final class SwordFormationExplosionEmitter extends FormationEffectEmitter {
+    public static final ResourceLocation CODEC_ID = new ResourceLocation("reiparticleskill", "sword_formation_explosion");
+    static final int LINGER_TICKS = 8;
+    private static final DustParticleOptions SPHERE_DUST =
+            new DustParticleOptions(new Vector3f(0.988235F, 0.823529F, 0.321569F), 0.52F);
+    private static final Vector3f WAVE_COLOR = new Vector3f(0.466667F, 0.992157F, 0.792157F);
+    private static final DustParticleOptions SPHERE_WAVE_DUST = new DustParticleOptions(WAVE_COLOR, 0.62F);
+    private static final DustParticleOptions DISK_DUST = new DustParticleOptions(WAVE_COLOR, 0.7F);
+
+    private boolean fired;
+
+    public SwordFormationExplosionEmitter() {
+        super();
+        setMaxTick(LINGER_TICKS);
+    }
+
+    @Override
+    void render(Level level, Vec3 center, FormationParticleHelper.Basis basis, int age, double fade, RandomSource random) {
+        if (fired) {
+            return;
+        }
+        fired = true;
+        random.setSeed(getSeed());
+
+        // Sphere burst.
+        for (int i = 0; i < 1600; i++) {
+            double x;
+            double y;
+            double z;
+            double l2;
+            do {
+                x = random.nextDouble() * 2.0 - 1.0;
+                y = random.nextDouble() * 2.0 - 1.0;
+                z = random.nextDouble() * 2.0 - 1.0;
+                l2 = x * x + y * y + z * z;
+            } while (l2 < 1.0E-6 || l2 > 1.0);
+            double speed = FormationParticleHelper.randomDouble(random, 0.8, 1.4) / Math.sqrt(l2);
+            FormationParticleHelper.moving(level, SPHERE_DUST, center.x, center.y, center.z, x * speed, y * speed, z * speed);
+            if (i % 4 == 0) {
+                double fast = speed * 1.15;
+                FormationParticleHelper.moving(level, SPHERE_WAVE_DUST, center.x, center.y, center.z, x * fast, y * fast, z * fast);
+            }
+        }
+
+        // Disk wave in current plane.
+        Vec3 axis = basis.axis();
+        Vec3 u = basis.u();
+        Vec3 v = basis.v();
+        int ringSamples = 420;
+        for (int i = 0; i < ringSamples; i++) {
+            double angle = Math.PI * 2.0 * i / ringSamples;
+            double cos = Math.cos(angle);
+            double sin = Math.sin(angle);
+            double rx = u.x * cos + v.x * sin;
+            double ry = u.y * cos + v.y * sin;
+            double rz = u.z * cos + v.z * sin;
+            double x = center.x + rx * 0.6;
+            double y = center.y + ry * 0.6;
+            double z = center.z + rz * 0.6;
+            double radial = FormationParticleHelper.randomDouble(random, 1.4, 2.6);
+            double lift = FormationParticleHelper.randomDouble(random, -0.22, 0.35);
+            double vx = rx * radial + axis.x * lift;
+            double vy = ry * radial + axis.y * lift;
+            double vz = rz * radial + axis.z * lift;
+            FormationParticleHelper.moving(level, DISK_DUST, x, y, z, vx, vy, vz);
+            if (i % 5 == 0) {
+                FormationParticleHelper.moving(level, ParticleTypes.ELECTRIC_SPARK, x, y, z, vx * 0.65, vy * 0.65, vz * 0.65);
+            }
+        }
+
+        ClientParticleHelper.addForce(level, ParticleTypes.FLASH, center.x, center.y, center.z, 2, 0.0, 0.0, 0.0, 0.0, random);
+        ClientParticleHelper.addForce(level, ParticleTypes.END_ROD, center.x, center.y, center.z, 180, 6.0, 6.0, 6.0, 0.01, random);
+        ClientParticleHelper.addForce(level, ParticleTypes.ELECTRIC_SPARK, center.x, center.y, center.z, 120, 4.0, 4.0, 4.0, 0.65, random);
+    }
+
+    @Override
+    void writeParams(FriendlyByteBuf buf) {
+    }
+
+    @Override
+    void readParams(FriendlyByteBuf buf) {
+    }
+
+    @Override
+    void updateParams(FormationEffectEmitter other) {
+    }
+
+    public static SwordFormationExplosionEmitter decode(FriendlyByteBuf buf) {
+        SwordFormationExplosionEmitter e = new SwordFormationExplosionEmitter();
+        e.decodeFromBuffer(buf);
+        return e;
+    }
+}
@@ -0,0 +1,228 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticleskill.display.group.impl.formation.effects;
+
+import com.reiasu.reiparticlesapi.annotations.ReiAutoRegister;
+import com.reiasu.reiparticleskill.util.ClientParticleHelper;
+import net.minecraft.core.particles.DustParticleOptions;
+import net.minecraft.core.particles.ParticleTypes;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.Vec3;
+import org.joml.Vector3f;
+
+/**
+ * Client-drawn sigil of {@link SwordFormationSigilEffectGroup}: a spinning circle with
+ * cross rays, a counter-rotating square, four triangle runes and four mini swords.
+ */
+@ReiAutoRegister
+public final class SwordFormationSigilEmitter extends FormationEffectEmitter {
+    public static final ResourceLocation CODEC_ID = new ResourceLocation("reiparticleskill", "sword_formation_sigil");
+    private static final Vector3f BASE_COLOR = new Vector3f(0.98F, 0.89F, 0.48F);
+    private static final Vector3f ACCENT_COLOR = new Vector3f(0.46F, 0.99F, 0.79F);
+    // Cross rays as {x1, z1, x2, z2} in unscaled plane coordinates.
+    private static final double[][] RAYS = {
+            {3.410561, 2.089994, 0.0, 8.0},
+            {3.410561, -2.089994, 0.0, -8.0},
+            {-3.410561, 2.089994, 0.0, 8.0},
+            {-3.410561, -2.089994, 0.0, -8.0},
+            {3.18319, 2.483995, 8.0, 0.0},
+            {3.18319, -2.483995, 8.0, 0.0},
+            {-3.18319, 2.483995, -8.0, 0.0},
+            {-3.18319, -2.483995, -8.0, 0.0}
+    };
+
+    private double scale = 1.0;
+    private double fastSpinSpeed = 0.04908738521234052;
+    private double slowSpinSpeed = 0.02454369260617026;
+    private int outerRingSamples = 240;
+
+    public SwordFormationSigilEmitter() {
+        super();
+    }
+
+    /** Takes every shape parameter from {@code group}. */
+    void configure(SwordFormationSigilEffectGroup group) {
+        scale = group.getScale();
+        fastSpinSpeed = group.getFastSpinSpeed();
+        slowSpinSpeed = group.getSlowSpinSpeed();
+        outerRingSamples = group.getOuterRingSamples();
+    }
+
+    @Override
+    void render(Level level, Vec3 center, FormationParticleHelper.Basis basis, int age, double fade, RandomSource random) {
+        double grow = Math.min(1.0, age / 18.0);
+        double currentScale = scale * (0.20 + 0.80 * grow) * fade;
+        double fastSpin = age * fastSpinSpeed;
+        double slowSpin = -age * slowSpinSpeed;
+        DustParticleOptions base = FormationParticleHelper.dust(BASE_COLOR, 0.42 * fade);
+
+        // Main circle + cross rays.
+        drawRing(level, center, basis, 4.0 * currentScale, (int) (outerRingSamples * fade), fastSpin, base);
+        for (double[] ray : RAYS) {
+            drawLine(level, center, basis, ray[0], ray[1], ray[2], ray[3], 70, fastSpin, currentScale, base);
+        }
+
+        // Rotated square (radius 6, 45 degrees).
+        drawSquare(level, center, basis, 6.0 * currentScale, Math.PI * 0.25 + slowSpin,
+                FormationParticleHelper.dust(ACCENT_COLOR, 0.40 * fade));
+
+        // Four small triangular runes near outer ring.
+        DustParticleOptions rune = FormationParticleHelper.dust(ACCENT_COLOR, 0.34);
+        double swordSize = 0.30 * Math.max(0.2, fade);
+        DustParticleOptions hilt = FormationParticleHelper.dust(ACCENT_COLOR, swordSize);
+        DustParticleOptions blade = FormationParticleHelper.dust(BASE_COLOR, swordSize + 0.03);
+        DustParticleOptions tip = FormationParticleHelper.dust(BASE_COLOR, swordSize);
+        for (int i = 0; i < 4; i++) {
+            double angle = i * (Math.PI * 0.5) + slowSpin;
+            drawTriangle(level, center, basis, 7.8 * currentScale, angle, currentScale, rune);
+            double orbit = 5.25 * currentScale;
+            double orbitAngle = angle + Math.PI * 0.25;
+            double cx = Math.cos(orbitAngle) * orbit;
+            double cz = Math.sin(orbitAngle) * orbit;
+            double s = currentScale * 0.9;
+            double localRot = orbitAngle + fastSpin + Math.PI;
+            // Pommel + guard.
+            drawLine(level, center, basis, cx - 0.45 * s, cz - 1.5 * s, cx + 0.45 * s, cz - 1.5 * s, 14, localRot, 1.0, hilt);
+            drawLine(level, center, basis, cx - 1.2 * s, cz - 0.2 * s, cx + 1.2 * s, cz - 0.2 * s, 14, localRot, 1.0, hilt);
+            // Blade.
+            drawLine(level, center, basis, cx, cz - 1.5 * s, cx, cz + 2.2 * s, 24, localRot, 1.0, blade);
+            drawLine(level, center, basis, cx - 0.32 * s, cz + 1.7 * s, cx, cz + 2.2 * s, 10, localRot, 1.0, tip);
+            drawLine(level, center, basis, cx + 0.32 * s, cz + 1.7 * s, cx, cz + 2.2 * s, 10, localRot, 1.0, tip);
+        }
+
+        if (age % 6 == 0) {
+            double spread = 1.8 * currentScale;
+            ClientParticleHelper.addForce(level, ParticleTypes.ENCHANT, center.x, center.y, center.z,
+                    Math.max(1, (int) (8 * fade)), spread, spread, spread, 0.01, random);
+        }
+        if (age % 11 == 0) {
+            double spread = 2.1 * currentScale;
+            ClientParticleHelper.addForce(level, ParticleTypes.END_ROD, center.x, center.y, center.z,
+                    Math.max(1, (int) (4 * fade)), spread, spread, spread, 0.0, random);
+        }
+    }
+
+    private static void drawRing(
+            Level level,
+            Vec3 center,
+            FormationParticleHelper.Basis basis,
+            double radius,
+            int samples,
+            double spin,
+            DustParticleOptions options
+    ) {
+        int n = Math.max(8, samples);
+        for (int i = 0; i < n; i++) {
+            FormationParticleHelper.onRing(level, options, center, basis, radius, Math.PI * 2.0 * i / n + spin, 0.0);
+        }
+    }
+
+    private static void drawSquare(
+            Level level,
+            Vec3 center,
+            FormationParticleHelper.Basis basis,
+            double radius,
+            double rotation,
+            DustParticleOptions options
+    ) {
+        double[] xs = {radius, 0.0, -radius, 0.0};
+        double[] zs = {0.0, radius, 0.0, -radius};
+        for (int i = 0; i < 4; i++) {
+            int next = (i + 1) % 4;
+            drawLine(level, center, basis, xs[i], zs[i], xs[next], zs[next], 40, rotation, 1.0, options);
+        }
+    }
+
+    private static void drawTriangle(
+            Level level,
+            Vec3 center,
+            FormationParticleHelper.Basis basis,
+            double orbitRadius,
+            double orbitAngle,
+            double scale,
+            DustParticleOptions options
+    ) {
+        double cx = Math.cos(orbitAngle) * orbitRadius;
+        double cz = Math.sin(orbitAngle) * orbitRadius;
+        double localRotation = orbitAngle + Math.PI;
+
+        double ax = cx + rotateX(0.0, 2.0 * scale, localRotation);
+        double az = cz + rotateZ(0.0, 2.0 * scale, localRotation);
+        double bx = cx + rotateX(-1.0 * scale, 1.0 * scale, localRotation);
+        double bz = cz + rotateZ(-1.0 * scale, 1.0 * scale, localRotation);
+        double ex = cx + rotateX(1.0 * scale, 1.0 * scale, localRotation);
+        double ez = cz + rotateZ(1.0 * scale, 1.0 * scale, localRotation);
+
+        drawLine(level, center, basis, ax, az, bx, bz, 20, 0.0, 1.0, options);
+        drawLine(level, center, basis, ax, az, ex, ez, 20, 0.0, 1.0, options);
+        drawLine(level, center, basis, bx, bz, ex, ez, 20, 0.0, 1.0, options);
+    }
+
+    private static void drawLine(
+            Level level,
+            Vec3 center,
+            FormationParticleHelper.Basis basis,
+            double x1,
+            double z1,
+            double x2,
+            double z2,
+            int steps,
+            double spin,
+            double scale,
+            DustParticleOptions options
+    ) {
+        int n = Math.max(1, steps);
+        double sx1 = rotateX(x1 * scale, z1 * scale, spin);
+        double sz1 = rotateZ(x1 * scale, z1 * scale, spin);
+        double sx2 = rotateX(x2 * scale, z2 * scale, spin);
+        double sz2 = rotateZ(x2 * scale, z2 * scale, spin);
+        for (int i = 0; i <= n; i++) {
+            double t = i / (double) n;
+            FormationParticleHelper.onPlane(level, options, center, basis,
+                    sx1 + (sx2 - sx1) * t, sz1 + (sz2 - sz1) * t, 0.0);
+        }
+    }
+
+    private static double rotateX(double x, double z, double angle) {
+        return x * Math.cos(angle) - z * Math.sin(angle);
+    }
+
+    private static double rotateZ(double x, double z, double angle) {
+        return x * Math.sin(angle) + z * Math.cos(angle);
+    }
+
+    @Override
+    void writeParams(FriendlyByteBuf buf) {
+        buf.writeFloat((float) scale);
+        buf.writeFloat((float) fastSpinSpeed);
+        buf.writeFloat((float) slowSpinSpeed);
+        buf.writeVarInt(outerRingSamples);
+    }
+
+    @Override
+    void readParams(FriendlyByteBuf buf) {
+        scale = buf.readFloat();
+        fastSpinSpeed = buf.readFloat();
+        slowSpinSpeed = buf.readFloat();
+        outerRingSamples = buf.readVarInt();
+    }
+
+    @Override
+    void updateParams(FormationEffectEmitter other) {
+        if (other instanceof SwordFormationSigilEmitter sigil) {
+            scale = sigil.scale;
+            fastSpinSpeed = sigil.fastSpinSpeed;
+            slowSpinSpeed = sigil.slowSpinSpeed;
+            outerRingSamples = sigil.outerRingSamples;
+        }
+    }
+
+    public static SwordFormationSigilEmitter decode(FriendlyByteBuf buf) {
+        SwordFormationSigilEmitter e = new SwordFormationSigilEmitter();
+        e.decodeFromBuffer(buf);
+        return e;
+    }
+}
@@ -0,0 +1,107 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticleskill.display.group.impl.formation.effects;
+
+import com.reiasu.reiparticlesapi.annotations.ReiAutoRegister;
+import net.minecraft.core.particles.DustParticleOptions;
+import net.minecraft.core.particles.ParticleTypes;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.Vec3;
+import org.joml.Vector3f;
+
+/**
+ * Client-drawn vortex of {@link SwordFormationVortexEffectGroup}: wobbling inner and outer
+ * rings around a turbulent core stream.
+ */
+@ReiAutoRegister
+public final class SwordFormationVortexEmitter extends FormationEffectEmitter {
+    public static final ResourceLocation CODEC_ID = new ResourceLocation("reiparticleskill", "sword_formation_vortex");
+    private static final Vector3f VORTEX_COLOR = new Vector3f(24.0F / 255.0F, 129.0F / 255.0F, 108.0F / 255.0F);
+    private static final Vector3f OUTER_COLOR = new Vector3f(130.0F / 255.0F, 130.0F / 255.0F, 70.0F / 255.0F);
+
+    private int ringSamples = 72;
+    private double innerRadius = 45.0;
+    private double outerRadius = 47.0;
+
+    public SwordFormationVortexEmitter() {
+        super();
+    }
+
+    /** Takes every shape parameter from {@code group}. */
+    void configure(SwordFormationVortexEffectGroup group) {
+        ringSamples = group.getRingSamples();
+        innerRadius = group.getInnerRadius();
+        outerRadius = group.getOuterRadius();
+    }
+
+    @Override
+    void render(Level level, Vec3 center, FormationParticleHelper.Basis basis, int age, double fade, RandomSource random) {
+        double spin = age * 0.09;
+        int samples = Math.max(12, (int) (ringSamples * fade));
+        DustParticleOptions vortex = FormationParticleHelper.dust(VORTEX_COLOR, 0.65 * fade);
+        DustParticleOptions outer = FormationParticleHelper.dust(OUTER_COLOR, 0.72 * fade);
+        DustParticleOptions core = FormationParticleHelper.dust(OUTER_COLOR, 0.36 * fade);
+
+        for (int i = 0; i < samples; i++) {
+            double angle = Math.PI * 2.0 * i / samples + spin;
+            double wobble = Math.sin(age * 0.08 + i * 0.19) * 0.36;
+            double lift = Math.sin(age * 0.04 + i * 0.16) * 0.35;
+            FormationParticleHelper.onRing(level, vortex, center, basis, innerRadius + wobble, angle, lift);
+
+            if (i % 2 == 0) {
+                FormationParticleHelper.onRing(level, outer, center, basis, outerRadius + wobble * 0.6, -angle * 0.75,
+                        Math.cos(age * 0.05 + i * 0.21) * 0.42);
+            }
+            if (i % 5 == 0) {
+                FormationParticleHelper.onRing(level, core, center, basis, innerRadius * 0.74, angle * 1.4,
+                        Math.sin(age * 0.03 + i * 0.11) * 0.52);
+            }
+            if (i % 6 == 0) {
+                FormationParticleHelper.onRing(level, ParticleTypes.ENCHANT, center, basis, innerRadius + wobble, angle, lift);
+            }
+        }
+
+        // Core turbulent stream.
+        for (int i = 0; i < Math.max(2, (int) (10 * fade)); i++) {
+            double t = FormationParticleHelper.randomDouble(random, 0.0, Math.PI * 2.0);
+            double r = FormationParticleHelper.randomDouble(random, 0.2, 1.7);
+            double lift = FormationParticleHelper.randomDouble(random, -1.5, 1.5);
+            FormationParticleHelper.onRing(level, ParticleTypes.END_ROD, center, basis, r, t, lift);
+            if (i % 3 == 0) {
+                FormationParticleHelper.onRing(level, ParticleTypes.ELECTRIC_SPARK, center, basis, r, t, lift);
+            }
+        }
+    }
+
+    @Override
+    void writeParams(FriendlyByteBuf buf) {
+        buf.writeVarInt(ringSamples);
+        buf.writeFloat((float) innerRadius);
+        buf.writeFloat((float) outerRadius);
+    }
+
+    @Override
+    void readParams(FriendlyByteBuf buf) {
+        ringSamples = buf.readVarInt();
+        innerRadius = buf.readFloat();
+        outerRadius = buf.readFloat();
+    }
+
+    @Override
+    void updateParams(FormationEffectEmitter other) {
+        if (other instanceof SwordFormationVortexEmitter vortex) {
+            ringSamples = vortex.ringSamples;
+            innerRadius = vortex.innerRadius;
+            outerRadius = vortex.outerRadius;
+        }
+    }
+
+    public static SwordFormationVortexEmitter decode(FriendlyByteBuf buf) {
+        SwordFormationVortexEmitter e = new SwordFormationVortexEmitter();
+        e.decodeFromBuffer(buf);
+        return e;
+    }
+}
@@ -4,20 +4,19 @@ package com.reiasu.reiparticleskill.display.group.impl.formation.effects;
 
 import com.reiasu.reiparticlesapi.utils.RelativeLocation;
 import com.reiasu.reiparticleskill.display.group.ServerOnlyDisplayGroup;
-import net.minecraft.core.particles.ParticleTypes;
-import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.phys.Vec3;
 import org.joml.Vector3f;
 
 import java.util.Collections;
 import java.util.Map;
-import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Supplier;
 
+/**
+ * Wave settings and lifecycle. The streaks themselves are spawned client-side by
+ * {@link SwordFormationWaveEmitter} from a shared seed.
+ */
 public final class SwordFormationWaveEffectGroup extends ServerOnlyDisplayGroup {
-    private final ThreadLocalRandom random = ThreadLocalRandom.current();
-
     private int delay = 2;
     private int minCount = 16;
     private int maxCount = 32;
@@ -43,6 +42,7 @@ public final class SwordFormationWaveEffectGroup extends ServerOnlyDisplayGroup
     private boolean fading;
     private int fadeTick;
     private int fadeMaxTick = 20;
+    private SwordFormationWaveEmitter emitter;
 
     public SwordFormationWaveEffectGroup(Vec3 pos, Level world) {
         super(pos, world);
@@ -238,57 +238,14 @@ public final class SwordFormationWaveEffectGroup extends ServerOnlyDisplayGroup
         if (fading) {
             fadeTick++;
             if (fadeTick >= fadeMaxTick) {
-                super.remove();
+                finish();
                 return;
             }
         }
-        if (delay > 1 && age % delay != 0) {
-            return;
-        }
-        if (!(getWorld() instanceof ServerLevel level)) {
-            return;
-        }
-
-        double fade = fading ? Math.max(0.0, 1.0 - fadeTick / (double) fadeMaxTick) : 1.0;
-        int countLow = Math.min(minCount, maxCount);
-        int countHigh = Math.max(minCount, maxCount);
-        int spawnCount = Math.max(1, (int) (random.nextInt(countLow, countHigh + 1) * fade));
-        int radianCountLow = Math.min(radianCountMin, radianCountMax);
-        int radianCountHigh = Math.max(radianCountMin, radianCountMax);
-        FormationParticleHelper.Basis basis = FormationParticleHelper.basis(direction);
-        Vec3 center = getPos();
-
-        for (int i = 0; i < spawnCount; i++) {
-            int radianSegment = random.nextInt(radianCountLow, radianCountHigh + 1);
-            for (int j = 0; j < radianSegment; j++) {
-                double theta = FormationParticleHelper.randomDouble(0.0, Math.PI * 2.0);
-                double radian = FormationParticleHelper.randomDouble(minRadian, maxRadian);
-                Vec3 radial = basis.u().scale(Math.cos(theta)).add(basis.v().scale(Math.sin(theta))).normalize();
-                Vec3 waveDir = basis.axis().scale(Math.cos(radian)).add(radial.scale(Math.sin(radian))).normalize();
-
-                double speedBase = FormationParticleHelper.randomDouble(minParticleSpeed, maxParticleSpeed);
-                double speedScale = FormationParticleHelper.randomDouble(radianProgressMinSpeedScale, radianProgressMaxSpeedScale);
-                Vec3 velocity = waveDir.scale(speedBase * speedScale);
-
-                double offsetLen = FormationParticleHelper.randomDouble(randomOffsetMin, randomOffsetMax);
-                Vec3 offset = radial.scale(offsetLen).add(basis.axis().scale((random.nextDouble() - 0.5) * offsetLen * 0.5));
-                Vec3 spawnPos = center.add(offset);
-
-                float mix = random.nextFloat();
-                Vector3f color = FormationParticleHelper.lerpColor(randomColorLeft, randomColorRight, mix);
-                float alpha = (float) (FormationParticleHelper.randomFloat(alphaMin, alphaMax) * fade);
-                float size = Math.max(0.08F, 0.55F * alpha);
-
-                FormationParticleHelper.spawnMovingDust(level, spawnPos, velocity, color, size);
-                if ((i + j) % 2 == 0) {
-                    Vector3f accent = FormationParticleHelper.lerpColor(randomColorRight, randomColorLeft, 0.35F + mix * 0.3F);
-                    FormationParticleHelper.spawnMovingDust(level, spawnPos, velocity.scale(0.7), accent, Math.max(0.05F, size * 0.7F));
-                }
-                if ((i + j) % 3 == 0) {
-                    level.sendParticles(ParticleTypes.ENCHANT, spawnPos.x, spawnPos.y, spawnPos.z, 0,
-                            velocity.x * 0.6, velocity.y * 0.6, velocity.z * 0.6, 1.0);
-                }
-            }
+        if (emitter != null) {
+            emitter.teleportTo(getPos());
+            emitter.setDirection(direction);
+            emitter.configure(this);
         }
     }
 
@@ -297,6 +254,10 @@ public final class SwordFormationWaveEffectGroup extends ServerOnlyDisplayGroup
         age = 0;
         fading = false;
         fadeTick = 0;
+        SwordFormationWaveEmitter next = new SwordFormationWaveEmitter();
+        next.setDirection(direction);
+        next.configure(this);
+        emitter = FormationParticleHelper.spawnEmitter(getWorld(), getPos(), next);
     }
 
     @Override
@@ -304,8 +265,19 @@ public final class SwordFormationWaveEffectGroup extends ServerOnlyDisplayGroup
         if (!fading) {
             fading = true;
             fadeTick = 0;
+            if (emitter != null) {
+                emitter.beginFade(fadeMaxTick);
+            }
             return;
         }
+        finish();
+    }
+
+    private void finish() {
+        if (emitter != null) {
+            emitter.cancel();
+            emitter = null;
+        }
         super.remove();
     }
 }
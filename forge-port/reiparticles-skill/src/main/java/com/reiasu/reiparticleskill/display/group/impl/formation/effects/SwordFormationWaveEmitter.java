@@ -0,0 +1,193 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticleskill.display.group.impl.formation.effects;
+
+import com.reiasu.reiparticlesapi.annotations.ReiAutoRegister;
+import net.minecraft.core.particles.ParticleTypes;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.Vec3;
+import org.joml.Vector3f;
+
+/**
+ * Client-drawn wave of {@link SwordFormationWaveEffectGroup}: every {@code delay} ticks a
+ * seeded batch of dust streaks leaves the center along arcs between the plane and its normal.
+ */
+@ReiAutoRegister
+public final class SwordFormationWaveEmitter extends FormationEffectEmitter {
+    public static final ResourceLocation CODEC_ID = new ResourceLocation("reiparticleskill", "sword_formation_wave");
+
+    private int delay = 2;
+    private int minCount = 16;
+    private int maxCount = 32;
+    private double minParticleSpeed = 0.5;
+    private double maxParticleSpeed = 0.52;
+    private int radianCountMin = 2;
+    private int radianCountMax = 5;
+    private double minRadian = Math.PI * 0.5;
+    private double maxRadian = Math.PI * 2.0;
+    private float alphaMin = 0.2F;
+    private float alphaMax = 0.6F;
+    private double randomOffsetMin = 0.02;
+    private double randomOffsetMax = 0.3;
+    private double radianProgressMinSpeedScale = 0.4;
+    private double radianProgressMaxSpeedScale = 1.2;
+    private Vector3f randomColorLeft = new Vector3f(83.0F / 255.0F, 133.0F / 255.0F, 102.0F / 255.0F);
+    private Vector3f randomColorRight = new Vector3f(106.0F / 255.0F, 193.0F / 255.0F, 156.0F / 255.0F);
+
+    public SwordFormationWaveEmitter() {
+        super();
+    }
+
+    /** Takes every shape parameter from {@code group}. */
+    void configure(SwordFormationWaveEffectGroup group) {
+        delay = group.getDelay();
+        minCount = group.getMinCount();
+        maxCount = group.getMaxCount();
+        minParticleSpeed = group.getMinParticleSpeed();
+        maxParticleSpeed = group.getMaxParticleSpeed();
+        radianCountMin = group.getRadianCountMin();
+        radianCountMax = group.getRadianCountMax();
+        minRadian = group.getMinRadian();
+        maxRadian = group.getMaxRadian();
+        alphaMin = group.getAlphaMin();
+        alphaMax = group.getAlphaMax();
+        randomOffsetMin = group.getRandomOffsetMin();
+        randomOffsetMax = group.getRandomOffsetMax();
+        radianProgressMinSpeedScale = group.getRadianProgressMinSpeedScale();
+        radianProgressMaxSpeedScale = group.getRadianProgressMaxSpeedScale();
+        randomColorLeft = group.getRandomColorLeft();
+        randomColorRight = group.getRandomColorRight();
+    }
+
+    @Override
+    void render(Level level, Vec3 center, FormationParticleHelper.Basis basis, int age, double fade, RandomSource random) {
+        if (delay > 1 && age % delay != 0) {
+            return;
+        }
+        int spawnCount = Math.max(1, (int) (random.nextIntBetweenInclusive(
+                Math.min(minCount, maxCount), Math.max(minCount, maxCount)) * fade));
+        int radianCountLow = Math.min(radianCountMin, radianCountMax);
+        int radianCountHigh = Math.max(radianCountMin, radianCountMax);
+        Vec3 axis = basis.axis();
+        Vec3 u = basis.u();
+        Vec3 v = basis.v();
+
+        for (int i = 0; i < spawnCount; i++) {
+            int radianSegment = random.nextIntBetweenInclusive(radianCountLow, radianCountHigh);
+            for (int j = 0; j < radianSegment; j++) {
+                double theta = FormationParticleHelper.randomDouble(random, 0.0, Math.PI * 2.0);
+                double radian = FormationParticleHelper.randomDouble(random, minRadian, maxRadian);
+                // u and v are orthonormal, so the radial and wave directions are unit length already.
+                double cosTheta = Math.cos(theta);
+                double sinTheta = Math.sin(theta);
+                double rx = u.x * cosTheta + v.x * sinTheta;
+                double ry = u.y * cosTheta + v.y * sinTheta;
+                double rz = u.z * cosTheta + v.z * sinTheta;
+                double cosRadian = Math.cos(radian);
+                double sinRadian = Math.sin(radian);
+
+                double speed = FormationParticleHelper.randomDouble(random, minParticleSpeed, maxParticleSpeed)
+                        * FormationParticleHelper.randomDouble(random, radianProgressMinSpeedScale, radianProgressMaxSpeedScale);
+                double vx = (axis.x * cosRadian + rx * sinRadian) * speed;
+                double vy = (axis.y * cosRadian + ry * sinRadian) * speed;
+                double vz = (axis.z * cosRadian + rz * sinRadian) * speed;
+
+                double offsetLen = FormationParticleHelper.randomDouble(random, randomOffsetMin, randomOffsetMax);
+                double lift = (random.nextDouble() - 0.5) * offsetLen * 0.5;
+                double x = center.x + rx * offsetLen + axis.x * lift;
+                double y = center.y + ry * offsetLen + axis.y * lift;
+                double z = center.z + rz * offsetLen + axis.z * lift;
+
+                float mix = random.nextFloat();
+                float alpha = (float) (FormationParticleHelper.randomFloat(random, alphaMin, alphaMax) * fade);
+                float size = Math.max(0.08F, 0.55F * alpha);
+                FormationParticleHelper.moving(level,
+                        FormationParticleHelper.dust(FormationParticleHelper.lerpColor(randomColorLeft, randomColorRight, mix), size),
+                        x, y, z, vx, vy, vz);
+                if ((i + j) % 2 == 0) {
+                    Vector3f accent = FormationParticleHelper.lerpColor(randomColorRight, randomColorLeft, 0.35F + mix * 0.3F);
+                    FormationParticleHelper.moving(level,
+                            FormationParticleHelper.dust(accent, Math.max(0.05F, size * 0.7F)),
+                            x, y, z, vx * 0.7, vy * 0.7, vz * 0.7);
+                }
+                if ((i + j) % 3 == 0) {
+                    FormationParticleHelper.moving(level, ParticleTypes.ENCHANT, x, y, z, vx * 0.6, vy * 0.6, vz * 0.6);
+                }
+            }
+        }
+    }
+
+    @Override
+    void writeParams(FriendlyByteBuf buf) {
+        buf.writeVarInt(delay);
+        buf.writeVarInt(minCount);
+        buf.writeVarInt(maxCount);
+        buf.writeFloat((float) minParticleSpeed);
+        buf.writeFloat((float) maxParticleSpeed);
+        buf.writeVarInt(radianCountMin);
+        buf.writeVarInt(radianCountMax);
+        buf.writeFloat((float) minRadian);
+        buf.writeFloat((float) maxRadian);
+        buf.writeFloat(alphaMin);
+        buf.writeFloat(alphaMax);
+        buf.writeFloat((float) randomOffsetMin);
+        buf.writeFloat((float) randomOffsetMax);
+        buf.writeFloat((float) radianProgressMinSpeedScale);
+        buf.writeFloat((float) radianProgressMaxSpeedScale);
+        buf.writeVector3f(randomColorLeft);
+        buf.writeVector3f(randomColorRight);
+    }
+
+    @Override
+    void readParams(FriendlyByteBuf buf) {
+        delay = buf.readVarInt();
+        minCount = buf.readVarInt();
+        maxCount = buf.readVarInt();
+        minParticleSpeed = buf.readFloat();
+        maxParticleSpeed = buf.readFloat();
+        radianCountMin = buf.readVarInt();
+        radianCountMax = buf.readVarInt();
+        minRadian = buf.readFloat();
+        maxRadian = buf.readFloat();
+        alphaMin = buf.readFloat();
+        alphaMax = buf.readFloat();
+        randomOffsetMin = buf.readFloat();
+        randomOffsetMax = buf.readFloat();
+        radianProgressMinSpeedScale = buf.readFloat();
+        radianProgressMaxSpeedScale = buf.readFloat();
+        randomColorLeft = buf.readVector3f();
+        randomColorRight = buf.readVector3f();
+    }
+
+    @Override
+    void updateParams(FormationEffectEmitter other) {
+        if (other instanceof SwordFormationWaveEmitter wave) {
+            delay = wave.delay;
+            minCount = wave.minCount;
+            maxCount = wave.maxCount;
+            minParticleSpeed = wave.minParticleSpeed;
+            maxParticleSpeed = wave.maxParticleSpeed;
+            radianCountMin = wave.radianCountMin;
+            radianCountMax = wave.radianCountMax;
+            minRadian = wave.minRadian;
+            maxRadian = wave.maxRadian;
+            alphaMin = wave.alphaMin;
+            alphaMax = wave.alphaMax;
+            randomOffsetMin = wave.randomOffsetMin;
+            randomOffsetMax = wave.randomOffsetMax;
+            radianProgressMinSpeedScale = wave.radianProgressMinSpeedScale;
+            radianProgressMaxSpeedScale = wave.radianProgressMaxSpeedScale;
+            randomColorLeft = wave.randomColorLeft;
+            randomColorRight = wave.randomColorRight;
+        }
+    }
+
+    public static SwordFormationWaveEmitter decode(FriendlyByteBuf buf) {
+        SwordFormationWaveEmitter e = new SwordFormationWaveEmitter();
+        e.decodeFromBuffer(buf);
+        return e;
+    }
+}
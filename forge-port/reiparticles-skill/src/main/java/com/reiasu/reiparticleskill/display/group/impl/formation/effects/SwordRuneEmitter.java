@@ -0,0 +1,140 @@
+// SPDX-License-Identifier: LGPL-3.0-only
+// Copyright (C) 2025 Reiasu
+package com.reiasu.reiparticleskill.display.group.impl.formation.effects;
+
+import com.reiasu.reiparticlesapi.annotations.ReiAutoRegister;
+import com.reiasu.reiparticleskill.util.ClientParticleHelper;
+import net.minecraft.core.particles.DustParticleOptions;
+import net.minecraft.core.particles.ParticleTypes;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.Vec3;
+import org.joml.Vector3f;
+
+/**
+ * Client-drawn rune of {@link SwordRuneEffectGroup}: two counter-rotating rings around a
+ * sword glyph.
+ */
+@ReiAutoRegister
+public final class SwordRuneEmitter extends FormationEffectEmitter {
+    public static final ResourceLocation CODEC_ID = new ResourceLocation("reiparticleskill", "sword_rune");
+    private static final Vector3f RING_COLOR = new Vector3f(0.93F, 0.94F, 0.68F);
+    private static final Vector3f RING_COLOR_ALT = new Vector3f(0.43F, 0.87F, 0.72F);
+    private static final Vector3f RUNE_COLOR = new Vector3f(0.95F, 0.80F, 0.33F);
+    private static final double SPIN_FAST = 0.04908738521234052;
+    private static final double SPIN_SLOW = 0.02454369260617026;
+
+    private double runeScale = 1.0;
+    private double outerRadius = 8.0;
+    private int ringSamples = 96;
+
+    public SwordRuneEmitter() {
+        super();
+    }
+
+    /** Takes every shape parameter from {@code group}. */
+    void configure(SwordRuneEffectGroup group) {
+        runeScale = group.getRuneScale();
+        outerRadius = group.getOuterRadius();
+        ringSamples = group.getRingSamples();
+    }
+
+    @Override
+    void render(Level level, Vec3 center, FormationParticleHelper.Basis basis, int age, double fade, RandomSource random) {
+        double spinFast = age * SPIN_FAST;
+        double spinSlow = -age * SPIN_SLOW;
+        double progress = Math.min(1.0, age / 20.0);
+        double scale = (0.15 + progress * 0.85) * runeScale * fade;
+
+        DustParticleOptions outer = FormationParticleHelper.dust(RING_COLOR, 0.56 * fade);
+        DustParticleOptions inner = FormationParticleHelper.dust(RING_COLOR_ALT, 0.48 * fade);
+        int samples = Math.max(24, ringSamples);
+        for (int i = 0; i < samples; i++) {
+            double a1 = Math.PI * 2.0 * i / samples + spinFast;
+            double a2 = -Math.PI * 2.0 * i / samples + spinSlow;
+            FormationParticleHelper.onRing(level, outer, center, basis, outerRadius * scale, a1, 0.0);
+            if (i % 2 == 0) {
+                FormationParticleHelper.onRing(level, inner, center, basis, outerRadius * 0.5 * scale, a2, 0.0);
+            }
+            if (i % 7 == 0) {
+                FormationParticleHelper.onRing(level, ParticleTypes.ENCHANT, center, basis, outerRadius * scale, a1, 0.0);
+            }
+        }
+
+        // Sword glyph in runic plane.
+        DustParticleOptions spine = FormationParticleHelper.dust(RUNE_COLOR, 0.58 * fade);
+        DustParticleOptions guard = FormationParticleHelper.dust(RUNE_COLOR, 0.54 * fade);
+        DustParticleOptions grip = FormationParticleHelper.dust(RUNE_COLOR, 0.52 * fade);
+        DustParticleOptions tip = FormationParticleHelper.dust(RUNE_COLOR, 0.56 * fade);
+        DustParticleOptions wing = FormationParticleHelper.dust(RUNE_COLOR, 0.5 * fade);
+        drawLine(level, center, basis, 0.0, -2.0, 0.0, 3.6, 36, spinFast, scale, spine);
+        drawLine(level, center, basis, -1.45, 0.0, 1.45, 0.0, 20, spinFast, scale, guard);
+        drawLine(level, center, basis, -0.55, -1.2, 0.55, -1.2, 12, spinFast, scale, grip);
+        drawLine(level, center, basis, -0.35, 3.6, 0.0, 4.2, 12, spinFast, scale, tip);
+        drawLine(level, center, basis, 0.35, 3.6, 0.0, 4.2, 12, spinFast, scale, tip);
+        drawLine(level, center, basis, -0.55, 2.0, -1.1, 2.7, 14, spinFast, scale, wing);
+        drawLine(level, center, basis, 0.55, 2.0, 1.1, 2.7, 14, spinFast, scale, wing);
+
+        if (age % 8 == 0) {
+            ClientParticleHelper.addForce(level, ParticleTypes.FLASH, center.x, center.y, center.z,
+                    1, 0.0, 0.0, 0.0, 0.0, random);
+        }
+    }
+
+    private static void drawLine(
+            Level level,
+            Vec3 center,
+            FormationParticleHelper.Basis basis,
+            double x1,
+            double z1,
+            double x2,
+            double z2,
+            int steps,
+            double spin,
+            double scale,
+            DustParticleOptions options
+    ) {
+        int n = Math.max(1, steps);
+        double cos = Math.cos(spin);
+        double sin = Math.sin(spin);
+        for (int i = 0; i <= n; i++) {
+            double t = i / (double) n;
+            double lx = x1 + (x2 - x1) * t;
+            double lz = z1 + (z2 - z1) * t;
+            double rx = lx * cos - lz * sin;
+            double rz = lx * sin + lz * cos;
+            FormationParticleHelper.onPlane(level, options, center, basis, rx * scale, rz * scale, 0.0);
+        }
+    }
+
+    @Override
+    void writeParams(FriendlyByteBuf buf) {
+        buf.writeFloat((float) runeScale);
+        buf.writeFloat((float) outerRadius);
+        buf.writeVarInt(ringSamples);
+    }
+
+    @Override
+    void readParams(FriendlyByteBuf buf) {
+        runeScale = buf.readFloat();
+        outerRadius = buf.readFloat();
+        ringSamples = buf.readVarInt();
+    }
+
+    @Override
+    void updateParams(FormationEffectEmitter other) {
+        if (other instanceof SwordRuneEmitter rune) {
+            runeScale = rune.runeScale;
+            outerRadius = rune.outerRadius;
+            ringSamples = rune.ringSamples;
+        }
+    }
+
+    public static SwordRuneEmitter decode(FriendlyByteBuf buf) {
+        SwordRuneEmitter e = new SwordRuneEmitter();
+        e.decodeFromBuffer(buf);
+        return e;
+    }
+}
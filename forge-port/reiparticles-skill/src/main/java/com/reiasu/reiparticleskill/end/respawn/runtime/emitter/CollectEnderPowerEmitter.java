@@ -136,7 +136,7 @@ public final class CollectEnderPowerEmitter extends TimedRespawnEmitter {
 
             float vis = fadeInOut(p.age, p.maxAge, 16);
             float size = Mth.clamp(p.baseSize * vis * 5.0f, 0.8f, 4.0f);
-            ServerParticleUtil.sendForce(level,
+            ServerParticleUtil.collectForce(level,
                     new DustParticleOptions(MAIN_COLOR, size),
                     p.pos.x, p.pos.y, p.pos.z,
                     1, 0.0, 0.0, 0.0, 0.0);
@@ -145,7 +145,7 @@ public final class CollectEnderPowerEmitter extends TimedRespawnEmitter {
             if (p.age % 4 == 0) {
                 double tangentX = -Math.sin(theta) * 0.02;
                 double tangentZ = Math.cos(theta) * 0.02;
-                ServerParticleUtil.sendForce(level,
+                ServerParticleUtil.collectForce(level,
                         ParticleTypes.PORTAL,
                         p.pos.x, p.pos.y, p.pos.z,
                         0, tangentX, random.nextGaussian() * 0.005, tangentZ, 0.05);
@@ -167,7 +167,7 @@ public final class CollectEnderPowerEmitter extends TimedRespawnEmitter {
             }
             float vis = fadeInOut(p.age, p.maxAge, 16);
             if (vis <= 0.01f) continue;
-            ServerParticleUtil.sendForce(level,
+            ServerParticleUtil.collectForce(level,
                     ParticleTypes.FLASH,
                     p.pos.x, p.pos.y, p.pos.z,
                     0, 0.0, 0.0, 0.0, 1.0);
@@ -208,7 +208,7 @@ public final class CollectPillarsEmitter extends TimedRespawnEmitter {
             );
             float size = Mth.clamp(particle.baseSize * ageInOut * 1.8f, 0.1f, 4.0f);
 
-            ServerParticleUtil.sendForce(level,
+            ServerParticleUtil.collectForce(level,
                     ParticleTypes.PORTAL,
                     particle.pos.x,
                     particle.pos.y,
@@ -221,7 +221,7 @@ public final class CollectPillarsEmitter extends TimedRespawnEmitter {
             );
             emitted++;
 
-            ServerParticleUtil.sendForce(level,
+            ServerParticleUtil.collectForce(level,
                     new DustParticleOptions(MAIN_COLOR, size),
                     particle.pos.x,
                     particle.pos.y,
@@ -255,7 +255,7 @@ public final class CollectPillarsEmitter extends TimedRespawnEmitter {
             if (ageInOut <= 0.0f) {
                 continue;
             }
-            ServerParticleUtil.sendForce(level,
+            ServerParticleUtil.collectForce(level,
                     ParticleTypes.PORTAL,
                     particle.pos.x,
                     particle.pos.y,
@@ -267,7 +267,7 @@ public final class CollectPillarsEmitter extends TimedRespawnEmitter {
                     0.02
             );
             emitted++;
-            ServerParticleUtil.sendForce(level,
+            ServerParticleUtil.collectForce(level,
                     new DustParticleOptions(MAIN_COLOR, Mth.clamp(particle.baseSize * ageInOut * 1.8f, 0.1f, 4.0f)),
                     particle.pos.x,
                     particle.pos.y,
@@ -104,7 +104,7 @@ public final class EndBeamExplosionEmitter extends TimedRespawnEmitter {
         Vec3 origin = center.add(anchorOffset);
         int emitted = 0;
         if (tick == 0) {
-            ServerParticleUtil.sendForce(level, ParticleTypes.EXPLOSION_EMITTER,
+            ServerParticleUtil.collectForce(level, ParticleTypes.EXPLOSION_EMITTER,
                     origin.x, origin.y, origin.z, 1, 0, 0, 0, 0);
             emitted++;
             int min = Math.max(1, countMin);
@@ -178,14 +178,14 @@ public final class EndBeamExplosionEmitter extends TimedRespawnEmitter {
         float size = Mth.clamp((float) (p.size * (0.6 + 1.4 * sizeCurve)), 0.2f, 4.0f);
 
         double spd = p.velocity.length();
-        ServerParticleUtil.sendForce(level,
+        ServerParticleUtil.collectForce(level,
                 ParticleTypes.PORTAL,
                 p.pos.x, p.pos.y, p.pos.z,
                 0,
                 p.velocity.x * 0.04, p.velocity.y * 0.04, p.velocity.z * 0.04,
                 Math.min(1.0, spd * 0.15));
         int emitted = 1;
-        ServerParticleUtil.sendForce(level,
+        ServerParticleUtil.collectForce(level,
                 new DustParticleOptions(MAIN_COLOR, size),
                 p.pos.x, p.pos.y, p.pos.z,
                 1, 0.0, 0.0, 0.0, 0.0);
@@ -137,7 +137,7 @@ public final class EndCrystalEmitter extends TimedRespawnEmitter {
             Vec3 jitter = randomUnitVector().scale(randomBetween(0.0, 0.1));
             Vec3 spawn = currentPos.add(around).add(jitter);
             Vec3 velocity = randomUnitVector().scale(randomBetween(0.0, 0.03));
-            ServerParticleUtil.sendForce(level,
+            ServerParticleUtil.collectForce(level,
                     net.minecraft.core.particles.ParticleTypes.PORTAL,
                     spawn.x,
                     spawn.y,
@@ -151,7 +151,7 @@ public final class EndCrystalEmitter extends TimedRespawnEmitter {
             emitted++;
             if ((i & 1) == 0) {
                 float size = Mth.clamp((float) randomBetween(0.6, 1.8), 0.2f, 4.0f);
-                ServerParticleUtil.sendForce(level,
+                ServerParticleUtil.collectForce(level,
                         new DustParticleOptions(MAIN_COLOR, size),
                         spawn.x,
                         spawn.y,
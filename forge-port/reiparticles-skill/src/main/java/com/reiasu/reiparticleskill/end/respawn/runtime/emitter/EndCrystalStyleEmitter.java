@@ -60,7 +60,7 @@ public final class EndCrystalStyleEmitter extends TimedRespawnEmitter {
                     .add(direction.scale(1.0))
                     .add(basisA.scale(Math.cos(a) * ringRadius))
                     .add(basisB.scale(Math.sin(a) * ringRadius));
-            ServerParticleUtil.sendForce(level,
+            ServerParticleUtil.collectForce(level,
                     ParticleTypes.PORTAL,
                     p.x,
                     p.y,
@@ -72,7 +72,7 @@ public final class EndCrystalStyleEmitter extends TimedRespawnEmitter {
                     1.0
             );
             emitted++;
-            ServerParticleUtil.sendForce(level, dustMid, p.x, p.y, p.z, 1, 0.0, 0.0, 0.0, 0.0);
+            ServerParticleUtil.collectForce(level, dustMid, p.x, p.y, p.z, 1, 0.0, 0.0, 0.0, 0.0);
             emitted++;
         }
 
@@ -86,7 +86,7 @@ public final class EndCrystalStyleEmitter extends TimedRespawnEmitter {
                     .add(direction.scale(1.0))
                     .add(basisA.scale(r))
                     .add(basisB.scale(s));
-            ServerParticleUtil.sendForce(level,
+            ServerParticleUtil.collectForce(level,
                     ParticleTypes.PORTAL,
                     p.x,
                     p.y,
@@ -98,7 +98,7 @@ public final class EndCrystalStyleEmitter extends TimedRespawnEmitter {
                     1.0
             );
             emitted++;
-            ServerParticleUtil.sendForce(level, dustSmall, p.x, p.y, p.z, 1, 0.0, 0.0, 0.0, 0.0);
+            ServerParticleUtil.collectForce(level, dustSmall, p.x, p.y, p.z, 1, 0.0, 0.0, 0.0, 0.0);
             emitted++;
         }
         return emitted;
@@ -68,14 +68,14 @@ public final class PillarFourierBeamEmitter extends TimedRespawnEmitter {
             double angle = TAU * i / 28.0 + tick * 0.2;
             double px = Math.cos(angle) * frontRadius;
             double pz = Math.sin(angle) * frontRadius;
-            ServerParticleUtil.sendForce(level, brightDust,
+            ServerParticleUtil.collectForce(level, brightDust,
                     pillarBase.x + px, pillarBase.y + frontY, pillarBase.z + pz,
                     3, 0.15, 0.4, 0.15, 0.01);
             emitted += 3;
         }
 
         // Central bright core at front
-        ServerParticleUtil.sendForce(level, ParticleTypes.FLASH,
+        ServerParticleUtil.collectForce(level, ParticleTypes.FLASH,
                 pillarBase.x, pillarBase.y + frontY, pillarBase.z,
                 0, 0, 0, 0, 1.0);
         emitted++;
@@ -113,7 +113,7 @@ public final class PillarFourierBeamEmitter extends TimedRespawnEmitter {
                 double px = r * Math.cos(theta + localRot);
                 double pz = r * Math.sin(theta + localRot);
 
-                ServerParticleUtil.sendForce(level, dust,
+                ServerParticleUtil.collectForce(level, dust,
                         pillarBase.x + px, pillarBase.y + y, pillarBase.z + pz,
                         3, 0.08, 0.08, 0.08, 0.01);
                 emitted += 3;
@@ -123,7 +123,7 @@ public final class PillarFourierBeamEmitter extends TimedRespawnEmitter {
             if (s % 1 == 0) {
                 DustParticleOptions coreDust = new DustParticleOptions(BRIGHT_COLOR,
                         Mth.clamp(4.0f * alpha, 1.5f, 4.0f));
-                ServerParticleUtil.sendForce(level, coreDust,
+                ServerParticleUtil.collectForce(level, coreDust,
                         pillarBase.x, pillarBase.y + y, pillarBase.z,
                         3, 0.15, 0.15, 0.15, 0.0);
                 emitted += 3;
@@ -142,14 +142,14 @@ public final class PillarFourierBeamEmitter extends TimedRespawnEmitter {
             double angle = TAU * i / 32.0;
             double px = Math.cos(angle) * ringRadius;
             double pz = Math.sin(angle) * ringRadius;
-            ServerParticleUtil.sendForce(level, flashDust,
+            ServerParticleUtil.collectForce(level, flashDust,
                     pillarBase.x + px, pillarBase.y + 0.5, pillarBase.z + pz,
                     3, 0.15, 0.08, 0.15, 0.01);
             emitted += 3;
         }
 
         // Upward particle burst
-        ServerParticleUtil.sendForce(level, ParticleTypes.FLASH,
+        ServerParticleUtil.collectForce(level, ParticleTypes.FLASH,
                 pillarBase.x, pillarBase.y + 1.0, pillarBase.z,
                 0, 0, 0.5, 0, 1.0);
         emitted++;
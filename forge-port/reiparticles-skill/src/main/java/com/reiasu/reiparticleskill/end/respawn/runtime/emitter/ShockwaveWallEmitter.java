@@ -64,7 +64,7 @@ public final class ShockwaveWallEmitter extends TimedRespawnEmitter {
                 double px = Math.cos(angle) * radius;
                 double pz = Math.sin(angle) * radius;
 
-                ServerParticleUtil.sendForce(level, dust,
+                ServerParticleUtil.collectForce(level, dust,
                         center.x + px, center.y + y, center.z + pz,
                         3, wallThickness * 0.3, 0.25, wallThickness * 0.3, 0.01);
                 emitted += 3;
@@ -77,7 +77,7 @@ public final class ShockwaveWallEmitter extends TimedRespawnEmitter {
             double angle = TAU * i / (double) RING_POINTS;
             double px = Math.cos(angle) * radius;
             double pz = Math.sin(angle) * radius;
-            ServerParticleUtil.sendForce(level, edgeDust,
+            ServerParticleUtil.collectForce(level, edgeDust,
                     center.x + px, center.y + 0.5, center.z + pz,
                     3, 0.2, 0.12, 0.2, 0.01);
             emitted += 3;
@@ -90,7 +90,7 @@ public final class ShockwaveWallEmitter extends TimedRespawnEmitter {
             for (int i = 0; i < trailPoints; i++) {
                 double angle = TAU * i / (double) trailPoints + tick * 0.1;
                 double trailY = Math.random() * WALL_HEIGHT * 0.6;
-                ServerParticleUtil.sendForce(level, ParticleTypes.ENCHANT,
+                ServerParticleUtil.collectForce(level, ParticleTypes.ENCHANT,
                         center.x + Math.cos(angle) * trailRadius,
                         center.y + trailY,
                         center.z + Math.sin(angle) * trailRadius,
@@ -4,6 +4,7 @@ package com.reiasu.reiparticleskill.end.respawn.runtime.emitter.client;
 
 import com.reiasu.reiparticlesapi.annotations.ReiAutoRegister;
 import com.reiasu.reiparticlesapi.network.particle.emitters.AutoParticleEmitters;
+import com.reiasu.reiparticlesapi.network.particle.emitters.ParticleSpawnBuffer;
 import com.reiasu.reiparticleskill.util.ClientParticleHelper;
 import net.minecraft.core.particles.DustParticleOptions;
 import net.minecraft.core.particles.ParticleTypes;
@@ -34,6 +35,7 @@ public final class ClientCenterEmitter extends AutoParticleEmitters {
     private static final int LAYER3_RING_POINTS = 40;
 
     private final RandomSource random = RandomSource.create();
+    private final ParticleSpawnBuffer spawns = new ParticleSpawnBuffer();
 
     private double yOffset;
 
@@ -51,13 +53,18 @@ public final class ClientCenterEmitter extends AutoParticleEmitters {
     }
 
     @Override
-    protected void emitTick() {
+    protected void prepareTick() {
         Level level = level();
         if (level == null || !level.isClientSide()) return;
-        renderCenter(level, position(), getTick());
+        renderCenter(position(), getTick());
+    }
+
+    @Override
+    protected void emitTick() {
+        ClientParticleHelper.addAll(level(), spawns);
     }
 
-    private void renderCenter(Level level, Vec3 center, int tick) {
+    private void renderCenter(Vec3 center, int tick) {
         double scale = easeScale(tick);
         double breath = 1.0 + 0.15 * Math.sin(tick * 0.08);
         double rotA = tick * 0.008;
@@ -75,12 +82,12 @@ public final class ClientCenterEmitter extends AutoParticleEmitters {
             double rx = r * Math.cos(theta);
             double rz = r * Math.sin(theta);
             Vec3 rel = rotateY(new Vec3(rx, 0.0, rz), rotA).add(0.0, yOffset, 0.0);
-            addDust(level, center, rel, dustMed);
+            addDust(center, rel, dustMed);
         }
 
         // Layer 1: Dual pentagram
-        emitStar(level, center, yOffset, 5, 48.0 * scale * breath, 0.0, LAYER1_STAR_POINTS, rotA, dustMed);
-        emitStar(level, center, yOffset, 5, 36.0 * scale * breath, Math.PI / 5.0, LAYER1_STAR_POINTS, rotA, dustMed);
+        emitStar(center, yOffset, 5, 48.0 * scale * breath, 0.0, LAYER1_STAR_POINTS, rotA, dustMed);
+        emitStar(center, yOffset, 5, 36.0 * scale * breath, Math.PI / 5.0, LAYER1_STAR_POINTS, rotA, dustMed);
 
         // Layer 1: Breathing inner ring
         double ringR = 28.0 * scale * breath;
@@ -88,9 +95,9 @@ public final class ClientCenterEmitter extends AutoParticleEmitters {
             double a = rotA + TAU * i / (double) LAYER1_RING_POINTS;
             double wobble = 1.0 + 0.12 * Math.sin(a * 6.0 + tick * 0.1);
             Vec3 rel = new Vec3(Math.cos(a) * ringR * wobble, yOffset, Math.sin(a) * ringR * wobble);
-            addDust(level, center, rel, dustMed);
+            addDust(center, rel, dustMed);
             if (i % 3 == 0) {
-                addEnchant(level, center, rel);
+                addEnchant(center, rel);
             }
         }
 
@@ -105,7 +112,7 @@ public final class ClientCenterEmitter extends AutoParticleEmitters {
                 Vec3 rel = new Vec3(lx, 0.0, lz);
                 rel = rotateX(rel, pitch);
                 rel = rotateY(rel, rotB).add(0.0, yOffset, 0.0);
-                addDust(level, center, rel, dustSm);
+                addDust(center, rel, dustSm);
             }
         }
 
@@ -115,14 +122,14 @@ public final class ClientCenterEmitter extends AutoParticleEmitters {
             double a = rotC + TAU * i / (double) LAYER3_RING_POINTS;
             double wobble = 1.0 + 0.08 * Math.sin(a * 5.0 - tick * 0.06);
             Vec3 rel = new Vec3(Math.cos(a) * outerR * wobble, yOffset, Math.sin(a) * outerR * wobble);
-            addDust(level, center, rel, dustLg);
+            addDust(center, rel, dustLg);
             if (i % 2 == 0) {
-                addEnchant(level, center, rel);
+                addEnchant(center, rel);
             }
         }
     }
 
-    private void emitStar(Level level, Vec3 center, double yOff,
+    private void emitStar(Vec3 center, double yOff,
                           int points, double radius, double angleOffset,
                           int samples, double rotY, DustParticleOptions dust) {
         int skip = 2;
@@ -137,18 +144,18 @@ public final class ClientCenterEmitter extends AutoParticleEmitters {
             double x = Math.cos(a0) * radius + (Math.cos(a1) - Math.cos(a0)) * radius * frac;
             double z = Math.sin(a0) * radius + (Math.sin(a1) - Math.sin(a0)) * radius * frac;
             Vec3 rel = rotateY(new Vec3(x, 0.0, z), rotY).add(0.0, yOff, 0.0);
-            addDust(level, center, rel, dust);
+            addDust(center, rel, dust);
         }
     }
 
-    private void addDust(Level level, Vec3 center, Vec3 rel, DustParticleOptions dust) {
-        ClientParticleHelper.addForce(level, dust,
+    private void addDust(Vec3 center, Vec3 rel, DustParticleOptions dust) {
+        spawns.add(dust,
                 center.x + rel.x, center.y + rel.y, center.z + rel.z,
                 3, 0.2, 0.1, 0.2, 0.015);
     }
 
-    private void addEnchant(Level level, Vec3 center, Vec3 rel) {
-        ClientParticleHelper.addForce(level, ParticleTypes.ENCHANT,
+    private void addEnchant(Vec3 center, Vec3 rel) {
+        spawns.add(ParticleTypes.ENCHANT,
                 center.x + rel.x, center.y + rel.y, center.z + rel.z,
                 0, random.nextGaussian() * 0.02, random.nextGaussian() * 0.02,
                 random.nextGaussian() * 0.02, 1.0);
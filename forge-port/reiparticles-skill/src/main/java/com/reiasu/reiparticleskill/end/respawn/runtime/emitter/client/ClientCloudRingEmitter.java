@@ -4,6 +4,8 @@ package com.reiasu.reiparticleskill.end.respawn.runtime.emitter.client;
 
 import com.reiasu.reiparticlesapi.annotations.ReiAutoRegister;
 import com.reiasu.reiparticlesapi.network.particle.emitters.AutoParticleEmitters;
+import com.reiasu.reiparticlesapi.network.particle.emitters.ParticleSpawnBuffer;
+import com.reiasu.reiparticlesapi.scheduler.TickPriority;
 import com.reiasu.reiparticleskill.util.ClientParticleHelper;
 import net.minecraft.core.particles.DustParticleOptions;
 import net.minecraft.network.FriendlyByteBuf;
@@ -25,6 +27,7 @@ public final class ClientCloudRingEmitter extends AutoParticleEmitters {
     private static final int SCALE_TICKS = 24;
 
     private final RandomSource random = RandomSource.create();
+    private final ParticleSpawnBuffer spawns = new ParticleSpawnBuffer();
 
     private double radius = 1.0;
     private double discrete = 0.0;
@@ -37,6 +40,7 @@ public final class ClientCloudRingEmitter extends AutoParticleEmitters {
 
     public ClientCloudRingEmitter() {
         super();
+        setTickPriority(TickPriority.LOW);
     }
 
     public ClientCloudRingEmitter(Vec3 center, Level level, int maxTick,
@@ -44,6 +48,7 @@ public final class ClientCloudRingEmitter extends AutoParticleEmitters {
                                   double discrete, double rotateSpeed,
                                   double minSize, double maxSize, double yOffset) {
         super();
+        setTickPriority(TickPriority.LOW);
         if (center != null && level != null) {
             bind(level, center.x, center.y, center.z);
         }
@@ -59,13 +64,18 @@ public final class ClientCloudRingEmitter extends AutoParticleEmitters {
     }
 
     @Override
-    protected void emitTick() {
+    protected void prepareTick() {
         Level level = level();
         if (level == null || !level.isClientSide()) return;
-        renderCloud(level, position(), getTick());
+        renderCloud(position(), getTick());
+    }
+
+    @Override
+    protected void emitTick() {
+        ClientParticleHelper.addAll(level(), spawns);
     }
 
-    private void renderCloud(Level level, Vec3 center, int tick) {
+    private void renderCloud(Vec3 center, int tick) {
         int cMin = Math.max(1, countMin);
         int cMax = Math.max(cMin + 1, countMax);
         int count = random.nextInt(cMin, cMax);
@@ -104,11 +114,11 @@ public final class ClientCloudRingEmitter extends AutoParticleEmitters {
             double tgx = -Math.sin(angle) * 0.03;
             double tgz =  Math.cos(angle) * 0.03;
 
-            ClientParticleHelper.addForce(level, dust, wx, wy, wz,
+            spawns.add(dust, wx, wy, wz,
                     3, 0.18 + Math.abs(tgx), 0.12, 0.18 + Math.abs(tgz), 0.02);
 
             if ((i & 1) == 0) {
-                ClientParticleHelper.addForce(level, dustLg, wx, wy, wz,
+                spawns.add(dustLg, wx, wy, wz,
                         2, 0.12, 0.08, 0.12, 0.015);
             }
         }
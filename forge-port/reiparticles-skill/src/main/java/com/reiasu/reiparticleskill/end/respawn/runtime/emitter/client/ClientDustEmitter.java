@@ -4,6 +4,8 @@ package com.reiasu.reiparticleskill.end.respawn.runtime.emitter.client;
 
 import com.reiasu.reiparticlesapi.annotations.ReiAutoRegister;
 import com.reiasu.reiparticlesapi.network.particle.emitters.AutoParticleEmitters;
+import com.reiasu.reiparticlesapi.network.particle.emitters.ParticleSpawnBuffer;
+import com.reiasu.reiparticlesapi.scheduler.TickPriority;
 import com.reiasu.reiparticleskill.util.ClientParticleHelper;
 import net.minecraft.core.particles.DustParticleOptions;
 import net.minecraft.network.FriendlyByteBuf;
@@ -27,6 +29,7 @@ public final class ClientDustEmitter extends AutoParticleEmitters {
     private static final int SCALE_TICKS = 24;
 
     private final RandomSource random = RandomSource.create();
+    private final ParticleSpawnBuffer spawns = new ParticleSpawnBuffer();
 
     // Params (synced via writePayload/readPayload)
     private int count = 160;
@@ -38,12 +41,14 @@ public final class ClientDustEmitter extends AutoParticleEmitters {
 
     public ClientDustEmitter() {
         super();
+        setTickPriority(TickPriority.LOW);
     }
 
     public ClientDustEmitter(Vec3 center, Level level, int maxTick,
                              int count, double maxRadius, double rotateSpeed,
                              double sizeMin, double sizeMax, double yOffset) {
         super();
+        setTickPriority(TickPriority.LOW);
         if (center != null && level != null) {
             bind(level, center.x, center.y, center.z);
         }
@@ -57,13 +62,18 @@ public final class ClientDustEmitter extends AutoParticleEmitters {
     }
 
     @Override
-    protected void emitTick() {
+    protected void prepareTick() {
         Level level = level();
         if (level == null || !level.isClientSide()) return;
-        renderDust(level, position(), getTick());
+        renderDust(position(), getTick());
+    }
+
+    @Override
+    protected void emitTick() {
+        ClientParticleHelper.addAll(level(), spawns);
     }
 
-    private void renderDust(Level level, Vec3 center, int tick) {
+    private void renderDust(Vec3 center, int tick) {
         double scale = easeScale(tick);
         double rotation = tick * rotateSpeed;
         double majorR = maxRadius * 0.6 * scale;
@@ -90,8 +100,7 @@ public final class ClientDustEmitter extends AutoParticleEmitters {
             double tangentZ =  Math.cos(toroidalAngle + rotation) * 0.02;
 
             float size = Mth.clamp((float) randomBetween(sizeMin, sizeMax) * 2.0f, 0.2f, 4.0f);
-            ClientParticleHelper.addForce(level,
-                    new DustParticleOptions(MAIN_COLOR, size),
+            spawns.add(new DustParticleOptions(MAIN_COLOR, size),
                     center.x + px, center.y + yOffset + ringY, center.z + pz,
                     3, 0.15 + Math.abs(tangentX), 0.12, 0.15 + Math.abs(tangentZ), 0.02);
         }
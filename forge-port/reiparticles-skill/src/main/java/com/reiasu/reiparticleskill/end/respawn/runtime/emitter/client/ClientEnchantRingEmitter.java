@@ -4,6 +4,8 @@ package com.reiasu.reiparticleskill.end.respawn.runtime.emitter.client;
 
 import com.reiasu.reiparticlesapi.annotations.ReiAutoRegister;
 import com.reiasu.reiparticlesapi.network.particle.emitters.AutoParticleEmitters;
+import com.reiasu.reiparticlesapi.network.particle.emitters.ParticleSpawnBuffer;
+import com.reiasu.reiparticlesapi.scheduler.TickPriority;
 import com.reiasu.reiparticleskill.util.ClientParticleHelper;
 import net.minecraft.core.particles.DustParticleOptions;
 import net.minecraft.core.particles.ParticleTypes;
@@ -26,6 +28,7 @@ public final class ClientEnchantRingEmitter extends AutoParticleEmitters {
     private static final int SCALE_TICKS = 24;
 
     private final RandomSource random = RandomSource.create();
+    private final ParticleSpawnBuffer spawns = new ParticleSpawnBuffer();
 
     private double radius = 1.0;
     private double discrete = 0.0;
@@ -38,6 +41,7 @@ public final class ClientEnchantRingEmitter extends AutoParticleEmitters {
 
     public ClientEnchantRingEmitter() {
         super();
+        setTickPriority(TickPriority.LOW);
     }
 
     public ClientEnchantRingEmitter(Vec3 center, Level level, int maxTick,
@@ -45,6 +49,7 @@ public final class ClientEnchantRingEmitter extends AutoParticleEmitters {
                                     double discrete, double rotateSpeed,
                                     double minSize, double maxSize, double yOffset) {
         super();
+        setTickPriority(TickPriority.LOW);
         if (center != null && level != null) {
             bind(level, center.x, center.y, center.z);
         }
@@ -60,13 +65,18 @@ public final class ClientEnchantRingEmitter extends AutoParticleEmitters {
     }
 
     @Override
-    protected void emitTick() {
+    protected void prepareTick() {
         Level level = level();
         if (level == null || !level.isClientSide()) return;
-        renderEnchant(level, position(), getTick());
+        renderEnchant(position(), getTick());
+    }
+
+    @Override
+    protected void emitTick() {
+        ClientParticleHelper.addAll(level(), spawns);
     }
 
-    private void renderEnchant(Level level, Vec3 center, int tick) {
+    private void renderEnchant(Vec3 center, int tick) {
         int cMin = Math.max(1, countMin);
         int cMax = Math.max(cMin + 1, countMax);
         int count = random.nextInt(cMin, cMax);
@@ -105,11 +115,11 @@ public final class ClientEnchantRingEmitter extends AutoParticleEmitters {
             double tgx = -Math.sin(angle) * 0.025;
             double tgz =  Math.cos(angle) * 0.025;
 
-            ClientParticleHelper.addForce(level, dust, wx, wy, wz,
+            spawns.add(dust, wx, wy, wz,
                     3, 0.18 + Math.abs(tgx), 0.1, 0.18 + Math.abs(tgz), 0.02);
 
             if (i % 3 == 0) {
-                ClientParticleHelper.addForce(level, ParticleTypes.ENCHANT, wx, wy, wz,
+                spawns.add(ParticleTypes.ENCHANT, wx, wy, wz,
                         0, random.nextGaussian() * 0.03, random.nextGaussian() * 0.03,
                         random.nextGaussian() * 0.03, 1.0);
             }
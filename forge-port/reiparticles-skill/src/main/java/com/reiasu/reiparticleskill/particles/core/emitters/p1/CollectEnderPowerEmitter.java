@@ -4,6 +4,7 @@ package com.reiasu.reiparticleskill.particles.core.emitters.p1;
 
 import com.reiasu.reiparticlesapi.annotations.ReiAutoRegister;
 import com.reiasu.reiparticlesapi.network.particle.emitters.AutoParticleEmitters;
+import com.reiasu.reiparticlesapi.network.particle.emitters.ParticleSpawnBuffer;
 import com.reiasu.reiparticlesapi.utils.RelativeLocation;
 import com.reiasu.reiparticlesapi.utils.builder.PointsBuilder;
 import com.reiasu.reiparticlesapi.utils.GraphMathHelper;
@@ -38,6 +39,7 @@ public final class CollectEnderPowerEmitter extends AutoParticleEmitters {
             new DustParticleOptions(new Vector3f(0.6f, 0.3f, 0.9f), 0.65f);
 
     private final RandomSource random = RandomSource.create();
+    private final ParticleSpawnBuffer spawns = new ParticleSpawnBuffer();
     private final List<PowerParticle> particles = new ArrayList<>();
 
     private Vec3 targetPos = Vec3.ZERO;
@@ -104,9 +106,8 @@ public final class CollectEnderPowerEmitter extends AutoParticleEmitters {
     }
 
     @Override
-    protected void emitTick() {
-        Level level = level();
-        if (!(level instanceof ServerLevel serverLevel)) return;
+    protected void prepareTick() {
+        if (!(level() instanceof ServerLevel)) return;
 
         Vec3 center = position();
         int tick = getTick();
@@ -182,15 +183,14 @@ public final class CollectEnderPowerEmitter extends AutoParticleEmitters {
 
             float renderSize = Mth.clamp(p.baseSize * alpha, 0.05f, 2.0f);
             DustParticleOptions dust = p.sign == 0 ? ENDER_COLOR : FLASH_COLOR;
-            serverLevel.sendParticles(
-                    new DustParticleOptions(dust.getColor(), renderSize),
+            spawns.add(new DustParticleOptions(dust.getColor(), renderSize),
                     p.pos.x, p.pos.y, p.pos.z,
                     1, 0.0, 0.0, 0.0, 0.0);
         }
 
         // Ambient at target
         if (tick % 4 == 0) {
-            serverLevel.sendParticles(ParticleTypes.PORTAL,
+            spawns.add(ParticleTypes.PORTAL,
                     targetPos.x, targetPos.y + 0.1, targetPos.z,
                     5, 0.3, 0.3, 0.3, 0.0);
         }
@@ -201,6 +201,13 @@ public final class CollectEnderPowerEmitter extends AutoParticleEmitters {
         }
     }
 
+    @Override
+    protected void emitTick() {
+        if (level() instanceof ServerLevel serverLevel) {
+            spawns.collectTo(serverLevel);
+        }
+    }
+
     private Vec3 randomSphereOffset(double radius) {
         while (true) {
             double x = random.nextDouble() * 2 - 1;
@@ -4,6 +4,7 @@ package com.reiasu.reiparticleskill.particles.core.emitters.p1;
 
 import com.reiasu.reiparticlesapi.annotations.ReiAutoRegister;
 import com.reiasu.reiparticlesapi.network.particle.emitters.AutoParticleEmitters;
+import com.reiasu.reiparticlesapi.network.particle.emitters.ParticleSpawnBuffer;
 import com.reiasu.reiparticlesapi.annotations.ReiAutoRegister;
 import com.reiasu.reiparticlesapi.utils.RelativeLocation;
 import com.reiasu.reiparticlesapi.annotations.ReiAutoRegister;
@@ -39,6 +40,7 @@ import java.util.UUID;
             new DustParticleOptions(new Vector3f(0.45f, 0.15f, 0.75f), 0.5f);
 
     private final RandomSource random = RandomSource.create();
+    private final ParticleSpawnBuffer spawns = new ParticleSpawnBuffer();
     private final List<PillarParticle> particles = new ArrayList<>();
 
     private double radiusMin = 5.0;
@@ -129,9 +131,8 @@ import java.util.UUID;
     }
 
     @Override
-    protected void emitTick() {
-        Level level = level();
-        if (!(level instanceof ServerLevel serverLevel)) return;
+    protected void prepareTick() {
+        if (!(level() instanceof ServerLevel)) return;
 
         Vec3 center = position();
         int tick = getTick();
@@ -220,7 +221,7 @@ import java.util.UUID;
             }
 
             float renderSize = Mth.clamp(p.baseSize * alpha, 0.05f, 2.0f);
-            serverLevel.sendParticles(
+            spawns.add(
                     new DustParticleOptions(PILLAR_COLOR.getColor(), renderSize),
                     p.pos.x, p.pos.y, p.pos.z,
                     1, 0.0, 0.0, 0.0, 0.0);
@@ -228,7 +229,7 @@ import java.util.UUID;
 
         // Ambient
         if (tick % 5 == 0) {
-            serverLevel.sendParticles(ParticleTypes.PORTAL,
+            spawns.add(ParticleTypes.PORTAL,
                     center.x, center.y + 0.15, center.z,
                     4, 0.2, 0.1, 0.2, 0.0);
         }
@@ -238,6 +239,13 @@ import java.util.UUID;
         }
     }
 
+    @Override
+    protected void emitTick() {
+        if (level() instanceof ServerLevel serverLevel) {
+            spawns.sendTo(serverLevel);
+        }
+    }
+
     private static final class PillarParticle {
         private Vec3 pos;
         private Vec3 velocity;
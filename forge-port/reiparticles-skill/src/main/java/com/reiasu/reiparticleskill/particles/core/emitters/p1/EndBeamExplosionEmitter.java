@@ -4,6 +4,7 @@ package com.reiasu.reiparticleskill.particles.core.emitters.p1;
 
 import com.reiasu.reiparticlesapi.annotations.ReiAutoRegister;
 import com.reiasu.reiparticlesapi.network.particle.emitters.AutoParticleEmitters;
+import com.reiasu.reiparticlesapi.network.particle.emitters.ParticleSpawnBuffer;
 import com.reiasu.reiparticlesapi.annotations.ReiAutoRegister;
 import com.reiasu.reiparticlesapi.utils.RelativeLocation;
 import com.reiasu.reiparticlesapi.annotations.ReiAutoRegister;
@@ -36,6 +37,7 @@ import java.util.UUID;
             new DustParticleOptions(new Vector3f(0.45f, 0.15f, 0.75f), 0.55f);
 
     private final RandomSource random = RandomSource.create();
+    private final ParticleSpawnBuffer spawns = new ParticleSpawnBuffer();
     private final List<ExplParticle> particles = new ArrayList<>();
 
     private double maxSpeed = 18.0;
@@ -121,9 +123,8 @@ import java.util.UUID;
     }
 
     @Override
-    protected void emitTick() {
-        Level level = level();
-        if (!(level instanceof ServerLevel serverLevel)) return;
+    protected void prepareTick() {
+        if (!(level() instanceof ServerLevel)) return;
 
         Vec3 center = position();
 
@@ -162,14 +163,13 @@ import java.util.UUID;
             if (alpha < 0.02f) continue;
 
             float renderSize = Mth.clamp(p.baseSize * alpha, 0.05f, 4.0f);
-            serverLevel.sendParticles(
-                    new DustParticleOptions(EXPLOSION_COLOR.getColor(), renderSize),
+            spawns.add(new DustParticleOptions(EXPLOSION_COLOR.getColor(), renderSize),
                     p.pos.x, p.pos.y, p.pos.z,
                     1, 0.0, 0.0, 0.0, 0.0);
         }
 
         // Central flash
-        serverLevel.sendParticles(ParticleTypes.FLASH,
+        spawns.add(ParticleTypes.FLASH,
                 center.x, center.y, center.z,
                 0, 0.0, 0.0, 0.0, 1.0);
 
@@ -178,6 +178,13 @@ import java.util.UUID;
         }
     }
 
+    @Override
+    protected void emitTick() {
+        if (level() instanceof ServerLevel serverLevel) {
+            spawns.collectTo(serverLevel);
+        }
+    }
+
     private static final class ExplParticle {
         private Vec3 pos;
         private Vec3 velocity;
@@ -4,6 +4,7 @@ package com.reiasu.reiparticleskill.particles.core.emitters.p1;
 
 import com.reiasu.reiparticlesapi.annotations.ReiAutoRegister;
 import com.reiasu.reiparticlesapi.network.particle.emitters.AutoParticleEmitters;
+import com.reiasu.reiparticlesapi.network.particle.emitters.ParticleSpawnBuffer;
 import com.reiasu.reiparticlesapi.annotations.ReiAutoRegister;
 import com.reiasu.reiparticlesapi.utils.RelativeLocation;
 import com.reiasu.reiparticlesapi.utils.GraphMathHelper;
@@ -35,6 +36,7 @@ import java.util.UUID;
             new DustParticleOptions(new Vector3f(0.45f, 0.15f, 0.75f), 0.5f);
 
     private final RandomSource random = RandomSource.create();
+    private final ParticleSpawnBuffer spawns = new ParticleSpawnBuffer();
 
     private Vec3 target = Vec3.ZERO;
     private Vec3 summonPos = Vec3.ZERO;
@@ -140,9 +142,8 @@ import java.util.UUID;
     }
 
     @Override
-    protected void emitTick() {
-        Level level = level();
-        if (!(level instanceof ServerLevel serverLevel)) return;
+    protected void prepareTick() {
+        if (!(level() instanceof ServerLevel)) return;
 
         Vec3 currentPos = position();
 
@@ -209,7 +210,7 @@ import java.util.UUID;
         // Render
         for (Vec3 rPos : ringPositions) {
             float size = 0.2f + random.nextFloat() * 0.3f;
-            serverLevel.sendParticles(
+            spawns.add(
                     new DustParticleOptions(CRYSTAL_COLOR.getColor(), size),
                     rPos.x, rPos.y, rPos.z,
                     1, 0.0, 0.0, 0.0, 0.0);
@@ -217,10 +218,17 @@ import java.util.UUID;
 
         // Ambient at current pos
         if (getTick() % 3 == 0) {
-            serverLevel.sendParticles(ParticleTypes.PORTAL,
+            spawns.add(ParticleTypes.PORTAL,
                     currentPos.x, currentPos.y + 0.1, currentPos.z,
                     3, 0.15, 0.1, 0.15, 0.0);
         }
     }
+
+    @Override
+    protected void emitTick() {
+        if (level() instanceof ServerLevel serverLevel) {
+            spawns.sendTo(serverLevel);
+        }
+    }
 }
 
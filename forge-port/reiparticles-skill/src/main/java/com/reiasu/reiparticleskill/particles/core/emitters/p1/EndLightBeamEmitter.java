@@ -4,6 +4,7 @@ package com.reiasu.reiparticleskill.particles.core.emitters.p1;
 
 import com.reiasu.reiparticlesapi.annotations.ReiAutoRegister;
 import com.reiasu.reiparticlesapi.network.particle.emitters.AutoParticleEmitters;
+import com.reiasu.reiparticlesapi.network.particle.emitters.ParticleSpawnBuffer;
 import net.minecraft.core.particles.DustParticleOptions;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.network.FriendlyByteBuf;
@@ -30,6 +31,7 @@ import java.util.UUID;
             new DustParticleOptions(new Vector3f(210f / 255f, 80f / 255f, 1.0f), 0.6f);
 
     private final RandomSource random = RandomSource.create();
+    private final ParticleSpawnBuffer spawns = new ParticleSpawnBuffer();
 
     private Vec3 targetPos = Vec3.ZERO;
     private double movementSpeed = 5.0;
@@ -96,9 +98,8 @@ import java.util.UUID;
     }
 
     @Override
-    protected void emitTick() {
-        Level level = level();
-        if (!(level instanceof ServerLevel serverLevel)) {
+    protected void prepareTick() {
+        if (!(level() instanceof ServerLevel)) {
             return;
         }
 
@@ -138,7 +139,7 @@ import java.util.UUID;
             int age = random.nextInt(particleMinAge, particleMaxAge + 1);
             float size = Mth.clamp(0.3f + random.nextFloat() * 0.4f, 0.1f, 1.0f);
 
-            serverLevel.sendParticles(
+            spawns.add(
                     new DustParticleOptions(BEAM_COLOR.getColor(), size),
                     particlePos.x, particlePos.y, particlePos.z,
                     1, randomOffset.x + dirVel.x, randomOffset.y + dirVel.y,
@@ -147,12 +148,19 @@ import java.util.UUID;
 
         // Ambient glow at head
         if (getTick() % 2 == 0) {
-            serverLevel.sendParticles(ParticleTypes.END_ROD,
+            spawns.add(ParticleTypes.END_ROD,
                     currentPos.x, currentPos.y + 0.1, currentPos.z,
                     2, 0.05, 0.05, 0.05, 0.0);
         }
     }
 
+    @Override
+    protected void emitTick() {
+        if (level() instanceof ServerLevel serverLevel) {
+            spawns.sendTo(serverLevel);
+        }
+    }
+
     private Vec3 randomSmallVec(double scale) {
         return new Vec3(
                 (random.nextDouble() * 2 - 1) * scale,
@@ -4,6 +4,7 @@ package com.reiasu.reiparticleskill.particles.core.emitters.p2;
 
 import com.reiasu.reiparticlesapi.annotations.ReiAutoRegister;
 import com.reiasu.reiparticlesapi.network.particle.emitters.AutoParticleEmitters;
+import com.reiasu.reiparticlesapi.network.particle.emitters.ParticleSpawnBuffer;
 import net.minecraft.core.particles.DustParticleOptions;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.network.FriendlyByteBuf;
@@ -32,6 +33,7 @@ import java.util.UUID;
             new DustParticleOptions(new Vector3f(0.85f, 0.92f, 1.0f), 0.55f);
 
     private final RandomSource random = RandomSource.create();
+    private final ParticleSpawnBuffer spawns = new ParticleSpawnBuffer();
     private final List<BoltState> bolts = new ArrayList<>();
 
     private double lightTargetOffsetMin = 12.0;
@@ -102,9 +104,8 @@ import java.util.UUID;
     }
 
     @Override
-    protected void emitTick() {
-        Level level = level();
-        if (!(level instanceof ServerLevel serverLevel)) {
+    protected void prepareTick() {
+        if (!(level() instanceof ServerLevel)) {
             return;
         }
 
@@ -133,7 +134,7 @@ import java.util.UUID;
             DustParticleOptions dust = new DustParticleOptions(BOLT_COLOR.getColor(), size);
 
             for (Vec3 point : bolt.points) {
-                serverLevel.sendParticles(dust,
+                spawns.add(dust,
                         point.x, point.y, point.z,
                         1, 0.0, 0.0, 0.0, 0.0);
             }
@@ -141,7 +142,7 @@ import java.util.UUID;
 
         // Ambient glow at center
         if (getTick() % 3 == 0) {
-            serverLevel.sendParticles(ParticleTypes.END_ROD,
+            spawns.add(ParticleTypes.END_ROD,
                     center.x, center.y + 0.1, center.z,
                     2, 0.05, 0.05, 0.05, 0.0);
         }
@@ -152,6 +153,13 @@ import java.util.UUID;
         }
     }
 
+    @Override
+    protected void emitTick() {
+        if (level() instanceof ServerLevel serverLevel) {
+            spawns.sendTo(serverLevel);
+        }
+    }
+
     private void generateBolt(Vec3 center, Vec3 target, int steps, double offset) {
         List<Vec3> points = new ArrayList<>(steps);
         for (int i = 0; i < steps; i++) {
@@ -4,6 +4,8 @@ package com.reiasu.reiparticleskill.particles.core.emitters.p2;
 
 import com.reiasu.reiparticlesapi.annotations.ReiAutoRegister;
 import com.reiasu.reiparticlesapi.network.particle.emitters.AutoParticleEmitters;
+import com.reiasu.reiparticlesapi.network.particle.emitters.ParticleSpawnBuffer;
+import com.reiasu.reiparticlesapi.scheduler.TickPriority;
 import net.minecraft.core.particles.DustParticleOptions;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.network.FriendlyByteBuf;
@@ -29,6 +31,7 @@ import java.util.UUID;
     public static final ResourceLocation CODEC_ID = new ResourceLocation("reiparticleskill", "sword_aura");
 
     private final RandomSource random = RandomSource.create();
+    private final ParticleSpawnBuffer spawns = new ParticleSpawnBuffer();
     private final List<AuraParticle> particles = new ArrayList<>();
     private static final int MAX_ACTIVE = 4096;
 
@@ -62,6 +65,7 @@ import java.util.UUID;
         Vec3 spawn = pos == null ? Vec3.ZERO : pos;
         bind(world, spawn.x, spawn.y, spawn.z);
         setMaxTick(60);
+        setTickPriority(TickPriority.LOW);
     }
 
     public SwordAuraEmitters setMovement(Vec3 movement) {
@@ -124,9 +128,8 @@ import java.util.UUID;
     }
 
     @Override
-    protected void emitTick() {
-        Level level = level();
-        if (!(level instanceof ServerLevel serverLevel)) {
+    protected void prepareTick() {
+        if (!(level() instanceof ServerLevel)) {
             return;
         }
 
@@ -169,7 +172,7 @@ import java.util.UUID;
             p.pos = p.pos.add(p.velocity);
             p.velocity = p.velocity.scale(0.92);
 
-            serverLevel.sendParticles(
+            spawns.add(
                     new DustParticleOptions(color, size),
                     p.pos.x, p.pos.y, p.pos.z,
                     1, 0.0, 0.0, 0.0, 0.0);
@@ -181,6 +184,13 @@ import java.util.UUID;
         }
     }
 
+    @Override
+    protected void emitTick() {
+        if (level() instanceof ServerLevel serverLevel) {
+            spawns.sendTo(serverLevel);
+        }
+    }
+
     private void spawnArc(Vec3 center, double radius, double radMin, double radMax,
                           int count, double offsetMin, double offsetMax, int sign) {
         Vec3 dir = movement.normalize();
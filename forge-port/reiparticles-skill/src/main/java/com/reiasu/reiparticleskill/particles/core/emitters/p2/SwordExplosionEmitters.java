@@ -4,6 +4,7 @@ package com.reiasu.reiparticleskill.particles.core.emitters.p2;
 
 import com.reiasu.reiparticlesapi.annotations.ReiAutoRegister;
 import com.reiasu.reiparticlesapi.network.particle.emitters.AutoParticleEmitters;
+import com.reiasu.reiparticlesapi.network.particle.emitters.ParticleSpawnBuffer;
 import net.minecraft.core.particles.DustParticleOptions;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.network.FriendlyByteBuf;
@@ -30,6 +31,7 @@ import java.util.UUID;
     public static final ResourceLocation CODEC_ID = new ResourceLocation("reiparticleskill", "sword_explosion");
 
     private final RandomSource random = RandomSource.create();
+    private final ParticleSpawnBuffer spawns = new ParticleSpawnBuffer();
     private final List<ExplosionParticle> particles = new ArrayList<>();
     private static final int MAX_ACTIVE = 6000;
 
@@ -120,9 +122,8 @@ import java.util.UUID;
     }
 
     @Override
-    protected void emitTick() {
-        Level level = level();
-        if (!(level instanceof ServerLevel serverLevel)) {
+    protected void prepareTick() {
+        if (!(level() instanceof ServerLevel)) {
             return;
         }
 
@@ -205,14 +206,13 @@ import java.util.UUID;
 
             if (alpha < 0.02f) continue;
 
-            serverLevel.sendParticles(
-                    new DustParticleOptions(color, Mth.clamp(size, 0.05f, 4.0f)),
+            spawns.add(new DustParticleOptions(color, Mth.clamp(size, 0.05f, 4.0f)),
                     p.pos.x, p.pos.y, p.pos.z,
                     1, 0.0, 0.0, 0.0, 0.0);
         }
 
         // Central flash
-        serverLevel.sendParticles(ParticleTypes.FLASH,
+        spawns.add(ParticleTypes.FLASH,
                 center.x, center.y, center.z,
                 0, 0.0, 0.0, 0.0, 1.0);
 
@@ -221,6 +221,13 @@ import java.util.UUID;
         }
     }
 
+    @Override
+    protected void emitTick() {
+        if (level() instanceof ServerLevel serverLevel) {
+            spawns.collectTo(serverLevel);
+        }
+    }
+
     private Vec3 randomSmallOffset() {
         Vec3 o = randomUnitVec(0.0);
         double s = randomBetween(0.0, spawnJitter);
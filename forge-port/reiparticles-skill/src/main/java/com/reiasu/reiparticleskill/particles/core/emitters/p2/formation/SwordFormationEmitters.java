@@ -4,6 +4,7 @@ package com.reiasu.reiparticleskill.particles.core.emitters.p2.formation;
 
 import com.reiasu.reiparticlesapi.annotations.ReiAutoRegister;
 import com.reiasu.reiparticlesapi.network.particle.emitters.AutoParticleEmitters;
+import com.reiasu.reiparticlesapi.network.particle.emitters.ParticleSpawnBuffer;
 import net.minecraft.core.particles.DustParticleOptions;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.network.FriendlyByteBuf;
@@ -29,6 +30,7 @@ import java.util.UUID;
     public static final ResourceLocation CODEC_ID = new ResourceLocation("reiparticleskill", "sword_formation");
 
     private final RandomSource random = RandomSource.create();
+    private final ParticleSpawnBuffer spawns = new ParticleSpawnBuffer();
     private final List<FormationParticle> particles = new ArrayList<>();
     private static final int MAX_ACTIVE = 4096;
 
@@ -117,9 +119,8 @@ import java.util.UUID;
     }
 
     @Override
-    protected void emitTick() {
-        Level level = level();
-        if (!(level instanceof ServerLevel serverLevel)) {
+    protected void prepareTick() {
+        if (!(level() instanceof ServerLevel)) {
             return;
         }
 
@@ -203,7 +204,7 @@ import java.util.UUID;
 
             if (alpha < 0.02f) continue;
 
-            serverLevel.sendParticles(
+            spawns.add(
                     new DustParticleOptions(color, size),
                     p.pos.x, p.pos.y, p.pos.z,
                     1, 0.0, 0.0, 0.0, 0.0);
@@ -211,7 +212,7 @@ import java.util.UUID;
 
         // Ambient
         if (tick % 4 == 0) {
-            serverLevel.sendParticles(ParticleTypes.ENCHANT,
+            spawns.add(ParticleTypes.ENCHANT,
                     center.x, center.y + 0.1, center.z,
                     4, 0.2, 0.1, 0.2, 0.0);
         }
@@ -221,6 +222,13 @@ import java.util.UUID;
         }
     }
 
+    @Override
+    protected void emitTick() {
+        if (level() instanceof ServerLevel serverLevel) {
+            spawns.sendTo(serverLevel);
+        }
+    }
+
     private static Vector3f lerpColor(float t, Vector3f from, Vector3f to) {
         float ct = Mth.clamp(t, 0.0f, 1.0f);
         return new Vector3f(
@@ -4,6 +4,7 @@ package com.reiasu.reiparticleskill.particles.core.emitters.p2.formation;
 
 import com.reiasu.reiparticlesapi.annotations.ReiAutoRegister;
 import com.reiasu.reiparticlesapi.network.particle.emitters.AutoParticleEmitters;
+import com.reiasu.reiparticlesapi.network.particle.emitters.ParticleSpawnBuffer;
 import net.minecraft.core.particles.DustParticleOptions;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.network.FriendlyByteBuf;
@@ -29,6 +30,7 @@ import java.util.UUID;
     public static final ResourceLocation CODEC_ID = new ResourceLocation("reiparticleskill", "sword_formation_explosion");
 
     private final RandomSource random = RandomSource.create();
+    private final ParticleSpawnBuffer spawns = new ParticleSpawnBuffer();
     private final List<ExplParticle> particles = new ArrayList<>();
     private static final int MAX_ACTIVE = 6000;
 
@@ -109,9 +111,8 @@ import java.util.UUID;
     }
 
     @Override
-    protected void emitTick() {
-        Level level = level();
-        if (!(level instanceof ServerLevel serverLevel)) {
+    protected void prepareTick() {
+        if (!(level() instanceof ServerLevel)) {
             return;
         }
 
@@ -187,17 +188,17 @@ import java.util.UUID;
             if (alpha < 0.02f) continue;
 
             float renderSize = Mth.clamp(p.baseSize * alpha, 0.05f, 4.0f);
-            serverLevel.sendParticles(
+            spawns.add(
                     new DustParticleOptions(color, renderSize),
                     p.pos.x, p.pos.y, p.pos.z,
                     1, 0.0, 0.0, 0.0, 0.0);
         }
 
         // Central flash
-        serverLevel.sendParticles(ParticleTypes.FLASH,
+        spawns.add(ParticleTypes.FLASH,
                 center.x, center.y, center.z,
                 0, 0.0, 0.0, 0.0, 1.0);
-        serverLevel.sendParticles(ParticleTypes.END_ROD,
+        spawns.add(ParticleTypes.END_ROD,
                 center.x, center.y + 0.1, center.z,
                 6, 0.15, 0.1, 0.15, 0.0);
 
@@ -206,6 +207,13 @@ import java.util.UUID;
         }
     }
 
+    @Override
+    protected void emitTick() {
+        if (level() instanceof ServerLevel serverLevel) {
+            spawns.sendTo(serverLevel);
+        }
+    }
+
     private static Vector3f lerpColor(float t, Vector3f from, Vector3f to) {
         float ct = Mth.clamp(t, 0.0f, 1.0f);
         return new Vector3f(
@@ -4,6 +4,7 @@ package com.reiasu.reiparticleskill.particles.core.emitters.p2.formation;
 
 import com.reiasu.reiparticlesapi.annotations.ReiAutoRegister;
 import com.reiasu.reiparticlesapi.network.particle.emitters.AutoParticleEmitters;
+import com.reiasu.reiparticlesapi.network.particle.emitters.ParticleSpawnBuffer;
 import net.minecraft.core.particles.DustParticleOptions;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.network.FriendlyByteBuf;
@@ -29,6 +30,7 @@ import java.util.UUID;
     public static final ResourceLocation CODEC_ID = new ResourceLocation("reiparticleskill", "sword_formation_wave");
 
     private final RandomSource random = RandomSource.create();
+    private final ParticleSpawnBuffer spawns = new ParticleSpawnBuffer();
     private final List<WaveParticle> particles = new ArrayList<>();
     private static final int MAX_ACTIVE = 4096;
 
@@ -118,9 +120,8 @@ import java.util.UUID;
     }
 
     @Override
-    protected void emitTick() {
-        Level level = level();
-        if (!(level instanceof ServerLevel serverLevel)) {
+    protected void prepareTick() {
+        if (!(level() instanceof ServerLevel)) {
             return;
         }
 
@@ -195,14 +196,14 @@ import java.util.UUID;
             if (alpha < 0.02f) continue;
 
             float renderSize = Mth.clamp(p.baseSize * alpha, 0.05f, 4.0f);
-            serverLevel.sendParticles(
+            spawns.add(
                     new DustParticleOptions(p.color, renderSize),
                     p.pos.x, p.pos.y, p.pos.z,
                     1, 0.0, 0.0, 0.0, 0.0);
         }
 
         // Ambient
-        serverLevel.sendParticles(ParticleTypes.ENCHANT,
+        spawns.add(ParticleTypes.ENCHANT,
                 center.x, center.y + 0.08, center.z,
                 3, 0.1, 0.05, 0.1, 0.0);
 
@@ -211,6 +212,13 @@ import java.util.UUID;
         }
     }
 
+    @Override
+    protected void emitTick() {
+        if (level() instanceof ServerLevel serverLevel) {
+            spawns.sendTo(serverLevel);
+        }
+    }
+
     private Vec3 randomUnitVector() {
         while (true) {
             double x = random.nextDouble() * 2 - 1;
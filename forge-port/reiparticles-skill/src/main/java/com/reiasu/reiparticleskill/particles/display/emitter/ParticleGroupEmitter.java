@@ -4,8 +4,8 @@ package com.reiasu.reiparticleskill.particles.display.emitter;
 
 import com.reiasu.reiparticlesapi.annotations.ReiAutoRegister;
 import com.reiasu.reiparticlesapi.network.particle.emitters.AutoParticleEmitters;
+import com.reiasu.reiparticlesapi.network.particle.emitters.ParticleSpawnBuffer;
 import net.minecraft.core.particles.DustParticleOptions;
-import net.minecraft.core.particles.ParticleOptions;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
@@ -25,6 +25,7 @@ import java.util.UUID;
     private static final DustParticleOptions ACCENT_COLOR =
             new DustParticleOptions(new Vector3f(0.55f, 0.78f, 1.0f), 0.9f);
 
+    private final ParticleSpawnBuffer spawns = new ParticleSpawnBuffer();
     private int localAge;
 
     public ParticleGroupEmitter(Vec3 pos, Level world) {
@@ -58,9 +59,8 @@ import java.util.UUID;
     }
 
     @Override
-    protected void emitTick() {
-        Level level = level();
-        if (level == null) {
+    protected void prepareTick() {
+        if (level() == null) {
             return;
         }
 
@@ -75,37 +75,30 @@ import java.util.UUID;
             double x = center.x + Math.cos(t) * radius;
             double y = center.y + Math.sin(t * 2.0) * 0.15 + localAge * 0.01;
             double z = center.z + Math.sin(t) * radius;
-            spawn(level, CORE_COLOR, x, y, z, 1, 0.0, 0.0, 0.0, 0.0);
+            spawns.add(CORE_COLOR, x, y, z, 1, 0.0, 0.0, 0.0, 0.0);
             if (i % 3 == 0) {
-                spawn(level, ACCENT_COLOR, x, y, z, 1, 0.01, 0.01, 0.01, 0.0);
+                spawns.add(ACCENT_COLOR, x, y, z, 1, 0.01, 0.01, 0.01, 0.0);
             }
         }
 
-        spawn(level, ParticleTypes.END_ROD, center.x, center.y + 0.12, center.z, 4, 0.08, 0.04, 0.08, 0.0);
+        spawns.add(ParticleTypes.END_ROD, center.x, center.y + 0.12, center.z, 4, 0.08, 0.04, 0.08, 0.0);
         if (localAge % 4 == 0) {
-            spawn(level, ParticleTypes.ENCHANT, center.x, center.y + 0.08, center.z, 6, 0.15, 0.1, 0.15, 0.0);
+            spawns.add(ParticleTypes.ENCHANT, center.x, center.y + 0.08, center.z, 6, 0.15, 0.1, 0.15, 0.0);
         }
     }
 
-    private static void spawn(
-            Level level,
-            ParticleOptions particle,
-            double x,
-            double y,
-            double z,
-            int count,
-            double ox,
-            double oy,
-            double oz,
-            double speed
-    ) {
+    @Override
+    protected void emitTick() {
+        Level level = level();
         if (level instanceof ServerLevel serverLevel) {
-            serverLevel.sendParticles(particle, x, y, z, count, ox, oy, oz, speed);
+            spawns.sendTo(serverLevel);
             return;
         }
-        int safe = Math.max(1, count);
-        for (int i = 0; i < safe; i++) {
-            level.addParticle(particle, x, y, z, 0.0, 0.0, 0.0);
-        }
+        spawns.drainTo(spawn -> {
+            int safe = Math.max(1, spawn.count());
+            for (int i = 0; i < safe; i++) {
+                level.addParticle(spawn.options(), spawn.x(), spawn.y(), spawn.z(), 0.0, 0.0, 0.0);
+            }
+        });
     }
 }
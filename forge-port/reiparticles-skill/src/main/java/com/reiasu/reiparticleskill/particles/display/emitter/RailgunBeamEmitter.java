@@ -4,6 +4,7 @@ package com.reiasu.reiparticleskill.particles.display.emitter;
 
 import com.reiasu.reiparticlesapi.annotations.ReiAutoRegister;
 import com.reiasu.reiparticlesapi.network.particle.emitters.AutoParticleEmitters;
+import com.reiasu.reiparticlesapi.network.particle.emitters.ParticleSpawnBuffer;
 import com.reiasu.reiparticlesapi.annotations.ReiAutoRegister;
 import com.reiasu.reiparticlesapi.utils.RelativeLocation;
 import com.reiasu.reiparticlesapi.annotations.ReiAutoRegister;
@@ -39,6 +40,7 @@ import java.util.UUID;
             .create();
 
     private final RandomSource random = RandomSource.create();
+    private final ParticleSpawnBuffer spawns = new ParticleSpawnBuffer();
 
     public RailgunBeamEmitter(Vec3 pos, Level world) {
         Vec3 spawn = pos == null ? Vec3.ZERO : pos;
@@ -69,9 +71,8 @@ import java.util.UUID;
     }
 
     @Override
-    protected void emitTick() {
-        Level level = level();
-        if (!(level instanceof ServerLevel serverLevel)) {
+    protected void prepareTick() {
+        if (!(level() instanceof ServerLevel)) {
             return;
         }
 
@@ -82,7 +83,7 @@ import java.util.UUID;
         int step = tick < 10 ? 5 : 3;
         for (int i = 0; i < BEAM_POINTS.size(); i += step) {
             RelativeLocation p = BEAM_POINTS.get(i);
-            serverLevel.sendParticles(BEAM_COLOR,
+            spawns.add(BEAM_COLOR,
                     center.x + p.getX(),
                     center.y + p.getY(),
                     center.z + p.getZ(),
@@ -98,7 +99,7 @@ import java.util.UUID;
             double dz = Math.sin(angle) * r;
             double vy = -1.0 * (0.5 + random.nextDouble() * 0.5);
 
-            serverLevel.sendParticles(BEAM_COLOR,
+            spawns.add(BEAM_COLOR,
                     center.x + dx,
                     center.y + random.nextDouble() * 2.0,
                     center.z + dz,
@@ -107,9 +108,16 @@ import java.util.UUID;
 
         // Ambient glow
         if (tick % 2 == 0) {
-            serverLevel.sendParticles(ParticleTypes.END_ROD,
+            spawns.add(ParticleTypes.END_ROD,
                     center.x, center.y + 0.2, center.z,
                     3, 0.08, 0.06, 0.08, 0.0);
         }
     }
+
+    @Override
+    protected void emitTick() {
+        if (level() instanceof ServerLevel serverLevel) {
+            spawns.sendTo(serverLevel);
+        }
+    }
 }
@@ -4,6 +4,7 @@ package com.reiasu.reiparticleskill.particles.display.emitter;
 
 import com.reiasu.reiparticlesapi.annotations.ReiAutoRegister;
 import com.reiasu.reiparticlesapi.network.particle.emitters.AutoParticleEmitters;
+import com.reiasu.reiparticlesapi.network.particle.emitters.ParticleSpawnBuffer;
 import net.minecraft.core.particles.DustParticleOptions;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.network.FriendlyByteBuf;
@@ -34,6 +35,7 @@ import java.util.UUID;
             new DustParticleOptions(new Vector3f(0.85f, 0.55f, 1.0f), 0.5f);
 
     private final RandomSource random = RandomSource.create();
+    private final ParticleSpawnBuffer spawns = new ParticleSpawnBuffer();
     private final List<ExplParticle> particles = new ArrayList<>();
     private static final int MAX_ACTIVE = 4096;
 
@@ -87,9 +89,8 @@ import java.util.UUID;
     }
 
     @Override
-    protected void emitTick() {
-        Level level = level();
-        if (!(level instanceof ServerLevel serverLevel)) {
+    protected void prepareTick() {
+        if (!(level() instanceof ServerLevel)) {
             return;
         }
 
@@ -140,17 +141,17 @@ import java.util.UUID;
 
             DustParticleOptions dust = p.sign == 0 ? WAVE_COLOR : BALL_COLOR;
             float renderSize = Mth.clamp(p.baseSize * alpha, 0.05f, 4.0f);
-            serverLevel.sendParticles(
+            spawns.add(
                     new DustParticleOptions(dust.getColor(), renderSize),
                     p.pos.x, p.pos.y, p.pos.z,
                     1, 0.0, 0.0, 0.0, 0.0);
         }
 
         // Central flash
-        serverLevel.sendParticles(ParticleTypes.FLASH,
+        spawns.add(ParticleTypes.FLASH,
                 center.x, center.y, center.z,
                 0, 0.0, 0.0, 0.0, 1.0);
-        serverLevel.sendParticles(ParticleTypes.EXPLOSION,
+        spawns.add(ParticleTypes.EXPLOSION,
                 center.x, center.y, center.z,
                 1, 0.0, 0.0, 0.0, 0.0);
 
@@ -159,6 +160,13 @@ import java.util.UUID;
         }
     }
 
+    @Override
+    protected void emitTick() {
+        if (level() instanceof ServerLevel serverLevel) {
+            spawns.sendTo(serverLevel);
+        }
+    }
+
     private Vec3 randomUnitVector() {
         while (true) {
             double x = random.nextDouble() * 2 - 1;
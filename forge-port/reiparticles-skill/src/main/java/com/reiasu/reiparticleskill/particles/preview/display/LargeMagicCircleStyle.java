@@ -16,15 +16,18 @@ import com.reiasu.reiparticlesapi.annotations.ReiAutoRegister;
 import com.reiasu.reiparticlesapi.utils.builder.FourierSeriesBuilder;
 import com.reiasu.reiparticlesapi.annotations.ReiAutoRegister;
 import com.reiasu.reiparticlesapi.utils.builder.PointsBuilder;
-import net.minecraft.core.particles.DustParticleOptions;
+import com.reiasu.reiparticlesapi.particles.ClientParticlePool;
+import com.reiasu.reiparticlesapi.particles.PooledParticle;
+import com.reiasu.reiparticlesapi.particles.PooledParticleTemplate;
+import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.core.particles.ParticleOptions;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.phys.Vec3;
-import org.joml.Vector3f;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -33,10 +36,13 @@ import java.util.UUID;
 @ReiAutoRegister
  public final class LargeMagicCircleStyle extends ParticleGroupStyle {
     public static final ResourceLocation REGISTRY_KEY = new ResourceLocation("reiparticleskill", "large_magic_circle_style");
-    private static final DustParticleOptions PRIMARY_COLOR =
-            new DustParticleOptions(new Vector3f(0.95f, 0.82f, 0.35f), 1.0f);
-    private static final DustParticleOptions SECONDARY_COLOR =
-            new DustParticleOptions(new Vector3f(0.62f, 0.88f, 1.0f), 0.85f);
+    private static final PooledParticleTemplate PRIMARY_DOT = new PooledParticleTemplate()
+            .withColor(0.95f, 0.82f, 0.35f)
+            .withSize(0.11f);
+    private static final PooledParticleTemplate SECONDARY_DOT = new PooledParticleTemplate()
+            .withColor(0.62f, 0.88f, 1.0f)
+            .withSize(0.09f);
+    private static final int DOT_STEP = 2;
     private static final List<RelativeLocation> BASE_POINTS = new PointsBuilder()
             .addFourierSeries(
                     new FourierSeriesBuilder()
@@ -49,6 +55,7 @@ import java.util.UUID;
             .withBuilder(new PointsBuilder().addPolygonInCircle(3, 48, 3.6).rotateAsAxis(Math.PI / 3.0))
             .create();
 
+    private final List<PooledParticle> dots = new ArrayList<>();
     private int age;
 
     public LargeMagicCircleStyle() {
@@ -80,6 +87,18 @@ import java.util.UUID;
     @Override
     public void onDisplay() {
         age = 0;
+        if (getClient()) {
+            spawnDots();
+        }
+    }
+
+    @Override
+    public void clear(boolean valid) {
+        super.clear(valid);
+        for (PooledParticle dot : dots) {
+            dot.remove();
+        }
+        dots.clear();
     }
 
     @Override
@@ -98,39 +117,61 @@ import java.util.UUID;
         }
 
         Level world = getWorld();
+        if (getClient()) {
+            placeDots();
+            return;
+        }
         if (!(world instanceof ServerLevel level)) {
             return;
         }
 
+        Vec3 center = getPos();
+        if ((age & 3) == 0) {
+            spawn(level, ParticleTypes.ENCHANT, center.x, center.y + 0.08, center.z, 10, 0.25, 0.02, 0.25, 0.0);
+        }
+        if ((age & 7) == 0) {
+            spawn(level, ParticleTypes.END_ROD, center.x, center.y + 0.1, center.z, 6, 0.3, 0.02, 0.3, 0.0);
+        }
+    }
+
+    /**
+     * The ring is drawn on the client from pooled particles that follow the same
+     * layout the server used to send as dust every tick.
+     */
+    private void spawnDots() {
+        if (!(getWorld() instanceof ClientLevel world)) {
+            return;
+        }
+        for (int i = 0; i < BASE_POINTS.size(); i += DOT_STEP) {
+            dots.add(ClientParticlePool.INSTANCE.spawn(getUuid(), PRIMARY_DOT, world, getPos()));
+            if ((i & 3) == 0) {
+                dots.add(ClientParticlePool.INSTANCE.spawn(getUuid(), SECONDARY_DOT, world, getPos()));
+            }
+        }
+        placeDots();
+    }
+
+    private void placeDots() {
         Vec3 center = getPos();
         double angle = getRotate();
         double cos = Math.cos(angle);
         double sin = Math.sin(angle);
         double baseScale = 2.0 * Math.max(0.15, getScale());
 
-        int step = age < 25 ? 3 : 2;
-        for (int i = 0; i < BASE_POINTS.size(); i += step) {
+        int dot = 0;
+        for (int i = 0; i < BASE_POINTS.size() && dot < dots.size(); i += DOT_STEP) {
             RelativeLocation point = BASE_POINTS.get(i);
             double px = point.getX() * baseScale;
             double pz = point.getZ() * baseScale;
-            double rx = px * cos - pz * sin;
-            double rz = px * sin + pz * cos;
-            double x = center.x + rx;
+            double x = center.x + px * cos - pz * sin;
             double y = center.y + 0.06 + Math.sin((i * 0.08) + age * 0.2) * 0.04;
-            double z = center.z + rz;
+            double z = center.z + px * sin + pz * cos;
 
-            spawn(level, PRIMARY_COLOR, x, y, z, 1, 0.0, 0.0, 0.0, 0.0);
-            if ((i & 3) == 0) {
-                spawn(level, SECONDARY_COLOR, x, y + 0.02, z, 1, 0.0, 0.0, 0.0, 0.0);
+            dots.get(dot++).teleportTo(x, y, z);
+            if ((i & 3) == 0 && dot < dots.size()) {
+                dots.get(dot++).teleportTo(x, y + 0.02, z);
             }
         }
-
-        if ((age & 3) == 0) {
-            spawn(level, ParticleTypes.ENCHANT, center.x, center.y + 0.08, center.z, 10, 0.25, 0.02, 0.25, 0.0);
-        }
-        if ((age & 7) == 0) {
-            spawn(level, ParticleTypes.END_ROD, center.x, center.y + 0.1, center.z, 6, 0.3, 0.02, 0.3, 0.0);
-        }
     }
 
     @Override
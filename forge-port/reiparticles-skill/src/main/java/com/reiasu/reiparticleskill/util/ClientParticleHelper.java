@@ -2,6 +2,8 @@
 // Copyright (C) 2025 Reiasu
 package com.reiasu.reiparticleskill.util;
 
+import com.reiasu.reiparticlesapi.network.particle.emitters.ParticleSpawnBuffer;
+import com.reiasu.reiparticlesapi.particles.ClientParticleBudget;
 import net.minecraft.core.particles.ParticleOptions;
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.level.Level;
@@ -16,6 +18,9 @@ import net.minecraft.world.level.Level;
  *   <li>{@code count > 0}: spawn {@code count} particles with Gaussian offsets</li>
  *   <li>{@code count == 0}: spawn 1 particle with exact velocity from dist params</li>
  * </ul>
+ * Because {@code addAlwaysVisibleParticle} skips the vanilla particle-setting culling,
+ * every particle is first cleared with {@link ClientParticleBudget}, which thins spawns
+ * when frames run slow or too many particles are alive.
  */
 public final class ClientParticleHelper {
 
@@ -30,25 +35,55 @@ public final class ClientParticleHelper {
             int count,
             double xDist, double yDist, double zDist,
             double speed
+    ) {
+        addForce(level, type, x, y, z, count, xDist, yDist, zDist, speed, RANDOM);
+    }
+
+    /**
+     * Same as {@link #addForce(Level, ParticleOptions, double, double, double, int, double, double, double, double)},
+     * drawing the Gaussian offsets from {@code random} so seeded effects scatter the same way on every client.
+     * Every particle's draws are made even when the budget thins it out, so the particles that do
+     * spawn land where they would have without thinning.
+     */
+    public static <T extends ParticleOptions> void addForce(
+            Level level, T type,
+            double x, double y, double z,
+            int count,
+            double xDist, double yDist, double zDist,
+            double speed,
+            RandomSource random
     ) {
         if (level == null || !level.isClientSide()) return;
 
+        ClientParticleBudget budget = ClientParticleBudget.INSTANCE;
         if (count == 0) {
             // Exact velocity mode: 1 particle, dist params = velocity
+            if (!budget.tryAcquire()) return;
             level.addAlwaysVisibleParticle(type, true,
                     x, y, z, xDist, yDist, zDist);
             return;
         }
 
         for (int i = 0; i < count; i++) {
-            double ox = RANDOM.nextGaussian() * xDist;
-            double oy = RANDOM.nextGaussian() * yDist;
-            double oz = RANDOM.nextGaussian() * zDist;
-            double sx = RANDOM.nextGaussian() * speed;
-            double sy = RANDOM.nextGaussian() * speed;
-            double sz = RANDOM.nextGaussian() * speed;
+            // Draw before asking the budget so thinning never shifts the seeded sequence.
+            double ox = random.nextGaussian() * xDist;
+            double oy = random.nextGaussian() * yDist;
+            double oz = random.nextGaussian() * zDist;
+            double sx = random.nextGaussian() * speed;
+            double sy = random.nextGaussian() * speed;
+            double sz = random.nextGaussian() * speed;
+            if (!budget.tryAcquire()) continue;
             level.addAlwaysVisibleParticle(type, true,
                     x + ox, y + oy, z + oz, sx, sy, sz);
         }
     }
+
+    /**
+     * Spawns every entry an emitter recorded during its compute phase, in recording order,
+     * and empties {@code spawns}.
+     */
+    public static void addAll(Level level, ParticleSpawnBuffer spawns) {
+        spawns.drainTo(spawn -> addForce(level, spawn.options(), spawn.x(), spawn.y(), spawn.z(),
+                spawn.count(), spawn.xDist(), spawn.yDist(), spawn.zDist(), spawn.speed()));
+    }
 }
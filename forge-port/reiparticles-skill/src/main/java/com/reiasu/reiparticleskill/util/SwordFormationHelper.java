@@ -4,6 +4,7 @@ package com.reiasu.reiparticleskill.util;
 
 import com.reiasu.reiparticlesapi.display.DisplayEntityManager;
 import com.reiasu.reiparticlesapi.scheduler.ReiScheduler;
+import com.reiasu.reiparticlesapi.scheduler.TickPriority;
 import com.reiasu.reiparticleskill.display.BarrageItemDisplay;
 import com.reiasu.reiparticleskill.display.SwordLightDisplay;
 import net.minecraft.core.particles.ParticleTypes;
@@ -67,6 +68,8 @@ public final class SwordFormationHelper {
                             4,
                             () -> driveOrbit(display, target, targetYOffset, orbitRadius, pullGain, maxPull, orbitSpeed, maxSpeed, attacker, source)
                     );
+                    // Steering the sword can run a tick late when the server is busy.
+                    runnable.setPriority(TickPriority.LOW);
                     runnable.setCancelPredicate(it -> !display.getValid() || !target.isAlive());
                     runnable.setFinishCallback(display::cancel);
                 }
@@ -18,21 +18,29 @@
 // SPDX-License-Identifier: LGPL-3.0-only
 package com.reiasu.reiparticleskill.barrages;
 
+import com.reiasu.reiparticlesapi.barrages.AbstractBarrage;
 import com.reiasu.reiparticlesapi.barrages.Barrage;
 import com.reiasu.reiparticlesapi.barrages.BarrageHitResult;
 import com.reiasu.reiparticlesapi.barrages.BarrageOption;
 import com.reiasu.reiparticlesapi.barrages.HitBox;
+import com.reiasu.reiparticlesapi.barrages.SweptAabb;
 import com.reiasu.reiparticlesapi.network.particle.ServerController;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 import java.util.UUID;
+import java.util.function.Predicate;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class SkillBarrageManagerTest {
     @AfterEach
@@ -76,6 +84,72 @@ class SkillBarrageManagerTest {
         assertEquals(0, SkillBarrageManager.INSTANCE.activeCount());
     }
 
+    @Test
+    void twoThousandConcurrentBarragesHitWhatALinearSweptScanHits() {
+        Random random = new Random(42);
+        List<SwarmBarrage> swarm = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            Vec3 loc = new Vec3(random.nextDouble() * 96.0, 64.0 + random.nextDouble() * 16.0, random.nextDouble() * 96.0);
+            Vec3 velocity = new Vec3(random.nextGaussian(), random.nextGaussian() * 0.2, random.nextGaussian())
+                    .normalize()
+                    .scale(0.5 + random.nextDouble() * 3.0);
+            SwarmBarrage barrage = new SwarmBarrage(loc, velocity);
+            swarm.add(barrage);
+            SkillBarrageManager.INSTANCE.spawn(barrage);
+        }
+        for (int i = 0; i < 10; i++) {
+            SkillBarrageManager.INSTANCE.tickAll();
+        }
+
+        // AbstractBarrage.tick must find exactly the pairs a linear swept scan finds.
+        List<AABB> startBoxes = startBoxes(swarm);
+        SkillBarrageManager.INSTANCE.tickAll();
+        long expectedHits = linearSweptScan(swarm, startBoxes);
+        long actualHits = 0;
+        for (SwarmBarrage barrage : swarm) {
+            actualHits += barrage.lastHits;
+        }
+        assertTrue(expectedHits > 0, "swarm too sparse to exercise collisions");
+        assertEquals(expectedHits, actualHits);
+        assertEquals(2_000, SkillBarrageManager.INSTANCE.activeCount());
+    }
+
+    @Test
+    void crossingBarragesMeetEvenWhenTheirEndBoxesDoNotOverlap() {
+        SwarmBarrage left = new SwarmBarrage(new Vec3(0.0, 64.0, 0.0), new Vec3(6.0, 0.0, 0.0));
+        SwarmBarrage right = new SwarmBarrage(new Vec3(10.0, 64.0, 0.0), new Vec3(-6.0, 0.0, 0.0));
+        SkillBarrageManager.INSTANCE.spawn(left);
+        SkillBarrageManager.INSTANCE.spawn(right);
+
+        SkillBarrageManager.INSTANCE.tickAll();
+
+        assertTrue(left.getLoc().x > right.getLoc().x, "barrages should have passed each other");
+        assertEquals(1, left.lastHits);
+        assertEquals(1, right.lastHits);
+    }
+
+    private static List<AABB> startBoxes(List<SwarmBarrage> swarm) {
+        List<AABB> boxes = new ArrayList<>(swarm.size());
+        for (SwarmBarrage barrage : swarm) {
+            boxes.add(barrage.getHitBox().ofBox(barrage.getLoc()));
+        }
+        return boxes;
+    }
+
+    /** The O(B^2) barrage scan the broadphase replaces, with the same relative swept test. */
+    private static long linearSweptScan(List<SwarmBarrage> swarm, List<AABB> startBoxes) {
+        long hits = 0;
+        for (int i = 0; i < swarm.size(); i++) {
+            for (int j = 0; j < swarm.size(); j++) {
+                Vec3 relative = swarm.get(i).getMotion().subtract(swarm.get(j).getMotion());
+                if (i != j && SweptAabb.hits(startBoxes.get(i), relative, startBoxes.get(j))) {
+                    hits++;
+                }
+            }
+        }
+        return hits;
+    }
+
     private static final class DummyBarrage implements Barrage {
         private final int maxTick;
         private final UUID uuid = UUID.randomUUID();
@@ -200,6 +274,59 @@ class SkillBarrageManagerTest {
         }
     }
 
+    /**
+     * A barrage that flies straight through everything without ever expiring, ticked by
+     * {@link AbstractBarrage#tick()} in a level where nothing but other barrages is loaded.
+     */
+    private static final class SwarmBarrage extends AbstractBarrage {
+        private int lastHits;
+
+        private SwarmBarrage(Vec3 loc, Vec3 velocity) {
+            super(loc, null, HitBox.of(1.0, 1.0, 1.0), new DummyController(false), passThroughOptions());
+            setDirection(velocity);
+            setLaunch(true);
+        }
+
+        private static BarrageOption passThroughOptions() {
+            BarrageOption options = new BarrageOption();
+            options.setAcrossBlock(true);
+            options.setAcrossable(true);
+            options.setNoneHitBoxTick(0);
+            return options;
+        }
+
+        @Override
+        public void tick() {
+            lastHits = 0;
+            super.tick();
+        }
+
+        @Override
+        public boolean filterHitEntity(LivingEntity entity) {
+            return false;
+        }
+
+        @Override
+        public boolean filterHitBarrage(Barrage barrage) {
+            return barrage != this;
+        }
+
+        @Override
+        public void onHit(BarrageHitResult result) {
+            lastHits = result.getBarrages().size();
+        }
+
+        @Override
+        protected boolean isChunkLoaded(Vec3 pos) {
+            return true;
+        }
+
+        @Override
+        protected List<LivingEntity> getEntities(AABB area, Predicate<? super LivingEntity> filter) {
+            return List.of();
+        }
+    }
+
     private static final class DummyController implements ServerController<DummyController> {
         private final boolean failOnCancel;
         private boolean canceled;
@@ -29,7 +29,11 @@ import net.minecraft.world.phys.Vec3;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -99,6 +103,50 @@ class SkillDisplayCodecTest {
         assertEquals(source.getDisplayTick(), decoded.getDisplayTick());
     }
 
+    @Test
+    void shouldSendBarrageItemOnlyInUpdatesAfterItChanged() {
+        BarrageItemDisplay source = new BarrageItemDisplay(new Vec3(1.0, 2.0, 3.0));
+        source.setItem(new ItemStack(Items.IRON_SWORD));
+        source.setVelocity(new Vec3(0.5, 0.0, 0.0));
+        BarrageItemDisplay client = BarrageItemDisplay.decode(
+                new FriendlyByteBuf(Unpooled.wrappedBuffer(source.encodeToBytes())));
+        source.onStateSent();
+
+        source.tick();
+        byte[] withoutItem = source.encodeUpdateToBytes();
+        assertTrue(client.readUpdate(new FriendlyByteBuf(Unpooled.wrappedBuffer(withoutItem))));
+        assertEquals(source.getPos(), client.getPos());
+        assertEquals(source.getAge(), client.getAge());
+        assertEquals(Items.IRON_SWORD, client.getItem().getItem());
+
+        source.setItem(new ItemStack(Items.GOLDEN_SWORD));
+        byte[] withItem = source.encodeUpdateToBytes();
+        assertTrue(withoutItem.length < withItem.length);
+        // Encoding alone does not count as sending.
+        assertArrayEquals(withItem, source.encodeUpdateToBytes());
+        assertTrue(client.readUpdate(new FriendlyByteBuf(Unpooled.wrappedBuffer(withItem))));
+        assertEquals(Items.GOLDEN_SWORD, client.getItem().getItem());
+
+        source.onStateSent();
+        assertEquals(withoutItem.length, source.encodeUpdateToBytes().length);
+    }
+
+    @Test
+    void shouldKeepBarrageSyncKeyStableWhileClientCanExtrapolate() {
+        BarrageItemDisplay source = new BarrageItemDisplay(new Vec3(0.0, 64.0, 0.0));
+        source.setVelocity(new Vec3(0.25, 0.0, 0.5));
+        source.tick();
+        byte[] key = source.encodeSyncKey();
+
+        for (int i = 0; i < 5; i++) {
+            source.tick();
+        }
+        assertArrayEquals(key, source.encodeSyncKey());
+
+        source.teleportTo(new Vec3(10.0, 64.0, 0.0));
+        assertFalse(Arrays.equals(key, source.encodeSyncKey()));
+    }
+
     @Test
     void shouldRoundTripSwordLightDisplayState() {
         SwordLightDisplay source = new SwordLightDisplay(new Vec3(2.0, 3.0, 4.0));
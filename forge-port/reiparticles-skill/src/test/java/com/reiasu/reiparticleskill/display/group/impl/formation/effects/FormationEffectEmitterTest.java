@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2025 Reiasu
+ *
+ * This file is part of ReiParticleSkill.
+ *
+ * ReiParticleSkill is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, version 3 of the License.
+ *
+ * ReiParticleSkill is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ReiParticleSkill. If not, see <https://www.gnu.org/licenses/>.
+ */
+// SPDX-License-Identifier: LGPL-3.0-only
+package com.reiasu.reiparticleskill.display.group.impl.formation.effects;
+
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.world.phys.Vec3;
+import org.joml.Vector3f;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FormationEffectEmitterTest {
+
+    @Test
+    void waveSnapshotRoundTripsShapeSeedAndFade() {
+        SwordFormationWaveEffectGroup group = new SwordFormationWaveEffectGroup(Vec3.ZERO, null);
+        group.setDelay(3);
+        group.setMinCount(5);
+        group.setMaxCount(9);
+        group.setRandomColorLeft(new Vector3f(0.1F, 0.2F, 0.3F));
+        SwordFormationWaveEmitter source = new SwordFormationWaveEmitter();
+        source.configure(group);
+        source.setDirection(new Vec3(0.0, 0.0, 2.0));
+        source.setTick(12);
+        source.beginFade(10);
+
+        byte[] bytes = source.encodeToBytes();
+        SwordFormationWaveEmitter decoded = SwordFormationWaveEmitter.decode(new FriendlyByteBuf(Unpooled.wrappedBuffer(bytes)));
+
+        assertEquals(source.getUuid(), decoded.getUuid());
+        assertEquals(source.getSeed(), decoded.getSeed());
+        assertEquals(new Vec3(0.0, 0.0, 1.0), decoded.getDirection());
+        assertTrue(decoded.isFading());
+        assertEquals(22, decoded.getMaxTick());
+        assertArrayEquals(bytes, decoded.encodeToBytes());
+    }
+
+    @Test
+    void fadeStartsOnceAndEndsTheEmitter() {
+        SwordRuneEmitter emitter = new SwordRuneEmitter();
+        assertEquals(-1, emitter.getMaxTick());
+        emitter.setTick(30);
+
+        emitter.beginFade(20);
+        emitter.setTick(40);
+        emitter.beginFade(5);
+
+        assertTrue(emitter.isFading());
+        assertEquals(50, emitter.getMaxTick());
+    }
+
+    @Test
+    void clientCopyFollowsServerDirectionAndSeed() {
+        SwordFormationVortexEmitter server = new SwordFormationVortexEmitter();
+        SwordFormationVortexEmitter client = SwordFormationVortexEmitter.decode(
+                new FriendlyByteBuf(Unpooled.wrappedBuffer(server.encodeToBytes())));
+        server.setDirection(new Vec3(1.0, 0.0, 0.0));
+        server.beginFade(15);
+
+        client.update(SwordFormationVortexEmitter.decode(
+                new FriendlyByteBuf(Unpooled.wrappedBuffer(server.encodeToBytes()))));
+
+        assertEquals(new Vec3(1.0, 0.0, 0.0), client.getDirection());
+        assertEquals(server.getSeed(), client.getSeed());
+        assertTrue(client.isFading());
+        assertFalse(client.getCanceled());
+    }
+}
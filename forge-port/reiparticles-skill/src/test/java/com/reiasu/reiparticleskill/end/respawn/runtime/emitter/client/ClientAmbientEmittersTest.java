@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2025 Reiasu
+ *
+ * This file is part of ReiParticleSkill.
+ *
+ * ReiParticleSkill is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, version 3 of the License.
+ *
+ * ReiParticleSkill is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ReiParticleSkill. If not, see <https://www.gnu.org/licenses/>.
+ */
+// SPDX-License-Identifier: LGPL-3.0-only
+package com.reiasu.reiparticleskill.end.respawn.runtime.emitter.client;
+
+import com.reiasu.reiparticlesapi.config.APIConfig;
+import com.reiasu.reiparticlesapi.network.particle.emitters.ParticleEmitters;
+import com.reiasu.reiparticlesapi.network.particle.emitters.ParticleEmittersManager;
+import com.reiasu.reiparticlesapi.particles.ClientParticleBudget;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ClientAmbientEmittersTest {
+    @AfterEach
+    void cleanup() {
+        ParticleEmittersManager.clear();
+    }
+
+    @Test
+    void ambientRespawnEmittersAreDeferredWhenTheServerTickIsOverBudget() {
+        long budget = APIConfig.INSTANCE.getServerTickBudgetNanos();
+        try {
+            APIConfig.INSTANCE.setServerTickBudgetNanos(1L);
+            SlowEmitter slow = new SlowEmitter();
+            ParticleEmittersManager.spawnEmitters(slow);
+            List<ParticleEmitters> ambient = List.of(
+                    new ClientDustEmitter(), new ClientCloudRingEmitter(), new ClientEnchantRingEmitter());
+            for (ParticleEmitters emitter : ambient) {
+                emitter.setMaxTick(10);
+                ParticleEmittersManager.spawnEmitters(emitter);
+            }
+
+            ParticleEmittersManager.tickAll();
+
+            assertEquals(1, slow.emittedTicks);
+            // The first low-priority emitter always ticks; the other two wait.
+            assertTrue(ParticleEmittersManager.getDebugInfo().contains("deferredEmitters=2"));
+            for (ParticleEmitters emitter : ambient) {
+                assertEquals(1, emitter.getTick());
+            }
+        } finally {
+            APIConfig.INSTANCE.setServerTickBudgetNanos(budget);
+        }
+    }
+
+    @Test
+    void ambientRespawnEmittersSpawnUnderTheLowClientTier() {
+        // The client decodes through the no-argument constructors.
+        for (ParticleEmitters emitter : List.of(
+                new ClientDustEmitter(), new ClientCloudRingEmitter(), new ClientEnchantRingEmitter())) {
+            assertEquals(ClientParticleBudget.Tier.LOW, ClientParticleBudget.Tier.of(emitter.getTickPriority()));
+        }
+        assertEquals(ClientParticleBudget.Tier.NORMAL,
+                ClientParticleBudget.Tier.of(new ClientCenterEmitter().getTickPriority()));
+    }
+
+    private static final class SlowEmitter extends ParticleEmitters {
+        private int emittedTicks;
+
+        @Override
+        protected void emitTick() {
+            emittedTicks++;
+            long end = System.nanoTime() + 200_000L;
+            while (System.nanoTime() < end) {
+                Thread.onSpinWait();
+            }
+        }
+    }
+}
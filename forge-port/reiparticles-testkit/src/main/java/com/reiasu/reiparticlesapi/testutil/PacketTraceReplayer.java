@@ -0,0 +1,271 @@
+/*
+ * Copyright (C) 2025 Reiasu
+ *
+ * This file is part of ReiParticlesAPI.
+ *
+ * ReiParticlesAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, version 3 of the License.
+ *
+ * ReiParticlesAPI is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ReiParticlesAPI. If not, see <https://www.gnu.org/licenses/>.
+ */
+// SPDX-License-Identifier: LGPL-3.0-only
+package com.reiasu.reiparticlesapi.testutil;
+
+import com.reiasu.reiparticlesapi.network.packet.ClientPacketApplier;
+import com.reiasu.reiparticlesapi.network.packet.PacketDisplayEntityS2C;
+import com.reiasu.reiparticlesapi.network.packet.PacketParticleBatchS2C;
+import com.reiasu.reiparticlesapi.network.packet.PacketParticleCompositionS2C;
+import com.reiasu.reiparticlesapi.network.packet.PacketParticleEmittersS2C;
+import com.reiasu.reiparticlesapi.network.packet.PacketParticleGroupS2C;
+import com.reiasu.reiparticlesapi.network.packet.PacketParticleS2C;
+import com.reiasu.reiparticlesapi.network.packet.PacketParticleStyleS2C;
+import com.reiasu.reiparticlesapi.network.packet.PacketRenderEntityS2C;
+import com.reiasu.reiparticlesapi.network.trace.PacketTrace;
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Feeds a recorded {@link PacketTrace} through the client decode and apply paths without a
+ * game client, and reports what it cost per packet type.
+ * <p>
+ * Packets are decoded with the same {@code decode} methods the channel uses and applied
+ * through {@link ClientPacketApplier}, so emitters land in the client emitter store and
+ * styles in the {@code ParticleStyleManager} client view as they would in game. The level
+ * they are bound to is a headless, client-side stand-in: nothing it is given is drawn, and
+ * styles skip their particle spawns because it is not a {@code ClientLevel}. Group, single
+ * particle and batch packets only have client handlers that need the game client, so they
+ * are decoded and counted but not applied; so are types this replayer does not know.
+ * <p>
+ * Client state is left as the trace leaves it. Replaying twice in one JVM applies the
+ * second run on top of the first, which is usually wanted when warming up.
+ */
+public final class PacketTraceReplayer {
+    private static final Map<String, Handler<?>> HANDLERS = new HashMap<>();
+
+    static {
+        register(PacketParticleEmittersS2C.class, PacketParticleEmittersS2C::decode, ClientPacketApplier::applyEmitters);
+        register(PacketParticleStyleS2C.class, PacketParticleStyleS2C::decode, ClientPacketApplier::applyStyle);
+        register(PacketParticleCompositionS2C.class, PacketParticleCompositionS2C::decode, ClientPacketApplier::applyComposition);
+        register(PacketDisplayEntityS2C.class, PacketDisplayEntityS2C::decode, ClientPacketApplier::applyDisplay);
+        register(PacketRenderEntityS2C.class, PacketRenderEntityS2C::decode, ClientPacketApplier::applyRenderEntity);
+        register(PacketParticleGroupS2C.class, PacketParticleGroupS2C::decode, null);
+        register(PacketParticleS2C.class, PacketParticleS2C::decode, null);
+        register(PacketParticleBatchS2C.class, PacketParticleBatchS2C::decode, null);
+    }
+
+    private final Level level;
+
+    public PacketTraceReplayer() {
+        this(headlessClientLevel());
+    }
+
+    public PacketTraceReplayer(Level level) {
+        this.level = level;
+    }
+
+    /** Replays the packets of the recipient that received the most bytes. */
+    public Report replay(PacketTrace trace) {
+        return replay(trace, busiestRecipient(trace));
+    }
+
+    /** Replays the packets {@code recipient} received, in the order they were sent. */
+    public Report replay(PacketTrace trace, UUID recipient) {
+        Map<String, TypeStats> stats = new TreeMap<>();
+        com.sun.management.ThreadMXBean threads = allocationCounter();
+        long threadId = Thread.currentThread().getId();
+        for (PacketTrace.Packet packet : trace.packets()) {
+            if (!packet.recipient().equals(recipient)) {
+                continue;
+            }
+            TypeStats type = stats.computeIfAbsent(packet.type(), TypeStats::new);
+            type.packets++;
+            type.bytes += packet.payload().length;
+            Handler<?> handler = HANDLERS.get(packet.type());
+            if (handler == null) {
+                continue;
+            }
+            long allocatedBefore = threads == null ? 0L : threads.getThreadAllocatedBytes(threadId);
+            handler.replay(packet.payload(), level, type);
+            if (threads != null) {
+                type.allocatedBytes += threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+            }
+        }
+        return new Report(recipient, trace.ticks(), List.copyOf(stats.values()));
+    }
+
+    /** The recipient that received the most payload bytes, or {@code null} for an empty trace. */
+    public static UUID busiestRecipient(PacketTrace trace) {
+        Map<UUID, Long> bytes = new LinkedHashMap<>();
+        for (PacketTrace.Packet packet : trace.packets()) {
+            bytes.merge(packet.recipient(), (long) packet.payload().length, Long::sum);
+        }
+        UUID busiest = null;
+        long most = -1L;
+        for (Map.Entry<UUID, Long> entry : bytes.entrySet()) {
+            if (entry.getValue() > most) {
+                busiest = entry.getKey();
+                most = entry.getValue();
+            }
+        }
+        return busiest;
+    }
+
+    /**
+     * A level the apply paths accept as a client level: a bare {@link ServerLevel} with
+     * {@code isClientSide} set. Level's own particle methods are no-ops, which is all the
+     * rendering the apply paths reach.
+     */
+    public static Level headlessClientLevel() {
+        ServerLevel level = UnsafeAllocator.allocate(ServerLevel.class);
+        try {
+            Field clientSide = Level.class.getDeclaredField("isClientSide");
+            clientSide.setAccessible(true);
+            clientSide.setBoolean(level, true);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to mark headless level as client side", e);
+        }
+        return level;
+    }
+
+    private static com.sun.management.ThreadMXBean allocationCounter() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+                && threads.isThreadAllocatedMemorySupported()
+                && threads.isThreadAllocatedMemoryEnabled()) {
+            return threads;
+        }
+        return null;
+    }
+
+    private static <T> void register(Class<T> type, Function<FriendlyByteBuf, T> decoder, BiConsumer<T, Level> applier) {
+        HANDLERS.put(type.getSimpleName(), new Handler<>(decoder, applier));
+    }
+
+    private record Handler<T>(Function<FriendlyByteBuf, T> decoder, BiConsumer<T, Level> applier) {
+        void replay(byte[] payload, Level level, TypeStats stats) {
+            long start = System.nanoTime();
+            T packet;
+            FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.wrappedBuffer(payload));
+            try {
+                packet = decoder.apply(buf);
+            } catch (RuntimeException e) {
+                stats.failures++;
+                return;
+            } finally {
+                stats.decodeNanos += System.nanoTime() - start;
+            }
+            if (applier == null || packet == null) {
+                return;
+            }
+            start = System.nanoTime();
+            try {
+                applier.accept(packet, level);
+            } catch (RuntimeException e) {
+                stats.failures++;
+            } finally {
+                stats.applyNanos += System.nanoTime() - start;
+            }
+        }
+    }
+
+    /** Totals for one packet type; mutable only while its replay runs. */
+    public static final class TypeStats {
+        private final String type;
+        private long packets;
+        private long bytes;
+        private long decodeNanos;
+        private long applyNanos;
+        private long allocatedBytes;
+        private long failures;
+
+        private TypeStats(String type) {
+            this.type = type;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        public long getPackets() {
+            return packets;
+        }
+
+        public long getBytes() {
+            return bytes;
+        }
+
+        public long getDecodeNanos() {
+            return decodeNanos;
+        }
+
+        public long getApplyNanos() {
+            return applyNanos;
+        }
+
+        /** Heap allocated while decoding and applying; 0 when the JVM cannot count it. */
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+
+        /** Packets whose decode or apply threw. */
+        public long getFailures() {
+            return failures;
+        }
+    }
+
+    /**
+     * What one replay cost.
+     *
+     * @param ticks server ticks the trace spans, for per-tick bandwidth
+     * @param types one entry per packet type received, by type name
+     */
+    public record Report(UUID recipient, int ticks, List<TypeStats> types) {
+        public long packets() {
+            return types.stream().mapToLong(TypeStats::getPackets).sum();
+        }
+
+        public long bytes() {
+            return types.stream().mapToLong(TypeStats::getBytes).sum();
+        }
+
+        public double bytesPerTick(TypeStats type) {
+            return ticks == 0 ? type.getBytes() : type.getBytes() / (double) ticks;
+        }
+
+        /** One line per packet type and a total, for logs and benchmark output. */
+        public List<String> lines() {
+            List<String> lines = new ArrayList<>();
+            lines.add(String.format(Locale.ROOT, "%-30s %8s %10s %10s %10s %10s %12s %6s",
+                    "type", "packets", "bytes", "bytes/t", "decode us", "apply us", "alloc", "fail"));
+            for (TypeStats type : types) {
+                lines.add(String.format(Locale.ROOT, "%-30s %8d %10d %10.1f %10.1f %10.1f %12d %6d",
+                        type.getType(), type.getPackets(), type.getBytes(), bytesPerTick(type),
+                        type.getDecodeNanos() / 1000.0, type.getApplyNanos() / 1000.0,
+                        type.getAllocatedBytes(), type.getFailures()));
+            }
+            lines.add(String.format(Locale.ROOT, "%d packets, %d bytes over %d ticks", packets(), bytes(), ticks));
+            return lines;
+        }
+    }
+}
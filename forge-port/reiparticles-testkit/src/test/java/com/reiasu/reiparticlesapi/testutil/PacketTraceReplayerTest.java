@@ -0,0 +1,216 @@
+/*
+ * Copyright (C) 2025 Reiasu
+ *
+ * This file is part of ReiParticlesAPI.
+ *
+ * ReiParticlesAPI is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, version 3 of the License.
+ *
+ * ReiParticlesAPI is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with ReiParticlesAPI. If not, see <https://www.gnu.org/licenses/>.
+ */
+// SPDX-License-Identifier: LGPL-3.0-only
+package com.reiasu.reiparticlesapi.testutil;
+
+import com.reiasu.reiparticlesapi.network.ReiParticlesNetwork;
+import com.reiasu.reiparticlesapi.network.buffer.ParticleControllerDataBuffer;
+import com.reiasu.reiparticlesapi.network.buffer.ParticleControllerDataBuffers;
+import com.reiasu.reiparticlesapi.network.packet.PacketParticleEmittersS2C;
+import com.reiasu.reiparticlesapi.network.packet.PacketParticleStyleS2C;
+import com.reiasu.reiparticlesapi.network.particle.emitters.ParticleEmitters;
+import com.reiasu.reiparticlesapi.network.particle.emitters.ParticleEmittersManager;
+import com.reiasu.reiparticlesapi.network.particle.style.ParticleGroupStyle;
+import com.reiasu.reiparticlesapi.network.particle.style.ParticleStyleManager;
+import com.reiasu.reiparticlesapi.network.trace.PacketTrace;
+import com.reiasu.reiparticlesapi.network.trace.PacketTraceRecorder;
+import com.reiasu.reiparticlesapi.particles.control.ControlType;
+import com.reiasu.reiparticlesapi.utils.RelativeLocation;
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.phys.Vec3;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+final class PacketTraceReplayerTest {
+    private static final ResourceLocation EMITTER_KEY = new ResourceLocation("reiparticlesapi", "replayer_test_emitter");
+    private static final ResourceLocation STYLE_KEY = new ResourceLocation("reiparticlesapi", "replayer_test_style");
+    private static final UUID ALEX = new UUID(1L, 1L);
+    private static final UUID STEVE = new UUID(2L, 2L);
+
+    @TempDir
+    Path dir;
+
+    private final UUID styleId = UUID.randomUUID();
+
+    @BeforeAll
+    static void register() {
+        ParticleEmittersManager.registerCodec(EMITTER_KEY, TestEmitter::decode);
+        ParticleStyleManager.register(STYLE_KEY, TestStyle::new);
+    }
+
+    @AfterEach
+    void cleanup() {
+        ParticleEmittersManager.clear();
+        ParticleStyleManager.getClientViewStyles().remove(styleId);
+    }
+
+    @Test
+    void replaysRecordedEmitterAndStylePacketsIntoTheClientManagers() throws IOException {
+        TestEmitter emitter = new TestEmitter();
+        emitter.setMaxTick(20);
+        emitter.payload = 7;
+        PacketParticleEmittersS2C emitterCreate = new PacketParticleEmittersS2C(
+                EMITTER_KEY, emitter.encodeToBytes(), PacketParticleEmittersS2C.PacketType.CHANGE_OR_CREATE);
+        PacketParticleStyleS2C styleCreate = new PacketParticleStyleS2C(styleId, ControlType.CREATE, styleArgs(1, true));
+        emitter.setTick(1);
+        emitter.payload = 8;
+        PacketParticleEmittersS2C emitterChange = new PacketParticleEmittersS2C(
+                EMITTER_KEY, emitter.encodeToBytes(), PacketParticleEmittersS2C.PacketType.CHANGE_OR_CREATE);
+        PacketParticleStyleS2C styleChange = new PacketParticleStyleS2C(styleId, ControlType.CHANGE, styleArgs(2, false));
+
+        PacketTraceRecorder recorder = PacketTraceRecorder.INSTANCE;
+        TestCodec codec = new TestCodec();
+        recorder.start(dir.resolve("replay.rpt"));
+        recorder.record(ALEX, emitterCreate, codec);
+        recorder.record(ALEX, styleCreate, codec);
+        // Another player in range; the replay follows the one that got the most.
+        recorder.record(STEVE, styleCreate, codec);
+        recorder.endTick();
+        recorder.record(ALEX, emitterChange, codec);
+        recorder.record(ALEX, styleChange, codec);
+        recorder.endTick();
+        PacketTraceRecorder.Summary summary = recorder.stop();
+        PacketTrace trace = PacketTrace.read(summary.file());
+
+        PacketTraceReplayer.Report report = new PacketTraceReplayer().replay(trace);
+
+        assertEquals(ALEX, report.recipient());
+        assertEquals(2, report.ticks());
+        assertEquals(2, report.types().size());
+        PacketTraceReplayer.TypeStats emitters = report.types().get(0);
+        assertEquals("PacketParticleEmittersS2C", emitters.getType());
+        assertEquals(2, emitters.getPackets());
+        assertEquals(codec.encode(emitterCreate).length + codec.encode(emitterChange).length, emitters.getBytes());
+        PacketTraceReplayer.TypeStats styles = report.types().get(1);
+        assertEquals("PacketParticleStyleS2C", styles.getType());
+        assertEquals(2, styles.getPackets());
+        assertEquals(codec.encode(styleCreate).length + codec.encode(styleChange).length, styles.getBytes());
+        assertEquals(0, emitters.getFailures());
+        assertEquals(0, styles.getFailures());
+
+        ParticleEmitters replayed = ParticleEmittersManager.getClientEmitters().get(emitter.getUuid());
+        assertInstanceOf(TestEmitter.class, replayed);
+        assertEquals(1, replayed.getTick());
+        assertEquals(8, ((TestEmitter) replayed).payload);
+        ParticleGroupStyle style = ParticleStyleManager.getClientViewStyles().get(styleId);
+        assertNotNull(style);
+        assertEquals(2, ((TestStyle) style).status);
+    }
+
+    private static Map<String, ParticleControllerDataBuffer<?>> styleArgs(int status, boolean create) {
+        ParticleControllerDataBuffers buffers = ParticleControllerDataBuffers.INSTANCE;
+        Map<String, ParticleControllerDataBuffer<?>> args = new HashMap<>();
+        if (create) {
+            args.put("style_type_id", buffers.intValue(ParticleStyleManager.getStyleRegistryId(STYLE_KEY)));
+            args.put("pos", buffers.vec3d(new Vec3(1.0, 64.0, 1.0)));
+        }
+        args.put("status", buffers.intValue(status));
+        return args;
+    }
+
+    /** Encodes the two packet types as the runtime's channel does. */
+    private static final class TestCodec implements ReiParticlesNetwork.BundleCodec {
+        @Override
+        public int bundleId(Object packet) {
+            return -1;
+        }
+
+        @Override
+        public byte[] encode(Object packet) {
+            FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+            if (packet instanceof PacketParticleEmittersS2C emitters) {
+                PacketParticleEmittersS2C.encode(emitters, buf);
+            } else if (packet instanceof PacketParticleStyleS2C style) {
+                PacketParticleStyleS2C.encode(style, buf);
+            } else {
+                throw new IllegalArgumentException("Unexpected packet " + packet);
+            }
+            byte[] bytes = new byte[buf.readableBytes()];
+            buf.readBytes(bytes);
+            return bytes;
+        }
+    }
+
+    private static final class TestEmitter extends ParticleEmitters {
+        private int payload;
+
+        static TestEmitter decode(FriendlyByteBuf buf) {
+            TestEmitter emitter = new TestEmitter();
+            emitter.decodeFromBuffer(buf);
+            return emitter;
+        }
+
+        @Override
+        protected void writePayload(FriendlyByteBuf buf) {
+            buf.writeVarInt(payload);
+        }
+
+        @Override
+        protected void readPayload(FriendlyByteBuf buf) {
+            payload = buf.readVarInt();
+        }
+
+        @Override
+        public void update(ParticleEmitters emitter) {
+            super.update(emitter);
+            payload = ((TestEmitter) emitter).payload;
+        }
+    }
+
+    private static final class TestStyle extends ParticleGroupStyle {
+        private int status;
+
+        @Override
+        public Map<StyleData, RelativeLocation> getCurrentFrames() {
+            return Map.of();
+        }
+
+        @Override
+        public void onDisplay() {
+        }
+
+        @Override
+        public Map<String, ParticleControllerDataBuffer<?>> writePacketArgs() {
+            Map<String, ParticleControllerDataBuffer<?>> args = new HashMap<>();
+            args.put("status", ParticleControllerDataBuffers.INSTANCE.intValue(status));
+            return args;
+        }
+
+        @Override
+        public void readPacketArgs(Map<String, ? extends ParticleControllerDataBuffer<?>> args) {
+            ParticleControllerDataBuffer<?> value = args.get("status");
+            if (value != null) {
+                status = (Integer) value.getLoadedValue();
+            }
+        }
+    }
+}